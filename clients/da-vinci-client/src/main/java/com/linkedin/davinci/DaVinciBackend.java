@@ -218,6 +218,7 @@ public class DaVinciBackend implements Closeable {
           false,
           compressorFactory,
           cacheBackend,
+          Optional.empty(),
           true,
           // TODO: consider how/if a repair task would be valid for Davinci users?
           null,
@@ -52,22 +52,32 @@ import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.service.ICProvider;
 import com.linkedin.venice.utils.ComplementSet;
 import com.linkedin.venice.utils.ComputeUtils;
+import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.PropertyBuilder;
 import com.linkedin.venice.utils.ReferenceCounted;
 import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
@@ -100,6 +110,47 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
 
   private static final ThreadLocal<ReusableObjects> threadLocalReusableObjects =
       ThreadLocal.withInitial(ReusableObjects::new);
+  private static final long PARTIAL_KEY_LOOKUP_TERMINATION_TIMEOUT_SECONDS = 60;
+
+  /**
+   * Funnels the records produced by concurrent partition scans into a single callback, one record at a time. Once
+   * cancelled, the records are no longer forwarded, and the scans feeding this callback are aborted.
+   */
+  private static class ConcurrentStreamingCallback<K, V> implements StreamingCallback<K, V> {
+    private final StreamingCallback<K, V> delegate;
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    ConcurrentStreamingCallback(StreamingCallback<K, V> delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void onRecordReceived(K key, V value) {
+      if (isCancelled()) {
+        throw new CancellationException("Partial key lookup is cancelled");
+      }
+      synchronized (this) {
+        delegate.onRecordReceived(key, value);
+      }
+    }
+
+    @Override
+    public void onCompletion(Optional<Exception> exception) {
+      // The completion of the whole lookup is reported once all the partition scans are done.
+    }
+
+    void cancel(Throwable cause) {
+      failure.compareAndSet(null, cause);
+    }
+
+    boolean isCancelled() {
+      return failure.get() != null;
+    }
+
+    Throwable getFailure() {
+      return failure.get();
+    }
+  }
 
   private final DaVinciConfig daVinciConfig;
   private final ClientConfig clientConfig;
@@ -119,6 +170,10 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
   private static final Map<CharSequence, Schema> computeResultSchemaCache = new VeniceConcurrentHashMap<>();
 
   private final AbstractAvroChunkingAdapter<V> chunkingAdapter;
+  /**
+   * Written on {@link #start()} and {@link #close()}, and read by the query threads, which read it only once per query.
+   */
+  private volatile ExecutorService partialKeyLookupExecutor;
 
   public AvroGenericDaVinciClient(
       DaVinciConfig daVinciConfig,
@@ -522,6 +577,12 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
         return;
       }
 
+      ExecutorService executor = partialKeyLookupExecutor;
+      if (executor != null) {
+        computeWithKeyPrefixFilterInParallel(executor, versionBackend, prefixBytes, computeRequestWrapper, callback);
+        return;
+      }
+
       ReusableObjects reusableObjects = threadLocalReusableObjects.get();
       Schema valueSchema = computeRequestWrapper.getValueSchema();
       GenericRecord reuseValueRecord =
@@ -555,6 +616,86 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
     }
   }
 
+  /**
+   * Scans the partitions concurrently on the given executor, each scan using the reusable objects of
+   * the thread it runs on. The results of all the scans are funneled into the callback through a
+   * {@link ConcurrentStreamingCallback}, and the first failure cancels the scans which are still running.
+   * This function only returns once all the scans are done, so that the version is not released while still in use.
+   * The scans which can't run because the client is being closed fail instead, see {@link PartitionScan}.
+   */
+  private void computeWithKeyPrefixFilterInParallel(
+      ExecutorService executor,
+      VersionBackend versionBackend,
+      byte[] prefixBytes,
+      ComputeRequestWrapper computeRequestWrapper,
+      StreamingCallback<GenericRecord, GenericRecord> callback) {
+    Schema valueSchema = computeRequestWrapper.getValueSchema();
+    Schema computeResultSchema = getComputeResultSchema(computeRequestWrapper);
+    ConcurrentStreamingCallback<GenericRecord, GenericRecord> concurrentCallback =
+        new ConcurrentStreamingCallback<>(callback);
+
+    List<CompletableFuture<Void>> partitionFutures = new ArrayList<>();
+    int partitionCount = versionBackend.getPartitionCount();
+    for (int currPartition = 0; currPartition < partitionCount; currPartition++) {
+      if (!isPartitionReadyToServe(versionBackend, currPartition)) {
+        continue;
+      }
+      final int partition = currPartition;
+      PartitionScan partitionScan = new PartitionScan(() -> {
+        if (concurrentCallback.isCancelled()) {
+          return;
+        }
+        ReusableObjects reusableObjects = threadLocalReusableObjects.get();
+        GenericRecord reuseValueRecord =
+            reusableObjects.reuseValueRecordMap.computeIfAbsent(valueSchema, k -> new GenericData.Record(valueSchema));
+        versionBackend.computeWithKeyPrefixFilter(
+            prefixBytes,
+            partition,
+            concurrentCallback,
+            computeRequestWrapper,
+            getGenericRecordChunkingAdapter(),
+            (RecordDeserializer<GenericRecord>) keyDeserializer,
+            reuseValueRecord,
+            reusableObjects.binaryDecoder,
+            // The compute operators cache intermediate results in the global context, which is not thread-safe
+            new HashMap<>(),
+            computeResultSchema);
+      });
+      partitionFutures.add(partitionScan.getFuture().whenComplete((v, e) -> {
+        if (e != null) {
+          concurrentCallback.cancel(e instanceof CompletionException ? e.getCause() : e);
+        }
+      }));
+      try {
+        executor.execute(partitionScan);
+      } catch (RejectedExecutionException e) {
+        partitionScan.fail();
+      }
+    }
+
+    CompletableFuture<Void> allPartitionsFuture =
+        CompletableFuture.allOf(partitionFutures.toArray(new CompletableFuture[0]));
+    try {
+      allPartitionsFuture.get();
+    } catch (InterruptedException e) {
+      concurrentCallback.cancel(e);
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      // The failure is reported below, as recorded by the first failing scan.
+    }
+    // Wait for the cancelled scans to bail out before releasing the version.
+    allPartitionsFuture.handle((v, e) -> null).join();
+
+    Throwable failure = concurrentCallback.getFailure();
+    if (failure == null) {
+      callback.onCompletion(Optional.empty());
+    } else if (failure instanceof Exception) {
+      callback.onCompletion(Optional.of((Exception) failure));
+    } else {
+      callback.onCompletion(Optional.of(new VeniceClientException(failure)));
+    }
+  }
+
   private boolean handleCallbackForEmptyKeySet(Set<K> keys, StreamingCallback callback) {
     if (keys.isEmpty()) {
       // no result for empty key set
@@ -733,6 +874,12 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
         veniceClient = (AvroGenericReadComputeStoreClient<K, V>) getAndStartAvroClient(clientConfig);
       }
 
+      if (daVinciConfig.getPartialKeyLookupParallelism() > 1) {
+        partialKeyLookupExecutor = Executors.newFixedThreadPool(
+            daVinciConfig.getPartialKeyLookupParallelism(),
+            new DaemonThreadFactory("DaVinci-PartialKeyLookup-" + getStoreName()));
+      }
+
       ready.set(true);
       logger.info("Client is started successfully, storeName=" + getStoreName());
     } catch (Throwable e) {
@@ -755,6 +902,19 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
       if (cacheBackend != null) {
         cacheBackend.close();
       }
+      ExecutorService executor = partialKeyLookupExecutor;
+      if (executor != null) {
+        partialKeyLookupExecutor = null;
+        // Let the scans of the in-flight queries finish, as those queries wait for all their scans.
+        executor.shutdown();
+        if (!executor.awaitTermination(PARTIAL_KEY_LOOKUP_TERMINATION_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+          for (Runnable droppedTask: executor.shutdownNow()) {
+            if (droppedTask instanceof PartitionScan) {
+              ((PartitionScan) droppedTask).fail();
+            }
+          }
+        }
+      }
       daVinciBackend.release();
       logger.info("Client is closed successfully, storeName=" + getStoreName());
     } catch (Throwable e) {
@@ -763,4 +923,35 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
       throw new VeniceClientException(msg, e);
     }
   }
+
+  /**
+   * A partition scan submitted to {@link #partialKeyLookupExecutor}, whose future is completed even when the scan is
+   * dropped by the executor, so that the query waiting for it doesn't block forever.
+   */
+  private static class PartitionScan implements Runnable {
+    private final Runnable scan;
+    private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+    PartitionScan(Runnable scan) {
+      this.scan = scan;
+    }
+
+    @Override
+    public void run() {
+      try {
+        scan.run();
+        future.complete(null);
+      } catch (Throwable e) {
+        future.completeExceptionally(e);
+      }
+    }
+
+    void fail() {
+      future.completeExceptionally(new VeniceClientException("Da Vinci client is closed"));
+    }
+
+    CompletableFuture<Void> getFuture() {
+      return future;
+    }
+  }
 }
@@ -40,6 +40,12 @@ public class DaVinciConfig {
    */
   private boolean readMetricsEnabled = false;
 
+  /**
+   * Number of partitions scanned concurrently by a compute request with a key prefix filter. With the default of 1,
+   * all the partitions are scanned one after another on the caller's thread.
+   */
+  private int partialKeyLookupParallelism = 1;
+
   public DaVinciConfig() {
   }
 
@@ -48,13 +54,15 @@ public class DaVinciConfig {
         .setIsolated(isIsolated())
         .setStorageClass(getStorageClass())
         .setNonLocalAccessPolicy(getNonLocalAccessPolicy())
-        .setCacheConfig(getCacheConfig());
+        .setCacheConfig(getCacheConfig())
+        .setPartialKeyLookupParallelism(getPartialKeyLookupParallelism());
   }
 
   @Override
   public String toString() {
     return "DaVinciConfig{" + "managed=" + managed + ", isolated=" + isolated + ", storageClass=" + storageClass
-        + ", nonLocalAccessPolicy=" + nonLocalAccessPolicy + ", cacheConfig=" + cacheConfig + "}";
+        + ", nonLocalAccessPolicy=" + nonLocalAccessPolicy + ", cacheConfig=" + cacheConfig
+        + ", partialKeyLookupParallelism=" + partialKeyLookupParallelism + "}";
   }
 
   public boolean isManaged() {
@@ -113,4 +121,13 @@ public class DaVinciConfig {
   public void setReadMetricsEnabled(boolean readMetricsEnabled) {
     this.readMetricsEnabled = readMetricsEnabled;
   }
+
+  public int getPartialKeyLookupParallelism() {
+    return partialKeyLookupParallelism;
+  }
+
+  public DaVinciConfig setPartialKeyLookupParallelism(int partialKeyLookupParallelism) {
+    this.partialKeyLookupParallelism = partialKeyLookupParallelism;
+    return this;
+  }
 }
@@ -21,6 +21,11 @@ import static com.linkedin.venice.ConfigKeys.MAX_FUTURE_VERSION_LEADER_FOLLOWER_
 import static com.linkedin.venice.ConfigKeys.MAX_LEADER_FOLLOWER_STATE_TRANSITION_THREAD_NUMBER;
 import static com.linkedin.venice.ConfigKeys.OFFSET_LAG_DELTA_RELAX_FACTOR_FOR_FAST_ONLINE_TRANSITION_IN_RESTART;
 import static com.linkedin.venice.ConfigKeys.PARTICIPANT_MESSAGE_CONSUMPTION_DELAY_MS;
+import static com.linkedin.venice.ConfigKeys.SERVER_ACTIVE_ACTIVE_MERGE_FAST_AVRO_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_ACTIVE_ACTIVE_PARALLEL_CONFLICT_RESOLUTION_MAX_PENDING_RECORDS;
+import static com.linkedin.venice.ConfigKeys.SERVER_ACTIVE_ACTIVE_PARALLEL_CONFLICT_RESOLUTION_THREAD_COUNT;
+import static com.linkedin.venice.ConfigKeys.SERVER_ACTIVE_ACTIVE_PREFETCH_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_BATCH_LOOKUP_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_BLOCKING_QUEUE_TYPE;
 import static com.linkedin.venice.ConfigKeys.SERVER_COMPUTE_FAST_AVRO_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_COMPUTE_QUEUE_CAPACITY;
@@ -48,15 +53,19 @@ import static com.linkedin.venice.ConfigKeys.SERVER_HTTP2_INITIAL_WINDOW_SIZE;
 import static com.linkedin.venice.ConfigKeys.SERVER_HTTP2_MAX_CONCURRENT_STREAMS;
 import static com.linkedin.venice.ConfigKeys.SERVER_HTTP2_MAX_FRAME_SIZE;
 import static com.linkedin.venice.ConfigKeys.SERVER_HTTP2_MAX_HEADER_LIST_SIZE;
+import static com.linkedin.venice.ConfigKeys.SERVER_INCREMENTAL_SERDE_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_CHECKPOINT_DURING_GRACEFUL_SHUTDOWN_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_APPLICATION_PORT;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_SERVICE_PORT;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_MODE;
 import static com.linkedin.venice.ConfigKeys.SERVER_KAFKA_CONSUMER_OFFSET_COLLECTION_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_KAFKA_MAX_POLL_RECORDS;
+import static com.linkedin.venice.ConfigKeys.SERVER_KAFKA_MESSAGE_ENVELOPE_POOL_DEBUG_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_KAFKA_MESSAGE_ENVELOPE_POOL_SIZE;
 import static com.linkedin.venice.ConfigKeys.SERVER_KAFKA_POLL_RETRY_BACKOFF_MS;
 import static com.linkedin.venice.ConfigKeys.SERVER_KAFKA_POLL_RETRY_TIMES;
 import static com.linkedin.venice.ConfigKeys.SERVER_KAFKA_PRODUCER_POOL_SIZE_PER_KAFKA_CLUSTER;
+import static com.linkedin.venice.ConfigKeys.SERVER_KEY_LEVEL_LOCKS_STRIPE_COUNT;
 import static com.linkedin.venice.ConfigKeys.SERVER_LEAKED_RESOURCE_CLEANUP_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_LEAKED_RESOURCE_CLEAN_UP_INTERVAL_IN_MINUTES;
 import static com.linkedin.venice.ConfigKeys.SERVER_LOCAL_CONSUMER_CONFIG_PREFIX;
@@ -88,14 +97,25 @@ import static com.linkedin.venice.ConfigKeys.SERVER_SHUTDOWN_DISK_UNHEALTHY_TIME
 import static com.linkedin.venice.ConfigKeys.SERVER_SOURCE_TOPIC_OFFSET_CHECK_INTERVAL_MS;
 import static com.linkedin.venice.ConfigKeys.SERVER_SSL_HANDSHAKE_QUEUE_CAPACITY;
 import static com.linkedin.venice.ConfigKeys.SERVER_SSL_HANDSHAKE_THREAD_POOL_SIZE;
+import static com.linkedin.venice.ConfigKeys.SERVER_STORE_RESTORE_THREAD_POOL_SIZE;
 import static com.linkedin.venice.ConfigKeys.SERVER_STORE_TO_EARLY_TERMINATION_THRESHOLD_MS_MAP;
+import static com.linkedin.venice.ConfigKeys.SERVER_STORE_TO_HOT_KEY_VALUE_CACHE_CAPACITY_MAP;
+import static com.linkedin.venice.ConfigKeys.SERVER_STREAMING_RESPONSE_CHUNK_SIZE_IN_BYTES;
 import static com.linkedin.venice.ConfigKeys.SERVER_SYSTEM_STORE_PROMOTION_TO_LEADER_REPLICA_DELAY_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_UNSUB_AFTER_BATCHPUSH;
 import static com.linkedin.venice.ConfigKeys.SEVER_CALCULATE_QUOTA_USAGE_BASED_ON_PARTITIONS_ASSIGNMENT_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SORTED_INPUT_DRAINER_SIZE;
 import static com.linkedin.venice.ConfigKeys.STORE_WRITER_BUFFER_AFTER_LEADER_LOGIC_ENABLED;
+import static com.linkedin.venice.ConfigKeys.STORE_WRITER_BUFFER_DRAIN_BATCH_SIZE;
+import static com.linkedin.venice.ConfigKeys.STORE_WRITER_BUFFER_LOCK_FREE_QUEUE_ENABLED;
 import static com.linkedin.venice.ConfigKeys.STORE_WRITER_BUFFER_MEMORY_CAPACITY;
 import static com.linkedin.venice.ConfigKeys.STORE_WRITER_BUFFER_NOTIFY_DELTA;
+import static com.linkedin.venice.ConfigKeys.STORE_WRITER_DYNAMIC_ASSIGNMENT_ENABLED;
+import static com.linkedin.venice.ConfigKeys.STORE_WRITER_DYNAMIC_ASSIGNMENT_INTERVAL_MS;
+import static com.linkedin.venice.ConfigKeys.STORE_WRITER_GROUP_COMMIT_ENABLED;
+import static com.linkedin.venice.ConfigKeys.STORE_WRITER_GROUP_COMMIT_MAX_BYTES;
+import static com.linkedin.venice.ConfigKeys.STORE_WRITER_GROUP_COMMIT_MAX_LATENCY_MS;
+import static com.linkedin.venice.ConfigKeys.STORE_WRITER_GROUP_COMMIT_MAX_RECORDS;
 import static com.linkedin.venice.ConfigKeys.STORE_WRITER_NUMBER;
 import static com.linkedin.venice.ConfigKeys.SYSTEM_SCHEMA_CLUSTER_NAME;
 import static com.linkedin.venice.ConfigKeys.UNREGISTER_METRIC_FOR_DELETED_STORE_ENABLED;
@@ -144,6 +164,7 @@ public class VeniceServerConfig extends VeniceClusterConfig {
   private final RocksDBServerConfig rocksDBServerConfig;
   private final boolean enableServerAllowList;
   private final boolean autoCreateDataPath; // default true
+  private final int storeRestoreThreadPoolSize;
 
   /**
    *  Maximum number of thread that the thread pool would keep to run the Helix leader follower state transition.
@@ -208,6 +229,34 @@ public class VeniceServerConfig extends VeniceClusterConfig {
    */
   private final long storeWriterBufferNotifyDelta;
 
+  /**
+   * Whether to use {@link com.linkedin.davinci.kafka.consumer.LockFreeMemoryBoundBlockingQueue} instead of
+   * {@link com.linkedin.davinci.kafka.consumer.MemoryBoundBlockingQueue} as the store writer buffers.
+   */
+  private final boolean storeWriterBufferLockFreeQueueEnabled;
+
+  /**
+   * The maximum number of records taken out of its buffer at once by each store writer.
+   */
+  private final int storeWriterBufferDrainBatchSize;
+
+  /**
+   * Whether each store writer groups the writes of consecutive records of the same partition into a single write batch,
+   * bounded by {@link #storeWriterGroupCommitMaxRecords}, {@link #storeWriterGroupCommitMaxBytes} and
+   * {@link #storeWriterGroupCommitMaxLatencyMs}.
+   */
+  private final boolean storeWriterGroupCommitEnabled;
+  private final int storeWriterGroupCommitMaxRecords;
+  private final long storeWriterGroupCommitMaxBytes;
+  private final long storeWriterGroupCommitMaxLatencyMs;
+
+  /**
+   * Whether the topic partitions are reassigned across the store writers based on their processing time, evaluated
+   * every {@link #storeWriterDynamicAssignmentIntervalMs}.
+   */
+  private final boolean storeWriterDynamicAssignmentEnabled;
+  private final long storeWriterDynamicAssignmentIntervalMs;
+
   /**
    * The number of threads being used to serve get requests.
    */
@@ -300,11 +349,18 @@ public class VeniceServerConfig extends VeniceClusterConfig {
 
   private final int parallelBatchGetChunkSize;
 
+  private final boolean batchLookupEnabled;
+
+  private final boolean incrementalSerdeEnabled;
+
+  private final int streamingResponseChunkSizeInBytes;
+
   private final boolean keyValueProfilingEnabled;
 
   private final boolean enableDatabaseMemoryStats;
 
   private final Map<String, Integer> storeToEarlyTerminationThresholdMSMap;
+  private final Map<String, Long> storeToHotKeyValueCacheCapacityMap;
 
   private final int databaseLookupQueueCapacity;
   private final int computeQueueCapacity;
@@ -318,6 +374,16 @@ public class VeniceServerConfig extends VeniceClusterConfig {
   private final boolean helixHybridStoreQuotaEnabled;
   private final long ssdHealthCheckShutdownTimeMs;
   private final KafkaConsumerService.ConsumerAssignmentStrategy sharedConsumerAssignmentStrategy;
+  /**
+   * The maximum number of idle envelopes kept by each pool of the consumed data records, 0 disables the pooling.
+   */
+  private final int kafkaMessageEnvelopePoolSize;
+  private final boolean kafkaMessageEnvelopePoolDebugEnabled;
+  private final boolean activeActivePrefetchEnabled;
+  private final boolean activeActiveMergeFastAvroEnabled;
+  private final int activeActiveParallelConflictResolutionThreadCount;
+  private final int activeActiveParallelConflictResolutionMaxPendingRecords;
+  private final int keyLevelLocksStripeCount;
   private final int consumerPoolSizePerKafkaCluster;
   private final boolean leakedResourceCleanupEnabled;
   private final long delayReadyToServeMS;
@@ -402,6 +468,7 @@ public class VeniceServerConfig extends VeniceClusterConfig {
         DATA_BASE_PATH,
         Paths.get(System.getProperty("java.io.tmpdir"), "venice-server-data").toAbsolutePath().toString());
     autoCreateDataPath = Boolean.parseBoolean(serverProperties.getString(AUTOCREATE_DATA_PATH, "true"));
+    storeRestoreThreadPoolSize = serverProperties.getInt(SERVER_STORE_RESTORE_THREAD_POOL_SIZE, 1);
     rocksDBServerConfig = new RocksDBServerConfig(serverProperties);
     enableServerAllowList = serverProperties.getBoolean(ENABLE_SERVER_ALLOW_LIST, false);
     maxLeaderFollowerStateTransitionThreadNumber =
@@ -429,6 +496,16 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     storeWriterBufferMemoryCapacity =
         serverProperties.getSizeInBytes(STORE_WRITER_BUFFER_MEMORY_CAPACITY, 10 * 1024 * 1024);
     storeWriterBufferNotifyDelta = serverProperties.getSizeInBytes(STORE_WRITER_BUFFER_NOTIFY_DELTA, 1 * 1024 * 1024);
+    storeWriterBufferLockFreeQueueEnabled =
+        serverProperties.getBoolean(STORE_WRITER_BUFFER_LOCK_FREE_QUEUE_ENABLED, false);
+    storeWriterBufferDrainBatchSize = serverProperties.getInt(STORE_WRITER_BUFFER_DRAIN_BATCH_SIZE, 1);
+    storeWriterGroupCommitEnabled = serverProperties.getBoolean(STORE_WRITER_GROUP_COMMIT_ENABLED, false);
+    storeWriterGroupCommitMaxRecords = serverProperties.getInt(STORE_WRITER_GROUP_COMMIT_MAX_RECORDS, 100);
+    storeWriterGroupCommitMaxBytes = serverProperties.getSizeInBytes(STORE_WRITER_GROUP_COMMIT_MAX_BYTES, 1024 * 1024);
+    storeWriterGroupCommitMaxLatencyMs = serverProperties.getLong(STORE_WRITER_GROUP_COMMIT_MAX_LATENCY_MS, 10);
+    storeWriterDynamicAssignmentEnabled = serverProperties.getBoolean(STORE_WRITER_DYNAMIC_ASSIGNMENT_ENABLED, false);
+    storeWriterDynamicAssignmentIntervalMs =
+        serverProperties.getLong(STORE_WRITER_DYNAMIC_ASSIGNMENT_INTERVAL_MS, TimeUnit.SECONDS.toMillis(30));
     restServiceStorageThreadNum = serverProperties.getInt(SERVER_REST_SERVICE_STORAGE_THREAD_NUM, 16);
     serverComputeThreadNum = serverProperties.getInt(SERVER_COMPUTE_THREAD_NUM, 16);
     nettyIdleTimeInSeconds = serverProperties.getInt(SERVER_NETTY_IDLE_TIME_SECONDS, (int) TimeUnit.HOURS.toSeconds(3));
@@ -475,6 +552,10 @@ public class VeniceServerConfig extends VeniceClusterConfig {
 
     enableParallelBatchGet = serverProperties.getBoolean(SERVER_ENABLE_PARALLEL_BATCH_GET, false);
     parallelBatchGetChunkSize = serverProperties.getInt(SERVER_PARALLEL_BATCH_GET_CHUNK_SIZE, 5);
+    batchLookupEnabled = serverProperties.getBoolean(SERVER_BATCH_LOOKUP_ENABLED, false);
+    incrementalSerdeEnabled = serverProperties.getBoolean(SERVER_INCREMENTAL_SERDE_ENABLED, false);
+    streamingResponseChunkSizeInBytes =
+        (int) serverProperties.getSizeInBytes(SERVER_STREAMING_RESPONSE_CHUNK_SIZE_IN_BYTES, 64 * 1024);
 
     keyValueProfilingEnabled = serverProperties.getBoolean(KEY_VALUE_PROFILING_ENABLED, false);
     enableDatabaseMemoryStats = serverProperties.getBoolean(SERVER_DATABASE_MEMORY_STATS_ENABLED, true);
@@ -485,6 +566,12 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     storeToEarlyTerminationThresholdMSMapProp.forEach(
         (storeName, thresholdStr) -> storeToEarlyTerminationThresholdMSMap
             .put(storeName, Integer.parseInt(thresholdStr.trim())));
+    Map<String, String> storeToHotKeyValueCacheCapacityMapProp =
+        serverProperties.getMap(SERVER_STORE_TO_HOT_KEY_VALUE_CACHE_CAPACITY_MAP, Collections.emptyMap());
+    storeToHotKeyValueCacheCapacityMap = new HashMap<>();
+    storeToHotKeyValueCacheCapacityMapProp.forEach(
+        (storeName, capacityStr) -> storeToHotKeyValueCacheCapacityMap
+            .put(storeName, Long.parseLong(capacityStr.trim())));
     databaseLookupQueueCapacity = serverProperties.getInt(SERVER_DATABASE_LOOKUP_QUEUE_CAPACITY, Integer.MAX_VALUE);
     computeQueueCapacity = serverProperties.getInt(SERVER_COMPUTE_QUEUE_CAPACITY, Integer.MAX_VALUE);
     kafkaOpenSSLEnabled = serverProperties.getBoolean(SERVER_ENABLE_KAFKA_OPENSSL, false);
@@ -524,6 +611,25 @@ public class VeniceServerConfig extends VeniceClusterConfig {
           "Invalid consumer assignment strategy: "
               + Arrays.toString(KafkaConsumerService.ConsumerAssignmentStrategy.values()));
     }
+    kafkaMessageEnvelopePoolSize = serverProperties.getInt(SERVER_KAFKA_MESSAGE_ENVELOPE_POOL_SIZE, 0);
+    kafkaMessageEnvelopePoolDebugEnabled =
+        serverProperties.getBoolean(SERVER_KAFKA_MESSAGE_ENVELOPE_POOL_DEBUG_ENABLED, false);
+    activeActivePrefetchEnabled = serverProperties.getBoolean(SERVER_ACTIVE_ACTIVE_PREFETCH_ENABLED, false);
+    activeActiveMergeFastAvroEnabled = serverProperties.getBoolean(SERVER_ACTIVE_ACTIVE_MERGE_FAST_AVRO_ENABLED, false);
+    activeActiveParallelConflictResolutionThreadCount =
+        serverProperties.getInt(SERVER_ACTIVE_ACTIVE_PARALLEL_CONFLICT_RESOLUTION_THREAD_COUNT, 0);
+    activeActiveParallelConflictResolutionMaxPendingRecords =
+        serverProperties.getInt(SERVER_ACTIVE_ACTIVE_PARALLEL_CONFLICT_RESOLUTION_MAX_PENDING_RECORDS, 100);
+    if (activeActiveParallelConflictResolutionMaxPendingRecords <= 0) {
+      throw new VeniceException(
+          SERVER_ACTIVE_ACTIVE_PARALLEL_CONFLICT_RESOLUTION_MAX_PENDING_RECORDS + " must be positive, but got: "
+              + activeActiveParallelConflictResolutionMaxPendingRecords);
+    }
+    keyLevelLocksStripeCount = serverProperties.getInt(SERVER_KEY_LEVEL_LOCKS_STRIPE_COUNT, 0);
+    if (keyLevelLocksStripeCount < 0 || Integer.bitCount(keyLevelLocksStripeCount) > 1) {
+      throw new VeniceException(
+          SERVER_KEY_LEVEL_LOCKS_STRIPE_COUNT + " must be 0 or a power of two, but got: " + keyLevelLocksStripeCount);
+    }
 
     consumerPoolSizePerKafkaCluster = serverProperties.getInt(SERVER_CONSUMER_POOL_SIZE_PER_KAFKA_CLUSTER, 5);
     if (consumerPoolSizePerKafkaCluster < MINIMUM_CONSUMER_NUM_IN_CONSUMER_POOL_PER_KAFKA_CLUSTER) {
@@ -638,6 +744,10 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return autoCreateDataPath;
   }
 
+  public int getStoreRestoreThreadPoolSize() {
+    return storeRestoreThreadPoolSize;
+  }
+
   public RocksDBServerConfig getRocksDBServerConfig() {
     return rocksDBServerConfig;
   }
@@ -674,6 +784,38 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return this.storeWriterBufferNotifyDelta;
   }
 
+  public boolean isStoreWriterBufferLockFreeQueueEnabled() {
+    return this.storeWriterBufferLockFreeQueueEnabled;
+  }
+
+  public int getStoreWriterBufferDrainBatchSize() {
+    return this.storeWriterBufferDrainBatchSize;
+  }
+
+  public boolean isStoreWriterGroupCommitEnabled() {
+    return this.storeWriterGroupCommitEnabled;
+  }
+
+  public int getStoreWriterGroupCommitMaxRecords() {
+    return this.storeWriterGroupCommitMaxRecords;
+  }
+
+  public long getStoreWriterGroupCommitMaxBytes() {
+    return this.storeWriterGroupCommitMaxBytes;
+  }
+
+  public long getStoreWriterGroupCommitMaxLatencyMs() {
+    return this.storeWriterGroupCommitMaxLatencyMs;
+  }
+
+  public boolean isStoreWriterDynamicAssignmentEnabled() {
+    return this.storeWriterDynamicAssignmentEnabled;
+  }
+
+  public long getStoreWriterDynamicAssignmentIntervalMs() {
+    return this.storeWriterDynamicAssignmentIntervalMs;
+  }
+
   public int getRestServiceStorageThreadNum() {
     return restServiceStorageThreadNum;
   }
@@ -800,6 +942,18 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return parallelBatchGetChunkSize;
   }
 
+  public boolean isBatchLookupEnabled() {
+    return batchLookupEnabled;
+  }
+
+  public boolean isIncrementalSerdeEnabled() {
+    return incrementalSerdeEnabled;
+  }
+
+  public int getStreamingResponseChunkSizeInBytes() {
+    return streamingResponseChunkSizeInBytes;
+  }
+
   public boolean isKeyValueProfilingEnabled() {
     return keyValueProfilingEnabled;
   }
@@ -812,6 +966,10 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return storeToEarlyTerminationThresholdMSMap;
   }
 
+  public Map<String, Long> getStoreToHotKeyValueCacheCapacityMap() {
+    return storeToHotKeyValueCacheCapacityMap;
+  }
+
   public int getDatabaseLookupQueueCapacity() {
     return databaseLookupQueueCapacity;
   }
@@ -856,6 +1014,34 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return sharedConsumerAssignmentStrategy;
   }
 
+  public int getKafkaMessageEnvelopePoolSize() {
+    return kafkaMessageEnvelopePoolSize;
+  }
+
+  public boolean isKafkaMessageEnvelopePoolDebugEnabled() {
+    return kafkaMessageEnvelopePoolDebugEnabled;
+  }
+
+  public boolean isActiveActivePrefetchEnabled() {
+    return activeActivePrefetchEnabled;
+  }
+
+  public boolean isActiveActiveMergeFastAvroEnabled() {
+    return activeActiveMergeFastAvroEnabled;
+  }
+
+  public int getActiveActiveParallelConflictResolutionThreadCount() {
+    return activeActiveParallelConflictResolutionThreadCount;
+  }
+
+  public int getActiveActiveParallelConflictResolutionMaxPendingRecords() {
+    return activeActiveParallelConflictResolutionMaxPendingRecords;
+  }
+
+  public int getKeyLevelLocksStripeCount() {
+    return keyLevelLocksStripeCount;
+  }
+
   public int getConsumerPoolSizePerKafkaCluster() {
     return consumerPoolSizePerKafkaCluster;
   }
@@ -729,6 +729,7 @@ public class IsolatedIngestionServer extends AbstractVeniceService {
         true,
         compressorFactory,
         Optional.empty(),
+        Optional.empty(),
         isDaVinciClient,
         repairService,
         new PubSubClientsFactory(new ApacheKafkaProducerAdapterFactory()));
@@ -0,0 +1,183 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import com.linkedin.venice.common.Measurable;
+import com.linkedin.venice.exceptions.VeniceException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * Common parts of the blocking queues bounded by the memory usage of each {@link Measurable} object buffered inside.
+ * Only the operations needed by {@link StoreBufferService} are supported: {@link #put}, {@link #take} and
+ * {@link #drainTo}, plus the read-only ones.
+ *
+ * Check {@link MemoryBoundBlockingQueue} for the meaning of {@link #notifyDeltaInByte}.
+ *
+ * @param <T>
+ */
+public abstract class AbstractMemoryBoundBlockingQueue<T extends Measurable> implements BlockingQueue<T> {
+  private static final Logger LOGGER = LogManager.getLogger(AbstractMemoryBoundBlockingQueue.class);
+  /**
+   * Considering the node implementation: {@link java.util.LinkedList.Node}, the overhead
+   * is three references, which could be about 24 bytes, and the 'Node' object type itself could take 24 bytes.
+   * We can adjust this value later if necessary.
+   */
+  public static final int LINKED_QUEUE_NODE_OVERHEAD_IN_BYTE = 48;
+  protected final Queue<T> queue;
+  protected final long memoryCapacityInByte;
+  protected final long notifyDeltaInByte;
+  protected final AtomicLong remainingMemoryCapacityInByte;
+
+  protected AbstractMemoryBoundBlockingQueue(Queue<T> queue, long memoryCapacityInByte, long notifyDeltaInByte) {
+    if (notifyDeltaInByte > memoryCapacityInByte) {
+      throw new IllegalArgumentException(
+          "Param notifyDeltaInByte: " + notifyDeltaInByte + " should not be bigger than param memoryCapacityInByte: "
+              + memoryCapacityInByte);
+    }
+    this.queue = queue;
+    this.memoryCapacityInByte = memoryCapacityInByte;
+    this.notifyDeltaInByte = notifyDeltaInByte;
+    this.remainingMemoryCapacityInByte = new AtomicLong(this.memoryCapacityInByte);
+  }
+
+  public long getMemoryUsage() {
+    return memoryCapacityInByte - remainingMemoryCapacityInByte();
+  }
+
+  public long remainingMemoryCapacityInByte() {
+    return remainingMemoryCapacityInByte.get();
+  }
+
+  protected int getRecordSize(T record) {
+    return record.getSize() + LINKED_QUEUE_NODE_OVERHEAD_IN_BYTE;
+  }
+
+  /**
+   * @return the size of the record about to be put into the queue.
+   */
+  protected int getRecordSizeForPut(T record) {
+    int recordSize = getRecordSize(record);
+    if (recordSize > notifyDeltaInByte) {
+      LOGGER.warn(
+          "Record size of record: " + record + " is " + recordSize + ", which exceeds notifyDeltaInByte: "
+              + notifyDeltaInByte + ", and it could potentially be blocked when the buffer is full.");
+    }
+    return recordSize;
+  }
+
+  @Override
+  public int drainTo(Collection<? super T> c) {
+    return drainTo(c, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public boolean offer(T t, long timeout, TimeUnit unit) throws InterruptedException {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public boolean add(T t) {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public boolean offer(T t) {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public T remove() {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public T poll() {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public T element() {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public T peek() {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public int remainingCapacity() {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public boolean containsAll(Collection<?> c) {
+    return this.queue.containsAll(c);
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends T> c) {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public boolean removeAll(Collection<?> c) {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public boolean retainAll(Collection<?> c) {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public void clear() {
+    throw new VeniceException("Operation is not supported yet!");
+  }
+
+  @Override
+  public int size() {
+    return this.queue.size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return this.queue.isEmpty();
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return this.queue.contains(o);
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    return this.queue.iterator();
+  }
+
+  @Override
+  public Object[] toArray() {
+    return this.queue.toArray();
+  }
+
+  @Override
+  public <T1> T1[] toArray(T1[] a) {
+    return this.queue.toArray(a);
+  }
+}
@@ -37,4 +37,15 @@ public abstract class AbstractStoreBufferService extends AbstractVeniceService {
   public abstract long getMaxMemoryUsagePerDrainer();
 
   public abstract long getMinMemoryUsagePerDrainer();
+
+  /**
+   * @return the ratio between the max memory usage of the drainer queues and their average memory usage, which is 1
+   *         when the buffered records are evenly spread over the drainers.
+   */
+  public abstract double getDrainerQueueImbalance();
+
+  /**
+   * @return the number of topic+partitions reassigned to another drainer by the dynamic assignment so far.
+   */
+  public abstract long getDrainerReassignmentCount();
 }
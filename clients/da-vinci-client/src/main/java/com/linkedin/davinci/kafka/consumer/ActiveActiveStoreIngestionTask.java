@@ -40,6 +40,7 @@ import com.linkedin.venice.pubsub.PubSubTopicPartitionImpl;
 import com.linkedin.venice.pubsub.api.PubSubMessage;
 import com.linkedin.venice.pubsub.api.PubSubTopic;
 import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
+import com.linkedin.venice.pubsub.kafka.PooledKafkaMessageEnvelope;
 import com.linkedin.venice.schema.rmd.RmdUtils;
 import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.LatencyUtils;
@@ -54,12 +55,16 @@ import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiConsumer;
@@ -80,9 +85,14 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
   private final int rmdProtocolVersionID;
   private final MergeConflictResolver mergeConflictResolver;
   private final RmdSerDe rmdSerDe;
-  private final Lazy<KeyLevelLocksManager> keyLevelLocksManager;
+  private final Lazy<KeyLevelLocks> keyLevelLocksManager;
   private final AggVersionedIngestionStats aggVersionedIngestionStats;
   private final RemoteIngestionRepairService remoteIngestionRepairService;
+  private final boolean prefetchEnabled;
+  private final ExecutorService parallelConflictResolutionExecutor;
+  private final int parallelConflictResolutionThreadCount;
+  private final int maxPendingRecordsToResolveInParallel;
+  private final ThreadLocal<ConflictResolutionBatch> currentConflictResolutionBatch = new ThreadLocal<>();
 
   private static class ReusableObjects {
     // reuse buffer for rocksDB value object
@@ -91,7 +101,11 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
         AvroCompatibilityHelper.newBinaryDecoder(BINARY_DECODER_PARAM, 0, BINARY_DECODER_PARAM.length, null);
   }
 
-  private final ThreadLocal<ReusableObjects> threadLocalReusableObjects = ThreadLocal.withInitial(ReusableObjects::new);
+  /**
+   * Shared by all the store-versions, since the threads resolving the conflicts in parallel are shared by them.
+   */
+  private static final ThreadLocal<ReusableObjects> threadLocalReusableObjects =
+      ThreadLocal.withInitial(ReusableObjects::new);
 
   public ActiveActiveStoreIngestionTask(
       StoreIngestionTaskFactory.Builder builder,
@@ -119,24 +133,178 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
     int knownKafkaClusterNumber = serverConfig.getKafkaClusterIdToUrlMap().size();
     int consumerPoolSizePerKafkaCluster = serverConfig.getConsumerPoolSizePerKafkaCluster();
     int initialPoolSize = knownKafkaClusterNumber + 1;
+    this.parallelConflictResolutionExecutor = builder.getParallelConflictResolutionExecutor();
+    this.parallelConflictResolutionThreadCount = serverConfig.getActiveActiveParallelConflictResolutionThreadCount();
+    this.maxPendingRecordsToResolveInParallel =
+        serverConfig.getActiveActiveParallelConflictResolutionMaxPendingRecords();
     /**
-     * In theory, the maximum # of keys each ingestion task can process is the # of consumers allocated for it.
+     * In theory, the maximum # of keys each ingestion task can process is the # of consumers allocated for it, times
+     * the # of pending records of each consumer when the conflicts are resolved in parallel.
      */
-    int maxKeyLevelLocksPoolSize =
-        Math.min(storeVersionPartitionCount, consumerPoolSizePerKafkaCluster) * knownKafkaClusterNumber + 1;
-    this.keyLevelLocksManager =
-        Lazy.of(() -> new KeyLevelLocksManager(getVersionTopic().getName(), initialPoolSize, maxKeyLevelLocksPoolSize));
+    int maxKeysLockedPerConsumer =
+        parallelConflictResolutionExecutor == null ? 1 : maxPendingRecordsToResolveInParallel;
+    int maxKeyLevelLocksPoolSize = Math.min(storeVersionPartitionCount, consumerPoolSizePerKafkaCluster)
+        * knownKafkaClusterNumber * maxKeysLockedPerConsumer + 1;
+    int keyLevelLocksStripeCount = serverConfig.getKeyLevelLocksStripeCount();
+    this.keyLevelLocksManager = Lazy.of(
+        () -> keyLevelLocksStripeCount > 0
+            ? new StripedKeyLevelLocksManager(getVersionTopic().getName(), keyLevelLocksStripeCount)
+            : new KeyLevelLocksManager(getVersionTopic().getName(), initialPoolSize, maxKeyLevelLocksPoolSize));
     StringAnnotatedStoreSchemaCache annotatedReadOnlySchemaRepository =
         new StringAnnotatedStoreSchemaCache(storeName, schemaRepository);
 
-    this.rmdSerDe = new RmdSerDe(annotatedReadOnlySchemaRepository, rmdProtocolVersionID);
+    boolean mergeFastAvroEnabled = serverConfig.isActiveActiveMergeFastAvroEnabled();
+    this.rmdSerDe = new RmdSerDe(annotatedReadOnlySchemaRepository, rmdProtocolVersionID, mergeFastAvroEnabled);
     this.mergeConflictResolver = MergeConflictResolverFactory.getInstance()
         .createMergeConflictResolver(
             annotatedReadOnlySchemaRepository,
             rmdSerDe,
             getStoreName(),
-            isWriteComputationEnabled);
+            isWriteComputationEnabled,
+            mergeFastAvroEnabled);
     this.remoteIngestionRepairService = builder.getRemoteIngestionRepairService();
+    this.prefetchEnabled = serverConfig.isActiveActivePrefetchEnabled();
+  }
+
+  @Override
+  protected void produceToStoreBufferServiceOrKafka(
+      Iterable<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> records,
+      PubSubTopicPartition topicPartition,
+      String kafkaUrl,
+      int kafkaClusterId) throws InterruptedException {
+    PartitionConsumptionState partitionConsumptionState =
+        (prefetchEnabled || parallelConflictResolutionExecutor != null)
+            ? getPartitionStateResolvingConflicts(topicPartition)
+            : null;
+    if (partitionConsumptionState == null) {
+      super.produceToStoreBufferServiceOrKafka(records, topicPartition, kafkaUrl, kafkaClusterId);
+      return;
+    }
+    List<byte[]> prefetchedKeys =
+        prefetchEnabled ? prefetchOldValuesAndRmds(records, partitionConsumptionState) : Collections.emptyList();
+    ConflictResolutionBatch conflictResolutionBatch = null;
+    if (parallelConflictResolutionExecutor != null) {
+      conflictResolutionBatch = new ConflictResolutionBatch(
+          partitionConsumptionState,
+          keyLevelLocksManager.get(),
+          parallelConflictResolutionExecutor,
+          parallelConflictResolutionThreadCount,
+          maxPendingRecordsToResolveInParallel);
+      currentConflictResolutionBatch.set(conflictResolutionBatch);
+    }
+    try {
+      super.produceToStoreBufferServiceOrKafka(records, topicPartition, kafkaUrl, kafkaClusterId);
+      if (conflictResolutionBatch != null) {
+        conflictResolutionBatch.flush();
+      }
+    } finally {
+      if (conflictResolutionBatch != null) {
+        currentConflictResolutionBatch.remove();
+        // Only left over by a failure, since the batch has been flushed otherwise.
+        conflictResolutionBatch.discard();
+      }
+      // Drop the prefetched records which have not been used, e.g. the ones of the skipped records.
+      for (byte[] key: prefetchedKeys) {
+        partitionConsumptionState.removePrefetchedRecord(key);
+      }
+    }
+  }
+
+  /**
+   * @return the {@link PartitionConsumptionState} of the partition if its records are going through the conflict
+   *         resolution in {@link #processMessageAndMaybeProduceToKafka}, null otherwise.
+   */
+  PartitionConsumptionState getPartitionStateResolvingConflicts(PubSubTopicPartition topicPartition) {
+    // TODO: Support prefetching and parallel conflict resolution with amplification factor, where the keys of a batch
+    // span multiple sub-partitions.
+    if (amplificationFactor != 1 || !topicPartition.getPubSubTopic().isRealTime()) {
+      return null;
+    }
+    PartitionConsumptionState partitionConsumptionState =
+        partitionConsumptionStateMap.get(topicPartition.getPartitionNumber());
+    if (partitionConsumptionState == null || partitionConsumptionState.getLeaderFollowerState() != LEADER
+        || !partitionConsumptionState.isEndOfPushReceived()
+        || isDataRecovery && partitionConsumptionState.getTopicSwitch() != null) {
+      return null;
+    }
+    return partitionConsumptionState;
+  }
+
+  /**
+   * Looks up the old values and RMDs of the keys of the records with a single batched DB read for each, and keeps them
+   * in {@link PartitionConsumptionState} until the records get processed, so that the conflict resolution of the
+   * records, which happens one key at a time while holding the lock of the key, doesn't have to wait for the DB.
+   *
+   * The keys which have a transient record are not looked up, since the transient record supersedes the DB. And a
+   * prefetched record gets evicted if a transient record is set for its key in the meantime, e.g. by a record of the
+   * same key consumed from another region, so it is never staler than the DB when it gets used.
+   *
+   * @return the keys which have been registered for prefetching.
+   */
+  private List<byte[]> prefetchOldValuesAndRmds(
+      Iterable<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> records,
+      PartitionConsumptionState partitionConsumptionState) {
+    Set<ByteArrayKey> distinctKeys = new HashSet<>();
+    List<byte[]> keys = new ArrayList<>();
+    PartitionConsumptionState.PrefetchedRecord placeholder =
+        PartitionConsumptionState.PrefetchedRecord.newPlaceholder();
+    for (PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> record: records) {
+      byte[] key = record.getKey().getKey();
+      if (record.getKey().isControlMessage() || !distinctKeys.add(ByteArrayKey.wrap(key))) {
+        continue;
+      }
+      if (partitionConsumptionState.registerPrefetch(key, placeholder)) {
+        keys.add(key);
+      }
+    }
+    if (keys.isEmpty()) {
+      return keys;
+    }
+
+    int subPartition = partitionConsumptionState.getPartition();
+    long lookupStartTimeInNS = System.nanoTime();
+    try {
+      List<ByteBuffer> keyBuffers = new ArrayList<>(keys.size());
+      for (byte[] key: keys) {
+        keyBuffers.add(ByteBuffer.wrap(key));
+      }
+      byte[][] rmds = new byte[keys.size()][];
+      SingleGetChunkingAdapter.getReplicationMetadataInBatch(
+          storageEngine,
+          subPartition,
+          keyBuffers,
+          isChunked,
+          (keyPosition, rmd) -> rmds[keyPosition] = (rmd == null) ? null : rmd.serialize());
+      ByteBuffer[] values = new ByteBuffer[keys.size()];
+      RawBytesChunkingAdapter.INSTANCE.getInBatch(
+          storageEngine,
+          subPartition,
+          keyBuffers,
+          isChunked,
+          null,
+          null,
+          null,
+          compressionStrategy,
+          serverConfig.isComputeFastAvroEnabled(),
+          schemaRepository,
+          storeName,
+          compressor.get(),
+          (keyPosition, value) -> values[keyPosition] = value);
+      for (int i = 0; i < keys.size(); i++) {
+        PartitionConsumptionState.PrefetchedRecord prefetchedRecord =
+            new PartitionConsumptionState.PrefetchedRecord(values[i], rmds[i]);
+        partitionConsumptionState.completePrefetch(keys.get(i), placeholder, prefetchedRecord);
+      }
+    } catch (Exception e) {
+      // The records will be looked up one key at a time instead.
+      String msg = consumerTaskId + " failed to prefetch the old values and RMDs of partition " + subPartition;
+      if (!REDUNDANT_LOGGING_FILTER.isRedundantException(msg)) {
+        LOGGER.warn(msg, e);
+      }
+    }
+    hostLevelIngestionStats
+        .recordIngestionPrefetchLatency(LatencyUtils.getLatencyInMS(lookupStartTimeInNS), System.currentTimeMillis());
+    return keys;
   }
 
   @Override
@@ -171,6 +339,22 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
        * -> [fabric A thread]produce to VT
        */
       final ByteArrayKey byteArrayKey = ByteArrayKey.wrap(consumerRecord.getKey().getKey());
+      ConflictResolutionBatch conflictResolutionBatch = getCurrentConflictResolutionBatch();
+      if (conflictResolutionBatch != null) {
+        if (conflictResolutionBatch.canResolveConflictInParallel(consumerRecord, subPartition)) {
+          // The lock of the key is held until the result of the conflict resolution is produced by the flush.
+          conflictResolutionBatch.lockKey(byteArrayKey);
+          return super.delegateConsumerRecord(
+              consumerRecord,
+              subPartition,
+              kafkaUrl,
+              kafkaClusterId,
+              beforeProcessingRecordTimestampNs,
+              currentTimeForMetricsMs);
+        }
+        // The pending records must be produced before, e.g. a control message.
+        conflictResolutionBatch.flush();
+      }
       ReentrantLock keyLevelLock = this.keyLevelLocksManager.get().acquireLockByKey(byteArrayKey);
       keyLevelLock.lock();
       try {
@@ -188,6 +372,34 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
     }
   }
 
+  @Override
+  protected boolean shouldProcessRecord(PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> record, int subPartition) {
+    boolean shouldProcessRecord = super.shouldProcessRecord(record, subPartition);
+    ConflictResolutionBatch conflictResolutionBatch = getCurrentConflictResolutionBatch();
+    if (!shouldProcessRecord && conflictResolutionBatch != null) {
+      // The offset of the skipped record is recorded as ignored right away, so the pending records must be produced
+      // before.
+      conflictResolutionBatch.flush();
+    }
+    return shouldProcessRecord;
+  }
+
+  /**
+   * @return the {@link ConflictResolutionBatch} of the records being produced by the current thread, if any.
+   */
+  ConflictResolutionBatch getCurrentConflictResolutionBatch() {
+    return currentConflictResolutionBatch.get();
+  }
+
+  @Override
+  protected void beforeBlockingWait() {
+    ConflictResolutionBatch conflictResolutionBatch = getCurrentConflictResolutionBatch();
+    if (conflictResolutionBatch != null) {
+      // The locks of the pending records must not be held while waiting.
+      conflictResolutionBatch.flush();
+    }
+  }
+
   @Override
   protected void putInStorageEngine(int partition, byte[] keyBytes, Put put) {
     try {
@@ -297,6 +509,24 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
       byte[] key,
       int subPartition,
       long currentTimeForMetricsMs) {
+    return getReplicationMetadataAndSchemaId(
+        partitionConsumptionState,
+        key,
+        subPartition,
+        null,
+        currentTimeForMetricsMs);
+  }
+
+  /**
+   * Same as {@link #getReplicationMetadataAndSchemaId(PartitionConsumptionState, byte[], int, long)}, except that the
+   * RMD is taken from the {@param prefetchedRecord} instead of the storage engine, if provided.
+   */
+  RmdWithValueSchemaId getReplicationMetadataAndSchemaId(
+      PartitionConsumptionState partitionConsumptionState,
+      byte[] key,
+      int subPartition,
+      PartitionConsumptionState.PrefetchedRecord prefetchedRecord,
+      long currentTimeForMetricsMs) {
     PartitionConsumptionState.TransientRecord cachedRecord = partitionConsumptionState.getTransientRecord(key);
     if (cachedRecord != null) {
       getHostLevelIngestionStats().recordIngestionReplicationMetadataCacheHitCount(currentTimeForMetricsMs);
@@ -305,8 +535,17 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
           getRmdProtocolVersionID(),
           cachedRecord.getReplicationMetadataRecord());
     }
-    byte[] replicationMetadataWithValueSchemaBytes =
-        getRmdWithValueSchemaByteBufferFromStorage(subPartition, key, currentTimeForMetricsMs);
+    byte[] replicationMetadataWithValueSchemaBytes;
+    if (prefetchedRecord != null) {
+      getHostLevelIngestionStats().recordIngestionPrefetchHitCount(currentTimeForMetricsMs);
+      replicationMetadataWithValueSchemaBytes = prefetchedRecord.getReplicationMetadataWithValueSchemaId();
+    } else {
+      if (prefetchEnabled) {
+        getHostLevelIngestionStats().recordIngestionPrefetchMissCount(currentTimeForMetricsMs);
+      }
+      replicationMetadataWithValueSchemaBytes =
+          getRmdWithValueSchemaByteBufferFromStorage(subPartition, key, currentTimeForMetricsMs);
+    }
     if (replicationMetadataWithValueSchemaBytes == null) {
       return null; // No RMD for this key
     }
@@ -354,6 +593,53 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
           currentTimeForMetricsMs);
       return;
     }
+    ConflictResolutionBatch conflictResolutionBatch = getCurrentConflictResolutionBatch();
+    if (conflictResolutionBatch != null
+        && conflictResolutionBatch.holdsLockOf(ByteArrayKey.wrap(consumerRecord.getKey().getKey()))) {
+      // The conflict gets resolved concurrently with the ones of the other pending records, when the batch is flushed.
+      conflictResolutionBatch.addPendingRecord(
+          new PendingRecord(
+              consumerRecord,
+              subPartition,
+              kafkaUrl,
+              kafkaClusterId,
+              beforeProcessingRecordTimestampNs,
+              currentTimeForMetricsMs));
+      return;
+    }
+    ConflictResolutionOutcome outcome = resolveConflict(
+        consumerRecord,
+        partitionConsumptionState,
+        subPartition,
+        kafkaClusterId,
+        currentTimeForMetricsMs,
+        false);
+    produceConflictResolutionOutcome(
+        outcome,
+        consumerRecord,
+        partitionConsumptionState,
+        subPartition,
+        kafkaUrl,
+        kafkaClusterId,
+        beforeProcessingRecordTimestampNs,
+        currentTimeForMetricsMs);
+  }
+
+  /**
+   * Resolves the conflict of a real-time record with the old value and RMD of its key, and updates the transient record
+   * of the key with the result, unless the record is ignored, so that the next record of the key gets resolved against
+   * it. The lock of the key must be held until the result is produced by {@link #produceConflictResolutionOutcome}.
+   *
+   * @param copyOldValueForViews whether the old value handed to the view writers must be copied, since it may be backed
+   *                             by the buffer which gets reused by the next DB lookup of the thread.
+   */
+  ConflictResolutionOutcome resolveConflict(
+      PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord,
+      PartitionConsumptionState partitionConsumptionState,
+      int subPartition,
+      int kafkaClusterId,
+      long currentTimeForMetricsMs,
+      boolean copyOldValueForViews) {
     KafkaKey kafkaKey = consumerRecord.getKey();
     KafkaMessageEnvelope kafkaValue = consumerRecord.getValue();
     byte[] keyBytes = kafkaKey.getKey();
@@ -380,15 +666,24 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
             consumerTaskId + " : Invalid/Unrecognized operation type submitted: " + kafkaValue.messageType);
     }
 
+    // The prefetched record, if any, is valid as long as the lock of the key is held.
+    final PartitionConsumptionState.PrefetchedRecord prefetchedRecord =
+        prefetchEnabled ? partitionConsumptionState.removePrefetchedRecord(keyBytes) : null;
+
     Lazy<ByteBuffer> oldValueProvider = Lazy.of(
         () -> getValueBytesForKey(
             partitionConsumptionState,
             keyBytes,
             consumerRecord.getTopicPartition(),
+            prefetchedRecord,
             currentTimeForMetricsMs));
 
-    final RmdWithValueSchemaId rmdWithValueSchemaID =
-        getReplicationMetadataAndSchemaId(partitionConsumptionState, keyBytes, subPartition, currentTimeForMetricsMs);
+    final RmdWithValueSchemaId rmdWithValueSchemaID = getReplicationMetadataAndSchemaId(
+        partitionConsumptionState,
+        keyBytes,
+        subPartition,
+        prefetchedRecord,
+        currentTimeForMetricsMs);
 
     final long writeTimestamp = getWriteTimestampFromKME(kafkaValue);
     final long offsetSumPreOperation =
@@ -396,7 +691,6 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
     List<Long> recordTimestampsPreOperation = rmdWithValueSchemaID != null
         ? RmdUtils.extractTimestampFromRmd(rmdWithValueSchemaID.getRmdRecord())
         : Collections.singletonList(0L);
-    // get the source offset and the id
     long sourceOffset = consumerRecord.getOffset();
     final MergeConflictResult mergeConflictResult;
 
@@ -445,6 +739,68 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
             consumerTaskId + " : Invalid/Unrecognized operation type submitted: " + kafkaValue.messageType);
     }
 
+    if (mergeConflictResult.isUpdateIgnored()) {
+      return new ConflictResolutionOutcome(mergeConflictResult, incomingValueSchemaId, -1, 0, null, null, null, null);
+    }
+
+    ByteBuffer oldValueForViews = null;
+    if (!viewWriters.isEmpty()) {
+      // The old value must be looked up before the transient record of the key gets updated.
+      oldValueForViews = oldValueProvider.get();
+      if (copyOldValueForViews && oldValueForViews != null) {
+        oldValueForViews = ByteBuffer.wrap(ByteUtils.copyByteArray(oldValueForViews));
+      }
+    }
+    final ByteBuffer updatedValueBytes = maybeCompressData(
+        consumerRecord.getTopicPartition().getPartitionNumber(),
+        mergeConflictResult.getNewValue(),
+        partitionConsumptionState);
+    final int valueSchemaId = mergeConflictResult.getValueSchemaId();
+    GenericRecord rmdRecord = mergeConflictResult.getRmdRecord();
+    final ByteBuffer updatedRmdBytes = rmdSerDe.serializeRmdRecord(valueSchemaId, rmdRecord);
+
+    // Update the transient record map, the result gets produced afterwards.
+    if (updatedValueBytes == null) {
+      partitionConsumptionState.setTransientRecord(kafkaClusterId, sourceOffset, keyBytes, valueSchemaId, rmdRecord);
+    } else {
+      partitionConsumptionState.setTransientRecord(
+          kafkaClusterId,
+          sourceOffset,
+          keyBytes,
+          updatedValueBytes.array(),
+          updatedValueBytes.position(),
+          updatedValueBytes.remaining(),
+          valueSchemaId,
+          rmdRecord);
+    }
+    return new ConflictResolutionOutcome(
+        mergeConflictResult,
+        incomingValueSchemaId,
+        rmdWithValueSchemaID != null ? rmdWithValueSchemaID.getValueSchemaId() : incomingValueSchemaId,
+        offsetSumPreOperation,
+        recordTimestampsPreOperation,
+        oldValueForViews,
+        updatedValueBytes,
+        updatedRmdBytes);
+  }
+
+  /**
+   * Produces the result of {@link #resolveConflict} to the version topic, or records the real-time record as ignored.
+   *
+   * This function may modify the original record in KME and it is unsafe to use the payload from KME directly after
+   * this function.
+   */
+  void produceConflictResolutionOutcome(
+      ConflictResolutionOutcome outcome,
+      PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord,
+      PartitionConsumptionState partitionConsumptionState,
+      int subPartition,
+      String kafkaUrl,
+      int kafkaClusterId,
+      long beforeProcessingRecordTimestampNs,
+      long currentTimeForMetricsMs) {
+    final MergeConflictResult mergeConflictResult = outcome.mergeConflictResult;
+    final byte[] keyBytes = consumerRecord.getKey().getKey();
     aggVersionedIngestionStats.recordConsumedRecordEndToEndProcessingLatency(
         storeName,
         versionNumber,
@@ -455,9 +811,12 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
       hostLevelIngestionStats.recordUpdateIgnoredDCR();
       // Record the last ignored offset
       partitionConsumptionState
-          .updateLatestIgnoredUpstreamRTOffset(kafkaClusterIdToUrlMap.get(kafkaClusterId), sourceOffset);
+          .updateLatestIgnoredUpstreamRTOffset(kafkaClusterIdToUrlMap.get(kafkaClusterId), consumerRecord.getOffset());
     } else {
-      validatePostOperationResultsAndRecord(mergeConflictResult, offsetSumPreOperation, recordTimestampsPreOperation);
+      validatePostOperationResultsAndRecord(
+          mergeConflictResult,
+          outcome.offsetSumPreOperation,
+          outcome.recordTimestampsPreOperation);
 
       // Apply this update to any views for this store
       // TODO: It'd be good to be able to do this in LeaderFollowerStoreIngestionTask instead, however, AA currently is
@@ -465,22 +824,20 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
       // only extension of IngestionTask which does a read from disk before applying the record. This makes the
       // following function
       // call in this context much less obtrusive, however, it implies that all views can only work for AA stores
-      int valueSchemaId =
-          rmdWithValueSchemaID != null ? rmdWithValueSchemaID.getValueSchemaId() : incomingValueSchemaId;
       this.viewWriters.forEach(
           (k, v) -> v.processRecord(
               mergeConflictResult.getNewValue(),
-              oldValueProvider.get(),
+              outcome.oldValueForViews,
               keyBytes,
               versionNumber,
-              incomingValueSchemaId,
-              valueSchemaId,
+              outcome.incomingValueSchemaId,
+              outcome.oldValueSchemaId,
               mergeConflictResult.getRmdRecord()));
 
       // This function may modify the original record in KME and it is unsafe to use the payload from KME directly after
       // this call.
       producePutOrDeleteToKafka(
-          mergeConflictResult,
+          outcome,
           partitionConsumptionState,
           keyBytes,
           consumerRecord,
@@ -540,18 +897,22 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
    * @param partitionConsumptionState The {@link PartitionConsumptionState} of the current partition
    * @param key The key bytes of the incoming record.
    * @param topicPartition The {@link PubSubTopicPartition} from which the incoming record was consumed
+   * @param prefetchedRecord The value read from the DB ahead of time, to use in place of the DB, if not null.
    * @return
    */
   private ByteBuffer getValueBytesForKey(
       PartitionConsumptionState partitionConsumptionState,
       byte[] key,
       PubSubTopicPartition topicPartition,
+      PartitionConsumptionState.PrefetchedRecord prefetchedRecord,
       long currentTimeForMetricsMs) {
     ByteBuffer originalValue = null;
     // Find the existing value. If a value for this key is found from the transient map then use that value, otherwise
     // get it from DB.
     PartitionConsumptionState.TransientRecord transientRecord = partitionConsumptionState.getTransientRecord(key);
-    if (transientRecord == null) {
+    if (transientRecord == null && prefetchedRecord != null) {
+      originalValue = prefetchedRecord.getValue();
+    } else if (transientRecord == null) {
       long lookupStartTimeInNS = System.nanoTime();
       ReusableObjects reusableObjects = threadLocalReusableObjects.get();
       ByteBuffer reusedRawValue = reusableObjects.reusedByteBuffer;
@@ -590,7 +951,7 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
    *
    * This function may modify the original record in KME and it is unsafe to use the payload from KME directly after this function.
    *
-   * @param mergeConflictResult The result of conflict resolution.
+   * @param outcome The result of conflict resolution.
    * @param partitionConsumptionState The {@link PartitionConsumptionState} of the current partition
    * @param key The key bytes of the incoming record.
    * @param consumerRecord The {@link PubSubMessage} for the current record.
@@ -598,7 +959,7 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
    * @param kafkaUrl
    */
   private void producePutOrDeleteToKafka(
-      MergeConflictResult mergeConflictResult,
+      ConflictResolutionOutcome outcome,
       PartitionConsumptionState partitionConsumptionState,
       byte[] key,
       PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord,
@@ -606,23 +967,15 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
       String kafkaUrl,
       int kafkaClusterId,
       long beforeProcessingRecordTimestampNs) {
-
-    final ByteBuffer updatedValueBytes = maybeCompressData(
-        consumerRecord.getTopicPartition().getPartitionNumber(),
-        mergeConflictResult.getNewValue(),
-        partitionConsumptionState);
+    final MergeConflictResult mergeConflictResult = outcome.mergeConflictResult;
+    final ByteBuffer updatedValueBytes = outcome.updatedValueBytes;
     final int valueSchemaId = mergeConflictResult.getValueSchemaId();
+    final ByteBuffer updatedRmdBytes = outcome.updatedRmdBytes;
 
-    GenericRecord rmdRecord = mergeConflictResult.getRmdRecord();
-    final ByteBuffer updatedRmdBytes =
-        rmdSerDe.serializeRmdRecord(mergeConflictResult.getValueSchemaId(), mergeConflictResult.getRmdRecord());
-
-    // finally produce and update the transient record map.
+    // finally produce, the transient record map has been updated by the conflict resolution.
     if (updatedValueBytes == null) {
       hostLevelIngestionStats.recordTombstoneCreatedDCR();
       aggVersionedIngestionStats.recordTombStoneCreationDCR(storeName, versionNumber);
-      partitionConsumptionState
-          .setTransientRecord(kafkaClusterId, consumerRecord.getOffset(), key, valueSchemaId, rmdRecord);
       Delete deletePayload = new Delete();
       deletePayload.schemaId = valueSchemaId;
       deletePayload.replicationMetadataVersionId = rmdProtocolVersionID;
@@ -646,17 +999,6 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
           kafkaClusterId,
           beforeProcessingRecordTimestampNs);
     } else {
-      int valueLen = updatedValueBytes.remaining();
-      partitionConsumptionState.setTransientRecord(
-          kafkaClusterId,
-          consumerRecord.getOffset(),
-          key,
-          updatedValueBytes.array(),
-          updatedValueBytes.position(),
-          valueLen,
-          valueSchemaId,
-          rmdRecord);
-
       Put updatedPut = new Put();
       updatedPut.putValue = ByteUtils
           .prependIntHeaderToByteBuffer(updatedValueBytes, valueSchemaId, mergeConflictResult.doesResultReuseInput());
@@ -1393,4 +1735,272 @@ public class ActiveActiveStoreIngestionTask extends LeaderFollowerStoreIngestion
         kafkaUrl,
         beforeProcessingRecordTimestampNs);
   }
+
+  /**
+   * The result of {@link #resolveConflict}, which is produced by {@link #produceConflictResolutionOutcome}.
+   */
+  static class ConflictResolutionOutcome {
+    final MergeConflictResult mergeConflictResult;
+    final int incomingValueSchemaId;
+    final int oldValueSchemaId;
+    final long offsetSumPreOperation;
+    final List<Long> recordTimestampsPreOperation;
+    final ByteBuffer oldValueForViews;
+    final ByteBuffer updatedValueBytes;
+    final ByteBuffer updatedRmdBytes;
+
+    ConflictResolutionOutcome(
+        MergeConflictResult mergeConflictResult,
+        int incomingValueSchemaId,
+        int oldValueSchemaId,
+        long offsetSumPreOperation,
+        List<Long> recordTimestampsPreOperation,
+        ByteBuffer oldValueForViews,
+        ByteBuffer updatedValueBytes,
+        ByteBuffer updatedRmdBytes) {
+      this.mergeConflictResult = mergeConflictResult;
+      this.incomingValueSchemaId = incomingValueSchemaId;
+      this.oldValueSchemaId = oldValueSchemaId;
+      this.offsetSumPreOperation = offsetSumPreOperation;
+      this.recordTimestampsPreOperation = recordTimestampsPreOperation;
+      this.oldValueForViews = oldValueForViews;
+      this.updatedValueBytes = updatedValueBytes;
+      this.updatedRmdBytes = updatedRmdBytes;
+    }
+  }
+
+  /**
+   * A real-time record of a {@link ConflictResolutionBatch} which has passed the DIV, and waits for its conflict
+   * resolution.
+   */
+  static class PendingRecord {
+    final PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord;
+    final int subPartition;
+    final String kafkaUrl;
+    final int kafkaClusterId;
+    final long beforeProcessingRecordTimestampNs;
+    final long currentTimeForMetricsMs;
+    ConflictResolutionOutcome outcome;
+    Exception failure;
+    /** The transient record of the key once the conflict is resolved, which the result is produced from. */
+    PartitionConsumptionState.TransientRecord transientRecord;
+
+    PendingRecord(
+        PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord,
+        int subPartition,
+        String kafkaUrl,
+        int kafkaClusterId,
+        long beforeProcessingRecordTimestampNs,
+        long currentTimeForMetricsMs) {
+      this.consumerRecord = consumerRecord;
+      this.subPartition = subPartition;
+      this.kafkaUrl = kafkaUrl;
+      this.kafkaClusterId = kafkaClusterId;
+      this.beforeProcessingRecordTimestampNs = beforeProcessingRecordTimestampNs;
+      this.currentTimeForMetricsMs = currentTimeForMetricsMs;
+    }
+  }
+
+  /**
+   * Resolves the conflicts of the real-time records of a polled batch of a partition in parallel, for different keys.
+   *
+   * The consumer thread takes the locks of the keys of the records, runs them through the DIV one at a time like
+   * usual, and defers their conflict resolution to the flush of the batch, which spreads the pending records by key
+   * hash across the {@link #parallelConflictResolutionExecutor} and the consumer thread itself, so that the records of
+   * a key are still resolved one at a time and in order. Once all of them are resolved, the results are produced to
+   * the version topic in the order of the real-time records, so that the version topic and the upstream offsets stay
+   * the same as with the sequential processing, and the locks are only released afterwards, so that the records of the
+   * same keys consumed from other regions are not resolved against results which have not been produced yet.
+   *
+   * The batch is flushed before any record which can't be resolved in parallel, e.g. a control message, before
+   * waiting for the lock of a key held by another thread, and before the consumer thread blocks on a record, e.g. to
+   * wait for its value schema, so that the thread doesn't wait for other threads while holding the locks. Producing
+   * the results to the version topic is the only blocking call made under the locks, like with sequential processing.
+   *
+   * The transient records are updated as the conflicts get resolved, ahead of the production of the results, so when
+   * the batch fails to be produced, the transient records of the keys of the records which have not been produced are
+   * rolled back to the ones of their last produced results before the locks are released.
+   */
+  class ConflictResolutionBatch {
+    private final PartitionConsumptionState partitionConsumptionState;
+    private final KeyLevelLocks locksManager;
+    private final ExecutorService executor;
+    private final int threadCount;
+    private final int maxPendingRecords;
+    private final List<PendingRecord> pendingRecords = new ArrayList<>();
+    private final Map<ByteArrayKey, ReentrantLock> lockedKeys = new HashMap<>();
+    /** The transient record of each locked key as of its last produced result, null if the key had none. */
+    private final Map<ByteArrayKey, PartitionConsumptionState.TransientRecord> producedTransientRecords =
+        new HashMap<>();
+    private int producedRecordCount;
+
+    ConflictResolutionBatch(
+        PartitionConsumptionState partitionConsumptionState,
+        KeyLevelLocks locksManager,
+        ExecutorService executor,
+        int threadCount,
+        int maxPendingRecords) {
+      this.partitionConsumptionState = partitionConsumptionState;
+      this.locksManager = locksManager;
+      this.executor = executor;
+      this.threadCount = threadCount;
+      this.maxPendingRecords = maxPendingRecords;
+    }
+
+    boolean canResolveConflictInParallel(
+        PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord,
+        int subPartition) {
+      return !consumerRecord.getKey().isControlMessage() && subPartition == partitionConsumptionState.getPartition()
+          && getPartitionStateResolvingConflicts(consumerRecord.getTopicPartition()) == partitionConsumptionState;
+    }
+
+    boolean holdsLockOf(ByteArrayKey key) {
+      return lockedKeys.containsKey(key);
+    }
+
+    void lockKey(ByteArrayKey key) {
+      if (lockedKeys.containsKey(key)) {
+        return;
+      }
+      if (pendingRecords.size() >= maxPendingRecords) {
+        flush();
+      }
+      ReentrantLock keyLevelLock = locksManager.acquireLockByKey(key);
+      if (!keyLevelLock.tryLock()) {
+        try {
+          flush();
+        } catch (RuntimeException e) {
+          locksManager.releaseLock(key);
+          throw e;
+        }
+        keyLevelLock.lock();
+      }
+      lockedKeys.put(key, keyLevelLock);
+      producedTransientRecords.put(key, partitionConsumptionState.getTransientRecord(key.getContent()));
+    }
+
+    void addPendingRecord(PendingRecord pendingRecord) {
+      // The consumer releases its reference of the record once it is delegated.
+      PooledKafkaMessageEnvelope.retainIfPooled(pendingRecord.consumerRecord.getValue());
+      pendingRecords.add(pendingRecord);
+    }
+
+    /**
+     * Resolves the conflicts of the pending records, produces the results in order, and releases the locks.
+     */
+    void flush() {
+      try {
+        if (!pendingRecords.isEmpty()) {
+          resolveConflicts();
+          for (PendingRecord pendingRecord: pendingRecords) {
+            produce(pendingRecord);
+            producedRecordCount++;
+            producedTransientRecords
+                .put(ByteArrayKey.wrap(pendingRecord.consumerRecord.getKey().getKey()), pendingRecord.transientRecord);
+          }
+        }
+      } finally {
+        discard();
+      }
+    }
+
+    /**
+     * Releases the locks and the pending records without producing them, after rolling back the transient records
+     * of the ones which have not been produced.
+     */
+    void discard() {
+      try {
+        for (int i = producedRecordCount; i < pendingRecords.size(); i++) {
+          ByteArrayKey key = ByteArrayKey.wrap(pendingRecords.get(i).consumerRecord.getKey().getKey());
+          partitionConsumptionState.restoreTransientRecord(key.getContent(), producedTransientRecords.get(key));
+        }
+      } finally {
+        for (PendingRecord pendingRecord: pendingRecords) {
+          PooledKafkaMessageEnvelope.releaseIfPooled(pendingRecord.consumerRecord.getValue());
+        }
+        pendingRecords.clear();
+        producedRecordCount = 0;
+        producedTransientRecords.clear();
+        for (Map.Entry<ByteArrayKey, ReentrantLock> entry: lockedKeys.entrySet()) {
+          entry.getValue().unlock();
+          locksManager.releaseLock(entry.getKey());
+        }
+        lockedKeys.clear();
+      }
+    }
+
+    private void resolveConflicts() {
+      int groupCount = Math.min(threadCount + 1, pendingRecords.size());
+      List<List<PendingRecord>> groups = new ArrayList<>(groupCount);
+      for (int i = 0; i < groupCount; i++) {
+        groups.add(new ArrayList<>());
+      }
+      for (PendingRecord pendingRecord: pendingRecords) {
+        int keyHash = ByteArrayKey.wrap(pendingRecord.consumerRecord.getKey().getKey()).hashCode();
+        groups.get(Math.floorMod(keyHash, groupCount)).add(pendingRecord);
+      }
+      List<CompletableFuture<Void>> futures = new ArrayList<>(groupCount);
+      for (int i = 1; i < groupCount; i++) {
+        List<PendingRecord> group = groups.get(i);
+        if (group.isEmpty()) {
+          continue;
+        }
+        try {
+          futures.add(CompletableFuture.runAsync(() -> resolveConflicts(group), executor));
+        } catch (RejectedExecutionException e) {
+          // The server is shutting down.
+          resolveConflicts(group);
+        }
+      }
+      // The consumer thread resolves a group as well, instead of just waiting.
+      resolveConflicts(groups.get(0));
+      for (CompletableFuture<Void> future: futures) {
+        future.join();
+      }
+    }
+
+    private void resolveConflicts(List<PendingRecord> group) {
+      for (PendingRecord pendingRecord: group) {
+        try {
+          pendingRecord.outcome = resolveConflict(
+              pendingRecord.consumerRecord,
+              partitionConsumptionState,
+              pendingRecord.subPartition,
+              pendingRecord.kafkaClusterId,
+              pendingRecord.currentTimeForMetricsMs,
+              true);
+          pendingRecord.transientRecord =
+              partitionConsumptionState.getTransientRecord(pendingRecord.consumerRecord.getKey().getKey());
+        } catch (Exception e) {
+          // The next records of the group may have the same key, so they can't be resolved anymore.
+          pendingRecord.failure = e;
+          return;
+        }
+      }
+    }
+
+    private void produce(PendingRecord pendingRecord) {
+      PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord = pendingRecord.consumerRecord;
+      try {
+        if (pendingRecord.outcome == null) {
+          // A failed record comes before the records of its group which have not been resolved.
+          throw pendingRecord.failure;
+        }
+        produceConflictResolutionOutcome(
+            pendingRecord.outcome,
+            consumerRecord,
+            partitionConsumptionState,
+            pendingRecord.subPartition,
+            pendingRecord.kafkaUrl,
+            pendingRecord.kafkaClusterId,
+            pendingRecord.beforeProcessingRecordTimestampNs,
+            pendingRecord.currentTimeForMetricsMs);
+      } catch (Exception e) {
+        throw new VeniceException(
+            consumerTaskId + " hasProducedToKafka: exception for message received from: "
+                + consumerRecord.getTopicPartition() + ", Offset: " + consumerRecord.getOffset() + ". Bubbling up.",
+            e);
+      }
+    }
+  }
 }
@@ -41,6 +41,7 @@ import com.linkedin.davinci.stats.ParticipantStoreConsumptionStats;
 import com.linkedin.davinci.stats.StoreBufferServiceStats;
 import com.linkedin.davinci.storage.StorageEngineRepository;
 import com.linkedin.davinci.storage.StorageMetadataService;
+import com.linkedin.davinci.store.cache.HotKeyValueCacheRepository;
 import com.linkedin.davinci.store.cache.backend.ObjectCacheBackend;
 import com.linkedin.davinci.store.view.VeniceViewWriterFactory;
 import com.linkedin.venice.SSLConfig;
@@ -76,6 +77,7 @@ import com.linkedin.venice.pubsub.adapter.kafka.producer.SharedKafkaProducerAdap
 import com.linkedin.venice.pubsub.api.PubSubClientsFactory;
 import com.linkedin.venice.pubsub.api.PubSubProducerAdapterFactory;
 import com.linkedin.venice.pubsub.kafka.KafkaPubSubMessageDeserializer;
+import com.linkedin.venice.pubsub.kafka.PooledKafkaMessageEnvelope;
 import com.linkedin.venice.schema.SchemaEntry;
 import com.linkedin.venice.schema.SchemaReader;
 import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
@@ -100,6 +102,7 @@ import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.utils.locks.AutoCloseableLock;
 import com.linkedin.venice.utils.locks.ResourceAutoClosableLockManager;
 import com.linkedin.venice.utils.pools.LandFillObjectPool;
+import com.linkedin.venice.utils.pools.ObjectPool;
 import com.linkedin.venice.writer.VeniceWriterFactory;
 import io.tehuti.metrics.MetricsRepository;
 import java.nio.ByteBuffer;
@@ -192,6 +195,8 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
 
   private ExecutorService ingestionExecutorService;
 
+  private final ExecutorService parallelConflictResolutionExecutorService;
+
   private ParticipantStoreConsumptionTask participantStoreConsumptionTask;
 
   private boolean metaSystemStoreReplicaStatusNotifierQueued = false;
@@ -229,6 +234,7 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
       boolean isIsolatedIngestion,
       StorageEngineBackedCompressorFactory compressorFactory,
       Optional<ObjectCacheBackend> cacheBackend,
+      Optional<HotKeyValueCacheRepository> hotKeyValueCacheRepository,
       boolean isDaVinciClient,
       RemoteIngestionRepairService remoteIngestionRepairService,
       PubSubClientsFactory pubSubClientsFactory) {
@@ -385,11 +391,7 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
     if (serverConfig.isDedicatedDrainerQueueEnabled()) {
       this.storeBufferService = new SeparatedStoreBufferService(serverConfig);
     } else {
-      this.storeBufferService = new StoreBufferService(
-          serverConfig.getStoreWriterNumber(),
-          serverConfig.getStoreWriterBufferMemoryCapacity(),
-          serverConfig.getStoreWriterBufferNotifyDelta(),
-          serverConfig.isStoreWriterBufferAfterLeaderLogicEnabled());
+      this.storeBufferService = new StoreBufferService(serverConfig.getStoreWriterNumber(), serverConfig);
     }
     this.kafkaMessageEnvelopeSchemaReader = kafkaMessageEnvelopeSchemaReader;
     /**
@@ -421,8 +423,8 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
     kafkaMessageEnvelopeSchemaReader.ifPresent(kafkaValueSerializer::setSchemaReader);
     KafkaPubSubMessageDeserializer pubSubDeserializer = new KafkaPubSubMessageDeserializer(
         kafkaValueSerializer,
-        new LandFillObjectPool<>(KafkaMessageEnvelope::new),
-        new LandFillObjectPool<>(KafkaMessageEnvelope::new));
+        createKafkaMessageEnvelopePool(serverConfig),
+        createKafkaMessageEnvelopePool(serverConfig));
 
     aggKafkaConsumerService = new AggKafkaConsumerService(
         new ApacheKafkaConsumerAdapterFactory(),
@@ -462,6 +464,13 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
 
     VeniceViewWriterFactory viewWriterFactory = new VeniceViewWriterFactory(veniceConfigLoader);
 
+    int parallelConflictResolutionThreadCount = serverConfig.getActiveActiveParallelConflictResolutionThreadCount();
+    parallelConflictResolutionExecutorService = parallelConflictResolutionThreadCount > 0
+        ? Executors.newFixedThreadPool(
+            parallelConflictResolutionThreadCount,
+            new DaemonThreadFactory("Venice-AA-Parallel-Conflict-Resolution"))
+        : null;
+
     ingestionTaskFactory = StoreIngestionTaskFactory.builder()
         .setVeniceWriterFactory(veniceWriterFactory)
         .setStorageEngineRepository(storageEngineRepository)
@@ -485,6 +494,8 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
         .setCompressorFactory(compressorFactory)
         .setVeniceViewWriterFactory(viewWriterFactory)
         .setPubSubTopicRepository(pubSubTopicRepository)
+        .setHotKeyValueCacheRepository(hotKeyValueCacheRepository.orElse(null))
+        .setParallelConflictResolutionExecutor(parallelConflictResolutionExecutorService)
         .build();
   }
 
@@ -512,6 +523,15 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
     }
   }
 
+  private static ObjectPool<KafkaMessageEnvelope> createKafkaMessageEnvelopePool(VeniceServerConfig serverConfig) {
+    if (serverConfig.getKafkaMessageEnvelopePoolSize() > 0) {
+      return PooledKafkaMessageEnvelope.createPool(
+          serverConfig.getKafkaMessageEnvelopePoolSize(),
+          serverConfig.isKafkaMessageEnvelopePoolDebugEnabled());
+    }
+    return new LandFillObjectPool<>(KafkaMessageEnvelope::new);
+  }
+
   /**
    * Starts the Kafka consumption tasks for already subscribed partitions.
    */
@@ -605,6 +625,10 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
      */
     topicNameToIngestionTaskMap.values().forEach(StoreIngestionTask::close);
     shutdownExecutorService(ingestionExecutorService, "ingestionExecutorService", false);
+    shutdownExecutorService(
+        parallelConflictResolutionExecutorService,
+        "parallelConflictResolutionExecutorService",
+        true);
 
     Utils.closeQuietlyWithErrorLogged(aggKafkaConsumerService);
 
@@ -0,0 +1,21 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import com.linkedin.davinci.utils.ByteArrayKey;
+import java.util.concurrent.locks.ReentrantLock;
+
+
+/**
+ * Hands out the lock guarding the critical session of a key. Every {@link #acquireLockByKey} must be paired with a
+ * {@link #releaseLock} of the same key once the returned lock got unlocked.
+ *
+ * @see KeyLevelLocksManager
+ * @see StripedKeyLevelLocksManager
+ */
+public interface KeyLevelLocks {
+  /**
+   * @return the lock of the given key, the same lock is returned for the same raw key bytes while it is acquired.
+   */
+  ReentrantLock acquireLockByKey(ByteArrayKey key);
+
+  void releaseLock(ByteArrayKey key);
+}
@@ -30,7 +30,7 @@ import java.util.concurrent.locks.ReentrantLock;
  * If there are more use cases that could leverage this key level lock manager in future, feel free to do so, and extend/update
  * the class if necessary.
  */
-public class KeyLevelLocksManager {
+public class KeyLevelLocksManager implements KeyLevelLocks {
   private final String storeVersion;
   private final int initialPoolSize;
   private final int maxPoolSize;
@@ -39,7 +39,7 @@ public class KeyLevelLocksManager {
   private final Queue<LockWithReferenceCount> locksPool;
   private int currentPoolSize;
 
-  protected KeyLevelLocksManager(String storeVersion, int initialPoolSize, int maxPoolSize) {
+  public KeyLevelLocksManager(String storeVersion, int initialPoolSize, int maxPoolSize) {
     this.storeVersion = storeVersion;
     this.initialPoolSize = initialPoolSize;
     this.currentPoolSize = initialPoolSize;
@@ -51,7 +51,8 @@ public class KeyLevelLocksManager {
     }
   }
 
-  synchronized ReentrantLock acquireLockByKey(ByteArrayKey key) {
+  @Override
+  public synchronized ReentrantLock acquireLockByKey(ByteArrayKey key) {
     LockWithReferenceCount lockWrapper = keyToLockMap.computeIfAbsent(key, k -> {
       LockWithReferenceCount nextAvailableLock = locksPool.poll();
       if (nextAvailableLock == null) {
@@ -75,7 +76,8 @@ public class KeyLevelLocksManager {
    * If no other thread is using the lock, return the lock back to the pool, and remove the key from keyToLock map
    * so that we only keep a very small footprint, instead of caching the whole key space in memory.
    */
-  synchronized void releaseLock(ByteArrayKey key) {
+  @Override
+  public synchronized void releaseLock(ByteArrayKey key) {
     LockWithReferenceCount lockWrapper = keyToLockMap.get(key);
     if (lockWrapper == null) {
       throw new VeniceException("Store version: " + storeVersion + " .Key to lock is not being maintained correctly.");
@@ -9,6 +9,7 @@ import com.linkedin.venice.kafka.protocol.Put;
 import com.linkedin.venice.message.KafkaKey;
 import com.linkedin.venice.pubsub.api.PubSubMessage;
 import com.linkedin.venice.pubsub.api.PubSubProduceResult;
+import com.linkedin.venice.pubsub.kafka.PooledKafkaMessageEnvelope;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.serialization.avro.ChunkedValueManifestSerializer;
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
@@ -66,6 +67,12 @@ class LeaderProducerCallback implements ChunkAwareCallback {
     this.leaderProducedRecordContext = leaderProducedRecordContext;
     this.produceTimeNs = ingestionTask.isUserSystemStore() ? 0 : System.nanoTime();
     this.beforeProcessingRecordTimestampNs = beforeProcessingRecordTimestampNs;
+    /**
+     * The source record is released once it is queued to the drainers, which take their own references. In case of a
+     * failure, the source record is never released, since it could still be referenced by the remaining sends of a
+     * chunked value, so it will be garbage collected.
+     */
+    PooledKafkaMessageEnvelope.retainIfPooled(sourceConsumerRecord.getValue());
   }
 
   @Override
@@ -88,6 +95,7 @@ class LeaderProducerCallback implements ChunkAwareCallback {
       if (partitionConsumptionState.getLeaderFollowerState() == LEADER
           && produceResult.getPartition() != partitionConsumptionState.getPartition()) {
         leaderProducedRecordContext.completePersistedToDBFuture(null);
+        PooledKafkaMessageEnvelope.releaseIfPooled(sourceConsumerRecord.getValue());
         return;
       }
       /**
@@ -224,6 +232,7 @@ class LeaderProducerCallback implements ChunkAwareCallback {
           throw new RuntimeException(oe);
         }
       }
+      PooledKafkaMessageEnvelope.releaseIfPooled(sourceConsumerRecord.getValue());
     }
   }
 
@@ -0,0 +1,139 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import com.linkedin.venice.common.Measurable;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+
+/**
+ * A memory bound blocking queue with the same semantics as {@link MemoryBoundBlockingQueue}, but which does not take
+ * any lock as long as there is enough memory available to put a record, and there is a record available to take.
+ *
+ * The records are buffered in a {@link ConcurrentLinkedQueue}, and the memory budget is reserved with a CAS loop on
+ * {@link #remainingMemoryCapacityInByte}, so many consumer threads can put records concurrently without handing a lock
+ * over to each other, or to the drainer thread, for every single record. The lock is only used to park the threads
+ * which cannot make progress: the producers waiting for memory to be freed, and the drainer waiting for records.
+ * Such a thread registers itself as a waiter before checking the condition once more, and the thread freeing the
+ * memory (resp. adding a record) only signals after having updated the state, when there is a registered waiter,
+ * so no wake-up gets lost.
+ *
+ * The freed memory is handed back to the producers once it exceeds {@link #notifyDeltaInByte}, like in
+ * {@link MemoryBoundBlockingQueue}, or when the drainer finds the queue empty.
+ *
+ * @param <T>
+ */
+public class LockFreeMemoryBoundBlockingQueue<T extends Measurable> extends AbstractMemoryBoundBlockingQueue<T> {
+  private final Lock waitLock = new ReentrantLock();
+  private final Condition hasEnoughMemory = waitLock.newCondition();
+  private final Condition notEmpty = waitLock.newCondition();
+  private final AtomicInteger memoryWaiterCount = new AtomicInteger(0);
+  private final AtomicInteger recordWaiterCount = new AtomicInteger(0);
+  // Accumulated free memory since last notification
+  private final AtomicLong currentFreedMemoryInBytes = new AtomicLong(0);
+
+  public LockFreeMemoryBoundBlockingQueue(long memoryCapacityInByte, long notifyDeltaInByte) {
+    super(new ConcurrentLinkedQueue<>(), memoryCapacityInByte, notifyDeltaInByte);
+  }
+
+  @Override
+  public void put(T record) throws InterruptedException {
+    int recordSize = getRecordSizeForPut(record);
+    if (!tryReserveMemory(recordSize)) {
+      waitLock.lock();
+      memoryWaiterCount.incrementAndGet();
+      try {
+        while (!tryReserveMemory(recordSize)) {
+          hasEnoughMemory.await();
+        }
+      } finally {
+        memoryWaiterCount.decrementAndGet();
+        waitLock.unlock();
+      }
+    }
+    queue.add(record);
+    if (recordWaiterCount.get() > 0) {
+      signal(notEmpty);
+    }
+  }
+
+  @Override
+  public T take() throws InterruptedException {
+    T record = queue.poll();
+    if (record == null) {
+      releaseFreedMemory();
+      waitLock.lock();
+      recordWaiterCount.incrementAndGet();
+      try {
+        while ((record = queue.poll()) == null) {
+          notEmpty.await();
+        }
+      } finally {
+        recordWaiterCount.decrementAndGet();
+        waitLock.unlock();
+      }
+    }
+    freeMemory(getRecordSize(record));
+    return record;
+  }
+
+  @Override
+  public int drainTo(Collection<? super T> c, int maxElements) {
+    int drainedCount = 0;
+    long drainedMemoryInBytes = 0;
+    T record;
+    while (drainedCount < maxElements && (record = queue.poll()) != null) {
+      c.add(record);
+      drainedMemoryInBytes += getRecordSize(record);
+      drainedCount++;
+    }
+    if (drainedCount > 0) {
+      freeMemory(drainedMemoryInBytes);
+    }
+    return drainedCount;
+  }
+
+  private boolean tryReserveMemory(int recordSize) {
+    long remainingMemory;
+    do {
+      remainingMemory = remainingMemoryCapacityInByte.get();
+      if (remainingMemory < recordSize) {
+        return false;
+      }
+    } while (!remainingMemoryCapacityInByte.compareAndSet(remainingMemory, remainingMemory - recordSize));
+    return true;
+  }
+
+  private void freeMemory(long freedMemoryInBytes) {
+    /**
+     * It won't notify the blocked {@link #put(Measurable)} threads until the freed memory exceeds
+     * pre-defined {@link #notifyDeltaInByte}.
+     */
+    if (currentFreedMemoryInBytes.addAndGet(freedMemoryInBytes) >= notifyDeltaInByte) {
+      releaseFreedMemory();
+    }
+  }
+
+  private void releaseFreedMemory() {
+    long freedMemoryInBytes = currentFreedMemoryInBytes.getAndSet(0);
+    if (freedMemoryInBytes > 0) {
+      remainingMemoryCapacityInByte.addAndGet(freedMemoryInBytes);
+      if (memoryWaiterCount.get() > 0) {
+        signal(hasEnoughMemory);
+      }
+    }
+  }
+
+  private void signal(Condition condition) {
+    waitLock.lock();
+    try {
+      condition.signalAll();
+    } finally {
+      waitLock.unlock();
+    }
+  }
+}
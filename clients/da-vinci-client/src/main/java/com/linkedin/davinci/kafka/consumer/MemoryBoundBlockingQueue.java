@@ -1,19 +1,11 @@
 package com.linkedin.davinci.kafka.consumer;
 
 import com.linkedin.venice.common.Measurable;
-import com.linkedin.venice.exceptions.VeniceException;
 import java.util.Collection;
-import java.util.Iterator;
 import java.util.LinkedList;
-import java.util.Queue;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
 
 
 /**
@@ -43,18 +35,7 @@ import org.apache.logging.log4j.Logger;
  *
  * @param <T>
  */
-public class MemoryBoundBlockingQueue<T extends Measurable> implements BlockingQueue<T> {
-  private static final Logger LOGGER = LogManager.getLogger(MemoryBoundBlockingQueue.class);
-  /**
-   * Considering the node implementation: {@link java.util.LinkedList.Node}, the overhead
-   * is three references, which could be about 24 bytes, and the 'Node' object type itself could take 24 bytes.
-   * We can adjust this value later if necessary.
-   */
-  public static final int LINKED_QUEUE_NODE_OVERHEAD_IN_BYTE = 48;
-  private final Queue<T> queue;
-  private final long memoryCapacityInByte;
-  private final long notifyDeltaInByte;
-  private final AtomicLong remainingMemoryCapacityInByte;
+public class MemoryBoundBlockingQueue<T extends Measurable> extends AbstractMemoryBoundBlockingQueue<T> {
   private final Lock memoryLock = new ReentrantLock();
   private final Condition hasEnoughMemory = memoryLock.newCondition();
   private final Condition notEmpty = memoryLock.newCondition();
@@ -62,41 +43,16 @@ public class MemoryBoundBlockingQueue<T extends Measurable> implements BlockingQ
   private long currentFreedMemoryInBytes = 0;
 
   public MemoryBoundBlockingQueue(long memoryCapacityInByte, long notifyDeltaInByte) {
-    if (notifyDeltaInByte > memoryCapacityInByte) {
-      throw new IllegalArgumentException(
-          "Param notifyDeltaInByte: " + notifyDeltaInByte + " should not be bigger than param memoryCapacityInByte: "
-              + memoryCapacityInByte);
-    }
     /**
      * There is no need to use any blocking queue here since it is using a lock for both
      * access control and memory throttling.
      */
-    this.queue = new LinkedList<>();
-    this.memoryCapacityInByte = memoryCapacityInByte;
-    this.notifyDeltaInByte = notifyDeltaInByte;
-    this.remainingMemoryCapacityInByte = new AtomicLong(this.memoryCapacityInByte);
-  }
-
-  public long getMemoryUsage() {
-    return memoryCapacityInByte - remainingMemoryCapacityInByte();
-  }
-
-  public long remainingMemoryCapacityInByte() {
-    return remainingMemoryCapacityInByte.get();
-  }
-
-  private int getRecordSize(T record) {
-    return record.getSize() + LINKED_QUEUE_NODE_OVERHEAD_IN_BYTE;
+    super(new LinkedList<>(), memoryCapacityInByte, notifyDeltaInByte);
   }
 
   @Override
   public void put(T record) throws InterruptedException {
-    int recordSize = getRecordSize(record);
-    if (recordSize > notifyDeltaInByte) {
-      LOGGER.warn(
-          "Record size of record: " + record + " is " + recordSize + ", which exceeds notifyDeltaInByte: "
-              + notifyDeltaInByte + ", and it could potentially be blocked when the buffer is full.");
-    }
+    int recordSize = getRecordSizeForPut(record);
     memoryLock.lock();
     try {
       while (remainingMemoryCapacityInByte() < recordSize) {
@@ -119,17 +75,7 @@ public class MemoryBoundBlockingQueue<T extends Measurable> implements BlockingQ
       while ((record = this.queue.poll()) == null) {
         notEmpty.await();
       }
-      int recordSize = getRecordSize(record);
-      currentFreedMemoryInBytes += recordSize;
-      /**
-       * It won't notify the blocked {@link #put(Measurable)}  thread until the freed memory exceeds
-       * pre-defined {@link #notifyDeltaInByte}.
-       */
-      if (currentFreedMemoryInBytes >= notifyDeltaInByte) {
-        remainingMemoryCapacityInByte.getAndAdd(currentFreedMemoryInBytes);
-        currentFreedMemoryInBytes = 0;
-        hasEnoughMemory.signalAll();
-      }
+      freeMemory(getRecordSize(record));
     } finally {
       memoryLock.unlock();
     }
@@ -137,118 +83,44 @@ public class MemoryBoundBlockingQueue<T extends Measurable> implements BlockingQ
     return record;
   }
 
+  /**
+   * Removes up to {@param maxElements} records at once, without blocking, so that the lock is acquired once for the
+   * whole batch instead of once per record.
+   */
   @Override
-  public boolean offer(T t, long timeout, TimeUnit unit) throws InterruptedException {
-    throw new VeniceException("Operation is not supported yet!");
-  }
-
-  @Override
-  public boolean add(T t) {
-    throw new VeniceException("Operation is not supported yet!");
-  }
-
-  @Override
-  public boolean offer(T t) {
-    throw new VeniceException("Operation is not supported yet!");
-  }
-
-  @Override
-  public T remove() {
-    throw new VeniceException("Operation is not supported yet!");
-  }
-
-  @Override
-  public T poll() {
-    throw new VeniceException("Operation is not supported yet!");
-  }
-
-  @Override
-  public T element() {
-    throw new VeniceException("Operation is not supported yet!");
-  }
-
-  @Override
-  public T peek() {
-    throw new VeniceException("Operation is not supported yet!");
-  }
-
-  @Override
-  public T poll(long timeout, TimeUnit unit) throws InterruptedException {
-    throw new VeniceException("Operation is not supported yet!");
-  }
-
-  @Override
-  public int remainingCapacity() {
-    throw new VeniceException("Operation is not supported yet!");
-  }
-
-  @Override
-  public boolean remove(Object o) {
-    throw new VeniceException("Operation is not supported yet!");
-  }
-
-  @Override
-  public boolean containsAll(Collection<?> c) {
-    return this.queue.containsAll(c);
-  }
-
-  @Override
-  public boolean addAll(Collection<? extends T> c) {
-    throw new VeniceException("Operation is not supported yet!");
-  }
-
-  @Override
-  public boolean removeAll(Collection<?> c) {
-    throw new VeniceException("Operation is not supported yet!");
-  }
-
-  @Override
-  public boolean retainAll(Collection<?> c) {
-    throw new VeniceException("Operation is not supported yet!");
-  }
-
-  @Override
-  public void clear() {
-    throw new VeniceException("Operation is not supported yet!");
-  }
-
-  @Override
-  public int size() {
-    return this.queue.size();
-  }
-
-  @Override
-  public boolean isEmpty() {
-    return this.queue.isEmpty();
-  }
-
-  @Override
-  public boolean contains(Object o) {
-    return this.queue.contains(o);
-  }
-
-  @Override
-  public Iterator<T> iterator() {
-    return this.queue.iterator();
-  }
-
-  @Override
-  public Object[] toArray() {
-    return this.queue.toArray();
-  }
-
-  @Override
-  public <T1> T1[] toArray(T1[] a) {
-    return this.queue.toArray(a);
-  }
-
-  @Override
-  public int drainTo(Collection<? super T> c) {
-    throw new VeniceException("Operation is not supported yet!");
+  public int drainTo(Collection<? super T> c, int maxElements) {
+    int drainedCount = 0;
+    this.memoryLock.lock();
+    try {
+      T record;
+      long drainedMemoryInBytes = 0;
+      while (drainedCount < maxElements && (record = this.queue.poll()) != null) {
+        c.add(record);
+        drainedMemoryInBytes += getRecordSize(record);
+        drainedCount++;
+      }
+      if (drainedCount > 0) {
+        freeMemory(drainedMemoryInBytes);
+      }
+    } finally {
+      memoryLock.unlock();
+    }
+    return drainedCount;
   }
 
-  @Override
-  public int drainTo(Collection<? super T> c, int maxElements) {
-    throw new VeniceException("Operation is not supported yet!");
+  /**
+   * Must be called while holding {@link #memoryLock}.
+   */
+  private void freeMemory(long freedMemoryInBytes) {
+    currentFreedMemoryInBytes += freedMemoryInBytes;
+    /**
+     * It won't notify the blocked {@link #put(Measurable)}  thread until the freed memory exceeds
+     * pre-defined {@link #notifyDeltaInByte}.
+     */
+    if (currentFreedMemoryInBytes >= notifyDeltaInByte) {
+      remainingMemoryCapacityInByte.getAndAdd(currentFreedMemoryInBytes);
+      currentFreedMemoryInBytes = 0;
+      hasEnoughMemory.signalAll();
+    }
   }
 }
@@ -15,13 +15,16 @@ import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
 import com.linkedin.venice.utils.PartitionUtils;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
 import org.apache.avro.generic.GenericRecord;
 
 
@@ -105,6 +108,24 @@ public class PartitionConsumptionState {
    */
   private final ConcurrentMap<ByteArrayKey, TransientRecord> transientRecordMap = new VeniceConcurrentHashMap<>();
 
+  /**
+   * The old values and replication metadata read from the DB ahead of processing a batch of records, see
+   * {@link #registerPrefetch(byte[], PrefetchedRecord)}. A prefetched record is evicted by
+   * {@link #setTransientRecord(int, long, byte[], byte[], int, int, int, GenericRecord)} for the same key, so that a
+   * prefetched record, as long as it is present in this map, is never staler than what the DB would return.
+   */
+  private final ConcurrentMap<ByteArrayKey, PrefetchedRecord> prefetchedRecordMap = new VeniceConcurrentHashMap<>();
+
+  /**
+   * The drainer thread which currently buffers the writes of this partition into a storage engine write batch, if any.
+   * The transient records written by this thread can only be removed once the write batch is committed, otherwise the
+   * consumer thread could read a stale value from the DB in between, so their removal is deferred into
+   * {@link #actionsPendingWriteBatch}, which is only accessed by the owner thread. The same goes for the invalidation
+   * of the values cached on the read path.
+   */
+  private final AtomicReference<Thread> writeBatchOwner = new AtomicReference<>();
+  private final List<Runnable> actionsPendingWriteBatch = new ArrayList<>();
+
   /**
    * In-memory hash set which keeps track of all previous status this sub-partition has reported. It is the in-memory
    * cache of the previousStatuses field in {@link com.linkedin.venice.kafka.protocol.state.PartitionState} inside
@@ -488,13 +509,74 @@ public class PartitionConsumptionState {
     if (replicationMetadataRecord != null) {
       transientRecord.setReplicationMetadataRecord(replicationMetadataRecord);
     }
-    transientRecordMap.put(ByteArrayKey.wrap(key), transientRecord);
+    ByteArrayKey byteArrayKey = ByteArrayKey.wrap(key);
+    transientRecordMap.put(byteArrayKey, transientRecord);
+    if (!prefetchedRecordMap.isEmpty()) {
+      prefetchedRecordMap.remove(byteArrayKey);
+    }
   }
 
   public TransientRecord getTransientRecord(byte[] key) {
     return transientRecordMap.get(ByteArrayKey.wrap(key));
   }
 
+  /**
+   * Sets back a transient record previously returned by {@link #getTransientRecord(byte[])} for the key, or removes the
+   * transient record of the key if null, e.g. to roll back the transient records of results which failed to be
+   * produced. The caller must hold the lock of the key.
+   */
+  public void restoreTransientRecord(byte[] key, TransientRecord transientRecord) {
+    if (transientRecord == null) {
+      transientRecordMap.remove(ByteArrayKey.wrap(key));
+    } else {
+      transientRecordMap.put(ByteArrayKey.wrap(key), transientRecord);
+    }
+  }
+
+  /**
+   * Registers the {@param placeholder} of a prefetch for the key, before the old value and replication metadata of the
+   * key get read from the DB. The placeholder is registered before checking the transient record of the key, so that
+   * the DB read either happens after the latest transient record of the key is persisted, or gets discarded, since
+   * a transient record set afterwards evicts the placeholder.
+   *
+   * @return false if the key has a transient record, in which case there is no need to prefetch it.
+   */
+  public boolean registerPrefetch(byte[] key, PrefetchedRecord placeholder) {
+    ByteArrayKey byteArrayKey = ByteArrayKey.wrap(key);
+    prefetchedRecordMap.put(byteArrayKey, placeholder);
+    if (transientRecordMap.containsKey(byteArrayKey)) {
+      prefetchedRecordMap.remove(byteArrayKey, placeholder);
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Replaces the {@param placeholder} registered by {@link #registerPrefetch(byte[], PrefetchedRecord)} with the
+   * record read from the DB, unless it has been evicted in the meantime.
+   */
+  public void completePrefetch(byte[] key, PrefetchedRecord placeholder, PrefetchedRecord prefetchedRecord) {
+    prefetchedRecordMap.replace(ByteArrayKey.wrap(key), placeholder, prefetchedRecord);
+  }
+
+  /**
+   * Removes the prefetched record of the key, which can be used in place of the DB as long as the caller holds the
+   * lock of the key, so that no transient record could be set for the key in the meantime.
+   *
+   * @return the prefetched record, or null if the key was not prefetched, or if its prefetch is not completed.
+   */
+  public PrefetchedRecord removePrefetchedRecord(byte[] key) {
+    if (prefetchedRecordMap.isEmpty()) {
+      return null;
+    }
+    PrefetchedRecord prefetchedRecord = prefetchedRecordMap.remove(ByteArrayKey.wrap(key));
+    return (prefetchedRecord == null || prefetchedRecord.isPlaceholder()) ? null : prefetchedRecord;
+  }
+
+  public int getPrefetchedRecordMapSize() {
+    return prefetchedRecordMap.size();
+  }
+
   /**
    * This operation is performed atomically to delete the record only when the provided sourceOffset matches.
    *
@@ -514,6 +596,51 @@ public class PartitionConsumptionState {
     return removed;
   }
 
+  /**
+   * Same as {@link #mayRemoveTransientRecord(int, long, byte[])}, except that the removal is deferred until the write
+   * batch of the current thread is released, if it owns one.
+   */
+  public void mayRemoveTransientRecordOncePersisted(int kafkaClusterId, long kafkaConsumedOffset, byte[] key) {
+    runOncePersisted(() -> mayRemoveTransientRecord(kafkaClusterId, kafkaConsumedOffset, key));
+  }
+
+  /**
+   * Run the action once the writes of the current thread are persisted, i.e. right away, unless the current thread
+   * owns the write batch of this partition, in which case the action is deferred until the write batch is committed.
+   */
+  public void runOncePersisted(Runnable action) {
+    if (writeBatchOwner.get() == Thread.currentThread()) {
+      actionsPendingWriteBatch.add(action);
+    } else {
+      action.run();
+    }
+  }
+
+  /**
+   * @return true if the current thread now owns the write batch of this partition, false if another thread does.
+   */
+  public boolean tryAcquireWriteBatch() {
+    Thread currentThread = Thread.currentThread();
+    return writeBatchOwner.compareAndSet(null, currentThread) || writeBatchOwner.get() == currentThread;
+  }
+
+  /**
+   * Release the write batch owned by the current thread, if any.
+   *
+   * @param committed whether the writes of the batch have been persisted, in which case the actions deferred by
+   *                  {@link #runOncePersisted(Runnable)} in the meantime are run.
+   */
+  public void releaseWriteBatch(boolean committed) {
+    if (writeBatchOwner.get() != Thread.currentThread()) {
+      return;
+    }
+    if (committed) {
+      actionsPendingWriteBatch.forEach(Runnable::run);
+    }
+    actionsPendingWriteBatch.clear();
+    writeBatchOwner.set(null);
+  }
+
   public int getSourceTopicPartitionNumber(PubSubTopic topic) {
     if (topic.isRealTime()) {
       return getUserPartition();
@@ -606,6 +733,48 @@ public class PartitionConsumptionState {
     }
   }
 
+  /**
+   * This immutable class holds the old value and replication metadata of a key, as read from the DB by a batched
+   * lookup. A placeholder, which is registered while the lookup is in flight, holds neither.
+   */
+  public static class PrefetchedRecord {
+    private final boolean placeholder;
+    private final ByteBuffer value;
+    private final byte[] replicationMetadataWithValueSchemaId;
+
+    private PrefetchedRecord(boolean placeholder, ByteBuffer value, byte[] replicationMetadataWithValueSchemaId) {
+      this.placeholder = placeholder;
+      this.value = value;
+      this.replicationMetadataWithValueSchemaId = replicationMetadataWithValueSchemaId;
+    }
+
+    public PrefetchedRecord(ByteBuffer value, byte[] replicationMetadataWithValueSchemaId) {
+      this(false, value, replicationMetadataWithValueSchemaId);
+    }
+
+    public static PrefetchedRecord newPlaceholder() {
+      return new PrefetchedRecord(true, null, null);
+    }
+
+    boolean isPlaceholder() {
+      return placeholder;
+    }
+
+    /**
+     * @return the old value, or null if the key does not exist.
+     */
+    public ByteBuffer getValue() {
+      return value;
+    }
+
+    /**
+     * @return the replication metadata prepended with the value schema id, or null if the key has none.
+     */
+    public byte[] getReplicationMetadataWithValueSchemaId() {
+      return replicationMetadataWithValueSchemaId;
+    }
+  }
+
   public void updateLeaderConsumedUpstreamRTOffset(String kafkaUrl, long offset) {
     consumedUpstreamRTOffsetMap.put(kafkaUrl, offset);
   }
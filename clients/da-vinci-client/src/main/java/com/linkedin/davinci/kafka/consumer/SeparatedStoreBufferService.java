@@ -31,16 +31,8 @@ public class SeparatedStoreBufferService extends AbstractStoreBufferService {
     this(
         serverConfig.getDrainerPoolSizeSortedInput(),
         serverConfig.getDrainerPoolSizeUnsortedInput(),
-        new StoreBufferService(
-            serverConfig.getDrainerPoolSizeSortedInput(),
-            serverConfig.getStoreWriterBufferMemoryCapacity(),
-            serverConfig.getStoreWriterBufferNotifyDelta(),
-            serverConfig.isStoreWriterBufferAfterLeaderLogicEnabled()),
-        new StoreBufferService(
-            serverConfig.getDrainerPoolSizeUnsortedInput(),
-            serverConfig.getStoreWriterBufferMemoryCapacity(),
-            serverConfig.getStoreWriterBufferNotifyDelta(),
-            serverConfig.isStoreWriterBufferAfterLeaderLogicEnabled()));
+        new StoreBufferService(serverConfig.getDrainerPoolSizeSortedInput(), serverConfig),
+        new StoreBufferService(serverConfig.getDrainerPoolSizeUnsortedInput(), serverConfig));
     LOGGER.info(
         "Created separated store buffer service with {} sorted drainers and {} unsorted drainers queues with capacity of {}",
         sortedPoolSize,
@@ -159,4 +151,14 @@ public class SeparatedStoreBufferService extends AbstractStoreBufferService {
   public long getMinMemoryUsagePerDrainer() {
     return sortedServiceDelegate.getMinMemoryUsagePerDrainer() + unsortedServiceDelegate.getMinMemoryUsagePerDrainer();
   }
+
+  public double getDrainerQueueImbalance() {
+    return Math.max(
+        sortedServiceDelegate.getDrainerQueueImbalance(),
+        unsortedServiceDelegate.getDrainerQueueImbalance());
+  }
+
+  public long getDrainerReassignmentCount() {
+    return sortedServiceDelegate.getDrainerReassignmentCount() + unsortedServiceDelegate.getDrainerReassignmentCount();
+  }
 }
@@ -4,6 +4,7 @@ import static java.util.Collections.reverseOrder;
 import static java.util.Comparator.comparing;
 import static java.util.stream.Collectors.toList;
 
+import com.linkedin.davinci.config.VeniceServerConfig;
 import com.linkedin.venice.common.Measurable;
 import com.linkedin.venice.exceptions.VeniceChecksumException;
 import com.linkedin.venice.exceptions.VeniceException;
@@ -12,10 +13,13 @@ import com.linkedin.venice.kafka.protocol.Put;
 import com.linkedin.venice.kafka.protocol.Update;
 import com.linkedin.venice.kafka.protocol.enums.MessageType;
 import com.linkedin.venice.message.KafkaKey;
+import com.linkedin.venice.pubsub.PubSubTopicPartitionImpl;
 import com.linkedin.venice.pubsub.api.PubSubMessage;
 import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
+import com.linkedin.venice.pubsub.kafka.PooledKafkaMessageEnvelope;
 import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.PartitionUtils;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -26,8 +30,11 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -41,7 +48,9 @@ import org.apache.logging.log4j.Logger;
  * 1. {@link StoreBufferService} will be maintaining a fixed number (configurable) of {@link StoreBufferDrainer} pool;
  * 2. For each {@link StoreBufferDrainer}, there is a corresponding {@link BlockingQueue}, which will buffer {@link QueueNode};
  * 3. All the records belonging to the same topic+partition will be allocated to the same drainer thread, otherwise DIV will fail;
- * 4. The logic to assign topic+partition to drainer, please check {@link #getDrainerIndexForConsumerRecord(PubSubMessage, int)};
+ * 4. The logic to assign topic+partition to drainer, please check {@link #getDrainerIndexForConsumerRecord(PubSubMessage, int)},
+ * and the topic+partition could be reassigned to another drainer based on its processing time when the dynamic
+ * assignment is enabled, check {@link #rebalanceDrainerAssignments()};
  * 5. There is still a thread executing {@link StoreIngestionTask} for each topic, which will handle admin actions, such
  * as subscribe, unsubscribe, kill and so on, and also poll consumer records from Kafka and put them into {@link #blockingQueueArr}
  * maintained by {@link StoreBufferService};
@@ -63,6 +72,11 @@ public class StoreBufferService extends AbstractStoreBufferService {
     private final StoreIngestionTask ingestionTask;
     private final String kafkaUrl;
     private final long beforeProcessingRecordTimestampNs;
+    /**
+     * Only set when the dynamic drainer assignment is enabled.
+     */
+    private DrainerAssignment drainerAssignment;
+    private InFlightRecordCount inFlightRecordCount;
 
     public QueueNode(
         PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord,
@@ -218,20 +232,169 @@ public class StoreBufferService extends AbstractStoreBufferService {
     }
   }
 
+  /**
+   * The number of records of a topic+partition which are buffered, or have been taken out of the buffer by a drainer
+   * but are not processed yet. In case of group commit, a record is only done once the write batch holding its writes
+   * is committed, so that a drained topic+partition has all its writes in the storage engine.
+   *
+   * Every node references the count of its topic+partition, so that the count is only looked up when the node is
+   * queued, and updating it doesn't contend with the records of the other topic+partitions. An idle count can be
+   * removed, after which a new one is created for the next record.
+   */
+  private static class InFlightRecordCount {
+    private static final int REMOVED = -1;
+    private final AtomicInteger count = new AtomicInteger();
+
+    /**
+     * @return false if this count has been removed, and the latest one should be used instead.
+     */
+    boolean acquire() {
+      int current;
+      do {
+        current = count.get();
+        if (current == REMOVED) {
+          return false;
+        }
+      } while (!count.compareAndSet(current, current + 1));
+      return true;
+    }
+
+    void release() {
+      count.decrementAndGet();
+    }
+
+    /**
+     * @return true if there is no in-flight record, so the count can be removed.
+     */
+    boolean remove() {
+      return count.compareAndSet(0, REMOVED) || count.get() == REMOVED;
+    }
+  }
+
+  /**
+   * The drainer assignment of a topic+partition when the dynamic assignment is enabled.
+   *
+   * The records of a topic+partition must be processed in order by a single drainer, so the topic+partition is only
+   * moved to its target drainer once all its records buffered in the current drainer have been processed, and the
+   * writes have been committed in case of group commit. Until then, the thread queueing its new records is blocked,
+   * which is no worse than being blocked by the full queue of the overloaded drainer.
+   */
+  private static class DrainerAssignment {
+    private int drainerIndex;
+    private int targetDrainerIndex = -1;
+    /**
+     * The number of records which are buffered or being processed.
+     */
+    private int pendingRecordCount = 0;
+    private boolean removed = false;
+    private final AtomicLong processingTimeNs = new AtomicLong();
+    /**
+     * The processing time since the previous rebalance, only accessed by the rebalance thread.
+     */
+    private long lastProcessingTimeNs;
+
+    DrainerAssignment(int drainerIndex) {
+      this.drainerIndex = drainerIndex;
+    }
+
+    /**
+     * @return the index of the drainer to queue the new record, or -1 if this assignment has been removed, and the
+     *         latest one should be used instead.
+     */
+    synchronized int acquire() throws InterruptedException {
+      if (removed) {
+        return -1;
+      }
+      if (targetDrainerIndex >= 0) {
+        while (pendingRecordCount > 0) {
+          wait();
+        }
+        drainerIndex = targetDrainerIndex;
+        targetDrainerIndex = -1;
+      }
+      pendingRecordCount++;
+      return drainerIndex;
+    }
+
+    synchronized void release() {
+      if (--pendingRecordCount == 0 && targetDrainerIndex >= 0) {
+        notifyAll();
+      }
+    }
+
+    /**
+     * @return false if the topic+partition is still being moved to the previous target drainer.
+     */
+    synchronized boolean reassign(int newDrainerIndex) {
+      if (removed || targetDrainerIndex >= 0) {
+        return false;
+      }
+      if (pendingRecordCount == 0) {
+        drainerIndex = newDrainerIndex;
+      } else {
+        targetDrainerIndex = newDrainerIndex;
+      }
+      return true;
+    }
+
+    /**
+     * @return true if there is no pending record, so the assignment can be removed.
+     */
+    synchronized boolean remove() {
+      if (pendingRecordCount > 0) {
+        return false;
+      }
+      removed = true;
+      return true;
+    }
+
+    /**
+     * @return the drainer buffering the records of the topic+partition.
+     */
+    synchronized int getDrainerIndex() {
+      return drainerIndex;
+    }
+
+    /**
+     * @return the drainer which will process the new records of the topic+partition.
+     */
+    synchronized int getAssignedDrainerIndex() {
+      return targetDrainerIndex >= 0 ? targetDrainerIndex : drainerIndex;
+    }
+
+    void recordProcessingTime(long timeNs) {
+      processingTimeNs.addAndGet(timeNs);
+    }
+  }
+
   /**
    * Worker thread, which will invoke {@link StoreIngestionTask#processConsumerRecord}
    * to process each {@link PubSubMessage} buffered in {@link BlockingQueue}.
+   *
+   * The drainer takes up to {@link #drainBatchSize} records out of the queue at once, and then processes them one by
+   * one, in order. When {@link #groupCommitPolicy} is set, the writes of the consecutive data records of the same
+   * partition are grouped into a single storage engine write batch, check {@link #processBatchWithGroupCommit}.
    */
   private static class StoreBufferDrainer implements Runnable {
     private static final Logger LOGGER = LogManager.getLogger(StoreBufferDrainer.class);
     private final BlockingQueue<QueueNode> blockingQueue;
     private final AtomicBoolean isRunning = new AtomicBoolean(true);
     private final int drainerIndex;
+    private final int drainBatchSize;
+    private final GroupCommitPolicy groupCommitPolicy;
     private final ConcurrentMap<PubSubTopicPartition, Long> topicToTimeSpent = new ConcurrentHashMap<>();
 
-    public StoreBufferDrainer(BlockingQueue<QueueNode> blockingQueue, int drainerIndex) {
+    public StoreBufferDrainer(
+        BlockingQueue<QueueNode> blockingQueue,
+        int drainerIndex,
+        int drainBatchSize,
+        GroupCommitPolicy groupCommitPolicy) {
       this.blockingQueue = blockingQueue;
       this.drainerIndex = drainerIndex;
+      this.groupCommitPolicy = groupCommitPolicy;
+      this.drainBatchSize = groupCommitPolicy == null
+          ? Math.max(drainBatchSize, 1)
+          : Math.max(drainBatchSize, groupCommitPolicy.maxRecords);
     }
 
     public void stop() {
@@ -241,25 +404,207 @@ public class StoreBufferService extends AbstractStoreBufferService {
     @Override
     public void run() {
       LOGGER.info("Starting StoreBufferDrainer Thread for drainer: {}....", drainerIndex);
-      QueueNode node = null;
-      PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord = null;
-      LeaderProducedRecordContext leaderProducedRecordContext = null;
-      StoreIngestionTask ingestionTask = null;
-      CompletableFuture<Void> recordPersistedFuture = null;
+      List<QueueNode> batch = new ArrayList<>(drainBatchSize);
       while (isRunning.get()) {
         try {
-          node = blockingQueue.take();
+          batch.add(blockingQueue.take());
+          if (drainBatchSize > 1) {
+            blockingQueue.drainTo(batch, drainBatchSize - 1);
+          }
+        } catch (InterruptedException e) {
+          LOGGER.error("Drainer {} received InterruptedException, will exit", drainerIndex);
+          break;
+        }
+        int unprocessedIndex = groupCommitPolicy == null ? processBatch(batch) : processBatchWithGroupCommit(batch);
+        if (unprocessedIndex >= 0) {
+          // Stop running before releasing the nodes, so that draining their topic+partitions fails.
+          isRunning.set(false);
+          releaseUnprocessedNodes(batch.subList(unprocessedIndex, batch.size()));
+          batch.clear();
+          break;
+        }
+        batch.clear();
+      }
+      isRunning.set(false);
+      LOGGER.info("Current StoreBufferDrainer {} stopped", drainerIndex);
+    }
 
-          consumerRecord = node.getConsumerRecord();
-          leaderProducedRecordContext = node.getLeaderProducedRecordContext();
-          ingestionTask = node.getIngestionTask();
-          recordPersistedFuture = node.getQueuedRecordPersistedFuture();
+    /**
+     * Releases the nodes taken out of the buffer which will never be processed since the drainer exits, so that the
+     * threads waiting for them, e.g. to move their topic+partition to another drainer, don't wait forever.
+     */
+    private void releaseUnprocessedNodes(List<QueueNode> unprocessedNodes) {
+      if (unprocessedNodes.isEmpty()) {
+        return;
+      }
+      LOGGER.error("Drainer {} exits with {} unprocessed records", drainerIndex, unprocessedNodes.size());
+      VeniceException e = new VeniceException("Drainer " + drainerIndex + " exited before processing the record");
+      for (QueueNode node: unprocessedNodes) {
+        completeFutures(node, e);
+        releaseNode(node);
+      }
+    }
 
-          long startTime = System.currentTimeMillis();
+    /**
+     * @return -1 if the drainer should go on, otherwise the index of the first node of the batch which has not been
+     *         processed, since the drainer should exit.
+     */
+    private int processBatch(List<QueueNode> batch) {
+      for (int i = 0; i < batch.size(); i++) {
+        if (!processNode(batch.get(i), null)) {
+          return i + 1;
+        }
+      }
+      return -1;
+    }
 
-          int subPartition = PartitionUtils
-              .getSubPartition(consumerRecord.getTopicPartition(), ingestionTask.getAmplificationFactor());
+    /**
+     * Processes the consecutive data records of the same partition as a group, whose writes are buffered into a single
+     * storage engine write batch, committed once the group reaches any of the bounds of {@link #groupCommitPolicy}.
+     * The persisted futures of the records are only completed after the commit. Control messages are never grouped,
+     * since some of them need to interact with the storage engine directly.
+     *
+     * @return -1 if the drainer should go on, otherwise the index of the first node of the batch which has not been
+     *         processed, since the drainer should exit.
+     */
+    private int processBatchWithGroupCommit(List<QueueNode> batch) {
+      List<QueueNode> processedNodes = new ArrayList<>();
+      int index = 0;
+      while (index < batch.size()) {
+        QueueNode firstNode = batch.get(index);
+        StoreIngestionTask ingestionTask = firstNode.getIngestionTask();
+        if (!canBeGroupCommitted(firstNode)) {
+          if (!processNode(firstNode, null)) {
+            return index + 1;
+          }
+          index++;
+          continue;
+        }
+        int subPartition = getSubPartition(firstNode);
+        if (!ingestionTask.beginWriteBatch(subPartition)) {
+          if (!processNode(firstNode, null)) {
+            return index + 1;
+          }
+          index++;
+          continue;
+        }
 
+        int groupStartIndex = index;
+        long groupStartTimeMs = System.currentTimeMillis();
+        long groupSizeInBytes = 0;
+        boolean shouldExit = false;
+        do {
+          QueueNode node = batch.get(index++);
+          groupSizeInBytes += node.getSize();
+          if (!processNode(node, processedNodes)) {
+            shouldExit = true;
+            break;
+          }
+        } while (index < batch.size() && index - groupStartIndex < groupCommitPolicy.maxRecords
+            && groupSizeInBytes < groupCommitPolicy.maxBytes
+            && System.currentTimeMillis() - groupStartTimeMs < groupCommitPolicy.maxLatencyMs
+            && canBeGroupCommitted(batch.get(index)) && batch.get(index).getIngestionTask() == ingestionTask
+            && getSubPartition(batch.get(index)) == subPartition);
+
+        commitWriteBatch(ingestionTask, subPartition, processedNodes);
+        processedNodes.clear();
+        if (shouldExit) {
+          return index;
+        }
+      }
+      return -1;
+    }
+
+    private static boolean canBeGroupCommitted(QueueNode node) {
+      return node.getIngestionTask() != null && !node.getConsumerRecord().getKey().isControlMessage();
+    }
+
+    private static int getSubPartition(QueueNode node) {
+      return PartitionUtils.getSubPartition(
+          node.getConsumerRecord().getTopicPartition(),
+          node.getIngestionTask().getAmplificationFactor());
+    }
+
+    /**
+     * Commits the write batch of the given partition, and then completes the persisted futures of the records whose
+     * writes it contains. If the commit fails, all those futures are completed exceptionally.
+     */
+    private void commitWriteBatch(StoreIngestionTask ingestionTask, int subPartition, List<QueueNode> processedNodes) {
+      try {
+        ingestionTask.commitWriteBatch(subPartition);
+      } catch (Exception e) {
+        LOGGER.error(
+            "Drainer {} failed to commit the write batch of {} records for partition {} of {}",
+            drainerIndex,
+            processedNodes.size(),
+            subPartition,
+            ingestionTask.getVersionTopic(),
+            e);
+        try {
+          ingestionTask.setIngestionException(subPartition, e);
+        } catch (VeniceException ingestionException) {
+          ingestionTask.setLastStoreIngestionException(ingestionException);
+        }
+        for (QueueNode node: processedNodes) {
+          completeFutures(node, e);
+          releaseNode(node);
+        }
+        return;
+      }
+      for (QueueNode node: processedNodes) {
+        completeFutures(node, null);
+        releaseNode(node);
+      }
+    }
+
+    /**
+     * Releases the drainer assignment and the pooled envelope of the node once it has been processed, and stops
+     * counting it as in flight for its topic+partition.
+     */
+    private void releaseNode(QueueNode node) {
+      if (node.drainerAssignment != null) {
+        node.drainerAssignment.release();
+      }
+      PooledKafkaMessageEnvelope.releaseIfPooled(node.getConsumerRecord().getValue());
+      node.inFlightRecordCount.release();
+    }
+
+    private static void completeFutures(QueueNode node, Exception e) {
+      LeaderProducedRecordContext leaderProducedRecordContext = node.getLeaderProducedRecordContext();
+      if (leaderProducedRecordContext != null) {
+        leaderProducedRecordContext.completePersistedToDBFuture(e);
+      }
+      CompletableFuture<Void> recordPersistedFuture = node.getQueuedRecordPersistedFuture();
+      if (recordPersistedFuture != null) {
+        if (e == null) {
+          recordPersistedFuture.complete(null);
+        } else {
+          recordPersistedFuture.completeExceptionally(e);
+        }
+      }
+    }
+
+    /**
+     * @param processedNodes if not null, the persisted futures of the node are not completed once it is processed, but
+     *                       the node is added to this list instead, so that they get completed once its writes are
+     *                       committed.
+     * @return false if the drainer should exit.
+     */
+    private boolean processNode(QueueNode node, List<QueueNode> processedNodes) {
+      PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord = node.getConsumerRecord();
+      LeaderProducedRecordContext leaderProducedRecordContext = node.getLeaderProducedRecordContext();
+      StoreIngestionTask ingestionTask = node.getIngestionTask();
+      CompletableFuture<Void> recordPersistedFuture = node.getQueuedRecordPersistedFuture();
+      // The node is released once its writes get committed, in case of group commit.
+      boolean releasedOnCommit = false;
+      try {
+        long startTime = System.currentTimeMillis();
+        long startTimeNs = System.nanoTime();
+
+        int subPartition =
+            PartitionUtils.getSubPartition(consumerRecord.getTopicPartition(), ingestionTask.getAmplificationFactor());
+
+        if (processedNodes == null) {
           processRecord(
               consumerRecord,
               ingestionTask,
@@ -274,70 +619,118 @@ public class StoreBufferService extends AbstractStoreBufferService {
           if (recordPersistedFuture != null) {
             recordPersistedFuture.complete(null);
           }
+        } else {
+          ingestionTask.processConsumerRecord(
+              consumerRecord,
+              leaderProducedRecordContext,
+              subPartition,
+              node.getKafkaUrl(),
+              node.getBeforeProcessingRecordTimestampNs());
+          processedNodes.add(node);
+          releasedOnCommit = true;
+        }
 
-          topicToTimeSpent.compute(
-              consumerRecord.getTopicPartition(),
-              (K, V) -> (V == null ? 0 : V) + System.currentTimeMillis() - startTime);
-        } catch (Throwable e) {
-          if (e instanceof InterruptedException) {
-            LOGGER.error("Drainer {} received InterruptedException, will exit", drainerIndex);
-            break;
-          }
-          StringBuilder logBuilder = new StringBuilder().append("Drainer ").append(drainerIndex);
-          if (consumerRecord == null) {
-            logBuilder.append(" received throwable: ");
+        topicToTimeSpent.compute(
+            consumerRecord.getTopicPartition(),
+            (K, V) -> (V == null ? 0 : V) + System.currentTimeMillis() - startTime);
+        if (node.drainerAssignment != null) {
+          node.drainerAssignment.recordProcessingTime(System.nanoTime() - startTimeNs);
+        }
+      } catch (Throwable e) {
+        if (e instanceof InterruptedException) {
+          LOGGER.error("Drainer {} received InterruptedException, will exit", drainerIndex);
+          return false;
+        }
+        StringBuilder logBuilder = new StringBuilder().append("Drainer ").append(drainerIndex);
+        if (consumerRecord == null) {
+          logBuilder.append(" received throwable: ");
+        } else {
+          String consumerRecordString = consumerRecord.toString();
+          if (consumerRecordString.length() > 1024) {
+            // Careful not to flood the logs with too much content...
+            consumerRecordString = consumerRecordString.substring(0, 1024);
+            logBuilder.append(" received throwable while processing consumer record (truncated at 1024 characters): ");
           } else {
-            String consumerRecordString = consumerRecord.toString();
-            if (consumerRecordString.length() > 1024) {
-              // Careful not to flood the logs with too much content...
-              consumerRecordString = consumerRecordString.substring(0, 1024);
-              logBuilder
-                  .append(" received throwable while processing consumer record (truncated at 1024 characters): ");
-            } else {
-              logBuilder.append(" received throwable while processing consumer record: ");
-            }
-            logBuilder.append(consumerRecordString);
+            logBuilder.append(" received throwable while processing consumer record: ");
           }
-          LOGGER.error(logBuilder.toString(), e);
-
-          /**
-           * Catch all the thrown exception and store it in {@link StoreIngestionTask#lastWorkerException}.
-           */
-          if (e instanceof Exception) {
-            Exception processConsumerRecordException = (Exception) e;
-            if (ingestionTask != null) {
-              try {
-                ingestionTask.setIngestionException(
-                    consumerRecord.getTopicPartition().getPartitionNumber(),
-                    processConsumerRecordException);
-              } catch (VeniceException ingestionException) {
-                ingestionTask.setLastStoreIngestionException(ingestionException);
-              }
-              if (e instanceof VeniceChecksumException) {
-                ingestionTask.recordChecksumVerificationFailure();
-              }
-            }
-            if (leaderProducedRecordContext != null) {
-              leaderProducedRecordContext.completePersistedToDBFuture(processConsumerRecordException);
+          logBuilder.append(consumerRecordString);
+        }
+        LOGGER.error(logBuilder.toString(), e);
+
+        /**
+         * Catch all the thrown exception and store it in {@link StoreIngestionTask#lastWorkerException}.
+         */
+        if (e instanceof Exception) {
+          Exception processConsumerRecordException = (Exception) e;
+          if (ingestionTask != null) {
+            try {
+              ingestionTask.setIngestionException(
+                  consumerRecord.getTopicPartition().getPartitionNumber(),
+                  processConsumerRecordException);
+            } catch (VeniceException ingestionException) {
+              ingestionTask.setLastStoreIngestionException(ingestionException);
             }
-            if (recordPersistedFuture != null) {
-              recordPersistedFuture.completeExceptionally(processConsumerRecordException);
+            if (e instanceof VeniceChecksumException) {
+              ingestionTask.recordChecksumVerificationFailure();
             }
-          } else {
-            break;
           }
+          if (leaderProducedRecordContext != null) {
+            leaderProducedRecordContext.completePersistedToDBFuture(processConsumerRecordException);
+          }
+          if (recordPersistedFuture != null) {
+            recordPersistedFuture.completeExceptionally(processConsumerRecordException);
+          }
+        } else {
+          return false;
+        }
+      } finally {
+        if (!releasedOnCommit) {
+          releaseNode(node);
         }
       }
-      LOGGER.info("Current StoreBufferDrainer {} stopped", drainerIndex);
+      return true;
+    }
+  }
+
+  /**
+   * The bounds of the groups of records whose writes are committed at once by a drainer.
+   */
+  private static class GroupCommitPolicy {
+    private final int maxRecords;
+    private final long maxBytes;
+    private final long maxLatencyMs;
+
+    GroupCommitPolicy(int maxRecords, long maxBytes, long maxLatencyMs) {
+      this.maxRecords = Math.max(maxRecords, 1);
+      this.maxBytes = maxBytes;
+      this.maxLatencyMs = maxLatencyMs;
     }
   }
 
   private static final Logger LOGGER = LogManager.getLogger(StoreBufferService.class);
+  /**
+   * A drainer is only relieved of a topic+partition when its processing time exceeds the one of the least loaded
+   * drainer by this ratio, to avoid moving the topic+partitions back and forth.
+   */
+  private static final double DRAINER_IMBALANCE_RATIO = 1.5;
   private final int drainerNum;
-  private final ArrayList<MemoryBoundBlockingQueue<QueueNode>> blockingQueueArr;
+  private final ArrayList<AbstractMemoryBoundBlockingQueue<QueueNode>> blockingQueueArr;
   private ExecutorService executorService;
   private final List<StoreBufferDrainer> drainerList = new ArrayList<>();
   private final long bufferCapacityPerDrainer;
+  private final int drainBatchSize;
+  private final GroupCommitPolicy groupCommitPolicy;
+  /**
+   * The in-flight record counts of the topic+partitions, which are only removed once drained.
+   */
+  private final Map<PubSubTopicPartition, InFlightRecordCount> inFlightRecordCounts = new VeniceConcurrentHashMap<>();
+  /**
+   * The drainer assignments of the topic+partitions, only set when the dynamic assignment is enabled.
+   */
+  private final Map<PubSubTopicPartition, DrainerAssignment> drainerAssignments;
+  private final long dynamicAssignmentIntervalMs;
+  private ScheduledExecutorService rebalanceExecutor;
+  private final AtomicLong drainerReassignmentCount = new AtomicLong();
 
   private final RecordHandler leaderRecordHandler;
 
@@ -346,25 +739,184 @@ public class StoreBufferService extends AbstractStoreBufferService {
       long bufferCapacityPerDrainer,
       long bufferNotifyDelta,
       boolean queueLeaderWrites) {
+    this(drainerNum, bufferCapacityPerDrainer, bufferNotifyDelta, queueLeaderWrites, false, 1);
+  }
+
+  public StoreBufferService(int drainerNum, VeniceServerConfig serverConfig) {
+    this(
+        drainerNum,
+        serverConfig.getStoreWriterBufferMemoryCapacity(),
+        serverConfig.getStoreWriterBufferNotifyDelta(),
+        serverConfig.isStoreWriterBufferAfterLeaderLogicEnabled(),
+        serverConfig.isStoreWriterBufferLockFreeQueueEnabled(),
+        serverConfig.getStoreWriterBufferDrainBatchSize(),
+        serverConfig.isStoreWriterGroupCommitEnabled(),
+        serverConfig.getStoreWriterGroupCommitMaxRecords(),
+        serverConfig.getStoreWriterGroupCommitMaxBytes(),
+        serverConfig.getStoreWriterGroupCommitMaxLatencyMs(),
+        serverConfig.isStoreWriterDynamicAssignmentEnabled(),
+        serverConfig.getStoreWriterDynamicAssignmentIntervalMs());
+  }
+
+  public StoreBufferService(
+      int drainerNum,
+      long bufferCapacityPerDrainer,
+      long bufferNotifyDelta,
+      boolean queueLeaderWrites,
+      boolean lockFreeQueueEnabled,
+      int drainBatchSize) {
+    this(
+        drainerNum,
+        bufferCapacityPerDrainer,
+        bufferNotifyDelta,
+        queueLeaderWrites,
+        lockFreeQueueEnabled,
+        drainBatchSize,
+        false,
+        0,
+        0,
+        0);
+  }
+
+  public StoreBufferService(
+      int drainerNum,
+      long bufferCapacityPerDrainer,
+      long bufferNotifyDelta,
+      boolean queueLeaderWrites,
+      boolean lockFreeQueueEnabled,
+      int drainBatchSize,
+      boolean groupCommitEnabled,
+      int groupCommitMaxRecords,
+      long groupCommitMaxBytes,
+      long groupCommitMaxLatencyMs) {
+    this(
+        drainerNum,
+        bufferCapacityPerDrainer,
+        bufferNotifyDelta,
+        queueLeaderWrites,
+        lockFreeQueueEnabled,
+        drainBatchSize,
+        groupCommitEnabled,
+        groupCommitMaxRecords,
+        groupCommitMaxBytes,
+        groupCommitMaxLatencyMs,
+        false,
+        0);
+  }
+
+  /**
+   * @param lockFreeQueueEnabled whether to buffer the records in {@link LockFreeMemoryBoundBlockingQueue} instead of
+   *                             {@link MemoryBoundBlockingQueue}.
+   * @param drainBatchSize the maximum number of records taken out of the queue at once by each drainer.
+   * @param groupCommitEnabled whether the drainers group the writes of consecutive records of the same partition into
+   *                           a single storage engine write batch, bounded by the following params.
+   * @param dynamicAssignmentEnabled whether the topic+partitions are reassigned across the drainers based on their
+   *                                 processing time, every {@code dynamicAssignmentIntervalMs}.
+   */
+  public StoreBufferService(
+      int drainerNum,
+      long bufferCapacityPerDrainer,
+      long bufferNotifyDelta,
+      boolean queueLeaderWrites,
+      boolean lockFreeQueueEnabled,
+      int drainBatchSize,
+      boolean groupCommitEnabled,
+      int groupCommitMaxRecords,
+      long groupCommitMaxBytes,
+      long groupCommitMaxLatencyMs,
+      boolean dynamicAssignmentEnabled,
+      long dynamicAssignmentIntervalMs) {
     this.drainerNum = drainerNum;
     this.blockingQueueArr = new ArrayList<>();
     this.bufferCapacityPerDrainer = bufferCapacityPerDrainer;
+    this.drainBatchSize = Math.max(drainBatchSize, 1);
+    this.groupCommitPolicy = groupCommitEnabled
+        ? new GroupCommitPolicy(groupCommitMaxRecords, groupCommitMaxBytes, groupCommitMaxLatencyMs)
+        : null;
+    this.drainerAssignments = dynamicAssignmentEnabled ? new VeniceConcurrentHashMap<>() : null;
+    this.dynamicAssignmentIntervalMs = dynamicAssignmentIntervalMs;
     for (int cur = 0; cur < drainerNum; ++cur) {
-      this.blockingQueueArr.add(new MemoryBoundBlockingQueue<>(bufferCapacityPerDrainer, bufferNotifyDelta));
+      this.blockingQueueArr.add(
+          lockFreeQueueEnabled
+              ? new LockFreeMemoryBoundBlockingQueue<>(bufferCapacityPerDrainer, bufferNotifyDelta)
+              : new MemoryBoundBlockingQueue<>(bufferCapacityPerDrainer, bufferNotifyDelta));
     }
     this.leaderRecordHandler = queueLeaderWrites ? this::queueLeaderRecord : StoreBufferService::processRecord;
   }
 
-  protected MemoryBoundBlockingQueue<QueueNode> getDrainerForConsumerRecord(
+  /**
+   * Queues the node into the drainer of its topic+partition, and keeps track of the node in the drainer assignment of
+   * the topic+partition when the dynamic assignment is enabled. The node holds its own reference of the pooled envelope
+   * of the record until it is processed, since the record could be queued several times, e.g. for the chunks of the
+   * value produced by the leader.
+   */
+  private void queueNode(QueueNode node, int subPartition) throws InterruptedException {
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord = node.getConsumerRecord();
+    PooledKafkaMessageEnvelope.retainIfPooled(consumerRecord.getValue());
+    InFlightRecordCount inFlightRecordCount;
+    do {
+      inFlightRecordCount =
+          inFlightRecordCounts.computeIfAbsent(consumerRecord.getTopicPartition(), k -> new InFlightRecordCount());
+    } while (!inFlightRecordCount.acquire());
+    node.inFlightRecordCount = inFlightRecordCount;
+    try {
+      putNode(node, subPartition);
+    } catch (InterruptedException e) {
+      inFlightRecordCount.release();
+      PooledKafkaMessageEnvelope.releaseIfPooled(consumerRecord.getValue());
+      throw e;
+    }
+  }
+
+  private void putNode(QueueNode node, int subPartition) throws InterruptedException {
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord = node.getConsumerRecord();
+    if (drainerAssignments == null) {
+      blockingQueueArr.get(getDrainerIndexForConsumerRecord(consumerRecord, subPartition)).put(node);
+      return;
+    }
+    PubSubTopicPartition topicPartition = getAssignedTopicPartition(consumerRecord, subPartition);
+    DrainerAssignment drainerAssignment;
+    int drainerIndex;
+    do {
+      drainerAssignment = drainerAssignments.computeIfAbsent(
+          topicPartition,
+          k -> new DrainerAssignment(getHashedDrainerIndex(consumerRecord, subPartition)));
+      drainerIndex = drainerAssignment.acquire();
+    } while (drainerIndex < 0);
+    node.drainerAssignment = drainerAssignment;
+    try {
+      blockingQueueArr.get(drainerIndex).put(node);
+    } catch (InterruptedException e) {
+      drainerAssignment.release();
+      throw e;
+    }
+  }
+
+  private static PubSubTopicPartition getAssignedTopicPartition(
       PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord,
       int subPartition) {
-    int drainerIndex = getDrainerIndexForConsumerRecord(consumerRecord, subPartition);
-    return blockingQueueArr.get(drainerIndex);
+    PubSubTopicPartition topicPartition = consumerRecord.getTopicPartition();
+    return topicPartition.getPartitionNumber() == subPartition
+        ? topicPartition
+        : new PubSubTopicPartitionImpl(topicPartition.getPubSubTopic(), subPartition);
   }
 
   protected int getDrainerIndexForConsumerRecord(
       PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord,
       int subPartition) {
+    if (drainerAssignments != null) {
+      DrainerAssignment drainerAssignment =
+          drainerAssignments.get(getAssignedTopicPartition(consumerRecord, subPartition));
+      if (drainerAssignment != null) {
+        return drainerAssignment.getDrainerIndex();
+      }
+    }
+    return getHashedDrainerIndex(consumerRecord, subPartition);
+  }
+
+  private int getHashedDrainerIndex(
+      PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord,
+      int subPartition) {
     /**
      * This will guarantee that 'topicHash' will be a positive integer, whose maximum value is
      * {@link Integer.MAX_VALUE} / 2 + 1, which could make sure 'topicHash + consumerRecord.partition()' should be
@@ -389,13 +941,14 @@ public class StoreBufferService extends AbstractStoreBufferService {
        * end-to-end completeness when producing to local Kafka is needed.
        */
       CompletableFuture<Void> recordFuture = new CompletableFuture<>();
-      getDrainerForConsumerRecord(consumerRecord, subPartition).put(
+      queueNode(
           new FollowerQueueNode(
               consumerRecord,
               ingestionTask,
               kafkaUrl,
               beforeProcessingRecordTimestampNs,
-              recordFuture));
+              recordFuture),
+          subPartition);
 
       // Setup the last queued record's future
       PartitionConsumptionState partitionConsumptionState =
@@ -431,13 +984,14 @@ public class StoreBufferService extends AbstractStoreBufferService {
       int subPartition,
       String kafkaUrl,
       long beforeProcessingRecordTimestamp) throws InterruptedException {
-    getDrainerForConsumerRecord(consumerRecord, subPartition).put(
+    queueNode(
         new LeaderQueueNode(
             consumerRecord,
             ingestionTask,
             kafkaUrl,
             beforeProcessingRecordTimestamp,
-            leaderProducedRecordContext));
+            leaderProducedRecordContext),
+        subPartition);
   }
 
   private static void processRecord(
@@ -464,6 +1018,9 @@ public class StoreBufferService extends AbstractStoreBufferService {
    * This function is used to drain all the records for the specified topic + partition.
    * The reason is that we don't want overlap Kafka messages between two different subscriptions,
    * which could introduce complicate dependencies in {@link StoreIngestionTask}.
+   *
+   * The records taken out of the buffer by a drainer are only drained once they are processed, since a drainer takes
+   * several records out of its buffer at once.
    * @param topicPartition for which to drain buffer
    * @throws InterruptedException
    */
@@ -479,27 +1036,29 @@ public class StoreBufferService extends AbstractStoreBufferService {
       int sleepIntervalInMS) throws InterruptedException {
     PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> fakeRecord = new FakePubSubMessage(topicPartition);
     int workerIndex = getDrainerIndexForConsumerRecord(fakeRecord, topicPartition.getPartitionNumber());
-    BlockingQueue<QueueNode> blockingQueue = blockingQueueArr.get(workerIndex);
-    if (!drainerList.get(workerIndex).isRunning.get()) {
-      throw new VeniceException(
-          "Drainer thread " + workerIndex + " has stopped running, cannot drain the topic "
-              + topicPartition.getPubSubTopic().getName());
-    }
-
-    QueueNode fakeNode = new QueueNode(fakeRecord, null, "dummyKafkaUrl", 0);
-
     int cur = 0;
     while (cur++ < retryNum) {
-      if (!blockingQueue.contains(fakeNode)) {
+      if (!drainerList.get(workerIndex).isRunning.get()) {
+        throw new VeniceException(
+            "Drainer thread " + workerIndex + " has stopped running, cannot drain the topic "
+                + topicPartition.getPubSubTopic().getName());
+      }
+      InFlightRecordCount inFlightRecordCount = inFlightRecordCounts.get(topicPartition);
+      if (inFlightRecordCount == null || inFlightRecordCount.remove()) {
+        if (inFlightRecordCount != null) {
+          inFlightRecordCounts.remove(topicPartition, inFlightRecordCount);
+        }
         LOGGER.info(
-            "The blocking queue of store writer thread: {} doesn't contain any record for: {}",
+            "The store writer thread: {} doesn't have any record left to process for: {}",
             workerIndex,
             topicPartition);
         return;
       }
       Thread.sleep(sleepIntervalInMS);
+      // The topic+partition could have been moved to another drainer in the meantime.
+      workerIndex = getDrainerIndexForConsumerRecord(fakeRecord, topicPartition.getPartitionNumber());
     }
-    String errorMessage = "There are still some records left in the blocking queue of store writer thread: "
+    String errorMessage = "There are still some records left to process by store writer thread: "
         + workerIndex + " for topic: " + topicPartition.getPubSubTopic().getName() + " partition after retry for "
         + retryNum + " times";
     LOGGER.error(errorMessage);
@@ -512,16 +1071,103 @@ public class StoreBufferService extends AbstractStoreBufferService {
 
     // Submit all the buffer drainers
     for (int cur = 0; cur < drainerNum; ++cur) {
-      StoreBufferDrainer drainer = new StoreBufferDrainer(this.blockingQueueArr.get(cur), cur);
+      StoreBufferDrainer drainer =
+          new StoreBufferDrainer(
+          this.blockingQueueArr.get(cur),
+          cur,
+          drainBatchSize,
+          groupCommitPolicy);
       this.executorService.submit(drainer);
       drainerList.add(drainer);
     }
     this.executorService.shutdown();
+
+    if (drainerAssignments != null) {
+      this.rebalanceExecutor =
+          Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("Store-writer-rebalancer"));
+      this.rebalanceExecutor.scheduleWithFixedDelay(() -> {
+        try {
+          rebalanceDrainerAssignments();
+        } catch (Exception e) {
+          LOGGER.error("Failed to rebalance the drainer assignments", e);
+        }
+      }, dynamicAssignmentIntervalMs, dynamicAssignmentIntervalMs, TimeUnit.MILLISECONDS);
+    }
     return true;
   }
 
+  /**
+   * Reassigns the topic+partitions from the most loaded drainers to the least loaded ones, based on their processing
+   * time since the previous rebalance. Every move picks the busiest topic+partition of the most loaded drainer whose
+   * processing time is smaller than the gap between both drainers, so the move always narrows the gap, and a drainer
+   * busy with a single hot topic+partition is left alone. The idle topic+partitions are forgotten, and will be
+   * assigned by hashing again once they get new records.
+   */
+  void rebalanceDrainerAssignments() {
+    long[] drainerLoads = new long[drainerNum];
+    List<List<DrainerAssignment>> assignmentsPerDrainer = new ArrayList<>(drainerNum);
+    for (int i = 0; i < drainerNum; ++i) {
+      assignmentsPerDrainer.add(new ArrayList<>());
+    }
+    for (Map.Entry<PubSubTopicPartition, DrainerAssignment> entry: drainerAssignments.entrySet()) {
+      DrainerAssignment drainerAssignment = entry.getValue();
+      drainerAssignment.lastProcessingTimeNs = drainerAssignment.processingTimeNs.getAndSet(0);
+      if (drainerAssignment.lastProcessingTimeNs == 0) {
+        if (drainerAssignment.remove()) {
+          drainerAssignments.remove(entry.getKey(), drainerAssignment);
+        }
+        continue;
+      }
+      int drainerIndex = drainerAssignment.getAssignedDrainerIndex();
+      drainerLoads[drainerIndex] += drainerAssignment.lastProcessingTimeNs;
+      assignmentsPerDrainer.get(drainerIndex).add(drainerAssignment);
+    }
+
+    for (int move = 0; move < drainerNum; ++move) {
+      int busiestDrainer = 0;
+      int idlestDrainer = 0;
+      for (int i = 1; i < drainerNum; ++i) {
+        if (drainerLoads[i] > drainerLoads[busiestDrainer]) {
+          busiestDrainer = i;
+        }
+        if (drainerLoads[i] < drainerLoads[idlestDrainer]) {
+          idlestDrainer = i;
+        }
+      }
+      long gap = drainerLoads[busiestDrainer] - drainerLoads[idlestDrainer];
+      if (gap <= 0 || drainerLoads[busiestDrainer] < DRAINER_IMBALANCE_RATIO * drainerLoads[idlestDrainer]) {
+        return;
+      }
+      List<DrainerAssignment> candidates = assignmentsPerDrainer.get(busiestDrainer);
+      candidates.sort(comparing(assignment -> assignment.lastProcessingTimeNs, reverseOrder()));
+      DrainerAssignment movedAssignment = null;
+      for (DrainerAssignment candidate: candidates) {
+        if (candidate.lastProcessingTimeNs < gap && candidate.reassign(idlestDrainer)) {
+          movedAssignment = candidate;
+          break;
+        }
+      }
+      if (movedAssignment == null) {
+        return;
+      }
+      candidates.remove(movedAssignment);
+      assignmentsPerDrainer.get(idlestDrainer).add(movedAssignment);
+      drainerLoads[busiestDrainer] -= movedAssignment.lastProcessingTimeNs;
+      drainerLoads[idlestDrainer] += movedAssignment.lastProcessingTimeNs;
+      drainerReassignmentCount.incrementAndGet();
+      LOGGER.info(
+          "Reassigned a topic partition with processing time: {} ms from drainer {} to drainer {}",
+          TimeUnit.NANOSECONDS.toMillis(movedAssignment.lastProcessingTimeNs),
+          busiestDrainer,
+          idlestDrainer);
+    }
+  }
+
   @Override
   public void stopInner() throws Exception {
+    if (this.rebalanceExecutor != null) {
+      this.rebalanceExecutor.shutdownNow();
+    }
     // Graceful shutdown
     drainerList.forEach(drainer -> drainer.stop());
     if (this.executorService != null) {
@@ -543,7 +1189,7 @@ public class StoreBufferService extends AbstractStoreBufferService {
   @Override
   public long getTotalMemoryUsage() {
     long totalUsage = 0;
-    for (MemoryBoundBlockingQueue<QueueNode> queue: blockingQueueArr) {
+    for (AbstractMemoryBoundBlockingQueue<QueueNode> queue: blockingQueueArr) {
       totalUsage += queue.getMemoryUsage();
     }
     return totalUsage;
@@ -552,7 +1198,7 @@ public class StoreBufferService extends AbstractStoreBufferService {
   @Override
   public long getTotalRemainingMemory() {
     long totalRemaining = 0;
-    for (MemoryBoundBlockingQueue<QueueNode> queue: blockingQueueArr) {
+    for (AbstractMemoryBoundBlockingQueue<QueueNode> queue: blockingQueueArr) {
       totalRemaining += queue.remainingMemoryCapacityInByte();
     }
     return totalRemaining;
@@ -563,7 +1209,7 @@ public class StoreBufferService extends AbstractStoreBufferService {
     long maxUsage = 0;
     boolean slowDrainerExists = false;
 
-    for (MemoryBoundBlockingQueue<QueueNode> queue: blockingQueueArr) {
+    for (AbstractMemoryBoundBlockingQueue<QueueNode> queue: blockingQueueArr) {
       maxUsage = Math.max(maxUsage, queue.getMemoryUsage());
       if (queue.getMemoryUsage() > 0.8 * bufferCapacityPerDrainer) {
         slowDrainerExists = true;
@@ -574,7 +1220,7 @@ public class StoreBufferService extends AbstractStoreBufferService {
       StoreBufferDrainer drainer = drainerList.get(index);
       // print drainer info when there is a slow drainer.
       if (slowDrainerExists) {
-        MemoryBoundBlockingQueue<QueueNode> queue = blockingQueueArr.get(index);
+        AbstractMemoryBoundBlockingQueue<QueueNode> queue = blockingQueueArr.get(index);
         int count = queue.getMemoryUsage() > 0.8 * bufferCapacityPerDrainer ? 5 : 1;
         List<Map.Entry<PubSubTopicPartition, Long>> slowestEntries = drainer.topicToTimeSpent.entrySet()
             .stream()
@@ -601,12 +1247,32 @@ public class StoreBufferService extends AbstractStoreBufferService {
   @Override
   public long getMinMemoryUsagePerDrainer() {
     long minUsage = Long.MAX_VALUE;
-    for (MemoryBoundBlockingQueue<QueueNode> queue: blockingQueueArr) {
+    for (AbstractMemoryBoundBlockingQueue<QueueNode> queue: blockingQueueArr) {
       minUsage = Math.min(minUsage, queue.getMemoryUsage());
     }
     return minUsage;
   }
 
+  @Override
+  public double getDrainerQueueImbalance() {
+    long maxUsage = 0;
+    long totalUsage = 0;
+    for (AbstractMemoryBoundBlockingQueue<QueueNode> queue: blockingQueueArr) {
+      long usage = queue.getMemoryUsage();
+      maxUsage = Math.max(maxUsage, usage);
+      totalUsage += usage;
+    }
+    if (totalUsage == 0) {
+      return 1;
+    }
+    return (double) maxUsage * blockingQueueArr.size() / totalUsage;
+  }
+
+  @Override
+  public long getDrainerReassignmentCount() {
+    return drainerReassignmentCount.get();
+  }
+
   private static class FakePubSubMessage implements PubSubMessage {
     private final PubSubTopicPartition topicPartition;
 
@@ -23,6 +23,8 @@ import com.linkedin.davinci.storage.StorageEngineRepository;
 import com.linkedin.davinci.storage.StorageMetadataService;
 import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.StoragePartitionConfig;
+import com.linkedin.davinci.store.cache.HotKeyValueCache;
+import com.linkedin.davinci.store.cache.HotKeyValueCacheRepository;
 import com.linkedin.davinci.store.cache.backend.ObjectCacheBackend;
 import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.davinci.validation.KafkaDataIntegrityValidator;
@@ -75,6 +77,7 @@ import com.linkedin.venice.pubsub.PubSubTopicRepository;
 import com.linkedin.venice.pubsub.api.PubSubMessage;
 import com.linkedin.venice.pubsub.api.PubSubTopic;
 import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
+import com.linkedin.venice.pubsub.kafka.PooledKafkaMessageEnvelope;
 import com.linkedin.venice.schema.SchemaEntry;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
@@ -275,6 +278,12 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
 
   private final Optional<ObjectCacheBackend> cacheBackend;
 
+  /**
+   * The cache of the values of this store on the read path of the storage node, if it has one, which must stop
+   * serving the values overwritten by this task.
+   */
+  private final HotKeyValueCache hotKeyValueCache;
+
   protected final String localKafkaServer;
   protected final int localKafkaClusterId;
   protected final Set<String> localKafkaServerSingletonSet;
@@ -401,6 +410,8 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
         amplificationFactorAdapter);
 
     this.cacheBackend = cacheBackend;
+    HotKeyValueCacheRepository hotKeyValueCacheRepository = builder.getHotKeyValueCacheRepository();
+    this.hotKeyValueCache = hotKeyValueCacheRepository == null ? null : hotKeyValueCacheRepository.getCache(storeName);
     this.localKafkaServer = this.kafkaProps.getProperty(KAFKA_BOOTSTRAP_SERVERS);
     this.localKafkaServerSingletonSet = Collections.singleton(localKafkaServer);
     this.isDaVinciClient = builder.isDaVinciClient();
@@ -908,6 +919,7 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
         if (partitionConsumptionState != null) {
           partitionConsumptionState.updateLatestIgnoredUpstreamRTOffset(kafkaUrl, record.getOffset());
         }
+        PooledKafkaMessageEnvelope.releaseIfPooled(record.getValue());
         continue;
       }
 
@@ -945,6 +957,7 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
         case QUEUED_TO_DRAINER:
           long queuePutStartTimeInNS = metricsEnabled ? System.nanoTime() : 0;
 
+          beforeBlockingWait();
           // blocking call
           storeBufferService
               .putConsumerRecord(record, this, null, subPartition, kafkaUrl, beforeProcessingRecordTimestampNs);
@@ -967,6 +980,11 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
       if (partitionConsumptionState != null) {
         partitionConsumptionState.setLatestMessageConsumptionTimestampInMs(currentTimeForMetricsMs);
       }
+      /**
+       * The drainers and the leader producer callbacks take their own references of the record, if they need it, so
+       * the reference of the consumer can be released, and the pooled envelope will be recycled once they are done.
+       */
+      PooledKafkaMessageEnvelope.releaseIfPooled(record.getValue());
     }
 
     /**
@@ -1968,6 +1986,49 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
     }
   }
 
+  /**
+   * Start buffering the writes of the records of the given sub-partition processed by the current thread into a single
+   * storage engine write batch, until {@link #commitWriteBatch(int)} is invoked.
+   *
+   * @return false if the writes cannot be grouped, in which case each of them is applied right away.
+   */
+  public boolean beginWriteBatch(int subPartition) {
+    PartitionConsumptionState partitionConsumptionState = partitionConsumptionStateMap.get(subPartition);
+    if (partitionConsumptionState == null || !partitionConsumptionState.tryAcquireWriteBatch()) {
+      return false;
+    }
+    try {
+      storageEngine.beginWriteBatch(subPartition);
+    } catch (VeniceException e) {
+      partitionConsumptionState.releaseWriteBatch(true);
+      LOGGER.warn("Failed to begin write batch for partition {} of {}", subPartition, kafkaVersionTopic, e);
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Commit the write batch opened by {@link #beginWriteBatch(int)}. Offset checkpoints never get ahead of the data,
+   * since the storage engine commits the pending write batch before syncing in {@link #syncOffset}.
+   */
+  public void commitWriteBatch(int subPartition) {
+    PartitionConsumptionState partitionConsumptionState = partitionConsumptionStateMap.get(subPartition);
+    boolean committed = false;
+    try {
+      storageEngine.commitWriteBatch(subPartition);
+      committed = true;
+    } catch (VeniceException e) {
+      if (partitionConsumptionState != null) {
+        throw e;
+      }
+      logStorageOperationWhileUnsubscribed(subPartition);
+    } finally {
+      if (partitionConsumptionState != null) {
+        partitionConsumptionState.releaseWriteBatch(committed);
+      }
+    }
+  }
+
   /**
    * Retrieve current LeaderFollowerState from partition's PCS. This method is used by IsolatedIngestionServer to sync
    * user-partition LeaderFollower status from child process to parent process in ingestion isolation.
@@ -2649,6 +2710,7 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
     boolean traceEnabled = LOGGER.isTraceEnabled();
     long putStartTimeNs = (metricsEnabled || traceEnabled) ? System.nanoTime() : 0;
     putInStorageEngine(partition, keyBytes, put);
+    invalidateHotKeyValueCache(partition, keyBytes);
     if (cacheBackend.isPresent()) {
       if (cacheBackend.get().getStorageEngine(kafkaVersionTopic) != null) {
         cacheBackend.get().getStorageEngine(kafkaVersionTopic).put(partition, keyBytes, put.putValue);
@@ -2667,6 +2729,22 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
     }
   }
 
+  /**
+   * Stop serving the cached value of the key on the read path once its new value is visible in the storage engine,
+   * which happens when the write batch is committed if the current thread buffers the writes of the partition.
+   */
+  private void invalidateHotKeyValueCache(int partition, byte[] keyBytes) {
+    if (hotKeyValueCache == null) {
+      return;
+    }
+    PartitionConsumptionState partitionConsumptionState = partitionConsumptionStateMap.get(partition);
+    if (partitionConsumptionState == null) {
+      hotKeyValueCache.invalidate(versionNumber, keyBytes);
+    } else {
+      partitionConsumptionState.runOncePersisted(() -> hotKeyValueCache.invalidate(versionNumber, keyBytes));
+    }
+  }
+
   /**
    * Persist Put record to storage engine.
    */
@@ -2833,6 +2911,7 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
         keyLen = keyBytes.length;
 
         removeFromStorageEngine(producedPartition, keyBytes, delete);
+        invalidateHotKeyValueCache(producedPartition, keyBytes);
         if (cacheBackend.isPresent()) {
           if (cacheBackend.get().getStorageEngine(kafkaVersionTopic) != null) {
             cacheBackend.get().getStorageEngine(kafkaVersionTopic).delete(producedPartition, keyBytes);
@@ -2859,7 +2938,7 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
     // as needed in integration test.
     if (purgeTransientRecordBuffer && isTransientRecordBufferUsed() && partitionConsumptionState.isEndOfPushReceived()
         && leaderProducedRecordContext != null && leaderProducedRecordContext.getConsumedOffset() != -1) {
-      partitionConsumptionState.mayRemoveTransientRecord(
+      partitionConsumptionState.mayRemoveTransientRecordOncePersisted(
           leaderProducedRecordContext.getConsumedKafkaClusterId(),
           leaderProducedRecordContext.getConsumedOffset(),
           kafkaKey.getKey());
@@ -2942,6 +3021,14 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
     waitUntilValueSchemaAvailable(schemaId);
   }
 
+  /**
+   * Called by the consumer thread right before it may block on a record, e.g. to wait for the value schema of the
+   * record or for room in the store buffer, so that the subclasses can release what they hold across the records of a
+   * polled batch.
+   */
+  protected void beforeBlockingWait() {
+  }
+
   protected StoreVersionState waitVersionStateAvailable(String kafkaTopic) throws InterruptedException {
     long startTime = System.currentTimeMillis();
     long elapsedTime;
@@ -2959,6 +3046,7 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
         throw new VeniceException("Store version state is not available for " + kafkaTopic);
       }
 
+      beforeBlockingWait();
       Thread.sleep(SCHEMA_POLLING_DELAY_MS);
     }
   }
@@ -3003,6 +3091,7 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
         throw new VeniceException("Value schema [" + schemaId + "] is not available for " + storeName);
       }
 
+      beforeBlockingWait();
       Thread.sleep(SCHEMA_POLLING_DELAY_MS);
     }
   }
@@ -9,6 +9,7 @@ import com.linkedin.davinci.stats.AggVersionedDIVStats;
 import com.linkedin.davinci.stats.AggVersionedIngestionStats;
 import com.linkedin.davinci.storage.StorageEngineRepository;
 import com.linkedin.davinci.storage.StorageMetadataService;
+import com.linkedin.davinci.store.cache.HotKeyValueCacheRepository;
 import com.linkedin.davinci.store.cache.backend.ObjectCacheBackend;
 import com.linkedin.davinci.store.view.VeniceViewWriterFactory;
 import com.linkedin.venice.kafka.TopicManagerRepository;
@@ -25,6 +26,7 @@ import com.linkedin.venice.writer.VeniceWriterFactory;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Queue;
+import java.util.concurrent.ExecutorService;
 import java.util.function.BooleanSupplier;
 
 
@@ -109,6 +111,8 @@ public class StoreIngestionTaskFactory {
     private MetaStoreWriter metaStoreWriter;
     private StorageEngineBackedCompressorFactory compressorFactory;
     private PubSubTopicRepository pubSubTopicRepository;
+    private HotKeyValueCacheRepository hotKeyValueCacheRepository;
+    private ExecutorService parallelConflictResolutionExecutor;
 
     private interface Setter {
       void apply();
@@ -151,6 +155,18 @@ public class StoreIngestionTaskFactory {
       return remoteIngestionRepairService;
     }
 
+    /**
+     * @param executor the threads shared by the active/active leaders to resolve the conflicts of the records of a
+     *                 partition concurrently, or null to resolve them sequentially in the consumer threads.
+     */
+    public Builder setParallelConflictResolutionExecutor(ExecutorService executor) {
+      return set(() -> this.parallelConflictResolutionExecutor = executor);
+    }
+
+    public ExecutorService getParallelConflictResolutionExecutor() {
+      return parallelConflictResolutionExecutor;
+    }
+
     public Builder setMetaStoreWriter(MetaStoreWriter metaStoreWriter) {
       return set(() -> this.metaStoreWriter = metaStoreWriter);
     }
@@ -303,5 +319,13 @@ public class StoreIngestionTaskFactory {
     public Builder setPubSubTopicRepository(PubSubTopicRepository pubSubTopicRepository) {
       return set(() -> this.pubSubTopicRepository = pubSubTopicRepository);
     }
+
+    public HotKeyValueCacheRepository getHotKeyValueCacheRepository() {
+      return hotKeyValueCacheRepository;
+    }
+
+    public Builder setHotKeyValueCacheRepository(HotKeyValueCacheRepository hotKeyValueCacheRepository) {
+      return set(() -> this.hotKeyValueCacheRepository = hotKeyValueCacheRepository);
+    }
   }
 }
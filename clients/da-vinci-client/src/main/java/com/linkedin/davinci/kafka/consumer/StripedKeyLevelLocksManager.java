@@ -0,0 +1,51 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import com.linkedin.davinci.utils.ByteArrayKey;
+import com.linkedin.venice.exceptions.VeniceException;
+import java.util.concurrent.locks.ReentrantLock;
+
+
+/**
+ * A {@link KeyLevelLocks} implementation which stripes the keys across a fixed array of locks, indexed by the hash of
+ * the key.
+ *
+ * Acquiring and releasing the lock of a key neither synchronizes on the manager nor touches any map or pool, so the
+ * threads processing different keys don't contend on the manager itself. The trade-off is that two different keys can
+ * share the same lock; the locks are reentrant, so a thread can still hold the locks of several keys at once, and the
+ * number of stripes should be well above the number of keys being processed concurrently to keep the false contention
+ * low. Unlike {@link KeyLevelLocksManager}, there is no upper limit on the number of keys locked at once.
+ */
+public class StripedKeyLevelLocksManager implements KeyLevelLocks {
+  private final ReentrantLock[] locks;
+  private final int mask;
+
+  public StripedKeyLevelLocksManager(String storeVersion, int stripeCount) {
+    if (stripeCount <= 0 || Integer.bitCount(stripeCount) != 1) {
+      throw new VeniceException(
+          "Store version: " + storeVersion + ". Stripe count must be a power of two, but got: " + stripeCount);
+    }
+    this.locks = new ReentrantLock[stripeCount];
+    for (int i = 0; i < stripeCount; i++) {
+      this.locks[i] = new ReentrantLock();
+    }
+    this.mask = stripeCount - 1;
+  }
+
+  @Override
+  public ReentrantLock acquireLockByKey(ByteArrayKey key) {
+    int hash = key.hashCode();
+    // Spread the high bits, since the stripe is picked by the low bits only.
+    return locks[(hash ^ (hash >>> 16)) & mask];
+  }
+
+  /**
+   * Nothing to release, since the locks are never handed out of the array.
+   */
+  @Override
+  public void releaseLock(ByteArrayKey key) {
+  }
+
+  int getStripeCount() {
+    return locks.length;
+  }
+}
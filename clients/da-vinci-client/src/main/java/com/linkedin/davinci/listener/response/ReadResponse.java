@@ -10,6 +10,8 @@ import it.unimi.dsi.fastutil.ints.IntList;
  */
 public abstract class ReadResponse {
   private double databaseLookupLatency = -1;
+  private double storageEngineBatchLookupLatency = 0;
+  private int storageEngineBatchLookupCount = 0;
   private double readComputeLatency = -1;
   private double readComputeDeserializationLatency = -1;
   private double readComputeSerializationLatency = -1;
@@ -54,6 +56,23 @@ public abstract class ReadResponse {
     return this.databaseLookupLatency;
   }
 
+  /**
+   * Records the latency of one batched storage engine lookup. A single request could issue several of them, i.e.
+   * one per partition.
+   */
+  public void addStorageEngineBatchLookupLatency(double latency) {
+    this.storageEngineBatchLookupLatency += latency;
+    this.storageEngineBatchLookupCount++;
+  }
+
+  public double getStorageEngineBatchLookupLatency() {
+    return this.storageEngineBatchLookupLatency;
+  }
+
+  public int getStorageEngineBatchLookupCount() {
+    return this.storageEngineBatchLookupCount;
+  }
+
   public void setReadComputeLatency(double latency) {
     this.readComputeLatency = latency;
   }
@@ -52,6 +52,7 @@ public class MergeConflictResolver {
   private final MergeResultValueSchemaResolver mergeResultValueSchemaResolver;
   private final RmdSerDe rmdSerde;
   private final boolean useFieldLevelTimestamp;
+  private final boolean fastAvroEnabled;
 
   MergeConflictResolver(
       StringAnnotatedStoreSchemaCache storeSchemaCache,
@@ -61,7 +62,8 @@ public class MergeConflictResolver {
       MergeByteBuffer mergeByteBuffer,
       MergeResultValueSchemaResolver mergeResultValueSchemaResolver,
       RmdSerDe rmdSerde,
-      boolean useFieldLevelTimestamp) {
+      boolean useFieldLevelTimestamp,
+      boolean fastAvroEnabled) {
     this.storeSchemaCache = Validate.notNull(storeSchemaCache);
     this.storeName = Validate.notNull(storeName);
     this.newRmdCreator = Validate.notNull(newRmdCreator);
@@ -70,6 +72,7 @@ public class MergeConflictResolver {
     this.mergeByteBuffer = Validate.notNull(mergeByteBuffer);
     this.rmdSerde = Validate.notNull(rmdSerde);
     this.useFieldLevelTimestamp = useFieldLevelTimestamp;
+    this.fastAvroEnabled = fastAvroEnabled;
   }
 
   /**
@@ -435,12 +438,13 @@ public class MergeConflictResolver {
       // No need to convert the record to use a different schema.
       return oldRmdRecord;
     }
-    final ByteBuffer rmdBytes = rmdSerde.serializeRmdRecord(writerValueSchemaID, oldRmdRecord);
-    return rmdSerde.deserializeRmdBytes(writerValueSchemaID, readerValueSchemaID, rmdBytes);
+    return rmdSerde.convertRmdRecord(writerValueSchemaID, readerValueSchemaID, oldRmdRecord);
   }
 
   private GenericRecord deserializeValue(ByteBuffer bytes, Schema writerSchema, Schema readerSchema) {
-    return MapOrderingPreservingSerDeFactory.getDeserializer(writerSchema, readerSchema).deserialize(bytes);
+    return fastAvroEnabled
+        ? MapOrderingPreservingSerDeFactory.getFastDeserializer(writerSchema, readerSchema).deserialize(bytes)
+        : MapOrderingPreservingSerDeFactory.getDeserializer(writerSchema, readerSchema).deserialize(bytes);
   }
 
   private boolean ignoreNewPut(
@@ -739,6 +743,9 @@ public class MergeConflictResolver {
     // TODO: avoid serializing the merged value result here and instead serializing it before persisting it. The goal
     // is to avoid back-and-forth ser/de. Because when the merged result is read before it is persisted, we may need
     // to deserialize it.
-    return ByteBuffer.wrap(MapOrderingPreservingSerDeFactory.getSerializer(mergedValueSchema).serialize(mergedValue));
+    return ByteBuffer.wrap(
+        fastAvroEnabled
+            ? MapOrderingPreservingSerDeFactory.getFastSerializer(mergedValueSchema).serialize(mergedValue)
+            : MapOrderingPreservingSerDeFactory.getSerializer(mergedValueSchema).serialize(mergedValue));
   }
 }
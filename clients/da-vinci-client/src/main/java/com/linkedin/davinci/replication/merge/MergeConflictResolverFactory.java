@@ -22,6 +22,24 @@ public class MergeConflictResolverFactory {
       RmdSerDe rmdSerDe,
       String storeName,
       boolean rmdUseFieldLevelTs) {
+    return createMergeConflictResolver(
+        annotatedReadOnlySchemaRepository,
+        rmdSerDe,
+        storeName,
+        rmdUseFieldLevelTs,
+        false);
+  }
+
+  /**
+   * @param fastAvroEnabled whether to use the fast-avro generated serializers and deserializers for the values whose
+   *                        schemas don't contain any map.
+   */
+  public MergeConflictResolver createMergeConflictResolver(
+      StringAnnotatedStoreSchemaCache annotatedReadOnlySchemaRepository,
+      RmdSerDe rmdSerDe,
+      String storeName,
+      boolean rmdUseFieldLevelTs,
+      boolean fastAvroEnabled) {
     MergeRecordHelper mergeRecordHelper = new CollectionTimestampMergeRecordHelper();
     return new MergeConflictResolver(
         annotatedReadOnlySchemaRepository,
@@ -31,7 +49,8 @@ public class MergeConflictResolverFactory {
         new MergeByteBuffer(),
         new MergeResultValueSchemaResolverImpl(annotatedReadOnlySchemaRepository, storeName),
         rmdSerDe,
-        rmdUseFieldLevelTs);
+        rmdUseFieldLevelTs,
+        fastAvroEnabled);
   }
 
   public MergeConflictResolver createMergeConflictResolver(
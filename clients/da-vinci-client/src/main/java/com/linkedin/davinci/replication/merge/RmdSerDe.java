@@ -7,6 +7,7 @@ import com.linkedin.venice.schema.rmd.RmdSchemaEntry;
 import com.linkedin.venice.serializer.AvroSerializer;
 import com.linkedin.venice.serializer.RecordDeserializer;
 import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.serializer.avro.MapOrderPreservingRecordConverter;
 import com.linkedin.venice.serializer.avro.MapOrderingPreservingSerDeFactory;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.nio.ByteBuffer;
@@ -20,10 +21,11 @@ import org.apache.commons.lang3.Validate;
 
 
 /**
- * This class is responsible for serialization and deserialization related tasks. Specifically 3 things:
+ * This class is responsible for serialization and deserialization related tasks. Specifically 4 things:
  *  1. Deserialize RMD from bytes.
  *  2. Serialize RMD record to bytes.
- *  3. Get RMD schema given its value schema ID.
+ *  3. Convert RMD record to use the RMD schema of another value schema.
+ *  4. Get RMD schema given its value schema ID.
  */
 @Threadsafe
 public class RmdSerDe {
@@ -31,12 +33,27 @@ public class RmdSerDe {
   private final int rmdVersionId;
   private final Map<Integer, Schema> valueSchemaIdToRmdSchemaMap;
   private final Map<WriterReaderSchemaIDs, RecordDeserializer<GenericRecord>> schemaIdToDeserializerMap;
+  private final Map<WriterReaderSchemaIDs, MapOrderPreservingRecordConverter> schemaIdToConverterMap;
+  private final boolean fastAvroEnabled;
 
   public RmdSerDe(StringAnnotatedStoreSchemaCache annotatedStoreSchemaCache, int rmdVersionId) {
+    this(annotatedStoreSchemaCache, rmdVersionId, false);
+  }
+
+  /**
+   * @param fastAvroEnabled whether to use the fast-avro generated serializers and deserializers for the RMD schemas
+   *                        which don't contain any map.
+   */
+  public RmdSerDe(
+      StringAnnotatedStoreSchemaCache annotatedStoreSchemaCache,
+      int rmdVersionId,
+      boolean fastAvroEnabled) {
     this.annotatedStoreSchemaCache = annotatedStoreSchemaCache;
     this.rmdVersionId = rmdVersionId;
     this.valueSchemaIdToRmdSchemaMap = new VeniceConcurrentHashMap<>();
     this.schemaIdToDeserializerMap = new VeniceConcurrentHashMap<>();
+    this.schemaIdToConverterMap = new VeniceConcurrentHashMap<>();
+    this.fastAvroEnabled = fastAvroEnabled;
   }
 
   /**
@@ -71,6 +88,24 @@ public class RmdSerDe {
     return ByteBuffer.wrap(rmdBytes);
   }
 
+  /**
+   * Converts a RMD record which uses the RMD schema of the writer value schema into a RMD record which uses the RMD
+   * schema of the reader value schema, in memory, which gives the same result as serializing the RMD record and
+   * deserializing it right away with the RMD schema of the reader value schema.
+   */
+  public GenericRecord convertRmdRecord(
+      final int writerValueSchemaId,
+      final int readerValueSchemaId,
+      GenericRecord rmdRecord) {
+    final WriterReaderSchemaIDs writerReaderSchemaIDs =
+        new WriterReaderSchemaIDs(writerValueSchemaId, readerValueSchemaId);
+    return schemaIdToConverterMap.computeIfAbsent(writerReaderSchemaIDs, schemaIDs -> {
+      Schema rmdWriterSchema = getRmdSchema(schemaIDs.getWriterSchemaID());
+      Schema rmdReaderSchema = getRmdSchema(schemaIDs.getReaderSchemaID());
+      return MapOrderingPreservingSerDeFactory.getRecordConverter(rmdWriterSchema, rmdReaderSchema);
+    }).convert(rmdRecord);
+  }
+
   public Schema getRmdSchema(final int valueSchemaId) {
     return valueSchemaIdToRmdSchemaMap.computeIfAbsent(valueSchemaId, id -> {
       RmdSchemaEntry rmdSchemaEntry = annotatedStoreSchemaCache.getRmdSchema(valueSchemaId, rmdVersionId);
@@ -86,13 +121,17 @@ public class RmdSerDe {
     return schemaIdToDeserializerMap.computeIfAbsent(writerReaderSchemaIDs, schemaIDs -> {
       Schema rmdWriterSchema = getRmdSchema(schemaIDs.getWriterSchemaID());
       Schema rmdReaderSchema = getRmdSchema(schemaIDs.getReaderSchemaID());
-      return MapOrderingPreservingSerDeFactory.getDeserializer(rmdWriterSchema, rmdReaderSchema);
+      return fastAvroEnabled
+          ? MapOrderingPreservingSerDeFactory.getFastDeserializer(rmdWriterSchema, rmdReaderSchema)
+          : MapOrderingPreservingSerDeFactory.getDeserializer(rmdWriterSchema, rmdReaderSchema);
     });
   }
 
   private RecordSerializer<GenericRecord> getRmdSerializer(int valueSchemaId) {
     Schema replicationMetadataSchema = getRmdSchema(valueSchemaId);
-    return MapOrderingPreservingSerDeFactory.getSerializer(replicationMetadataSchema);
+    return fastAvroEnabled
+        ? MapOrderingPreservingSerDeFactory.getFastSerializer(replicationMetadataSchema)
+        : MapOrderingPreservingSerDeFactory.getSerializer(replicationMetadataSchema);
   }
 
   /**
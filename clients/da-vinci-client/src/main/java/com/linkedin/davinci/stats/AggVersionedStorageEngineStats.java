@@ -55,9 +55,24 @@ public class AggVersionedStorageEngineStats extends
     }
   }
 
+  public void recordRestoreTime(String topicName, long restoreTimeInMs) {
+    if (!Version.isVersionTopicOrStreamReprocessingTopic(topicName)) {
+      LOGGER.warn("Invalid topic name: {}", topicName);
+      return;
+    }
+    String storeName = Version.parseStoreFromKafkaTopicName(topicName);
+    int version = Version.parseVersionFromKafkaTopicName(topicName);
+    try {
+      getStats(storeName, version).setRestoreTimeInMs(restoreTimeInMs);
+    } catch (Exception e) {
+      LOGGER.warn("Failed to record restore time for store: {}, version: {}", storeName, version);
+    }
+  }
+
   static class StorageEngineStats {
     private AbstractStorageEngine storageEngine;
     private final AtomicInteger rocksDBOpenFailureCount = new AtomicInteger(0);
+    private volatile long restoreTimeInMs = 0;
 
     public void setStorageEngine(AbstractStorageEngine storageEngine) {
       this.storageEngine = storageEngine;
@@ -80,6 +95,14 @@ public class AggVersionedStorageEngineStats extends
     public void recordRocksDBOpenFailure() {
       rocksDBOpenFailureCount.incrementAndGet();
     }
+
+    public void setRestoreTimeInMs(long restoreTimeInMs) {
+      this.restoreTimeInMs = restoreTimeInMs;
+    }
+
+    public long getRestoreTimeInMs() {
+      return restoreTimeInMs;
+    }
   }
 
   static class StorageEngineStatsReporter extends AbstractVeniceStatsReporter<StorageEngineStats> {
@@ -113,6 +136,14 @@ public class AggVersionedStorageEngineStats extends
           return stats.rocksDBOpenFailureCount.get();
         }
       }));
+      registerSensor("storage_engine_restore_time_ms", new Gauge(() -> {
+        StorageEngineStats stats = getStats();
+        if (stats == null) {
+          return StatsErrorCode.NULL_STORAGE_ENGINE_STATS.code;
+        } else {
+          return stats.getRestoreTimeInMs();
+        }
+      }));
     }
   }
 }
@@ -120,6 +120,22 @@ public class HostLevelIngestionStats extends AbstractVeniceStats {
    */
   private final Sensor leaderIngestionReplicationMetadataLookUpLatencySensor;
 
+  /**
+   * Measure the avg/max latency for the batched lookup of the old values and replication metadata of a batch of records
+   */
+  private final Sensor leaderIngestionPrefetchLatencySensor;
+
+  /**
+   * Measure the number of times the old value and replication metadata of a record were found among the prefetched ones
+   */
+  private final Sensor leaderIngestionPrefetchHitCount;
+
+  /**
+   * Measure the number of times the old value and replication metadata of a record had to be looked up from the DB,
+   * despite the prefetching
+   */
+  private final Sensor leaderIngestionPrefetchMissCount;
+
   /**
    * Measure the count of ignored updates due to conflict resolution
    */
@@ -381,6 +397,24 @@ public class HostLevelIngestionStats extends AbstractVeniceStats {
         totalStats,
         () -> totalStats.leaderIngestionReplicationMetadataLookUpLatencySensor,
         avgAndMax());
+
+    this.leaderIngestionPrefetchLatencySensor = registerPerStoreAndTotalSensor(
+        "leader_ingestion_prefetch_latency",
+        totalStats,
+        () -> totalStats.leaderIngestionPrefetchLatencySensor,
+        avgAndMax());
+
+    this.leaderIngestionPrefetchHitCount = registerPerStoreAndTotalSensor(
+        "leader_ingestion_prefetch_hit_count",
+        totalStats,
+        () -> totalStats.leaderIngestionPrefetchHitCount,
+        new Rate());
+
+    this.leaderIngestionPrefetchMissCount = registerPerStoreAndTotalSensor(
+        "leader_ingestion_prefetch_miss_count",
+        totalStats,
+        () -> totalStats.leaderIngestionPrefetchMissCount,
+        new Rate());
   }
 
   /** Record a host-level byte consumption rate across all store versions */
@@ -475,6 +509,18 @@ public class HostLevelIngestionStats extends AbstractVeniceStats {
     leaderIngestionReplicationMetadataCacheHitCount.record(1, currentTimeMs);
   }
 
+  public void recordIngestionPrefetchLatency(double latency, long currentTimeMs) {
+    leaderIngestionPrefetchLatencySensor.record(latency, currentTimeMs);
+  }
+
+  public void recordIngestionPrefetchHitCount(long currentTimeMs) {
+    leaderIngestionPrefetchHitCount.record(1, currentTimeMs);
+  }
+
+  public void recordIngestionPrefetchMissCount(long currentTimeMs) {
+    leaderIngestionPrefetchMissCount.record(1, currentTimeMs);
+  }
+
   public void recordUpdateIgnoredDCR() {
     totalUpdateIgnoredDCRRate.record();
   }
@@ -0,0 +1,22 @@
+package com.linkedin.davinci.stats;
+
+import com.linkedin.davinci.store.cache.HotKeyValueCache;
+import com.linkedin.venice.stats.AbstractVeniceStats;
+import com.linkedin.venice.stats.Gauge;
+import io.tehuti.metrics.MetricsRepository;
+
+
+/**
+ * Per store metrics of the {@link HotKeyValueCache} of the storage nodes.
+ */
+public class HotKeyValueCacheStats extends AbstractVeniceStats {
+  public HotKeyValueCacheStats(MetricsRepository metricsRepository, HotKeyValueCache cache) {
+    super(metricsRepository, cache.getStoreName());
+    registerSensor("hot_key_cache_hit", new Gauge(cache::getHitCount));
+    registerSensor("hot_key_cache_miss", new Gauge(cache::getMissCount));
+    registerSensor("hot_key_cache_hit_rate", new Gauge(cache::getHitRate));
+    registerSensor("hot_key_cache_entry_count", new Gauge(cache::getEntryCount));
+    registerSensor("hot_key_cache_size_in_bytes", new Gauge(cache::getSizeInBytes));
+    registerSensor("hot_key_cache_version", new Gauge(cache::getCachedVersion));
+  }
+}
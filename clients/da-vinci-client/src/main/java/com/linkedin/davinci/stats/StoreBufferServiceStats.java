@@ -16,6 +16,8 @@ public class StoreBufferServiceStats extends AbstractVeniceStats {
   private Sensor totalRemainingMemorySensor;
   private Sensor maxMemoryUsagePerWriterSensor;
   private Sensor minMemoryUsagePerWriterSensor;
+  private Sensor writerQueueImbalanceSensor;
+  private Sensor writerReassignmentCountSensor;
   private List<Sensor> preDrainerSensors = new ArrayList<>(2);
 
   public StoreBufferServiceStats(MetricsRepository metricsRepository, AbstractStoreBufferService workerService) {
@@ -31,6 +33,11 @@ public class StoreBufferServiceStats extends AbstractVeniceStats {
     minMemoryUsagePerWriterSensor = registerSensor(
         "min_memory_usage_per_writer",
         new Gauge(() -> this.workerService.getMinMemoryUsagePerDrainer()));
+    writerQueueImbalanceSensor =
+        registerSensor("writer_queue_imbalance", new Gauge(() -> this.workerService.getDrainerQueueImbalance()));
+    writerReassignmentCountSensor = registerSensor(
+        "writer_reassignment_count",
+        new Gauge(() -> this.workerService.getDrainerReassignmentCount()));
 
     for (int i = 0; i < this.workerService.getDrainerCount(); i++) {
       int finalIndex = i;
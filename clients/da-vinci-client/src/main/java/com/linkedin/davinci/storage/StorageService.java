@@ -21,22 +21,30 @@ import com.linkedin.venice.kafka.protocol.state.PartitionState;
 import com.linkedin.venice.kafka.protocol.state.StoreVersionState;
 import com.linkedin.venice.meta.PersistenceType;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
 import com.linkedin.venice.service.AbstractVeniceService;
+import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.ExceptionUtils;
 import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.PartitionUtils;
 import com.linkedin.venice.utils.Utils;
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
@@ -150,18 +158,25 @@ public class StorageService extends AbstractVeniceService {
     persistenceTypeToStorageEngineFactoryMap.put(BLACK_HOLE, new BlackHoleStorageEngineFactory());
   }
 
+  /**
+   * Opens all the storage engines persisted on disk, with up to
+   * {@link VeniceServerConfig#getStoreRestoreThreadPoolSize()} store versions being opened concurrently. The current
+   * versions are opened first, so that they are ready to serve as early as possible, followed by the future versions
+   * and then by the backup versions.
+   */
   private void restoreAllStores(
       VeniceConfigLoader configLoader,
       boolean restoreDataPartitions,
       boolean restoreMetadataPartitions) {
     LOGGER.info("Start restoring all the stores persisted previously");
+    long startTimeInNS = System.nanoTime();
+    List<VeniceStoreVersionConfig> storeConfigs = new ArrayList<>();
     for (Map.Entry<PersistenceType, StorageEngineFactory> entry: persistenceTypeToStorageEngineFactoryMap.entrySet()) {
       PersistenceType pType = entry.getKey();
       StorageEngineFactory factory = entry.getValue();
-      LOGGER.info("Start restoring all the stores with type: {}", pType);
       Set<String> storeNames = factory.getPersistedStoreNames();
+      LOGGER.info("Found {} stores to restore with type: {}", storeNames.size(), pType);
       for (String storeName: storeNames) {
-        LOGGER.info("Start restoring store: {} with type: {}", storeName, pType);
         /**
          * Setup store-level persistence type based on current database setup.
          */
@@ -169,29 +184,97 @@ public class StorageService extends AbstractVeniceService {
         // Load the metadata & data restore settings from config loader.
         storeConfig.setRestoreDataPartitions(restoreDataPartitions);
         storeConfig.setRestoreMetadataPartition(restoreMetadataPartitions);
-        AbstractStorageEngine storageEngine;
-
-        try {
-          storageEngine = openStore(storeConfig, () -> null);
-        } catch (Exception e) {
-          if (ExceptionUtils.recursiveClassEquals(e, RocksDBException.class)) {
-            LOGGER.error("Could not load the following store : " + storeName, e);
-            aggVersionedStorageEngineStats.recordRocksDBOpenFailure(storeName);
-            continue;
-          }
-          throw new VeniceException("Error caught during opening store " + storeName, e);
+        storeConfigs.add(storeConfig);
+      }
+    }
+    storeConfigs.sort(Comparator.comparingInt(storeConfig -> getRestorePriority(storeConfig.getStoreVersionName())));
+
+    int threadPoolSize = Math.min(serverConfig.getStoreRestoreThreadPoolSize(), storeConfigs.size());
+    if (threadPoolSize <= 1) {
+      storeConfigs.forEach(this::restoreStore);
+    } else {
+      ExecutorService restoreExecutor =
+          Executors.newFixedThreadPool(threadPoolSize, new DaemonThreadFactory("Venice-StoreRestore"));
+      try {
+        List<Future<?>> restoreFutures = new ArrayList<>(storeConfigs.size());
+        for (VeniceStoreVersionConfig storeConfig: storeConfigs) {
+          restoreFutures.add(restoreExecutor.submit(() -> restoreStore(storeConfig)));
+        }
+        for (Future<?> restoreFuture: restoreFutures) {
+          restoreFuture.get();
         }
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof VeniceException) {
+          throw (VeniceException) e.getCause();
+        }
+        throw new VeniceException("Error caught during restoring stores", e.getCause());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new VeniceException("Interrupted while restoring stores", e);
+      } finally {
+        restoreExecutor.shutdownNow();
+      }
+    }
+    LOGGER.info(
+        "Done restoring all the {} stores persisted previously with {} threads in {} ms",
+        storeConfigs.size(),
+        Math.max(threadPoolSize, 1),
+        LatencyUtils.getLatencyInMS(startTimeInNS));
+  }
 
-        Set<Integer> partitionIds = storageEngine.getPartitionIds();
-        LOGGER.info(
-            "Loaded the following partitions: {}, for store: {}",
-            Arrays.toString(partitionIds.toArray()),
-            storeName);
-        LOGGER.info("Done restoring store: {} with type: {}", storeName, pType);
+  private void restoreStore(VeniceStoreVersionConfig storeConfig) {
+    String storeName = storeConfig.getStoreVersionName();
+    PersistenceType pType = storeConfig.getStorePersistenceType();
+    LOGGER.info("Start restoring store: {} with type: {}", storeName, pType);
+    long startTimeInNS = System.nanoTime();
+    AbstractStorageEngine storageEngine = getStorageEngine(storeName);
+    if (storageEngine == null) {
+      try {
+        /**
+         * The storage engine is created outside of the service lock, so that several store versions can be restored
+         * concurrently. The stores are only restored before any ingestion starts, so no other caller can open this
+         * store version in the meantime.
+         */
+        storageEngine = createStorageEngine(storeConfig);
+      } catch (Exception e) {
+        if (ExceptionUtils.recursiveClassEquals(e, RocksDBException.class)) {
+          LOGGER.error("Could not load the following store : " + storeName, e);
+          aggVersionedStorageEngineStats.recordRocksDBOpenFailure(storeName);
+          return;
+        }
+        throw new VeniceException("Error caught during opening store " + storeName, e);
+      }
+      synchronized (this) {
+        registerStorageEngine(storageEngine, () -> null);
       }
-      LOGGER.info("Done restoring all the stores with type: {}", pType);
     }
-    LOGGER.info("Done restoring all the stores persisted previously");
+
+    double restoreTimeInMs = LatencyUtils.getLatencyInMS(startTimeInNS);
+    aggVersionedStorageEngineStats.recordRestoreTime(storeName, (long) restoreTimeInMs);
+    Set<Integer> partitionIds = storageEngine.getPartitionIds();
+    LOGGER.info(
+        "Loaded the following partitions: {}, for store: {}",
+        Arrays.toString(partitionIds.toArray()),
+        storeName);
+    LOGGER.info("Done restoring store: {} with type: {} in {} ms", storeName, pType, restoreTimeInMs);
+  }
+
+  /**
+   * @return 0 for the current version of a store, 1 for a future version, and 2 for any other store version.
+   */
+  private int getRestorePriority(String topicName) {
+    if (storeRepository == null || !Version.isVersionTopic(topicName)) {
+      return 2;
+    }
+    Store store = storeRepository.getStore(Version.parseStoreFromVersionTopic(topicName));
+    if (store == null) {
+      return 2;
+    }
+    int versionNumber = Version.parseVersionFromVersionTopicName(topicName);
+    if (versionNumber == store.getCurrentVersion()) {
+      return 0;
+    }
+    return versionNumber > store.getCurrentVersion() ? 1 : 2;
   }
 
   public synchronized AbstractStorageEngine openStoreForNewPartition(
@@ -261,6 +344,18 @@ public class StorageService extends AbstractVeniceService {
     }
 
     long startTimeInBuildingNewEngine = System.nanoTime();
+    engine = createStorageEngine(storeConfig);
+    registerStorageEngine(engine, initialStoreVersionStateSupplier);
+
+    LOGGER.info(
+        "time spent on creating new storage Engine for store {}: {} ms",
+        topicName,
+        LatencyUtils.getLatencyInMS(startTimeInBuildingNewEngine));
+    return engine;
+  }
+
+  private AbstractStorageEngine createStorageEngine(VeniceStoreVersionConfig storeConfig) {
+    String topicName = storeConfig.getStoreVersionName();
     /**
      * For new store, it will use the storage engine configured in host level if it is not known.
      */
@@ -270,18 +365,16 @@ public class StorageService extends AbstractVeniceService {
 
     LOGGER.info("Creating/Opening Storage Engine {} with type: {}", topicName, storeConfig.getStorePersistenceType());
     StorageEngineFactory factory = getInternalStorageEngineFactory(storeConfig);
-    engine =
-        factory.getStorageEngine(storeConfig, isReplicationMetadataEnabled(topicName, factory.getPersistenceType()));
+    return factory.getStorageEngine(storeConfig, isReplicationMetadataEnabled(topicName, factory.getPersistenceType()));
+  }
+
+  private void registerStorageEngine(
+      AbstractStorageEngine engine,
+      Supplier<StoreVersionState> initialStoreVersionStateSupplier) {
     engine.updateStoreVersionStateCache(initialStoreVersionStateSupplier.get());
     storageEngineRepository.addLocalStorageEngine(engine);
     // Setup storage engine stats
-    aggVersionedStorageEngineStats.setStorageEngine(topicName, engine);
-
-    LOGGER.info(
-        "time spent on creating new storage Engine for store {}: {} ms",
-        topicName,
-        LatencyUtils.getLatencyInMS(startTimeInBuildingNewEngine));
-    return engine;
+    aggVersionedStorageEngineStats.setStorageEngine(engine.getStoreName(), engine);
   }
 
   /**
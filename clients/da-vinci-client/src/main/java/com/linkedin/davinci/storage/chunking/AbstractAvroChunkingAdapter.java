@@ -16,6 +16,7 @@ import com.linkedin.venice.utils.LatencyUtils;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.util.List;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.io.BinaryDecoder;
 
@@ -194,6 +195,44 @@ public abstract class AbstractAvroChunkingAdapter<T> implements ChunkingAdapter<
         false);
   }
 
+  /**
+   * Looks up all the {@param keys} of the given partition with batched storage engine calls. The values are
+   * deserialized into {@param reusedValue} one at a time and handed to the {@param consumer} in the order of the keys.
+   *
+   * @see ChunkingUtils#getFromStorageInBatch
+   */
+  public void getInBatch(
+      AbstractStorageEngine store,
+      int partition,
+      List<ByteBuffer> keys,
+      boolean isChunked,
+      T reusedValue,
+      BinaryDecoder reusedDecoder,
+      ReadResponse response,
+      CompressionStrategy compressionStrategy,
+      boolean fastAvroEnabled,
+      ReadOnlySchemaRepository schemaRepo,
+      String storeName,
+      VeniceCompressor compressor,
+      BatchGetValueConsumer<T> consumer) {
+    ChunkingUtils.getFromStorageInBatch(
+        this,
+        store,
+        schemaRepo.getSupersetOrLatestValueSchema(storeName).getId(),
+        partition,
+        ChunkingUtils.getStorageKeys(keys, isChunked),
+        response,
+        reusedValue,
+        reusedDecoder,
+        compressionStrategy,
+        fastAvroEnabled,
+        schemaRepo,
+        storeName,
+        compressor,
+        false,
+        consumer);
+  }
+
   public T get(
       String storeName,
       AbstractStorageEngine store,
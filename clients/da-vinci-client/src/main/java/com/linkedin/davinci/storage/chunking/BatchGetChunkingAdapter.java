@@ -6,6 +6,7 @@ import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
 import java.nio.ByteBuffer;
+import java.util.List;
 
 
 /**
@@ -68,4 +69,34 @@ public class BatchGetChunkingAdapter implements ChunkingAdapter<ByteBuffer, Mult
     }
     return ChunkingUtils.getFromStorage(BATCH_GET_CHUNKING_ADAPTER, store, partition, key, response);
   }
+
+  /**
+   * Looks up all the {@param keys} of the given partition with batched storage engine calls.
+   *
+   * @see ChunkingUtils#getFromStorageInBatch
+   */
+  public static void getInBatch(
+      AbstractStorageEngine store,
+      int partition,
+      List<ByteBuffer> keys,
+      boolean isChunked,
+      ReadResponse response,
+      BatchGetValueConsumer<MultiGetResponseRecordV1> consumer) {
+    ChunkingUtils.getFromStorageInBatch(
+        BATCH_GET_CHUNKING_ADAPTER,
+        store,
+        -1,
+        partition,
+        ChunkingUtils.getStorageKeys(keys, isChunked),
+        response,
+        null,
+        null,
+        null,
+        false,
+        null,
+        null,
+        null,
+        false,
+        consumer);
+  }
 }
@@ -0,0 +1,14 @@
+package com.linkedin.davinci.storage.chunking;
+
+/**
+ * Receives the values fetched by a batched storage engine lookup, one key at a time, in the order of the requested
+ * keys. Values may be re-used containers, so they should not be retained past the invocation.
+ */
+@FunctionalInterface
+public interface BatchGetValueConsumer<VALUE> {
+  /**
+   * @param keyPosition position of the key within the list passed to the batched lookup
+   * @param value the value associated with the key, or null if the key does not exist
+   */
+  void accept(int keyPosition, VALUE value);
+}
@@ -16,9 +16,12 @@ import com.linkedin.venice.serialization.avro.ChunkedValueManifestSerializer;
 import com.linkedin.venice.serializer.RecordDeserializer;
 import com.linkedin.venice.storage.protocol.ChunkedKeySuffix;
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
+import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.writer.VeniceWriter;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.io.BinaryDecoder;
 
@@ -334,18 +337,205 @@ public class ChunkingUtils {
     // End of initial sanity checks. We have a chunked value, so we need to fetch all chunks
 
     ChunkedValueManifest chunkedValueManifest = CHUNKED_VALUE_MANIFEST_SERIALIZER.deserialize(value, writerSchemaId);
+    return assembleChunkedValue(
+        chunkedValueManifest,
+        null,
+        0,
+        databaseLookupStartTimeInNS,
+        adapter,
+        store,
+        partition,
+        response,
+        reusedValue,
+        reusedDecoder,
+        compressionStrategy,
+        fastAvroEnabled,
+        schemaRepo,
+        storeName,
+        compressor,
+        isRmdValue);
+  }
+
+  /**
+   * Batched counterpart of {@link #getFromStorage(ChunkingAdapter, AbstractStorageEngine, int, int, ByteBuffer, ReadResponse, Object, BinaryDecoder, CompressionStrategy, boolean, ReadOnlySchemaRepository, String, VeniceCompressor, boolean)}.
+   *
+   * All the top-level keys, which must belong to the same partition, are fetched with a single
+   * {@link AbstractStorageEngine#multiGet(int, List)} call. If some of the values turn out to be
+   * {@link ChunkedValueManifest}s, the chunks of all those manifests are then fetched with a second batched call,
+   * so that the number of storage engine round-trips does not depend on the number of keys.
+   *
+   * Each value is handed to the {@param consumer} in the order of {@param keys}, and the consumer is invoked before
+   * the next value gets constructed, so that {@param reusedValue} can be safely re-used from one key to the next.
+   *
+   * If {@param isRmdValue} is true, the replication metadata of the keys is fetched instead of their values.
+   *
+   * @see BatchGetChunkingAdapter#getInBatch(AbstractStorageEngine, int, List, boolean, ReadResponse, BatchGetValueConsumer)
+   * @see AbstractAvroChunkingAdapter#getInBatch(AbstractStorageEngine, int, List, boolean, Object, BinaryDecoder, ReadResponse, CompressionStrategy, boolean, ReadOnlySchemaRepository, String, VeniceCompressor, BatchGetValueConsumer)
+   * @see SingleGetChunkingAdapter#getReplicationMetadataInBatch(AbstractStorageEngine, int, List, boolean, BatchGetValueConsumer)
+   */
+  static <VALUE, CHUNKS_CONTAINER> void getFromStorageInBatch(
+      ChunkingAdapter<CHUNKS_CONTAINER, VALUE> adapter,
+      AbstractStorageEngine store,
+      int readerSchemaId,
+      int partition,
+      List<byte[]> keys,
+      ReadResponse response,
+      VALUE reusedValue,
+      BinaryDecoder reusedDecoder,
+      CompressionStrategy compressionStrategy,
+      boolean fastAvroEnabled,
+      ReadOnlySchemaRepository schemaRepo,
+      String storeName,
+      VeniceCompressor compressor,
+      boolean isRmdValue,
+      BatchGetValueConsumer<VALUE> consumer) {
+    long databaseLookupStartTimeInNS = System.nanoTime();
+    List<byte[]> values =
+        isRmdValue ? store.multiGetReplicationMetadata(partition, keys) : store.multiGet(partition, keys);
+
+    /**
+     * Collect the chunk keys of all the large values, so that they can be fetched in one more round-trip.
+     * The manifests and the chunks' starting positions are only allocated if there is at least one large value.
+     */
+    ChunkedValueManifest[] manifests = null;
+    int[] firstChunkPositions = null;
+    List<byte[]> chunkKeys = null;
+    for (int i = 0; i < values.size(); i++) {
+      byte[] value = values.get(i);
+      if (value == null) {
+        continue;
+      }
+      int writerSchemaId = ValueRecord.parseSchemaId(value);
+      if (writerSchemaId > 0) {
+        continue;
+      } else if (writerSchemaId != AvroProtocolDefinition.CHUNKED_VALUE_MANIFEST.getCurrentProtocolVersion()) {
+        throw new VeniceException("Found a record with invalid schema ID: " + writerSchemaId);
+      }
+      if (manifests == null) {
+        manifests = new ChunkedValueManifest[values.size()];
+        firstChunkPositions = new int[values.size()];
+        chunkKeys = new ArrayList<>();
+      }
+      ChunkedValueManifest chunkedValueManifest = CHUNKED_VALUE_MANIFEST_SERIALIZER.deserialize(value, writerSchemaId);
+      manifests[i] = chunkedValueManifest;
+      firstChunkPositions[i] = chunkKeys.size();
+      for (ByteBuffer chunkKey: chunkedValueManifest.keysWithChunkIdSuffix) {
+        chunkKeys.add(chunkKey.array());
+      }
+    }
+    List<byte[]> chunks;
+    if (chunkKeys == null) {
+      chunks = null;
+    } else if (isRmdValue) {
+      chunks = store.multiGetReplicationMetadata(partition, chunkKeys);
+    } else {
+      chunks = store.multiGet(partition, chunkKeys);
+    }
+
+    if (response != null) {
+      double batchLookupLatency = LatencyUtils.getLatencyInMS(databaseLookupStartTimeInNS);
+      response.addDatabaseLookupLatency(batchLookupLatency);
+      response.addStorageEngineBatchLookupLatency(batchLookupLatency);
+    }
+
+    for (int i = 0; i < values.size(); i++) {
+      byte[] value = values.get(i);
+      VALUE result;
+      if (value == null) {
+        result = null;
+      } else if (manifests == null || manifests[i] == null) {
+        result = adapter.constructValue(
+            ValueRecord.parseSchemaId(value),
+            readerSchemaId,
+            value,
+            value.length,
+            reusedValue,
+            reusedDecoder,
+            response,
+            compressionStrategy,
+            fastAvroEnabled,
+            schemaRepo,
+            storeName,
+            compressor);
+      } else {
+        result = assembleChunkedValue(
+            manifests[i],
+            chunks,
+            firstChunkPositions[i],
+            -1,
+            adapter,
+            store,
+            partition,
+            response,
+            reusedValue,
+            reusedDecoder,
+            compressionStrategy,
+            fastAvroEnabled,
+            schemaRepo,
+            storeName,
+            compressor,
+            isRmdValue);
+      }
+      consumer.accept(i, result);
+    }
+  }
+
+  /**
+   * Converts the keys of a batched lookup into the byte arrays expected by the storage engine, appending the
+   * non-chunked key suffix if the store-version is chunked.
+   */
+  static List<byte[]> getStorageKeys(List<ByteBuffer> keys, boolean isChunked) {
+    List<byte[]> storageKeys = new ArrayList<>(keys.size());
+    for (ByteBuffer key: keys) {
+      storageKeys.add(
+          isChunked
+              ? KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKey(key).array()
+              : ByteUtils.extractByteArray(key));
+    }
+    return storageKeys;
+  }
+
+  /**
+   * Re-assembles a large value out of its chunks.
+   *
+   * @param prefetchedChunks if not null, the chunks are read from this list starting at {@param firstChunkPosition},
+   *                         otherwise they are fetched one by one from the storage engine.
+   * @param databaseLookupStartTimeInNS if negative, the database lookup latency has already been accounted for by
+   *                                    the caller.
+   */
+  private static <VALUE, CHUNKS_CONTAINER> VALUE assembleChunkedValue(
+      ChunkedValueManifest chunkedValueManifest,
+      List<byte[]> prefetchedChunks,
+      int firstChunkPosition,
+      long databaseLookupStartTimeInNS,
+      ChunkingAdapter<CHUNKS_CONTAINER, VALUE> adapter,
+      AbstractStorageEngine store,
+      int partition,
+      ReadResponse response,
+      VALUE reusedValue,
+      BinaryDecoder reusedDecoder,
+      CompressionStrategy compressionStrategy,
+      boolean fastAvroEnabled,
+      ReadOnlySchemaRepository schemaRepo,
+      String storeName,
+      VeniceCompressor compressor,
+      boolean isRmdValue) {
     CHUNKS_CONTAINER assembledValueContainer = adapter.constructChunksContainer(chunkedValueManifest);
     int actualSize = 0;
 
     for (int chunkIndex = 0; chunkIndex < chunkedValueManifest.keysWithChunkIdSuffix.size(); chunkIndex++) {
-      // N.B.: This is done sequentially. Originally, each chunk was fetched concurrently in the same executor
-      // as the main queries, but this might cause deadlocks, so we are now doing it sequentially. If we want to
-      // optimize large value retrieval in the future, it's unclear whether the concurrent retrieval approach
-      // is optimal (as opposed to streaming the response out incrementally, for example). Since this is a
-      // premature optimization, we are not addressing it right now.
-      byte[] chunkKey = chunkedValueManifest.keysWithChunkIdSuffix.get(chunkIndex).array();
-      byte[] valueChunk =
-          isRmdValue ? store.getReplicationMetadata(partition, chunkKey) : store.get(partition, chunkKey);
+      byte[] valueChunk;
+      if (prefetchedChunks != null) {
+        valueChunk = prefetchedChunks.get(firstChunkPosition + chunkIndex);
+      } else {
+        // N.B.: This is done sequentially. Originally, each chunk was fetched concurrently in the same executor
+        // as the main queries, but this might cause deadlocks, so we are now doing it sequentially. If we want to
+        // optimize large value retrieval in the future, it's unclear whether the concurrent retrieval approach
+        // is optimal (as opposed to streaming the response out incrementally, for example). Since this is a
+        // premature optimization, we are not addressing it right now.
+        byte[] chunkKey = chunkedValueManifest.keysWithChunkIdSuffix.get(chunkIndex).array();
+        valueChunk = isRmdValue ? store.getReplicationMetadata(partition, chunkKey) : store.get(partition, chunkKey);
+      }
 
       if (valueChunk == null) {
         throw new VeniceException("Chunk not found in " + getExceptionMessageDetails(store, partition, chunkIndex));
@@ -369,7 +559,9 @@ public class ChunkingUtils {
     }
 
     if (response != null) {
-      response.addDatabaseLookupLatency(LatencyUtils.getLatencyInMS(databaseLookupStartTimeInNS));
+      if (databaseLookupStartTimeInNS >= 0) {
+        response.addDatabaseLookupLatency(LatencyUtils.getLatencyInMS(databaseLookupStartTimeInNS));
+      }
       response.incrementMultiChunkLargeValueCount();
     }
 
@@ -7,6 +7,7 @@ import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import java.nio.ByteBuffer;
+import java.util.List;
 
 
 /**
@@ -63,4 +64,34 @@ public class SingleGetChunkingAdapter implements ChunkingAdapter<CompositeByteBu
     return ChunkingUtils
         .getReplicationMetadataFromStorage(SINGLE_GET_CHUNKING_ADAPTER, store, partition, keyBuffer, response);
   }
+
+  /**
+   * Looks up the replication metadata of all the {@param keys} of the given partition with batched storage engine
+   * calls, and hands them to the {@param consumer} in the order of the keys.
+   *
+   * @see ChunkingUtils#getFromStorageInBatch
+   */
+  public static void getReplicationMetadataInBatch(
+      AbstractStorageEngine store,
+      int partition,
+      List<ByteBuffer> keys,
+      boolean isChunked,
+      BatchGetValueConsumer<ValueRecord> consumer) {
+    ChunkingUtils.getFromStorageInBatch(
+        SINGLE_GET_CHUNKING_ADAPTER,
+        store,
+        -1,
+        partition,
+        ChunkingUtils.getStorageKeys(keys, isChunked),
+        null,
+        null,
+        null,
+        null,
+        false,
+        null,
+        null,
+        null,
+        true,
+        consumer);
+  }
 }
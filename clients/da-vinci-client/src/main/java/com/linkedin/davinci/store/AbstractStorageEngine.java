@@ -428,6 +428,26 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     });
   }
 
+  /**
+   * Check {@link AbstractStoragePartition#beginWriteBatch()}.
+   */
+  public void beginWriteBatch(int partitionId) {
+    executeWithSafeGuard(partitionId, () -> {
+      AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
+      partition.beginWriteBatch();
+    });
+  }
+
+  /**
+   * Check {@link AbstractStoragePartition#commitWriteBatch()}.
+   */
+  public void commitWriteBatch(int partitionId) {
+    executeWithSafeGuard(partitionId, () -> {
+      AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
+      partition.commitWriteBatch();
+    });
+  }
+
   public void put(int partitionId, byte[] key, byte[] value) throws VeniceException {
     executeWithSafeGuard(partitionId, () -> {
       AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
@@ -485,6 +505,13 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     });
   }
 
+  public List<byte[]> multiGet(int partitionId, List<byte[]> keys) throws VeniceException {
+    return executeWithSafeGuard(partitionId, () -> {
+      AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
+      return partition.multiGet(keys);
+    });
+  }
+
   public void getByKeyPrefix(int partitionId, byte[] partialKey, BytesStreamingCallback bytesStreamingCallback) {
     executeWithSafeGuard(partitionId, () -> {
       AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
@@ -514,6 +541,13 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     });
   }
 
+  public List<byte[]> multiGetReplicationMetadata(int partitionId, List<byte[]> keys) {
+    return executeWithSafeGuard(partitionId, () -> {
+      AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
+      return partition.multiGetReplicationMetadata(keys);
+    });
+  }
+
   /**
    * Put the offset associated with the partitionId into the metadata partition.
    */
@@ -4,6 +4,8 @@ import com.linkedin.davinci.callback.BytesStreamingCallback;
 import com.linkedin.davinci.store.rocksdb.ReplicationMetadataRocksDBStoragePartition;
 import com.linkedin.venice.exceptions.VeniceUnsupportedOperationException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
@@ -60,6 +62,20 @@ public abstract class AbstractStoragePartition {
 
   public abstract byte[] get(ByteBuffer key);
 
+  /**
+   * Get the values of multiple keys from the partition database in a single call.
+   * @param keys keys to be retrieved
+   * @return a list of the same size and order as {@param keys}, containing null for the keys which do not exist.
+   */
+  public List<byte[]> multiGet(List<byte[]> keys) {
+    // Naive default impl is not optimized... only storage engines that support the optimization implement it.
+    List<byte[]> values = new ArrayList<>(keys.size());
+    for (byte[] key: keys) {
+      values.add(get(key));
+    }
+    return values;
+  }
+
   /**
    * Populate provided callback with key-value pairs from the partition database where the keys have provided prefix.
    * If prefix is null, callback will be populated will all key-value pairs from the partition database.
@@ -109,6 +125,19 @@ public abstract class AbstractStoragePartition {
   public void endBatchWrite() {
   }
 
+  /**
+   * Buffer the following writes issued by the current thread in memory, until {@link #commitWriteBatch()} applies all
+   * of them at once. Storage partitions which do not support it keep applying every write right away.
+   */
+  public void beginWriteBatch() {
+  }
+
+  /**
+   * Apply all the writes buffered by the current thread since {@link #beginWriteBatch()}.
+   */
+  public void commitWriteBatch() {
+  }
+
   /**
    * Get the partition database size in bytes
    * @return partition database size
@@ -150,6 +179,20 @@ public abstract class AbstractStoragePartition {
     throw new VeniceUnsupportedOperationException("getReplicationMetadata");
   }
 
+  /**
+   * Get the replication metadata of multiple keys from replicationMetadataColumnFamily in a single call.
+   * @param keys keys to be retrieved
+   * @return a list of the same size and order as {@param keys}, containing null for the keys which do not exist.
+   */
+  public List<byte[]> multiGetReplicationMetadata(List<byte[]> keys) {
+    // Naive default impl is not optimized... only storage engines that support the optimization implement it.
+    List<byte[]> replicationMetadata = new ArrayList<>(keys.size());
+    for (byte[] key: keys) {
+      replicationMetadata.add(getReplicationMetadata(key));
+    }
+    return replicationMetadata;
+  }
+
   /**
    * This API deletes a record from RocksDB but updates the metadata in ByteBuffer format and puts it into RocksDB.
    * Only {@link ReplicationMetadataRocksDBStoragePartition} will execute this method,
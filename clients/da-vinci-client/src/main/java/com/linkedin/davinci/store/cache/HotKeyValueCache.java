@@ -0,0 +1,133 @@
+package com.linkedin.davinci.store.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.linkedin.davinci.utils.ByteArrayKey;
+import java.util.function.Supplier;
+
+
+/**
+ * A size bounded cache of the serialized values of a store, meant to be put in front of the storage engine on the
+ * read path of the storage nodes, for the stores whose traffic is skewed towards a small set of hot keys.
+ *
+ * Only a single version of the store is cached at any time: the cache is tied to the version it was created for, and
+ * it is dropped as soon as a read of another version asks for it, which happens right after a version swap.
+ *
+ * The entries are loaded with {@link Cache#get}, which is atomic with {@link Cache#invalidate} for the same key, so as
+ * long as the writers invalidate a key after having persisted its new value, a concurrent read can never put a stale
+ * value back into the cache.
+ */
+public class HotKeyValueCache {
+  /**
+   * Rough estimation of the memory used by an entry on top of its key and value bytes: the cache node, the
+   * {@link ByteArrayKey} and the array headers.
+   */
+  static final int ENTRY_OVERHEAD_IN_BYTES = 96;
+
+  private final String storeName;
+  private final long capacityInBytes;
+  private volatile VersionedCache versionedCache = null;
+
+  public HotKeyValueCache(String storeName, long capacityInBytes) {
+    this.storeName = storeName;
+    this.capacityInBytes = capacityInBytes;
+  }
+
+  /**
+   * @param version the version of the store being read
+   * @param key the key being read
+   * @param valueLoader loads the serialized value from the storage engine, returns null if the key doesn't exist
+   * @return the serialized value of the key, or null if the key doesn't exist
+   */
+  public byte[] get(int version, byte[] key, Supplier<byte[]> valueLoader) {
+    VersionedCache cache = versionedCache;
+    if (cache == null || cache.version != version) {
+      cache = swapVersion(version);
+    }
+    return cache.cache.get(ByteArrayKey.wrap(key), k -> valueLoader.get());
+  }
+
+  /**
+   * Discard the cached value of the key, if the given version is the one being cached. This must be invoked once the
+   * new value of the key is visible in the storage engine.
+   */
+  public void invalidate(int version, byte[] key) {
+    VersionedCache cache = versionedCache;
+    if (cache != null && cache.version == version) {
+      cache.cache.invalidate(ByteArrayKey.wrap(key));
+    }
+  }
+
+  private synchronized VersionedCache swapVersion(int version) {
+    VersionedCache cache = versionedCache;
+    if (cache == null || cache.version != version) {
+      if (cache != null) {
+        cache.cache.invalidateAll();
+      }
+      cache = new VersionedCache(version, capacityInBytes);
+      versionedCache = cache;
+    }
+    return cache;
+  }
+
+  public String getStoreName() {
+    return storeName;
+  }
+
+  public long getCapacityInBytes() {
+    return capacityInBytes;
+  }
+
+  /**
+   * @return the version being cached, or -1 if nothing has been cached yet.
+   */
+  public int getCachedVersion() {
+    VersionedCache cache = versionedCache;
+    return cache == null ? -1 : cache.version;
+  }
+
+  public long getEntryCount() {
+    VersionedCache cache = versionedCache;
+    return cache == null ? 0 : cache.cache.estimatedSize();
+  }
+
+  public long getSizeInBytes() {
+    VersionedCache cache = versionedCache;
+    if (cache == null) {
+      return 0;
+    }
+    return cache.cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L);
+  }
+
+  /**
+   * The hit and miss statistics only cover the version being cached.
+   */
+  public long getHitCount() {
+    VersionedCache cache = versionedCache;
+    return cache == null ? 0 : cache.cache.stats().hitCount();
+  }
+
+  public long getMissCount() {
+    VersionedCache cache = versionedCache;
+    return cache == null ? 0 : cache.cache.stats().missCount();
+  }
+
+  public double getHitRate() {
+    VersionedCache cache = versionedCache;
+    return cache == null ? 0 : cache.cache.stats().hitRate();
+  }
+
+  private static class VersionedCache {
+    private final int version;
+    private final Cache<ByteArrayKey, byte[]> cache;
+
+    VersionedCache(int version, long capacityInBytes) {
+      this.version = version;
+      this.cache = Caffeine.newBuilder()
+          .maximumWeight(capacityInBytes)
+          .weigher((ByteArrayKey key, byte[] value) -> key.getContent().length + value.length + ENTRY_OVERHEAD_IN_BYTES)
+          .recordStats()
+          .build();
+    }
+  }
+}
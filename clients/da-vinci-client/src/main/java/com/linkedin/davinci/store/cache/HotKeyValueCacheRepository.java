@@ -0,0 +1,38 @@
+package com.linkedin.davinci.store.cache;
+
+import com.linkedin.davinci.stats.HotKeyValueCacheStats;
+import io.tehuti.metrics.MetricsRepository;
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * Holds the {@link HotKeyValueCache} of the stores which have one configured on this storage node. It is shared by
+ * the read path, which serves the single gets out of the caches, and the ingestion path, which invalidates the keys
+ * written by the hybrid stores.
+ */
+public class HotKeyValueCacheRepository {
+  private final Map<String, HotKeyValueCache> storeToCacheMap = new HashMap<>();
+
+  /**
+   * @param storeToCapacityInBytesMap the stores to cache, with the maximum size of their cache
+   */
+  public HotKeyValueCacheRepository(Map<String, Long> storeToCapacityInBytesMap, MetricsRepository metricsRepository) {
+    storeToCapacityInBytesMap.forEach((storeName, capacityInBytes) -> {
+      HotKeyValueCache cache = new HotKeyValueCache(storeName, capacityInBytes);
+      storeToCacheMap.put(storeName, cache);
+      new HotKeyValueCacheStats(metricsRepository, cache);
+    });
+  }
+
+  /**
+   * @return the cache of the store, or null if the store is not cached.
+   */
+  public HotKeyValueCache getCache(String storeName) {
+    return storeToCacheMap.get(storeName);
+  }
+
+  public boolean isEmpty() {
+    return storeToCacheMap.isEmpty();
+  }
+}
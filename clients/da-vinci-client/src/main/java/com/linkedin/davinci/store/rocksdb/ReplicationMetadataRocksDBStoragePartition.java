@@ -7,11 +7,14 @@ import com.linkedin.venice.store.rocksdb.RocksDBUtils;
 import com.linkedin.venice.utils.ByteUtils;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.WriteBatch;
@@ -72,9 +75,13 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
     }
 
     try {
+      WriteBatch currentWriteBatch;
       if (deferredWrite) {
         super.put(key, value);
         rocksDBSstFileWriter.put(key, ByteBuffer.wrap(metadata));
+      } else if ((currentWriteBatch = getWriteBatchOfCurrentThread()) != null) {
+        currentWriteBatch.put(columnFamilyHandleList.get(DEFAULT_COLUMN_FAMILY_INDEX), key, value);
+        currentWriteBatch.put(columnFamilyHandleList.get(REPLICATION_METADATA_COLUMN_FAMILY_INDEX), key, metadata);
       } else {
         try (WriteBatch writeBatch = new WriteBatch()) {
           writeBatch.put(columnFamilyHandleList.get(DEFAULT_COLUMN_FAMILY_INDEX), key, value);
@@ -98,8 +105,11 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
               + partitionId);
     }
     try {
+      WriteBatch currentWriteBatch;
       if (deferredWrite) {
         rocksDBSstFileWriter.put(key, ByteBuffer.wrap(metadata));
+      } else if ((currentWriteBatch = getWriteBatchOfCurrentThread()) != null) {
+        currentWriteBatch.put(columnFamilyHandleList.get(REPLICATION_METADATA_COLUMN_FAMILY_INDEX), key, metadata);
       } else {
         rocksDB.put(columnFamilyHandleList.get(REPLICATION_METADATA_COLUMN_FAMILY_INDEX), writeOptions, key, metadata);
       }
@@ -146,6 +156,28 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
     }
   }
 
+  /**
+   * Looks up the replication metadata of all the keys from replicationMetadataColumnFamily with a single
+   * {@link RocksDB#multiGetAsList(ReadOptions, List, List)} call.
+   */
+  @Override
+  public List<byte[]> multiGetReplicationMetadata(List<byte[]> keys) {
+    readCloseRWLock.readLock().lock();
+    try {
+      makeSureRocksDBIsStillOpen();
+      return rocksDB.multiGetAsList(
+          READ_OPTIONS_DEFAULT,
+          Collections.nCopies(keys.size(), columnFamilyHandleList.get(REPLICATION_METADATA_COLUMN_FAMILY_INDEX)),
+          keys);
+    } catch (RocksDBException e) {
+      throw new VeniceException(
+          "Failed to multi-get replication metadata from store: " + storeName + ", partition id: " + partitionId,
+          e);
+    } finally {
+      readCloseRWLock.readLock().unlock();
+    }
+  }
+
   /**
    * This API deletes a record from RocksDB but updates the metadata in ByteBuffer format and puts it into RocksDB.
    */
@@ -158,9 +190,14 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
               + partitionId);
     }
     try {
+      WriteBatch currentWriteBatch;
       if (deferredWrite) {
         // Just update the RMD for deletion during repush
         rocksDBSstFileWriter.put(key, ByteBuffer.wrap(replicationMetadata));
+      } else if ((currentWriteBatch = getWriteBatchOfCurrentThread()) != null) {
+        currentWriteBatch.delete(columnFamilyHandleList.get(DEFAULT_COLUMN_FAMILY_INDEX), key);
+        currentWriteBatch
+            .put(columnFamilyHandleList.get(REPLICATION_METADATA_COLUMN_FAMILY_INDEX), key, replicationMetadata);
       } else {
         try (WriteBatch writeBatch = new WriteBatch()) {
           writeBatch.delete(columnFamilyHandleList.get(DEFAULT_COLUMN_FAMILY_INDEX), key);
@@ -16,10 +16,10 @@ import com.linkedin.venice.kafka.protocol.state.StoreVersionState;
 import com.linkedin.venice.meta.PersistenceType;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.io.File;
 import java.util.Arrays;
 import java.util.EnumSet;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
@@ -61,7 +61,7 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
   private final String rocksDBPath;
   private final Cache sharedCache;
   private Cache sharedRMDCache;
-  private final Map<String, RocksDBStorageEngine> storageEngineMap = new HashMap<>();
+  private final Map<String, RocksDBStorageEngine> storageEngineMap = new VeniceConcurrentHashMap<>();
   private final Optional<Statistics> aggStatistics;
 
   /**
@@ -199,34 +199,46 @@ public class RocksDBStorageEngineFactory extends StorageEngineFactory {
   }
 
   @Override
-  public synchronized AbstractStorageEngine getStorageEngine(VeniceStoreVersionConfig storeConfig)
+  public AbstractStorageEngine getStorageEngine(VeniceStoreVersionConfig storeConfig)
       throws StorageInitializationException {
     return getStorageEngine(storeConfig, false);
   }
 
+  /**
+   * Opening a RocksDB storage engine restores all its persisted partitions, which may take a while, so it is not done
+   * under the factory lock, to let distinct store versions be opened concurrently (e.g. when the storage service
+   * restores all the stores at startup). The caller must not open the same store version concurrently.
+   */
   @Override
-  public synchronized AbstractStorageEngine getStorageEngine(
+  public AbstractStorageEngine getStorageEngine(
       VeniceStoreVersionConfig storeConfig,
       boolean replicationMetadataEnabled) throws StorageInitializationException {
     verifyPersistenceType(storeConfig);
     final String storeName = storeConfig.getStoreVersionName();
+    RocksDBStorageEngine storageEngine = storageEngineMap.get(storeName);
+    if (storageEngine != null) {
+      return storageEngine;
+    }
     try {
-      storageEngineMap.putIfAbsent(
-          storeName,
-          new RocksDBStorageEngine(
-              storeConfig,
-              this,
-              rocksDBPath,
-              rocksDBMemoryStats,
-              rocksDBThrottler,
-              rocksDBServerConfig,
-              storeVersionStateSerializer,
-              partitionStateSerializer,
-              replicationMetadataEnabled));
-      return storageEngineMap.get(storeName);
+      storageEngine = new RocksDBStorageEngine(
+          storeConfig,
+          this,
+          rocksDBPath,
+          rocksDBMemoryStats,
+          rocksDBThrottler,
+          rocksDBServerConfig,
+          storeVersionStateSerializer,
+          partitionStateSerializer,
+          replicationMetadataEnabled);
     } catch (Exception e) {
       throw new StorageInitializationException(e);
     }
+    RocksDBStorageEngine existingStorageEngine = storageEngineMap.putIfAbsent(storeName, storageEngine);
+    if (existingStorageEngine != null) {
+      storageEngine.close();
+      return existingStorageEngine;
+    }
+    return storageEngine;
   }
 
   @Override
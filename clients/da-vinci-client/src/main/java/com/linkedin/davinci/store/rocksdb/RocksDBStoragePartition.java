@@ -8,6 +8,7 @@ import com.linkedin.davinci.store.AbstractStoragePartition;
 import com.linkedin.davinci.store.StoragePartitionConfig;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.store.rocksdb.RocksDBUtils;
+import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.LatencyUtils;
 import java.io.File;
 import java.nio.ByteBuffer;
@@ -42,6 +43,7 @@ import org.rocksdb.RocksIterator;
 import org.rocksdb.Slice;
 import org.rocksdb.SstFileWriter;
 import org.rocksdb.Statistics;
+import org.rocksdb.WriteBatch;
 import org.rocksdb.WriteOptions;
 
 
@@ -133,6 +135,14 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
 
   private RocksDBSstFileWriter rocksDBSstFileWritter;
 
+  /**
+   * The writes buffered between {@link #beginWriteBatch()} and {@link #commitWriteBatch()}, which only contains the
+   * writes issued by {@link #writeBatchOwner}. Both fields are guarded by the monitor of this partition, like all
+   * the other modification functions.
+   */
+  private WriteBatch writeBatch;
+  private Thread writeBatchOwner;
+
   protected RocksDBStoragePartition(
       StoragePartitionConfig storagePartitionConfig,
       RocksDBStorageEngineFactory factory,
@@ -389,8 +399,11 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
               + partitionId);
     }
     try {
+      WriteBatch currentWriteBatch;
       if (deferredWrite) {
         rocksDBSstFileWritter.put(key, valueBuffer);
+      } else if ((currentWriteBatch = getWriteBatchOfCurrentThread()) != null) {
+        currentWriteBatch.put(key, ByteUtils.extractByteArray(valueBuffer));
       } else {
         rocksDB.put(
             writeOptions,
@@ -470,6 +483,25 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     }
   }
 
+  /**
+   * Looks up all the keys with a single {@link RocksDB#multiGetAsList(ReadOptions, List)} call, which lets RocksDB
+   * batch the block cache lookups and amortize the JNI crossing over the whole list.
+   */
+  @Override
+  public List<byte[]> multiGet(List<byte[]> keys) {
+    readCloseRWLock.readLock().lock();
+    try {
+      makeSureRocksDBIsStillOpen();
+      return rocksDB.multiGetAsList(READ_OPTIONS_DEFAULT, keys);
+    } catch (RocksDBException e) {
+      throw new VeniceException(
+          "Failed to multi-get values from store: " + storeName + ", partition id: " + partitionId,
+          e);
+    } finally {
+      readCloseRWLock.readLock().unlock();
+    }
+  }
+
   @Override
   public void getByKeyPrefix(byte[] keyPrefix, BytesStreamingCallback callback) {
     if (keyPrefix != null && rocksDBServerConfig.isRocksDBPlainTableFormatEnabled()) {
@@ -540,8 +572,11 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
               + partitionId);
     }
     try {
+      WriteBatch currentWriteBatch;
       if (deferredWrite) {
         throw new VeniceException("Deletion is unexpected in 'deferredWrite' mode");
+      } else if ((currentWriteBatch = getWriteBatchOfCurrentThread()) != null) {
+        currentWriteBatch.delete(key);
       } else {
         rocksDB.delete(key);
       }
@@ -552,9 +587,74 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     }
   }
 
+  /**
+   * Only takes effect in transactional mode, since the writes of 'deferredWrite' mode are already buffered in SST
+   * files. If another thread writes into this partition before the batch gets committed, the batch is committed first,
+   * so that all the writes are applied in the order they were issued.
+   */
+  @Override
+  public synchronized void beginWriteBatch() {
+    makeSureRocksDBIsStillOpen();
+    if (deferredWrite || readOnly) {
+      return;
+    }
+    if (writeBatch != null) {
+      if (writeBatchOwner == Thread.currentThread()) {
+        return;
+      }
+      flushWriteBatch();
+    }
+    writeBatch = new WriteBatch();
+    writeBatchOwner = Thread.currentThread();
+  }
+
+  @Override
+  public synchronized void commitWriteBatch() {
+    if (writeBatch != null && writeBatchOwner == Thread.currentThread()) {
+      makeSureRocksDBIsStillOpen();
+      flushWriteBatch();
+    }
+  }
+
+  /**
+   * @return the write batch the writes of the current thread should be appended to, or null if they should be applied
+   *         right away.
+   */
+  protected WriteBatch getWriteBatchOfCurrentThread() {
+    if (writeBatch == null) {
+      return null;
+    }
+    if (writeBatchOwner == Thread.currentThread()) {
+      return writeBatch;
+    }
+    flushWriteBatch();
+    return null;
+  }
+
+  private void flushWriteBatch() {
+    WriteBatch pendingWriteBatch = writeBatch;
+    writeBatch = null;
+    writeBatchOwner = null;
+    try {
+      if (pendingWriteBatch.count() > 0) {
+        rocksDB.write(writeOptions, pendingWriteBatch);
+      }
+    } catch (RocksDBException e) {
+      throw new VeniceException(
+          "Failed to commit write batch to store: " + storeName + ", partition id: " + partitionId,
+          e);
+    } finally {
+      pendingWriteBatch.close();
+    }
+  }
+
   @Override
   public synchronized Map<String, String> sync() {
     makeSureRocksDBIsStillOpen();
+    if (writeBatch != null) {
+      // The data being checkpointed must include all the buffered writes.
+      flushWriteBatch();
+    }
     if (!deferredWrite) {
       LOGGER.debug("Flush memtable to disk for store: {}, partition id: {}", storeName, partitionId);
 
@@ -644,6 +744,13 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
       return;
     }
     long startTimeInMs = System.currentTimeMillis();
+    if (writeBatch != null) {
+      try {
+        flushWriteBatch();
+      } catch (VeniceException e) {
+        LOGGER.error("Failed to commit the pending write batch before closing", e);
+      }
+    }
     /**
      * The following operations are used to free up memory.
      */
@@ -677,6 +784,9 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
    */
   @Override
   public synchronized void reopen() {
+    if (writeBatch != null) {
+      flushWriteBatch();
+    }
     readCloseRWLock.writeLock().lock();
     try {
       long startTimeInMs = System.currentTimeMillis();
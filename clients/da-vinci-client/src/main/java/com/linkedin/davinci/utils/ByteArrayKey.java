@@ -19,6 +19,10 @@ public class ByteArrayKey {
     this.hashCode = tmpHashCode;
   }
 
+  public byte[] getContent() {
+    return content;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
@@ -7,7 +7,9 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -19,9 +21,11 @@ import com.linkedin.davinci.stats.AggVersionedIngestionStats;
 import com.linkedin.davinci.stats.HostLevelIngestionStats;
 import com.linkedin.davinci.storage.chunking.ChunkingUtils;
 import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.utils.ByteArrayKey;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.NoopCompressor;
 import com.linkedin.venice.compression.VeniceCompressor;
+import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.kafka.protocol.GUID;
 import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
 import com.linkedin.venice.kafka.protocol.ProducerMetadata;
@@ -29,11 +33,16 @@ import com.linkedin.venice.kafka.protocol.Put;
 import com.linkedin.venice.kafka.protocol.enums.MessageType;
 import com.linkedin.venice.message.KafkaKey;
 import com.linkedin.venice.meta.ReadOnlySchemaRepository;
+import com.linkedin.venice.offsets.OffsetRecord;
 import com.linkedin.venice.partitioner.DefaultVenicePartitioner;
+import com.linkedin.venice.pubsub.ImmutablePubSubMessage;
+import com.linkedin.venice.pubsub.PubSubTopicPartitionImpl;
+import com.linkedin.venice.pubsub.PubSubTopicRepository;
 import com.linkedin.venice.pubsub.api.PubSubMessage;
 import com.linkedin.venice.pubsub.api.PubSubProduceResult;
 import com.linkedin.venice.pubsub.api.PubSubProducerAdapter;
 import com.linkedin.venice.pubsub.api.PubSubProducerCallback;
+import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
 import com.linkedin.venice.schema.SchemaEntry;
 import com.linkedin.venice.serialization.KeyWithChunkingSuffixSerializer;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
@@ -44,13 +53,22 @@ import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
 import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.SystemTime;
 import com.linkedin.venice.utils.VeniceProperties;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import com.linkedin.venice.utils.lazy.Lazy;
 import com.linkedin.venice.writer.VeniceWriter;
 import com.linkedin.venice.writer.VeniceWriterOptions;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicLong;
@@ -336,4 +354,256 @@ public class ActiveActiveStoreIngestionTaskTest {
     Assert.assertNotNull(result3);
     Assert.assertEquals(result3, expectedChunkedValue2);
   }
+
+  @Test
+  public void testConflictResolutionBatchResolvesKeysInParallel() {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      ConflictResolutionLog log = new ConflictResolutionLog();
+      ActiveActiveStoreIngestionTask.ConflictResolutionBatch batch = log.newBatch(executor);
+      // Offsets 100 to 110, the keys "a", "b" and "c" are spread across the 3 groups of the batch.
+      log.addPendingRecords(batch, "a", "b", "a", "c", "b", "a", "d", "e", "c", "f", "a");
+      // The conflicts are only resolved by the flush.
+      Assert.assertTrue(log.resolvedOffsetsByKey.isEmpty());
+
+      batch.flush();
+
+      // The records of a key are resolved one at a time and in order.
+      Assert.assertEquals(log.resolvedOffsetsByKey.get("a"), Arrays.asList(100L, 102L, 105L, 110L));
+      Assert.assertEquals(log.resolvedOffsetsByKey.get("b"), Arrays.asList(101L, 104L));
+      Assert.assertEquals(log.resolvedOffsetsByKey.get("c"), Arrays.asList(103L, 108L));
+      Assert.assertTrue(log.resolvingThreads.size() > 1, "The conflicts should be resolved by several threads");
+      // The results are produced in the order of the real-time records, which the upstream offsets follow.
+      Assert.assertEquals(
+          log.producedOffsets,
+          Arrays.asList(100L, 101L, 102L, 103L, 104L, 105L, 106L, 107L, 108L, 109L, 110L));
+      Assert.assertTrue(log.lockHeldWhileProducing, "The lock of a key should be held until its result is produced");
+      Assert.assertEquals(log.getTransientRecordOffset("a"), Long.valueOf(110L));
+      Assert.assertEquals(log.getTransientRecordOffset("b"), Long.valueOf(104L));
+      Assert.assertEquals(log.getTransientRecordOffset("c"), Long.valueOf(108L));
+      Assert.assertEquals(log.getTransientRecordOffset("f"), Long.valueOf(109L));
+      log.assertLocksReleased("a", "b", "c", "d", "e", "f");
+      Assert.assertFalse(batch.holdsLockOf(ByteArrayKey.wrap("a".getBytes())));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testConflictResolutionBatchFallsBackToConsumerThreadWhenRejected() {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    // The executor rejects the groups once the server is shutting down.
+    executor.shutdownNow();
+    ConflictResolutionLog log = new ConflictResolutionLog();
+    ActiveActiveStoreIngestionTask.ConflictResolutionBatch batch = log.newBatch(executor);
+    log.addPendingRecords(batch, "a", "b", "c", "a");
+
+    batch.flush();
+
+    Assert.assertEquals(log.resolvingThreads, Collections.singleton(Thread.currentThread()));
+    Assert.assertEquals(log.resolvedOffsetsByKey.get("a"), Arrays.asList(100L, 103L));
+    Assert.assertEquals(log.producedOffsets, Arrays.asList(100L, 101L, 102L, 103L));
+    Assert.assertEquals(log.getTransientRecordOffset("a"), Long.valueOf(103L));
+    log.assertLocksReleased("a", "b", "c");
+  }
+
+  @Test
+  public void testConflictResolutionBatchRollsBackTransientRecordsOnProductionFailure() {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      ConflictResolutionLog log = new ConflictResolutionLog();
+      // Transient records set by the records of the previous batches.
+      log.setTransientRecord("a", 10);
+      log.setTransientRecord("d", 11);
+      log.offsetsFailingProduction.add(102L);
+      ActiveActiveStoreIngestionTask.ConflictResolutionBatch batch = log.newBatch(executor);
+      log.addPendingRecords(batch, "a", "b", "a", "c", "d");
+
+      Assert.assertThrows(VeniceException.class, batch::flush);
+
+      Assert.assertEquals(log.producedOffsets, Arrays.asList(100L, 101L));
+      // The transient records are rolled back to the ones of the last produced results.
+      Assert.assertEquals(log.getTransientRecordOffset("a"), Long.valueOf(100L));
+      Assert.assertEquals(log.getTransientRecordOffset("b"), Long.valueOf(101L));
+      Assert.assertNull(log.getTransientRecordOffset("c"));
+      Assert.assertEquals(log.getTransientRecordOffset("d"), Long.valueOf(11L));
+      log.assertLocksReleased("a", "b", "c", "d");
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testConflictResolutionBatchStopsResolvingKeyAfterFailure() {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      ConflictResolutionLog log = new ConflictResolutionLog();
+      log.offsetsFailingResolution.add(101L);
+      ActiveActiveStoreIngestionTask.ConflictResolutionBatch batch = log.newBatch(executor);
+      log.addPendingRecords(batch, "a", "a", "a", "b");
+
+      Assert.assertThrows(VeniceException.class, batch::flush);
+
+      // The record following the failed one of the same key is not resolved against a missing result.
+      Assert.assertEquals(log.resolvedOffsetsByKey.get("a"), Arrays.asList(100L, 101L));
+      Assert.assertEquals(log.producedOffsets, Collections.singletonList(100L));
+      Assert.assertEquals(log.getTransientRecordOffset("a"), Long.valueOf(100L));
+      // The record of the other key has been resolved, but not produced.
+      Assert.assertEquals(log.resolvedOffsetsByKey.get("b"), Collections.singletonList(103L));
+      Assert.assertNull(log.getTransientRecordOffset("b"));
+      log.assertLocksReleased("a", "b");
+
+      // The batch can be discarded again once it has failed.
+      batch.discard();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testConflictResolutionBatchIsFlushedBeforeBlockingWait() {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      ConflictResolutionLog log = new ConflictResolutionLog();
+      ActiveActiveStoreIngestionTask.ConflictResolutionBatch batch = log.newBatch(executor);
+      doReturn(batch).when(log.ingestionTask).getCurrentConflictResolutionBatch();
+      doCallRealMethod().when(log.ingestionTask).beforeBlockingWait();
+      log.addPendingRecords(batch, "a", "b");
+
+      // e.g. the next record waits for its value schema.
+      log.ingestionTask.beforeBlockingWait();
+
+      Assert.assertEquals(log.producedOffsets, Arrays.asList(100L, 101L));
+      log.assertLocksReleased("a", "b");
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testControlMessageCannotJoinConflictResolutionBatch() {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      ConflictResolutionLog log = new ConflictResolutionLog();
+      doReturn(log.partitionConsumptionState).when(log.ingestionTask).getPartitionStateResolvingConflicts(any());
+      ActiveActiveStoreIngestionTask.ConflictResolutionBatch batch = log.newBatch(executor);
+      Assert.assertTrue(batch.canResolveConflictInParallel(getRealTimeRecord("a", 100), 0));
+      // The records of another sub-partition can't join the batch.
+      Assert.assertFalse(batch.canResolveConflictInParallel(getRealTimeRecord("a", 100), 1));
+
+      KafkaMessageEnvelope controlMessageEnvelope = new KafkaMessageEnvelope();
+      controlMessageEnvelope.messageType = MessageType.CONTROL_MESSAGE.getValue();
+      PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> controlMessage = new ImmutablePubSubMessage<>(
+          new KafkaKey(MessageType.CONTROL_MESSAGE, new byte[0]),
+          controlMessageEnvelope,
+          RT_TOPIC_PARTITION,
+          102,
+          0,
+          0);
+      Assert.assertFalse(batch.canResolveConflictInParallel(controlMessage, 0));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static final PubSubTopicPartition RT_TOPIC_PARTITION =
+      new PubSubTopicPartitionImpl(new PubSubTopicRepository().getTopic("testStore_rt"), 0);
+
+  private static PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> getRealTimeRecord(String key, long offset) {
+    Put put = new Put();
+    put.schemaId = 1;
+    put.putValue = ByteBuffer.wrap(String.valueOf(offset).getBytes());
+    KafkaMessageEnvelope kafkaMessageEnvelope = new KafkaMessageEnvelope();
+    kafkaMessageEnvelope.messageType = MessageType.PUT.getValue();
+    kafkaMessageEnvelope.payloadUnion = put;
+    return new ImmutablePubSubMessage<>(
+        new KafkaKey(MessageType.PUT, key.getBytes()),
+        kafkaMessageEnvelope,
+        RT_TOPIC_PARTITION,
+        offset,
+        0,
+        0);
+  }
+
+  /**
+   * Mocks the conflict resolution of an ingestion task, which sets the offset of the record as the value of the
+   * transient record of its key, and logs the resolved and produced records.
+   */
+  private static class ConflictResolutionLog {
+    final ActiveActiveStoreIngestionTask ingestionTask = mock(ActiveActiveStoreIngestionTask.class);
+    final PartitionConsumptionState partitionConsumptionState =
+        new PartitionConsumptionState(0, 1, mock(OffsetRecord.class), true);
+    final StripedKeyLevelLocksManager locksManager = new StripedKeyLevelLocksManager("testStore_v1", 1024);
+    final Map<String, List<Long>> resolvedOffsetsByKey = new VeniceConcurrentHashMap<>();
+    final Set<Thread> resolvingThreads = Collections.newSetFromMap(new VeniceConcurrentHashMap<>());
+    final List<Long> producedOffsets = new ArrayList<>();
+    final Set<Long> offsetsFailingResolution = new HashSet<>();
+    final Set<Long> offsetsFailingProduction = new HashSet<>();
+    boolean lockHeldWhileProducing = true;
+    private long nextOffset = 100;
+
+    ConflictResolutionLog() {
+      doAnswer(invocation -> {
+        PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord = invocation.getArgument(0);
+        String key = new String(consumerRecord.getKey().getKey());
+        // Each key is resolved by one thread at a time.
+        resolvedOffsetsByKey.computeIfAbsent(key, k -> new ArrayList<>()).add(consumerRecord.getOffset());
+        resolvingThreads.add(Thread.currentThread());
+        if (offsetsFailingResolution.contains(consumerRecord.getOffset())) {
+          throw new VeniceException("Failed to resolve the conflict of offset: " + consumerRecord.getOffset());
+        }
+        setTransientRecord(key, consumerRecord.getOffset());
+        return mock(ActiveActiveStoreIngestionTask.ConflictResolutionOutcome.class);
+      }).when(ingestionTask).resolveConflict(any(), any(), anyInt(), anyInt(), anyLong(), anyBoolean());
+      doAnswer(invocation -> {
+        PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord = invocation.getArgument(1);
+        lockHeldWhileProducing &=
+            locksManager.acquireLockByKey(ByteArrayKey.wrap(consumerRecord.getKey().getKey())).isHeldByCurrentThread();
+        if (offsetsFailingProduction.contains(consumerRecord.getOffset())) {
+          throw new VeniceException("Failed to produce offset: " + consumerRecord.getOffset());
+        }
+        producedOffsets.add(consumerRecord.getOffset());
+        return null;
+      }).when(ingestionTask)
+          .produceConflictResolutionOutcome(any(), any(), any(), anyInt(), anyString(), anyInt(), anyLong(), anyLong());
+    }
+
+    ActiveActiveStoreIngestionTask.ConflictResolutionBatch newBatch(ExecutorService executor) {
+      return ingestionTask.new ConflictResolutionBatch(partitionConsumptionState, locksManager, executor, 2, 100);
+    }
+
+    /**
+     * Adds the real-time records of the keys to the batch like the consumer thread does, with consecutive offsets.
+     */
+    void addPendingRecords(ActiveActiveStoreIngestionTask.ConflictResolutionBatch batch, String... keys) {
+      for (String key: keys) {
+        PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> consumerRecord = getRealTimeRecord(key, nextOffset++);
+        ByteArrayKey byteArrayKey = ByteArrayKey.wrap(consumerRecord.getKey().getKey());
+        batch.lockKey(byteArrayKey);
+        Assert.assertTrue(batch.holdsLockOf(byteArrayKey));
+        batch.addPendingRecord(
+            new ActiveActiveStoreIngestionTask.PendingRecord(consumerRecord, 0, "kafkaUrl", 0, 0, 0));
+      }
+    }
+
+    void setTransientRecord(String key, long offset) {
+      byte[] value = String.valueOf(offset).getBytes();
+      partitionConsumptionState.setTransientRecord(0, offset, key.getBytes(), value, 0, value.length, 1, null);
+    }
+
+    /**
+     * @return the offset of the record which the transient record of the key has been set by, null if there is none.
+     */
+    Long getTransientRecordOffset(String key) {
+      PartitionConsumptionState.TransientRecord transientRecord =
+          partitionConsumptionState.getTransientRecord(key.getBytes());
+      return transientRecord == null ? null : Long.valueOf(new String(transientRecord.getValue()));
+    }
+
+    void assertLocksReleased(String... keys) {
+      for (String key: keys) {
+        Assert.assertFalse(locksManager.acquireLockByKey(ByteArrayKey.wrap(key.getBytes())).isLocked(), key);
+      }
+    }
+  }
 }
@@ -157,6 +157,7 @@ public abstract class KafkaStoreIngestionServiceTest {
         false,
         compressorFactory,
         Optional.empty(),
+        Optional.empty(),
         false,
         null,
         mockPubSubClientsFactory);
@@ -240,6 +241,7 @@ public abstract class KafkaStoreIngestionServiceTest {
         false,
         compressorFactory,
         Optional.empty(),
+        Optional.empty(),
         false,
         null,
         mockPubSubClientsFactory);
@@ -327,6 +329,7 @@ public abstract class KafkaStoreIngestionServiceTest {
         false,
         compressorFactory,
         Optional.empty(),
+        Optional.empty(),
         false,
         null,
         mockPubSubClientsFactory);
@@ -391,6 +394,7 @@ public abstract class KafkaStoreIngestionServiceTest {
         isIsolatedIngestion,
         compressorFactory,
         Optional.empty(),
+        Optional.empty(),
         false,
         null,
         mockPubSubClientsFactory);
@@ -452,6 +456,7 @@ public abstract class KafkaStoreIngestionServiceTest {
         false,
         compressorFactory,
         Optional.empty(),
+        Optional.empty(),
         false,
         null,
         mockPubSubClientsFactory);
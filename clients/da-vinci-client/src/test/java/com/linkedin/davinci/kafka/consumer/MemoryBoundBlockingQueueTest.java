@@ -1,7 +1,10 @@
 package com.linkedin.davinci.kafka.consumer;
 
 import com.linkedin.venice.common.Measurable;
+import com.linkedin.venice.utils.DataProviderUtils;
 import com.linkedin.venice.utils.TestUtils;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.testng.Assert;
@@ -18,10 +21,19 @@ public class MemoryBoundBlockingQueueTest {
     }
   }
 
-  @Test
-  public void testPut() throws InterruptedException {
+  private static AbstractMemoryBoundBlockingQueue<MeasurableObject> createQueue(
+      boolean lockFree,
+      long memoryCap,
+      long notifyDelta) {
+    return lockFree
+        ? new LockFreeMemoryBoundBlockingQueue<>(memoryCap, notifyDelta)
+        : new MemoryBoundBlockingQueue<>(memoryCap, notifyDelta);
+  }
+
+  @Test(dataProvider = "True-and-False", dataProviderClass = DataProviderUtils.class)
+  public void testPut(boolean lockFree) throws InterruptedException {
     int memoryCap = 5000;
-    MemoryBoundBlockingQueue<MeasurableObject> queue = new MemoryBoundBlockingQueue<>(memoryCap, 1000);
+    AbstractMemoryBoundBlockingQueue<MeasurableObject> queue = createQueue(lockFree, memoryCap, 1000);
     int objectCntAtMost =
         memoryCap / (MemoryBoundBlockingQueue.LINKED_QUEUE_NODE_OVERHEAD_IN_BYTE + MeasurableObject.SIZE);
     Thread t = new Thread(() -> {
@@ -43,10 +55,10 @@ public class MemoryBoundBlockingQueueTest {
     }
   }
 
-  @Test
-  public void testTake() throws InterruptedException {
+  @Test(dataProvider = "True-and-False", dataProviderClass = DataProviderUtils.class)
+  public void testTake(boolean lockFree) throws InterruptedException {
     int memoryCap = 5000;
-    MemoryBoundBlockingQueue<MeasurableObject> queue = new MemoryBoundBlockingQueue<>(memoryCap, 1000);
+    AbstractMemoryBoundBlockingQueue<MeasurableObject> queue = createQueue(lockFree, memoryCap, 1000);
     int objectCntAtMost =
         memoryCap / (MemoryBoundBlockingQueue.LINKED_QUEUE_NODE_OVERHEAD_IN_BYTE + MeasurableObject.SIZE);
     for (int i = 0; i < objectCntAtMost; ++i) {
@@ -75,11 +87,11 @@ public class MemoryBoundBlockingQueueTest {
     }
   }
 
-  @Test
-  public void testThrottling() throws InterruptedException {
+  @Test(dataProvider = "True-and-False", dataProviderClass = DataProviderUtils.class)
+  public void testThrottling(boolean lockFree) throws InterruptedException {
     int memoryCap = 5000;
     int notifyDelta = 1000;
-    MemoryBoundBlockingQueue<MeasurableObject> queue = new MemoryBoundBlockingQueue<>(memoryCap, notifyDelta);
+    AbstractMemoryBoundBlockingQueue<MeasurableObject> queue = createQueue(lockFree, memoryCap, notifyDelta);
     int objectCntAtMost =
         memoryCap / (MemoryBoundBlockingQueue.LINKED_QUEUE_NODE_OVERHEAD_IN_BYTE + MeasurableObject.SIZE);
     Thread t = new Thread(() -> {
@@ -117,4 +129,45 @@ public class MemoryBoundBlockingQueueTest {
       TestUtils.shutdownThread(t);
     }
   }
+
+  @Test(dataProvider = "True-and-False", dataProviderClass = DataProviderUtils.class)
+  public void testDrainTo(boolean lockFree) throws InterruptedException {
+    int memoryCap = 5000;
+    int notifyDelta = 1000;
+    AbstractMemoryBoundBlockingQueue<MeasurableObject> queue = createQueue(lockFree, memoryCap, notifyDelta);
+    int objectCntAtMost =
+        memoryCap / (MemoryBoundBlockingQueue.LINKED_QUEUE_NODE_OVERHEAD_IN_BYTE + MeasurableObject.SIZE);
+    Thread t = new Thread(() -> {
+      while (true) {
+        try {
+          queue.put(new MeasurableObject());
+        } catch (InterruptedException e) {
+          break;
+        }
+      }
+    });
+    t.start();
+
+    try {
+      TestUtils.waitForNonDeterministicAssertion(5, TimeUnit.SECONDS, () -> {
+        Assert.assertTrue(t.isAlive());
+        Assert.assertEquals(queue.size(), objectCntAtMost);
+      });
+
+      List<MeasurableObject> batch = new ArrayList<>();
+      Assert.assertEquals(queue.drainTo(batch, 5), 5);
+      Assert.assertEquals(batch.size(), 5);
+
+      // Draining a batch bigger than the notify delta frees enough memory for the blocked put to go through
+      batch.clear();
+      Assert.assertEquals(queue.drainTo(batch), objectCntAtMost - 5);
+      Assert.assertEquals(batch.size(), objectCntAtMost - 5);
+      TestUtils.waitForNonDeterministicAssertion(5, TimeUnit.SECONDS, () -> {
+        Assert.assertTrue(t.isAlive());
+        Assert.assertEquals(queue.size(), objectCntAtMost);
+      });
+    } finally {
+      TestUtils.shutdownThread(t);
+    }
+  }
 }
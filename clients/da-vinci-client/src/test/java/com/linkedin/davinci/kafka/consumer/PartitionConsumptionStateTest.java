@@ -4,6 +4,7 @@ import static org.mockito.Mockito.mock;
 
 import com.linkedin.venice.offsets.OffsetRecord;
 import com.linkedin.venice.schema.rmd.RmdSchemaGenerator;
+import java.nio.ByteBuffer;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
@@ -61,4 +62,44 @@ public class PartitionConsumptionStateTest {
     Assert.assertEquals(pcs.getTransientRecordMapSize(), 1);
 
   }
+
+  /**
+   * Test that a prefetched record is only handed out if no transient record was set for its key in the meantime.
+   */
+  @Test
+  public void testPrefetchedRecordMap() {
+    PartitionConsumptionState pcs = new PartitionConsumptionState(0, 1, mock(OffsetRecord.class), false);
+    byte[] key1 = new byte[] { 65, 66, 67, 68 };
+    byte[] key2 = new byte[] { 65, 66, 67, 69 };
+    byte[] key3 = new byte[] { 65, 66, 67, 70 };
+    byte[] rmd = new byte[] { 0, 0, 0, 1 };
+
+    // A key with a transient record is not prefetched.
+    pcs.setTransientRecord(-1, 1, key1, 5, null);
+    PartitionConsumptionState.PrefetchedRecord placeholder =
+        PartitionConsumptionState.PrefetchedRecord.newPlaceholder();
+    Assert.assertFalse(pcs.registerPrefetch(key1, placeholder));
+    Assert.assertTrue(pcs.registerPrefetch(key2, placeholder));
+    Assert.assertTrue(pcs.registerPrefetch(key3, placeholder));
+    Assert.assertEquals(pcs.getPrefetchedRecordMapSize(), 2);
+
+    // The prefetch is not handed out until it is completed.
+    Assert.assertNull(pcs.removePrefetchedRecord(key2));
+    Assert.assertTrue(pcs.registerPrefetch(key2, placeholder));
+
+    // A transient record set while the prefetch is in flight discards it.
+    pcs.setTransientRecord(-1, 2, key3, 5, null);
+    ByteBuffer value = ByteBuffer.wrap(new byte[] { 97, 98, 99 });
+    pcs.completePrefetch(key2, placeholder, new PartitionConsumptionState.PrefetchedRecord(value, rmd));
+    pcs.completePrefetch(key3, placeholder, new PartitionConsumptionState.PrefetchedRecord(null, null));
+    Assert.assertEquals(pcs.getPrefetchedRecordMapSize(), 1);
+    Assert.assertNull(pcs.removePrefetchedRecord(key3));
+
+    PartitionConsumptionState.PrefetchedRecord prefetchedRecord = pcs.removePrefetchedRecord(key2);
+    Assert.assertNotNull(prefetchedRecord);
+    Assert.assertEquals(prefetchedRecord.getValue(), value);
+    Assert.assertEquals(prefetchedRecord.getReplicationMetadataWithValueSchemaId(), rmd);
+    Assert.assertNull(pcs.removePrefetchedRecord(key2));
+    Assert.assertEquals(pcs.getPrefetchedRecordMapSize(), 0);
+  }
 }
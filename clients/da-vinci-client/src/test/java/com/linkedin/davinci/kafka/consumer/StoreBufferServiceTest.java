@@ -1,11 +1,16 @@
 package com.linkedin.davinci.kafka.consumer;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -26,6 +31,13 @@ import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
 import com.linkedin.venice.utils.DataProviderUtils;
 import com.linkedin.venice.utils.Utils;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -81,6 +93,235 @@ public class StoreBufferServiceTest {
         () -> bufferService.drainBufferedRecordsFromTopicPartition(pubSubTopicPartition1));
   }
 
+  @Test(dataProviderClass = DataProviderUtils.class, dataProvider = "True-and-False")
+  public void testRunWithBatchDraining(boolean lockFreeQueueEnabled) throws Exception {
+    StoreBufferService bufferService = new StoreBufferService(1, 10000, 1000, false, lockFreeQueueEnabled, 8);
+    StoreIngestionTask mockTask = mock(StoreIngestionTask.class);
+    String topic = Utils.getUniqueString("test_topic") + "_v1";
+    int partition = 1;
+    PubSubTopicPartition pubSubTopicPartition = new PubSubTopicPartitionImpl(pubSubTopicRepository.getTopic(topic), 1);
+    String kafkaUrl = "blah";
+    int recordCount = 100;
+    List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> records = new ArrayList<>(recordCount);
+    for (int i = 0; i < recordCount; i++) {
+      records.add(new ImmutablePubSubMessage<>(key, value, pubSubTopicPartition, i, 0, 0));
+    }
+
+    bufferService.start();
+    try {
+      // More records than the buffer can hold, so that the puts get blocked until the drainer frees some memory
+      for (PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> record: records) {
+        bufferService.putConsumerRecord(record, mockTask, null, partition, kafkaUrl, 0L);
+      }
+      verify(mockTask, timeout(TIMEOUT_IN_MS))
+          .processConsumerRecord(records.get(recordCount - 1), null, partition, kafkaUrl, 0L);
+      InOrder inOrder = inOrder(mockTask);
+      for (PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> record: records) {
+        inOrder.verify(mockTask).processConsumerRecord(record, null, partition, kafkaUrl, 0L);
+      }
+    } finally {
+      bufferService.stop();
+    }
+  }
+
+  @Test
+  public void testRunWithGroupCommit() throws Exception {
+    StoreBufferService bufferService =
+        new StoreBufferService(1, 10000, 1000, false, false, 1, true, 10, 1024 * 1024, TIMEOUT_IN_MS);
+    StoreIngestionTask mockTask = mock(StoreIngestionTask.class);
+    when(mockTask.beginWriteBatch(anyInt())).thenReturn(true);
+    PartitionConsumptionState mockPcs = mock(PartitionConsumptionState.class);
+    when(mockTask.getPartitionConsumptionState(anyInt())).thenReturn(mockPcs);
+    String topic = Utils.getUniqueString("test_topic") + "_v1";
+    int partition = 1;
+    PubSubTopicPartition pubSubTopicPartition = new PubSubTopicPartitionImpl(pubSubTopicRepository.getTopic(topic), 1);
+    String kafkaUrl = "blah";
+    List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> records = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      records.add(new ImmutablePubSubMessage<>(key, value, pubSubTopicPartition, i, 0, 0));
+    }
+    // Queue all the records before starting the drainer, so that they get drained at once
+    for (PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> record: records) {
+      bufferService.putConsumerRecord(record, mockTask, null, partition, kafkaUrl, 0L);
+    }
+    ArgumentCaptor<CompletableFuture> lastQueuedRecordPersistedFuture =
+        ArgumentCaptor.forClass(CompletableFuture.class);
+    verify(mockPcs, times(3)).setLastQueuedRecordPersistedFuture(lastQueuedRecordPersistedFuture.capture());
+    // The records are persisted once the write batch is committed
+    doAnswer(invocation -> {
+      for (CompletableFuture future: lastQueuedRecordPersistedFuture.getAllValues()) {
+        Assert.assertFalse(future.isDone());
+      }
+      return null;
+    }).when(mockTask).commitWriteBatch(partition);
+
+    bufferService.start();
+    try {
+      verify(mockTask, timeout(TIMEOUT_IN_MS)).commitWriteBatch(partition);
+      InOrder inOrder = inOrder(mockTask);
+      inOrder.verify(mockTask).beginWriteBatch(partition);
+      for (PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> record: records) {
+        inOrder.verify(mockTask).processConsumerRecord(record, null, partition, kafkaUrl, 0L);
+      }
+      inOrder.verify(mockTask).commitWriteBatch(partition);
+      verify(mockTask).beginWriteBatch(partition);
+      for (CompletableFuture future: lastQueuedRecordPersistedFuture.getAllValues()) {
+        future.get(TIMEOUT_IN_MS, TimeUnit.MILLISECONDS);
+      }
+    } finally {
+      bufferService.stop();
+    }
+  }
+
+  @Test
+  public void testDrainBufferedRecordsWaitsForGroupCommit() throws Exception {
+    StoreBufferService bufferService =
+        new StoreBufferService(1, 10000, 1000, false, false, 1, true, 10, 1024 * 1024, TIMEOUT_IN_MS);
+    StoreIngestionTask mockTask = mock(StoreIngestionTask.class);
+    when(mockTask.beginWriteBatch(anyInt())).thenReturn(true);
+    CountDownLatch commitLatch = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      commitLatch.await();
+      return null;
+    }).when(mockTask).commitWriteBatch(anyInt());
+    String topic = Utils.getUniqueString("test_topic") + "_v1";
+    int partition = 1;
+    PubSubTopicPartition pubSubTopicPartition = new PubSubTopicPartitionImpl(pubSubTopicRepository.getTopic(topic), 1);
+    String kafkaUrl = "blah";
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> record =
+        new ImmutablePubSubMessage<>(key, value, pubSubTopicPartition, 0, 0, 0);
+    bufferService.putConsumerRecord(record, mockTask, null, partition, kafkaUrl, 0L);
+    bufferService.start();
+    try {
+      verify(mockTask, timeout(TIMEOUT_IN_MS)).commitWriteBatch(partition);
+      // The record is processed, but its write is not committed yet
+      verify(mockTask).processConsumerRecord(record, null, partition, kafkaUrl, 0L);
+      Assert.assertThrows(
+          VeniceException.class,
+          () -> bufferService.internalDrainBufferedRecordsFromTopicPartition(pubSubTopicPartition, 3, 50));
+
+      commitLatch.countDown();
+      bufferService.internalDrainBufferedRecordsFromTopicPartition(pubSubTopicPartition, 20, 50);
+    } finally {
+      commitLatch.countDown();
+      bufferService.stop();
+    }
+  }
+
+  @Test
+  public void testDynamicDrainerAssignment() throws Exception {
+    StoreBufferService bufferService = new StoreBufferService(
+        2,
+        100000,
+        1000,
+        false,
+        false,
+        1,
+        false,
+        0,
+        0,
+        0,
+        true,
+        TimeUnit.HOURS.toMillis(1));
+    StoreIngestionTask mockTask = mock(StoreIngestionTask.class);
+    doAnswer(invocation -> {
+      Thread.sleep(5);
+      return null;
+    }).when(mockTask).processConsumerRecord(any(), any(), anyInt(), any(), anyLong());
+    PubSubTopic pubSubTopic = pubSubTopicRepository.getTopic(Utils.getUniqueString("test_topic") + "_v1");
+    // Both partitions are assigned to the same drainer by hashing
+    int[] partitions = { 1, 3 };
+    String kafkaUrl = "blah";
+    List<List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>>> records = new ArrayList<>();
+    for (int partition: partitions) {
+      PubSubTopicPartition topicPartition = new PubSubTopicPartitionImpl(pubSubTopic, partition);
+      List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> partitionRecords = new ArrayList<>();
+      for (int i = 0; i < 20; i++) {
+        partitionRecords.add(new ImmutablePubSubMessage<>(key, value, topicPartition, i, 0, 0));
+      }
+      records.add(partitionRecords);
+    }
+    Assert.assertEquals(
+        bufferService.getDrainerIndexForConsumerRecord(records.get(0).get(0), partitions[0]),
+        bufferService.getDrainerIndexForConsumerRecord(records.get(1).get(0), partitions[1]));
+
+    bufferService.start();
+    try {
+      for (int i = 0; i < 10; i++) {
+        for (int p = 0; p < partitions.length; p++) {
+          bufferService.putConsumerRecord(records.get(p).get(i), mockTask, null, partitions[p], kafkaUrl, 0L);
+        }
+      }
+      verify(mockTask, timeout(TIMEOUT_IN_MS).times(20))
+          .processConsumerRecord(any(), any(), anyInt(), any(), anyLong());
+
+      // One of the partitions is moved to the idle drainer, and the other one stays
+      bufferService.rebalanceDrainerAssignments();
+      Assert.assertEquals(bufferService.getDrainerReassignmentCount(), 1);
+      for (int i = 10; i < 20; i++) {
+        for (int p = 0; p < partitions.length; p++) {
+          bufferService.putConsumerRecord(records.get(p).get(i), mockTask, null, partitions[p], kafkaUrl, 0L);
+        }
+      }
+      Assert.assertNotEquals(
+          bufferService.getDrainerIndexForConsumerRecord(records.get(0).get(0), partitions[0]),
+          bufferService.getDrainerIndexForConsumerRecord(records.get(1).get(0), partitions[1]));
+      verify(mockTask, timeout(TIMEOUT_IN_MS).times(40))
+          .processConsumerRecord(any(), any(), anyInt(), any(), anyLong());
+      for (int p = 0; p < partitions.length; p++) {
+        InOrder inOrder = inOrder(mockTask);
+        for (PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> record: records.get(p)) {
+          inOrder.verify(mockTask).processConsumerRecord(record, null, partitions[p], kafkaUrl, 0L);
+        }
+      }
+
+      // The drainers are balanced now
+      bufferService.rebalanceDrainerAssignments();
+      Assert.assertEquals(bufferService.getDrainerReassignmentCount(), 1);
+    } finally {
+      bufferService.stop();
+    }
+  }
+
+  @Test
+  public void testDrainerExitReleasesUnprocessedRecords() throws Exception {
+    StoreBufferService bufferService =
+        new StoreBufferService(1, 10000, 1000, false, false, 8, false, 0, 0, 0, true, TimeUnit.HOURS.toMillis(1));
+    StoreIngestionTask mockTask = mock(StoreIngestionTask.class);
+    PartitionConsumptionState mockPcs = mock(PartitionConsumptionState.class);
+    when(mockTask.getPartitionConsumptionState(anyInt())).thenReturn(mockPcs);
+    String topic = Utils.getUniqueString("test_topic") + "_v1";
+    int partition = 1;
+    PubSubTopicPartition pubSubTopicPartition = new PubSubTopicPartitionImpl(pubSubTopicRepository.getTopic(topic), 1);
+    String kafkaUrl = "blah";
+    List<PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long>> records = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      records.add(new ImmutablePubSubMessage<>(key, value, pubSubTopicPartition, i, 0, 0));
+    }
+    // An error makes the drainer exit
+    doThrow(new Error("test")).when(mockTask).processConsumerRecord(records.get(0), null, partition, kafkaUrl, 0L);
+    // Queue all the records before starting the drainer, so that they get drained at once
+    for (PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> record: records) {
+      bufferService.putConsumerRecord(record, mockTask, null, partition, kafkaUrl, 0L);
+    }
+    ArgumentCaptor<CompletableFuture> recordPersistedFutures = ArgumentCaptor.forClass(CompletableFuture.class);
+    verify(mockPcs, times(3)).setLastQueuedRecordPersistedFuture(recordPersistedFutures.capture());
+
+    bufferService.start();
+    try {
+      // The records taken out of the buffer which were not processed are released, and so is their assignment
+      for (CompletableFuture future: recordPersistedFutures.getAllValues().subList(1, 3)) {
+        Assert.assertThrows(() -> future.get(TIMEOUT_IN_MS, TimeUnit.MILLISECONDS));
+      }
+      verify(mockTask, never()).processConsumerRecord(records.get(1), null, partition, kafkaUrl, 0L);
+      Assert.assertThrows(
+          VeniceException.class,
+          () -> bufferService.internalDrainBufferedRecordsFromTopicPartition(pubSubTopicPartition, 3, 50));
+    } finally {
+      bufferService.stop();
+    }
+  }
+
   @Test(dataProviderClass = DataProviderUtils.class, dataProvider = "True-and-False")
   public void testRunWhenThrowException(boolean queueLeaderWrites) throws Exception {
     StoreBufferService bufferService = new StoreBufferService(1, 10000, 1000, queueLeaderWrites);
@@ -148,6 +389,42 @@ public class StoreBufferServiceTest {
     bufferService.stop();
   }
 
+  @Test
+  public void testDrainBufferedRecordsWaitsForRecordsTakenOutOfBuffer() throws Exception {
+    StoreBufferService bufferService = new StoreBufferService(1, 10000, 1000, false, false, 8);
+    StoreIngestionTask mockTask = mock(StoreIngestionTask.class);
+    CountDownLatch processingLatch = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      processingLatch.await();
+      return null;
+    }).when(mockTask).processConsumerRecord(any(), any(), anyInt(), any(), anyLong());
+    String topic = Utils.getUniqueString("test_topic") + "_v1";
+    int partition = 1;
+    PubSubTopicPartition pubSubTopicPartition = new PubSubTopicPartitionImpl(pubSubTopicRepository.getTopic(topic), 1);
+    String kafkaUrl = "blah";
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> cr1 =
+        new ImmutablePubSubMessage<>(key, value, pubSubTopicPartition, 0, 0, 0);
+    PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> cr2 =
+        new ImmutablePubSubMessage<>(key, value, pubSubTopicPartition, 1, 0, 0);
+    // Both records are taken out of the buffer at once, before the drainer starts processing them
+    bufferService.putConsumerRecord(cr1, mockTask, null, partition, kafkaUrl, 0L);
+    bufferService.putConsumerRecord(cr2, mockTask, null, partition, kafkaUrl, 0L);
+    bufferService.start();
+    try {
+      verify(mockTask, timeout(TIMEOUT_IN_MS)).processConsumerRecord(cr1, null, partition, kafkaUrl, 0L);
+      Assert.assertThrows(
+          VeniceException.class,
+          () -> bufferService.internalDrainBufferedRecordsFromTopicPartition(pubSubTopicPartition, 3, 50));
+
+      processingLatch.countDown();
+      bufferService.internalDrainBufferedRecordsFromTopicPartition(pubSubTopicPartition, 20, 50);
+      verify(mockTask).processConsumerRecord(cr2, null, partition, kafkaUrl, 0L);
+    } finally {
+      processingLatch.countDown();
+      bufferService.stop();
+    }
+  }
+
   @Test(dataProviderClass = DataProviderUtils.class, dataProvider = "True-and-False")
   public void testGetDrainerIndexForConsumerRecordSeparateDrainer(boolean queueLeaderWrites) {
     String topic = Utils.getUniqueString("test_topic") + "_v1";
@@ -0,0 +1,59 @@
+package com.linkedin.davinci.kafka.consumer;
+
+import com.linkedin.davinci.utils.ByteArrayKey;
+import com.linkedin.venice.exceptions.VeniceException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class StripedKeyLevelLocksManagerTest {
+  @Test
+  public void testSameLockReturnedForSameKeyBytes() {
+    StripedKeyLevelLocksManager keyLevelLocksManager = new StripedKeyLevelLocksManager("testStoreVersion", 16);
+    byte[] rawKeyBytes = { 'a', 'b', 'c' };
+    ReentrantLock lock1 = keyLevelLocksManager.acquireLockByKey(ByteArrayKey.wrap(rawKeyBytes));
+    byte[] sameRawKeyBytes = "abc".getBytes(StandardCharsets.UTF_8);
+    ReentrantLock lock2 = keyLevelLocksManager.acquireLockByKey(ByteArrayKey.wrap(sameRawKeyBytes));
+    Assert.assertSame(lock1, lock2);
+
+    // Releasing is a no-op, the same lock is still returned afterward.
+    keyLevelLocksManager.releaseLock(ByteArrayKey.wrap(rawKeyBytes));
+    keyLevelLocksManager.releaseLock(ByteArrayKey.wrap(rawKeyBytes));
+    Assert.assertSame(keyLevelLocksManager.acquireLockByKey(ByteArrayKey.wrap(rawKeyBytes)), lock1);
+  }
+
+  @Test
+  public void testKeysAreSpreadAcrossStripes() {
+    int stripeCount = 16;
+    StripedKeyLevelLocksManager keyLevelLocksManager = new StripedKeyLevelLocksManager("testStoreVersion", stripeCount);
+    Assert.assertEquals(keyLevelLocksManager.getStripeCount(), stripeCount);
+    Set<ReentrantLock> distinctLocks = new HashSet<>();
+    // There is no limit on the number of keys locked at once.
+    for (int i = 0; i < stripeCount * 100; i++) {
+      ReentrantLock lock =
+          keyLevelLocksManager.acquireLockByKey(ByteArrayKey.wrap(("key_" + i).getBytes(StandardCharsets.UTF_8)));
+      lock.lock();
+      distinctLocks.add(lock);
+    }
+    Assert.assertEquals(distinctLocks.size(), stripeCount);
+    for (ReentrantLock lock: distinctLocks) {
+      // Locks of keys sharing the same stripe are taken reentrantly by the same thread.
+      while (lock.isHeldByCurrentThread()) {
+        lock.unlock();
+      }
+    }
+  }
+
+  @Test
+  public void testStripeCountMustBePowerOfTwo() {
+    for (int invalidStripeCount: new int[] { -1, 0, 3, 100 }) {
+      Assert.assertThrows(
+          VeniceException.class,
+          () -> new StripedKeyLevelLocksManager("testStoreVersion", invalidStripeCount));
+    }
+  }
+}
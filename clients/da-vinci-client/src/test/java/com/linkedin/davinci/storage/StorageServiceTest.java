@@ -0,0 +1,97 @@
+package com.linkedin.davinci.storage;
+
+import static com.linkedin.venice.ConfigKeys.SERVER_STORE_RESTORE_THREAD_POOL_SIZE;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.linkedin.davinci.config.VeniceConfigLoader;
+import com.linkedin.davinci.config.VeniceStoreVersionConfig;
+import com.linkedin.davinci.stats.AggVersionedStorageEngineStats;
+import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.AbstractStorageEngineTest;
+import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.utils.DataProviderUtils;
+import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.utils.VeniceProperties;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Properties;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class StorageServiceTest {
+  private static final int VERSION_COUNT = 4;
+  private static final int PARTITION_COUNT = 3;
+
+  @Test(dataProvider = "True-and-False", dataProviderClass = DataProviderUtils.class)
+  public void testRestoreAllStores(boolean parallelRestore) throws Exception {
+    String storeName = Utils.getUniqueString("restore_test");
+    Store mockStore = mock(Store.class);
+    when(mockStore.getVersion(anyInt())).thenReturn(Optional.empty());
+    when(mockStore.getCurrentVersion()).thenReturn(2);
+    ReadOnlyStoreRepository mockStoreRepository = mock(ReadOnlyStoreRepository.class);
+    when(mockStoreRepository.getStore(storeName)).thenReturn(mockStore);
+    when(mockStoreRepository.getStoreOrThrow(storeName)).thenReturn(mockStore);
+
+    Properties properties = new Properties();
+    properties.put(SERVER_STORE_RESTORE_THREAD_POOL_SIZE, Integer.toString(parallelRestore ? 4 : 1));
+    VeniceProperties serverProps = AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB, properties);
+    VeniceConfigLoader configLoader = AbstractStorageEngineTest.getVeniceConfigLoader(serverProps);
+
+    StorageService storageService =
+        createStorageService(configLoader, mockStoreRepository, mock(AggVersionedStorageEngineStats.class));
+    storageService.start();
+    for (int version = 1; version <= VERSION_COUNT; version++) {
+      VeniceStoreVersionConfig storeConfig = new VeniceStoreVersionConfig(
+          Version.composeKafkaTopic(storeName, version),
+          serverProps,
+          PersistenceType.ROCKS_DB);
+      for (int partition = 0; partition < PARTITION_COUNT; partition++) {
+        storageService.openStoreForNewPartition(storeConfig, partition, () -> null);
+      }
+    }
+    storageService.stop();
+
+    AggVersionedStorageEngineStats restoreStats = mock(AggVersionedStorageEngineStats.class);
+    StorageService restoredStorageService = createStorageService(configLoader, mockStoreRepository, restoreStats);
+    restoredStorageService.start();
+    try {
+      for (int version = 1; version <= VERSION_COUNT; version++) {
+        String topicName = Version.composeKafkaTopic(storeName, version);
+        AbstractStorageEngine storageEngine = restoredStorageService.getStorageEngine(topicName);
+        Assert.assertNotNull(storageEngine, "Storage engine of " + topicName + " should have been restored");
+        Assert.assertEquals(storageEngine.getPartitionIds(), new HashSet<>(Arrays.asList(0, 1, 2)));
+        verify(restoreStats).recordRestoreTime(eq(topicName), anyLong());
+        verify(restoreStats).setStorageEngine(topicName, storageEngine);
+      }
+      verify(restoreStats, never()).recordRocksDBOpenFailure(anyString());
+    } finally {
+      restoredStorageService.stop();
+    }
+  }
+
+  private static StorageService createStorageService(
+      VeniceConfigLoader configLoader,
+      ReadOnlyStoreRepository storeRepository,
+      AggVersionedStorageEngineStats storageEngineStats) {
+    return new StorageService(
+        configLoader,
+        storageEngineStats,
+        null,
+        AvroProtocolDefinition.STORE_VERSION_STATE.getSerializer(),
+        AvroProtocolDefinition.PARTITION_STATE.getSerializer(),
+        storeRepository);
+  }
+}
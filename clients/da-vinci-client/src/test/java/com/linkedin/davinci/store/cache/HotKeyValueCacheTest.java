@@ -0,0 +1,94 @@
+package com.linkedin.davinci.store.cache;
+
+import com.linkedin.venice.utils.TestUtils;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class HotKeyValueCacheTest {
+  private static final byte[] KEY = "key".getBytes();
+  private static final byte[] VALUE = "value".getBytes();
+
+  @Test
+  public void testValuesAreLoadedOnce() {
+    HotKeyValueCache cache = new HotKeyValueCache("test_store", 1024 * 1024);
+    AtomicInteger loadCount = new AtomicInteger();
+
+    Assert.assertEquals(cache.get(1, KEY, () -> {
+      loadCount.incrementAndGet();
+      return VALUE;
+    }), VALUE);
+    // A copy of the key must hit the cached value.
+    Assert.assertEquals(cache.get(1, KEY.clone(), () -> {
+      loadCount.incrementAndGet();
+      return VALUE;
+    }), VALUE);
+    Assert.assertEquals(loadCount.get(), 1);
+    Assert.assertEquals(cache.getHitCount(), 1);
+    Assert.assertEquals(cache.getMissCount(), 1);
+    Assert.assertEquals(cache.getEntryCount(), 1);
+    Assert.assertEquals(
+        cache.getSizeInBytes(),
+        KEY.length + VALUE.length + HotKeyValueCache.ENTRY_OVERHEAD_IN_BYTES);
+
+    // Missing keys are not cached.
+    Assert.assertNull(cache.get(1, "missing_key".getBytes(), () -> {
+      loadCount.incrementAndGet();
+      return null;
+    }));
+    Assert.assertNull(cache.get(1, "missing_key".getBytes(), () -> {
+      loadCount.incrementAndGet();
+      return null;
+    }));
+    Assert.assertEquals(loadCount.get(), 3);
+    Assert.assertEquals(cache.getEntryCount(), 1);
+  }
+
+  @Test
+  public void testInvalidation() {
+    HotKeyValueCache cache = new HotKeyValueCache("test_store", 1024 * 1024);
+    byte[] newValue = "new_value".getBytes();
+    cache.get(1, KEY, () -> VALUE);
+
+    // Writes to other versions don't affect the cached one.
+    cache.invalidate(2, KEY);
+    Assert.assertEquals(cache.get(1, KEY, () -> newValue), VALUE);
+
+    cache.invalidate(1, KEY.clone());
+    Assert.assertEquals(cache.get(1, KEY, () -> newValue), newValue);
+  }
+
+  @Test
+  public void testVersionSwapDropsCachedValues() {
+    HotKeyValueCache cache = new HotKeyValueCache("test_store", 1024 * 1024);
+    byte[] newValue = "new_value".getBytes();
+    Assert.assertEquals(cache.getCachedVersion(), -1);
+    cache.get(1, KEY, () -> VALUE);
+    Assert.assertEquals(cache.getCachedVersion(), 1);
+
+    Assert.assertEquals(cache.get(2, KEY, () -> newValue), newValue);
+    Assert.assertEquals(cache.getCachedVersion(), 2);
+    Assert.assertEquals(cache.getEntryCount(), 1);
+
+    // Rolling back to the previous version doesn't serve the values cached before the swap.
+    Assert.assertEquals(cache.get(1, KEY, () -> "rolled_back_value".getBytes()), "rolled_back_value".getBytes());
+    Assert.assertEquals(cache.getCachedVersion(), 1);
+  }
+
+  @Test
+  public void testCapacityIsBoundedInBytes() {
+    int entrySize = 4 + 1000 + HotKeyValueCache.ENTRY_OVERHEAD_IN_BYTES;
+    HotKeyValueCache cache = new HotKeyValueCache("test_store", 10 * entrySize);
+    byte[] value = new byte[1000];
+    for (int i = 0; i < 100; i++) {
+      cache.get(1, String.format("%04d", i).getBytes(), () -> value);
+    }
+    // Caffeine evicts asynchronously, so the size may temporarily exceed the capacity.
+    TestUtils.waitForNonDeterministicAssertion(10, TimeUnit.SECONDS, () -> {
+      Assert.assertTrue(cache.getSizeInBytes() <= 10 * entrySize, "Cache size: " + cache.getSizeInBytes());
+      Assert.assertEquals(cache.getEntryCount(), 10);
+    });
+  }
+}
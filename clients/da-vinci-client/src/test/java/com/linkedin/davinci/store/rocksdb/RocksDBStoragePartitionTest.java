@@ -22,7 +22,9 @@ import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
 import java.io.File;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
@@ -595,6 +597,116 @@ public class RocksDBStoragePartitionTest {
     removeDir(storeDir);
   }
 
+  @Test
+  public void testMultiGet() {
+    String storeName = Utils.getUniqueString("test_store");
+    String storeDir = getTempDatabaseDir(storeName);
+    int partitionId = 0;
+    StoragePartitionConfig partitionConfig = new StoragePartitionConfig(storeName, partitionId);
+    partitionConfig.setDeferredWrite(false);
+    VeniceProperties veniceServerProperties = AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB);
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+
+    VeniceServerConfig serverConfig = new VeniceServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(serverConfig);
+    RocksDBStoragePartition storagePartition = new RocksDBStoragePartition(
+        partitionConfig,
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig);
+
+    Map<String, String> inputRecords = generateInput(100, false, 0);
+    for (Map.Entry<String, String> entry: inputRecords.entrySet()) {
+      storagePartition.put(entry.getKey().getBytes(), entry.getValue().getBytes());
+    }
+
+    // Mix existing and non-existing keys, the result should keep the order of the keys
+    List<byte[]> keys = new ArrayList<>();
+    for (int i = 0; i < 120; i += 3) {
+      keys.add((KEY_PREFIX + i).getBytes());
+    }
+    List<byte[]> values = storagePartition.multiGet(keys);
+    Assert.assertEquals(values.size(), keys.size());
+    for (int i = 0; i < keys.size(); i++) {
+      String expectedValue = inputRecords.get(new String(keys.get(i)));
+      if (expectedValue == null) {
+        Assert.assertNull(values.get(i));
+      } else {
+        Assert.assertEquals(new String(values.get(i)), expectedValue);
+      }
+    }
+
+    storagePartition.close();
+    try {
+      storagePartition.multiGet(keys);
+      Assert.fail("VeniceException is expected when looking up an already closed DB");
+    } catch (VeniceException e) {
+      Assert.assertTrue(e.getMessage().contains("RocksDB has been closed for store"));
+    }
+
+    storagePartition.drop();
+    removeDir(storeDir);
+  }
+
+  @Test
+  public void testWriteBatch() throws Exception {
+    String storeName = Utils.getUniqueString("test_store");
+    String storeDir = getTempDatabaseDir(storeName);
+    int partitionId = 0;
+    StoragePartitionConfig partitionConfig = new StoragePartitionConfig(storeName, partitionId);
+    partitionConfig.setDeferredWrite(false);
+    VeniceProperties veniceServerProperties = AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB);
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+
+    VeniceServerConfig serverConfig = new VeniceServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(serverConfig);
+    RocksDBStoragePartition storagePartition = new RocksDBStoragePartition(
+        partitionConfig,
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig);
+
+    byte[] deletedKey = "deleted_key".getBytes();
+    storagePartition.put(deletedKey, "value".getBytes());
+
+    // The buffered writes are not visible until the write batch is committed
+    storagePartition.beginWriteBatch();
+    storagePartition.put("key1".getBytes(), "value1".getBytes());
+    storagePartition.put("key2".getBytes(), ByteBuffer.wrap("_value2_".getBytes(), 1, 6));
+    storagePartition.delete(deletedKey);
+    Assert.assertNull(storagePartition.get("key1".getBytes()));
+    Assert.assertNotNull(storagePartition.get(deletedKey));
+    storagePartition.commitWriteBatch();
+    Assert.assertEquals(storagePartition.get("key1".getBytes()), "value1".getBytes());
+    Assert.assertEquals(storagePartition.get("key2".getBytes()), "value2".getBytes());
+    Assert.assertNull(storagePartition.get(deletedKey));
+
+    // A write from another thread commits the pending write batch first, to keep the writes in order
+    storagePartition.beginWriteBatch();
+    storagePartition.put("key3".getBytes(), "value3".getBytes());
+    Thread otherWriter = new Thread(() -> storagePartition.put("key3".getBytes(), "value3_other".getBytes()));
+    otherWriter.start();
+    otherWriter.join();
+    Assert.assertEquals(storagePartition.get("key3".getBytes()), "value3_other".getBytes());
+    storagePartition.put("key4".getBytes(), "value4".getBytes());
+    Assert.assertEquals(storagePartition.get("key4".getBytes()), "value4".getBytes());
+    storagePartition.commitWriteBatch();
+
+    // Sync commits the pending write batch as well
+    storagePartition.beginWriteBatch();
+    storagePartition.put("key5".getBytes(), "value5".getBytes());
+    storagePartition.sync();
+    Assert.assertEquals(storagePartition.get("key5".getBytes()), "value5".getBytes());
+    storagePartition.commitWriteBatch();
+
+    storagePartition.drop();
+    removeDir(storeDir);
+  }
+
   @Test
   public void testPlainTableCompactionTriggerSetting() {
     String storeName = Utils.getUniqueString("test_store");
@@ -6,9 +6,9 @@ import com.linkedin.venice.controllerapi.ControllerClient;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
 import com.linkedin.venice.message.KafkaKey;
+import com.linkedin.venice.meta.PartitionerConfig;
 import com.linkedin.venice.meta.StoreInfo;
 import com.linkedin.venice.meta.Version;
-import com.linkedin.venice.partitioner.DefaultVenicePartitioner;
 import com.linkedin.venice.pubsub.PubSubTopicPartitionImpl;
 import com.linkedin.venice.pubsub.PubSubTopicRepository;
 import com.linkedin.venice.pubsub.adapter.kafka.consumer.ApacheKafkaConsumerAdapter;
@@ -20,6 +20,7 @@ import com.linkedin.venice.serialization.KeyWithChunkingSuffixSerializer;
 import com.linkedin.venice.serialization.avro.OptimizedKafkaValueSerializer;
 import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import com.linkedin.venice.utils.PartitionUtils;
 import com.linkedin.venice.utils.pools.LandFillObjectPool;
 import java.util.Arrays;
 import java.util.Collections;
@@ -64,6 +65,7 @@ public class TopicMessageFinder {
     LOGGER.info("The key schema for store: {} : {}", storeName, keySchemaStr);
     StoreInfo storeInfo = controllerClient.getStore(storeName).getStore();
     int partitionCount = storeInfo.getPartitionCount();
+    PartitionerConfig partitionerConfig = storeInfo.getPartitionerConfig();
     // Parse key string and figure out the right partition
     byte[] serializedKey = serializeKey(keyString, keySchemaStr);
     if (version != -1) {
@@ -72,6 +74,7 @@ public class TopicMessageFinder {
           serializedKey = new KeyWithChunkingSuffixSerializer().serializeNonChunkedKey(serializedKey);
         }
         partitionCount = storeInfo.getVersion(version).get().getPartitionCount();
+        partitionerConfig = storeInfo.getVersion(version).get().getPartitionerConfig();
       } else {
         throw new RuntimeException("Couldn't find version: " + version + " from store: " + storeName);
       }
@@ -81,7 +84,8 @@ public class TopicMessageFinder {
     }
     LOGGER.info("Got partition count: {}", partitionCount);
 
-    int assignedPartition = new DefaultVenicePartitioner().getPartitionId(serializedKey, partitionCount);
+    int assignedPartition = PartitionUtils.getUserPartitionLevelVenicePartitioner(partitionerConfig)
+        .getPartitionId(serializedKey, partitionCount);
     LOGGER.info("Assigned partition: {} for key: {}", assignedPartition, keyString);
 
     TopicPartition topicPartition = new TopicPartition(topic, assignedPartition);
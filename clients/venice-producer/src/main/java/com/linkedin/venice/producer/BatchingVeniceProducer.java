@@ -0,0 +1,505 @@
+package com.linkedin.venice.producer;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.pubsub.api.PubSubProduceResult;
+import com.linkedin.venice.pubsub.api.PubSubProducerCallback;
+import com.linkedin.venice.schema.SchemaReader;
+import com.linkedin.venice.schema.writecompute.DerivedSchemaEntry;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.LatencyUtils;
+import com.linkedin.venice.utils.VeniceProperties;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import com.linkedin.venice.writer.VeniceWriter;
+import com.linkedin.venice.writer.update.UpdateBuilder;
+import com.linkedin.venice.writer.update.UpdateBuilderImpl;
+import io.tehuti.metrics.MetricsRepository;
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericFixed;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.generic.IndexedRecord;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * A {@link VeniceProducer} which pipelines the writes to a Venice store through a {@link VeniceWriter}.
+ *
+ * The calling thread only serializes the key, estimates the size of the value, and appends the write to one of the
+ * lanes of the producer, chosen by the hash of the serialized key, so that all the writes to the same key go through
+ * the same lane, in order. The lanes are drained by a pool of worker threads, each lane by at most one worker at a
+ * time, up to {@link #CLIENT_PRODUCER_BATCH_SIZE} writes per task. The workers serialize the values and hand the
+ * writes over to the {@link VeniceWriter} without waiting for the previous ones to be acknowledged, and the underlying
+ * PubSub producer batches them per partition. The {@link DurableWrite} futures are completed by the producer
+ * callbacks, once the PubSub system has acknowledged the writes.
+ *
+ * Back-pressure is applied by outstanding bytes, i.e. the bytes of all the writes which are either still buffered in
+ * the lanes, or not acknowledged yet: the calling threads block as long as they exceed
+ * {@link #CLIENT_PRODUCER_MAX_OUTSTANDING_BYTES}. The values of the buffered writes are accounted for by their
+ * estimated size, which is replaced by their serialized size once they are sent.
+ *
+ * The {@link VeniceWriter} is expected to write to the real-time topic of the store with pass-through serializers, and
+ * is closed along with this producer.
+ */
+public class BatchingVeniceProducer<K, V> implements VeniceProducer<K, V>, Closeable {
+  private static final Logger LOGGER = LogManager.getLogger(BatchingVeniceProducer.class);
+
+  /**
+   * Number of worker threads serializing the values and sending the writes.
+   */
+  public static final String CLIENT_PRODUCER_THREAD_NUM = "client.producer.thread.num";
+
+  /**
+   * Maximum number of writes sent by a worker thread from a lane before moving on to another one.
+   */
+  public static final String CLIENT_PRODUCER_BATCH_SIZE = "client.producer.batch.size";
+
+  /**
+   * Size of the buffered and unacknowledged writes beyond which the calling threads are blocked.
+   */
+  public static final String CLIENT_PRODUCER_MAX_OUTSTANDING_BYTES = "client.producer.max.outstanding.bytes";
+
+  private static final int DEFAULT_THREAD_NUM = 4;
+  private static final int DEFAULT_BATCH_SIZE = 100;
+  private static final long DEFAULT_MAX_OUTSTANDING_BYTES = 64 * 1024 * 1024;
+  private static final int LANES_PER_THREAD = 4;
+
+  private final String storeName;
+  private final SchemaReader schemaReader;
+  private final VeniceWriter<byte[], byte[], byte[]> veniceWriter;
+  private final VeniceProducerStats stats;
+  private final int batchSize;
+  private final long maxOutstandingBytes;
+  private final ExecutorService workerPool;
+  private final Lane[] lanes;
+  private final RecordSerializer<Object> keySerializer;
+  private final Map<Schema, RecordSerializer<Object>> valueSerializers = new VeniceConcurrentHashMap<>();
+
+  private final AtomicLong outstandingBytes = new AtomicLong(0);
+  private final AtomicLong pendingWriteCount = new AtomicLong(0);
+  private final AtomicInteger waiterCount = new AtomicInteger(0);
+  private final Lock waitLock = new ReentrantLock();
+  private final Condition hasCapacity = waitLock.newCondition();
+  private final Condition allWritesSent = waitLock.newCondition();
+  private volatile boolean closed = false;
+
+  public BatchingVeniceProducer(
+      String storeName,
+      SchemaReader schemaReader,
+      VeniceWriter<byte[], byte[], byte[]> veniceWriter,
+      VeniceProperties producerConfigs,
+      MetricsRepository metricsRepository) {
+    this.storeName = storeName;
+    this.schemaReader = schemaReader;
+    this.veniceWriter = veniceWriter;
+    int threadNum = Math.max(producerConfigs.getInt(CLIENT_PRODUCER_THREAD_NUM, DEFAULT_THREAD_NUM), 1);
+    this.batchSize = Math.max(producerConfigs.getInt(CLIENT_PRODUCER_BATCH_SIZE, DEFAULT_BATCH_SIZE), 1);
+    this.maxOutstandingBytes =
+        producerConfigs.getSizeInBytes(CLIENT_PRODUCER_MAX_OUTSTANDING_BYTES, DEFAULT_MAX_OUTSTANDING_BYTES);
+    this.workerPool = Executors.newFixedThreadPool(threadNum, new DaemonThreadFactory("VeniceProducer-" + storeName));
+    // More lanes than threads, so that a lane with a slow record does not hold back too many keys
+    this.lanes = new Lane[threadNum * LANES_PER_THREAD];
+    for (int i = 0; i < lanes.length; i++) {
+      lanes[i] = new Lane();
+    }
+    this.keySerializer = FastSerializerDeserializerFactory.getFastAvroGenericSerializer(schemaReader.getKeySchema());
+    this.stats = new VeniceProducerStats(metricsRepository, storeName, outstandingBytes::get, pendingWriteCount::get);
+  }
+
+  @Override
+  public CompletableFuture<DurableWrite> asyncPut(K key, V value) {
+    return asyncPut(VeniceWriter.APP_DEFAULT_LOGICAL_TS, key, value);
+  }
+
+  @Override
+  public CompletableFuture<DurableWrite> asyncPut(long logicalTime, K key, V value) {
+    stats.recordPutRequest();
+    return enqueue(WriteType.PUT, logicalTime, key, value);
+  }
+
+  @Override
+  public CompletableFuture<DurableWrite> asyncDelete(K key) {
+    return asyncDelete(VeniceWriter.APP_DEFAULT_LOGICAL_TS, key);
+  }
+
+  @Override
+  public CompletableFuture<DurableWrite> asyncDelete(long logicalTime, K key) {
+    stats.recordDeleteRequest();
+    return enqueue(WriteType.DELETE, logicalTime, key, null);
+  }
+
+  @Override
+  public CompletableFuture<DurableWrite> asyncUpdate(K key, Consumer<UpdateBuilder> updateFunction) {
+    return asyncUpdate(VeniceWriter.APP_DEFAULT_LOGICAL_TS, key, updateFunction);
+  }
+
+  @Override
+  public CompletableFuture<DurableWrite> asyncUpdate(
+      long logicalTime,
+      K key,
+      Consumer<UpdateBuilder> updateFunction) {
+    stats.recordUpdateRequest();
+    UpdateRecord update;
+    try {
+      // The update function of the caller is applied in its own thread, only the serialization is deferred
+      DerivedSchemaEntry updateSchemaEntry = schemaReader.getLatestUpdateSchema();
+      if (updateSchemaEntry == null) {
+        throw new VeniceException("Cannot find the update schema of store: " + storeName);
+      }
+      UpdateBuilder updateBuilder = new UpdateBuilderImpl(updateSchemaEntry.getSchema());
+      updateFunction.accept(updateBuilder);
+      update = new UpdateRecord(updateSchemaEntry, updateBuilder.build());
+    } catch (Exception e) {
+      stats.recordFailedWrite();
+      return failedFuture(e);
+    }
+    return enqueue(WriteType.UPDATE, logicalTime, key, update);
+  }
+
+  private CompletableFuture<DurableWrite> enqueue(WriteType type, long logicalTime, K key, Object value) {
+    PendingWrite write;
+    try {
+      if (closed) {
+        throw new VeniceException("Producer of store: " + storeName + " is already closed");
+      }
+      if (logicalTime != VeniceWriter.APP_DEFAULT_LOGICAL_TS && logicalTime <= 0) {
+        throw new IllegalArgumentException("Logical time should be positive, but received: " + logicalTime);
+      }
+      byte[] keyBytes = keySerializer.serialize(toAvroObject(key));
+      write = new PendingWrite(type, logicalTime, keyBytes, value, estimateSizeInBytes(value));
+      reserveCapacity();
+    } catch (Exception e) {
+      stats.recordFailedWrite();
+      return failedFuture(e);
+    }
+    pendingWriteCount.incrementAndGet();
+    outstandingBytes.addAndGet(write.sizeInBytes);
+    lanes[Math.floorMod(Arrays.hashCode(write.keyBytes), lanes.length)].add(write);
+    return write.future;
+  }
+
+  /**
+   * Blocks the calling thread as long as the outstanding bytes exceed {@link #maxOutstandingBytes}. The limit is a soft
+   * one: a write is let through as soon as there is some capacity left, however big it is.
+   */
+  private void reserveCapacity() throws InterruptedException {
+    if (outstandingBytes.get() < maxOutstandingBytes) {
+      return;
+    }
+    long startTimeInNS = System.nanoTime();
+    waitLock.lock();
+    waiterCount.incrementAndGet();
+    try {
+      while (outstandingBytes.get() >= maxOutstandingBytes) {
+        hasCapacity.await();
+      }
+    } finally {
+      waiterCount.decrementAndGet();
+      waitLock.unlock();
+    }
+    stats.recordBackPressureBlockingTime(LatencyUtils.getLatencyInMS(startTimeInNS));
+  }
+
+  private void releaseCapacity(int sizeInBytes) {
+    long remainingBytes = outstandingBytes.addAndGet(-sizeInBytes);
+    if (remainingBytes < maxOutstandingBytes && waiterCount.get() > 0) {
+      signal(hasCapacity);
+    }
+  }
+
+  private void signal(Condition condition) {
+    waitLock.lock();
+    try {
+      condition.signalAll();
+    } finally {
+      waitLock.unlock();
+    }
+  }
+
+  /**
+   * Sends a write to the {@link VeniceWriter}, on a worker thread.
+   */
+  private void send(PendingWrite write) {
+    try {
+      switch (write.type) {
+        case PUT:
+          Schema valueSchema = getSchema(write.value);
+          int valueSchemaId = schemaReader.getValueSchemaId(valueSchema);
+          byte[] valueBytes = getSerializer(valueSchema).serialize(toAvroObject(write.value));
+          write.setPayloadSize(valueBytes.length);
+          veniceWriter.put(write.keyBytes, valueBytes, valueSchemaId, write.logicalTime, write);
+          break;
+        case DELETE:
+          veniceWriter.delete(write.keyBytes, write.logicalTime, write);
+          break;
+        case UPDATE:
+          UpdateRecord update = (UpdateRecord) write.value;
+          byte[] updateBytes = getSerializer(update.schemaEntry.getSchema()).serialize(update.record);
+          write.setPayloadSize(updateBytes.length);
+          veniceWriter.update(
+              write.keyBytes,
+              updateBytes,
+              update.schemaEntry.getValueSchemaID(),
+              update.schemaEntry.getId(),
+              write,
+              write.logicalTime);
+          break;
+        default:
+          throw new VeniceException("Unknown write type: " + write.type);
+      }
+    } catch (Exception e) {
+      write.onCompletion(null, e);
+    } finally {
+      onWriteSent();
+    }
+  }
+
+  private void onWriteSent() {
+    if (pendingWriteCount.decrementAndGet() == 0) {
+      signal(allWritesSent);
+    }
+  }
+
+  private RecordSerializer<Object> getSerializer(Schema schema) {
+    return valueSerializers.computeIfAbsent(schema, FastSerializerDeserializerFactory::getFastAvroGenericSerializer);
+  }
+
+  private static Schema getSchema(Object object) {
+    if (object instanceof IndexedRecord) {
+      return ((IndexedRecord) object).getSchema();
+    } else if (object instanceof CharSequence) {
+      return Schema.create(Schema.Type.STRING);
+    } else if (object instanceof Integer) {
+      return Schema.create(Schema.Type.INT);
+    } else if (object instanceof Long) {
+      return Schema.create(Schema.Type.LONG);
+    } else if (object instanceof Double) {
+      return Schema.create(Schema.Type.DOUBLE);
+    } else if (object instanceof Float) {
+      return Schema.create(Schema.Type.FLOAT);
+    } else if (object instanceof byte[] || object instanceof ByteBuffer) {
+      return Schema.create(Schema.Type.BYTES);
+    } else if (object instanceof Boolean) {
+      return Schema.create(Schema.Type.BOOLEAN);
+    } else {
+      throw new VeniceException(
+          "Venice producer only supports Avro objects and primitives, found object of class: " + object.getClass());
+    }
+  }
+
+  /**
+   * Estimates the serialized size of a value without serializing it, so that it can be done by the calling thread.
+   */
+  private static int estimateSizeInBytes(Object object) {
+    if (object == null) {
+      return 0;
+    } else if (object instanceof UpdateRecord) {
+      return estimateSizeInBytes(((UpdateRecord) object).record);
+    } else if (object instanceof IndexedRecord) {
+      IndexedRecord record = (IndexedRecord) object;
+      int sizeInBytes = 0;
+      for (int i = 0; i < record.getSchema().getFields().size(); i++) {
+        sizeInBytes += estimateSizeInBytes(record.get(i));
+      }
+      return sizeInBytes;
+    } else if (object instanceof CharSequence) {
+      return ((CharSequence) object).length() + 1;
+    } else if (object instanceof byte[]) {
+      return ((byte[]) object).length + 1;
+    } else if (object instanceof ByteBuffer) {
+      return ((ByteBuffer) object).remaining() + 1;
+    } else if (object instanceof GenericFixed) {
+      return ((GenericFixed) object).bytes().length;
+    } else if (object instanceof Collection) {
+      int sizeInBytes = 1;
+      for (Object element: (Collection<?>) object) {
+        sizeInBytes += estimateSizeInBytes(element);
+      }
+      return sizeInBytes;
+    } else if (object instanceof Map) {
+      int sizeInBytes = 1;
+      for (Map.Entry<?, ?> entry: ((Map<?, ?>) object).entrySet()) {
+        sizeInBytes += estimateSizeInBytes(entry.getKey()) + estimateSizeInBytes(entry.getValue());
+      }
+      return sizeInBytes;
+    } else if (object instanceof Long || object instanceof Double) {
+      return Long.BYTES;
+    } else if (object instanceof Integer || object instanceof Float) {
+      return Integer.BYTES;
+    } else {
+      // Booleans, enums and the like
+      return 1;
+    }
+  }
+
+  private static Object toAvroObject(Object object) {
+    return object instanceof byte[] ? ByteBuffer.wrap((byte[]) object) : object;
+  }
+
+  private static CompletableFuture<DurableWrite> failedFuture(Exception e) {
+    CompletableFuture<DurableWrite> future = new CompletableFuture<>();
+    future.completeExceptionally(e);
+    return future;
+  }
+
+  /**
+   * Waits for all the writes issued so far to be sent, and acknowledged by the PubSub system.
+   */
+  public void flush() {
+    if (pendingWriteCount.get() > 0) {
+      waitLock.lock();
+      try {
+        while (pendingWriteCount.get() > 0) {
+          allWritesSent.await(1, TimeUnit.SECONDS);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new VeniceException("Interrupted while flushing the producer of store: " + storeName, e);
+      } finally {
+        waitLock.unlock();
+      }
+    }
+    veniceWriter.flush();
+  }
+
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      flush();
+    } finally {
+      workerPool.shutdown();
+      veniceWriter.close();
+    }
+    LOGGER.info("Closed the producer of store: {}", storeName);
+  }
+
+  private enum WriteType {
+    PUT, DELETE, UPDATE
+  }
+
+  private static class UpdateRecord {
+    final DerivedSchemaEntry schemaEntry;
+    final GenericRecord record;
+
+    UpdateRecord(DerivedSchemaEntry schemaEntry, GenericRecord record) {
+      this.schemaEntry = schemaEntry;
+      this.record = record;
+    }
+  }
+
+  /**
+   * A write waiting to be sent or acknowledged, which also serves as its own producer callback.
+   */
+  private class PendingWrite implements PubSubProducerCallback {
+    final WriteType type;
+    final long logicalTime;
+    final byte[] keyBytes;
+    final Object value;
+    final long startTimeInNS = System.nanoTime();
+    final CompletableFuture<DurableWrite> future = new CompletableFuture<>();
+    int payloadSizeInBytes;
+    int sizeInBytes;
+
+    PendingWrite(WriteType type, long logicalTime, byte[] keyBytes, Object value, int estimatedPayloadSizeInBytes) {
+      this.type = type;
+      this.logicalTime = logicalTime;
+      this.keyBytes = keyBytes;
+      this.value = value;
+      this.payloadSizeInBytes = estimatedPayloadSizeInBytes;
+      this.sizeInBytes = keyBytes.length + estimatedPayloadSizeInBytes;
+    }
+
+    /**
+     * Replaces the estimated size of the payload by its serialized size, before the write is sent.
+     */
+    void setPayloadSize(int serializedSizeInBytes) {
+      int delta = serializedSizeInBytes - payloadSizeInBytes;
+      payloadSizeInBytes = serializedSizeInBytes;
+      sizeInBytes += delta;
+      if (delta > 0) {
+        outstandingBytes.addAndGet(delta);
+      } else if (delta < 0) {
+        releaseCapacity(-delta);
+      }
+    }
+
+    @Override
+    public void onCompletion(PubSubProduceResult produceResult, Exception exception) {
+      releaseCapacity(sizeInBytes);
+      if (exception == null) {
+        stats.recordSuccessWrite(LatencyUtils.getLatencyInMS(startTimeInNS), sizeInBytes);
+        future.complete(new DurableWrite());
+      } else {
+        stats.recordFailedWrite();
+        future.completeExceptionally(exception);
+      }
+    }
+  }
+
+  /**
+   * A queue of writes drained by at most one worker thread at a time, which keeps the writes of a lane in order.
+   */
+  private class Lane implements Runnable {
+    private final Queue<PendingWrite> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+    void add(PendingWrite write) {
+      queue.add(write);
+      schedule();
+    }
+
+    private void schedule() {
+      if (scheduled.compareAndSet(false, true)) {
+        try {
+          workerPool.execute(this);
+        } catch (RejectedExecutionException e) {
+          scheduled.set(false);
+          PendingWrite write;
+          while ((write = queue.poll()) != null) {
+            write.onCompletion(null, e);
+            onWriteSent();
+          }
+        }
+      }
+    }
+
+    @Override
+    public void run() {
+      PendingWrite write;
+      int sentCount = 0;
+      while (sentCount < batchSize && (write = queue.poll()) != null) {
+        send(write);
+        sentCount++;
+      }
+      scheduled.set(false);
+      // The writes added while this lane was still scheduled are left for the next task
+      if (!queue.isEmpty()) {
+        schedule();
+      }
+    }
+  }
+}
@@ -0,0 +1,76 @@
+package com.linkedin.venice.producer;
+
+import com.linkedin.venice.stats.AbstractVeniceStats;
+import com.linkedin.venice.stats.Gauge;
+import com.linkedin.venice.stats.TehutiUtils;
+import io.tehuti.metrics.MetricsRepository;
+import io.tehuti.metrics.Sensor;
+import io.tehuti.metrics.stats.Avg;
+import io.tehuti.metrics.stats.Max;
+import io.tehuti.metrics.stats.OccurrenceRate;
+import java.util.function.LongSupplier;
+
+
+/**
+ * Throughput and latency metrics of a {@link BatchingVeniceProducer}.
+ */
+public class VeniceProducerStats extends AbstractVeniceStats {
+  private final Sensor putRequestSensor;
+  private final Sensor deleteRequestSensor;
+  private final Sensor updateRequestSensor;
+  private final Sensor successWriteSensor;
+  private final Sensor failedWriteSensor;
+  private final Sensor writeLatencySensor;
+  private final Sensor writeSizeSensor;
+  private final Sensor backPressureBlockingTimeSensor;
+
+  public VeniceProducerStats(
+      MetricsRepository metricsRepository,
+      String storeName,
+      LongSupplier outstandingBytesSupplier,
+      LongSupplier pendingWriteCountSupplier) {
+    super(metricsRepository, storeName + "--venice_producer");
+    putRequestSensor = registerSensor("put_request", new OccurrenceRate());
+    deleteRequestSensor = registerSensor("delete_request", new OccurrenceRate());
+    updateRequestSensor = registerSensor("update_request", new OccurrenceRate());
+    successWriteSensor = registerSensor("success_write", new OccurrenceRate());
+    failedWriteSensor = registerSensor("failed_write", new OccurrenceRate());
+    // Latency from the write request to the acknowledgement of the PubSub system
+    String writeLatencySensorName = "write_latency";
+    writeLatencySensor = registerSensor(
+        writeLatencySensorName,
+        new Avg(),
+        new Max(),
+        TehutiUtils.getPercentileStat(getName() + AbstractVeniceStats.DELIMITER + writeLatencySensorName));
+    writeSizeSensor = registerSensor("write_size", new Avg(), new Max());
+    backPressureBlockingTimeSensor = registerSensor("back_pressure_blocking_time", new Avg(), new Max());
+    registerSensor("outstanding_bytes", new Gauge(() -> outstandingBytesSupplier.getAsLong()));
+    registerSensor("pending_write_count", new Gauge(() -> pendingWriteCountSupplier.getAsLong()));
+  }
+
+  public void recordPutRequest() {
+    putRequestSensor.record();
+  }
+
+  public void recordDeleteRequest() {
+    deleteRequestSensor.record();
+  }
+
+  public void recordUpdateRequest() {
+    updateRequestSensor.record();
+  }
+
+  public void recordSuccessWrite(double latencyMs, int sizeInBytes) {
+    successWriteSensor.record();
+    writeLatencySensor.record(latencyMs);
+    writeSizeSensor.record(sizeInBytes);
+  }
+
+  public void recordFailedWrite() {
+    failedWriteSensor.record();
+  }
+
+  public void recordBackPressureBlockingTime(double blockingTimeMs) {
+    backPressureBlockingTimeSensor.record(blockingTimeMs);
+  }
+}
@@ -0,0 +1,211 @@
+package com.linkedin.venice.producer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.linkedin.venice.pubsub.api.PubSubProducerCallback;
+import com.linkedin.venice.schema.SchemaReader;
+import com.linkedin.venice.schema.writecompute.DerivedSchemaEntry;
+import com.linkedin.venice.schema.writecompute.WriteComputeSchemaConverter;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.utils.TestUtils;
+import com.linkedin.venice.utils.VeniceProperties;
+import com.linkedin.venice.writer.VeniceWriter;
+import io.tehuti.metrics.MetricsRepository;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.Schema;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class BatchingVeniceProducerTest {
+  private static final Schema STRING_SCHEMA = Schema.create(Schema.Type.STRING);
+  private static final Schema VALUE_RECORD_SCHEMA = Schema.parse(
+      "{\"type\":\"record\",\"name\":\"TestRecord\",\"fields\":["
+          + "{\"name\":\"name\",\"type\":\"string\",\"default\":\"\"}]}");
+
+  @Test(timeOut = 30 * 1000)
+  public void testWritesToTheSameKeyAreSentInOrder() throws Exception {
+    SchemaReader schemaReader = mockSchemaReader();
+    VeniceWriter<byte[], byte[], byte[]> veniceWriter = mock(VeniceWriter.class);
+    List<String> sentValues = Collections.synchronizedList(new ArrayList<>());
+    RecordDeserializer<Object> valueDeserializer =
+        FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(STRING_SCHEMA, STRING_SCHEMA);
+    doAnswer(invocation -> {
+      sentValues.add(valueDeserializer.deserialize((byte[]) invocation.getArgument(1)).toString());
+      ((PubSubProducerCallback) invocation.getArgument(4)).onCompletion(null, null);
+      return null;
+    }).when(veniceWriter).put(any(), any(), anyInt(), anyLong(), any(PubSubProducerCallback.class));
+
+    Properties properties = new Properties();
+    properties.put(BatchingVeniceProducer.CLIENT_PRODUCER_THREAD_NUM, 4);
+    properties.put(BatchingVeniceProducer.CLIENT_PRODUCER_BATCH_SIZE, 10);
+    int writeCount = 1000;
+    List<CompletableFuture<DurableWrite>> futures = new ArrayList<>(writeCount);
+    try (BatchingVeniceProducer<String, String> producer = new BatchingVeniceProducer<>(
+        "test_store",
+        schemaReader,
+        veniceWriter,
+        new VeniceProperties(properties),
+        new MetricsRepository())) {
+      for (int i = 0; i < writeCount; i++) {
+        futures.add(producer.asyncPut("key", "value_" + i));
+      }
+      producer.flush();
+      for (CompletableFuture<DurableWrite> future: futures) {
+        Assert.assertNotNull(future.get(10, TimeUnit.SECONDS));
+      }
+    }
+    Assert.assertEquals(sentValues.size(), writeCount);
+    for (int i = 0; i < writeCount; i++) {
+      Assert.assertEquals(sentValues.get(i), "value_" + i);
+    }
+    verify(veniceWriter).close();
+  }
+
+  @Test(timeOut = 30 * 1000)
+  public void testFuturesCompleteOnAcknowledgement() throws Exception {
+    SchemaReader schemaReader = mockSchemaReader();
+    VeniceWriter<byte[], byte[], byte[]> veniceWriter = mock(VeniceWriter.class);
+    List<PubSubProducerCallback> callbacks = Collections.synchronizedList(new ArrayList<>());
+    doAnswer(invocation -> {
+      callbacks.add(invocation.getArgument(2));
+      return null;
+    }).when(veniceWriter).delete(any(), anyLong(), any(PubSubProducerCallback.class));
+    doAnswer(invocation -> {
+      callbacks.add(invocation.getArgument(4));
+      return null;
+    }).when(veniceWriter).update(any(), any(), anyInt(), anyInt(), any(PubSubProducerCallback.class), anyLong());
+
+    try (BatchingVeniceProducer<String, String> producer = new BatchingVeniceProducer<>(
+        "test_store",
+        schemaReader,
+        veniceWriter,
+        new VeniceProperties(new Properties()),
+        new MetricsRepository())) {
+      CompletableFuture<DurableWrite> deleteFuture = producer.asyncDelete(1000L, "key1");
+      CompletableFuture<DurableWrite> updateFuture =
+          producer.asyncUpdate("key2", updateBuilder -> updateBuilder.setNewFieldValue("name", "new_name"));
+      TestUtils.waitForNonDeterministicAssertion(10, TimeUnit.SECONDS, () -> Assert.assertEquals(callbacks.size(), 2));
+      verify(veniceWriter).delete(any(), eq(1000L), any(PubSubProducerCallback.class));
+      verify(veniceWriter).update(
+          any(),
+          any(),
+          eq(1),
+          eq(1),
+          any(PubSubProducerCallback.class),
+          eq(VeniceWriter.APP_DEFAULT_LOGICAL_TS));
+      Assert.assertFalse(deleteFuture.isDone());
+      Assert.assertFalse(updateFuture.isDone());
+
+      // The two writes may have been sent in any order, since they are for different keys
+      callbacks.get(0).onCompletion(null, null);
+      callbacks.get(1).onCompletion(null, new RuntimeException("Failed to produce"));
+      Assert.assertTrue(deleteFuture.isDone());
+      Assert.assertTrue(updateFuture.isDone());
+      Assert.assertTrue(deleteFuture.isCompletedExceptionally() ^ updateFuture.isCompletedExceptionally());
+
+      // Invalid logical times are rejected right away
+      Assert.expectThrows(ExecutionException.class, () -> producer.asyncDelete(-1L, "key3").get());
+    }
+  }
+
+  @Test(timeOut = 30 * 1000)
+  public void testBackPressureByOutstandingBytes() throws Exception {
+    SchemaReader schemaReader = mockSchemaReader();
+    VeniceWriter<byte[], byte[], byte[]> veniceWriter = mock(VeniceWriter.class);
+    List<PubSubProducerCallback> callbacks = Collections.synchronizedList(new ArrayList<>());
+    doAnswer(invocation -> {
+      callbacks.add(invocation.getArgument(4));
+      return null;
+    }).when(veniceWriter).put(any(), any(), anyInt(), anyLong(), any(PubSubProducerCallback.class));
+
+    Properties properties = new Properties();
+    properties.put(BatchingVeniceProducer.CLIENT_PRODUCER_MAX_OUTSTANDING_BYTES, 10);
+    try (BatchingVeniceProducer<String, String> producer = new BatchingVeniceProducer<>(
+        "test_store",
+        schemaReader,
+        veniceWriter,
+        new VeniceProperties(properties),
+        new MetricsRepository())) {
+      CompletableFuture<DurableWrite> firstFuture = producer.asyncPut("key1", "a_value_bigger_than_the_limit");
+      verify(veniceWriter, timeout(10000)).put(any(), any(), anyInt(), anyLong(), any(PubSubProducerCallback.class));
+
+      // The second write is blocked until the first one is acknowledged
+      CompletableFuture<CompletableFuture<DurableWrite>> secondPut =
+          CompletableFuture.supplyAsync(() -> producer.asyncPut("key2", "value"));
+      Thread.sleep(500);
+      Assert.assertFalse(secondPut.isDone());
+
+      callbacks.get(0).onCompletion(null, null);
+      Assert.assertNotNull(firstFuture.get(10, TimeUnit.SECONDS));
+      CompletableFuture<DurableWrite> secondFuture = secondPut.get(10, TimeUnit.SECONDS);
+      TestUtils.waitForNonDeterministicAssertion(10, TimeUnit.SECONDS, () -> Assert.assertEquals(callbacks.size(), 2));
+      callbacks.get(1).onCompletion(null, null);
+      Assert.assertNotNull(secondFuture.get(10, TimeUnit.SECONDS));
+    }
+  }
+
+  @Test(timeOut = 30 * 1000)
+  public void testBackPressureAccountsForTheValuesOfBufferedWrites() throws Exception {
+    SchemaReader schemaReader = mockSchemaReader();
+    VeniceWriter<byte[], byte[], byte[]> veniceWriter = mock(VeniceWriter.class);
+    CountDownLatch writerUnblocked = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      writerUnblocked.await();
+      ((PubSubProducerCallback) invocation.getArgument(4)).onCompletion(null, null);
+      return null;
+    }).when(veniceWriter).put(any(), any(), anyInt(), anyLong(), any(PubSubProducerCallback.class));
+
+    Properties properties = new Properties();
+    properties.put(BatchingVeniceProducer.CLIENT_PRODUCER_THREAD_NUM, 1);
+    properties.put(BatchingVeniceProducer.CLIENT_PRODUCER_MAX_OUTSTANDING_BYTES, 1000);
+    String largeValue = String.join("", Collections.nCopies(2000, "v"));
+    try (BatchingVeniceProducer<String, String> producer = new BatchingVeniceProducer<>(
+        "test_store",
+        schemaReader,
+        veniceWriter,
+        new VeniceProperties(properties),
+        new MetricsRepository())) {
+      // The only worker is stuck sending the first write, so the next ones stay buffered in the lanes
+      CompletableFuture<DurableWrite> firstFuture = producer.asyncPut("key1", "value");
+      verify(veniceWriter, timeout(10000)).put(any(), any(), anyInt(), anyLong(), any(PubSubProducerCallback.class));
+      CompletableFuture<DurableWrite> secondFuture = producer.asyncPut("key2", largeValue);
+
+      // The value of the buffered write exceeds the limit by itself, so the next write is blocked
+      CompletableFuture<CompletableFuture<DurableWrite>> thirdPut =
+          CompletableFuture.supplyAsync(() -> producer.asyncPut("key3", largeValue));
+      Thread.sleep(500);
+      Assert.assertFalse(thirdPut.isDone());
+
+      writerUnblocked.countDown();
+      Assert.assertNotNull(firstFuture.get(10, TimeUnit.SECONDS));
+      Assert.assertNotNull(secondFuture.get(10, TimeUnit.SECONDS));
+      Assert.assertNotNull(thirdPut.get(10, TimeUnit.SECONDS).get(10, TimeUnit.SECONDS));
+    }
+  }
+
+  private static SchemaReader mockSchemaReader() {
+    SchemaReader schemaReader = mock(SchemaReader.class);
+    when(schemaReader.getKeySchema()).thenReturn(STRING_SCHEMA);
+    when(schemaReader.getValueSchemaId(STRING_SCHEMA)).thenReturn(1);
+    Schema updateSchema = WriteComputeSchemaConverter.getInstance().convertFromValueRecordSchema(VALUE_RECORD_SCHEMA);
+    when(schemaReader.getLatestUpdateSchema()).thenReturn(new DerivedSchemaEntry(1, 1, updateSchema));
+    return schemaReader;
+  }
+}
@@ -60,6 +60,7 @@ import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.partitioner.DefaultVenicePartitioner;
 import com.linkedin.venice.partitioner.VenicePartitioner;
+import com.linkedin.venice.partitioner.XxHash64VenicePartitioner;
 import com.linkedin.venice.pushmonitor.ExecutionStatus;
 import com.linkedin.venice.schema.AvroSchemaParseUtils;
 import com.linkedin.venice.security.SSLFactory;
@@ -2351,7 +2352,9 @@ public class VenicePushJob implements AutoCloseable {
       Optional<ByteBuffer> optionalCompressionDictionary) {
     Version.PushType pushType = getPushType(setting);
     boolean askControllerToSendControlMessage = !pushJobSetting.sendControlMessagesDirectly;
-    final String partitioners = props.getString(VENICE_PARTITIONERS, DefaultVenicePartitioner.class.getName());
+    final String partitioners = props.getString(
+        VENICE_PARTITIONERS,
+        DefaultVenicePartitioner.class.getName() + "," + XxHash64VenicePartitioner.class.getName());
 
     Optional<String> dictionary;
     if (askControllerToSendControlMessage) {
@@ -75,6 +75,13 @@ public final class Crc32C implements Checksum {
     _crc = 0xffffffff;
   }
 
+  /**
+   * Resume the computation from a value previously returned by {@link #getValue()}.
+   */
+  public void reset(long value) {
+    _crc = ~(int) value;
+  }
+
   public void update(byte[] b) {
     update(b, 0, b.length);
   }
@@ -111,6 +111,9 @@ public class ByteBufHashMap<K, V> extends AbstractMap<K, V> implements Serialize
   /** {@code true} if there are blocks awaiting cleanup */
   private boolean _cleanupRequired;
 
+  /** {@code true} if the entries read since they were written are moved to a new block when their block is evicted */
+  private boolean _secondChanceEnabled;
+
   /** transient entrySet, returned by {@link #entrySet()} */
   private transient Set<Entry<K, V>> _entrySet;
 
@@ -241,6 +244,16 @@ public class ByteBufHashMap<K, V> extends AbstractMap<K, V> implements Serialize
     return this;
   }
 
+  /**
+   * When enabled, the entries which have been read since they were written are given a second chance when their block
+   * is evicted to bound the allocated memory: they are copied into the current block instead of being dropped, and have
+   * to be read again to survive the next eviction. The entries of the blocks expired by age are always dropped.
+   */
+  public @Nonnull ByteBufHashMap<K, V> setSecondChanceEnabled(boolean secondChanceEnabled) {
+    _secondChanceEnabled = secondChanceEnabled;
+    return this;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -330,7 +343,11 @@ public class ByteBufHashMap<K, V> extends AbstractMap<K, V> implements Serialize
    */
   @Override
   public V get(Object key) {
-    return getValueFromRef(_keyMap.get(castKey(key)));
+    Ref ref = _keyMap.get(castKey(key));
+    if (ref != null && _secondChanceEnabled) {
+      ref._referenced = true;
+    }
+    return getValueFromRef(ref);
   }
 
   private synchronized Ref allocate(ByteBufOutputStream bbos) throws IOException {
@@ -376,6 +393,10 @@ public class ByteBufHashMap<K, V> extends AbstractMap<K, V> implements Serialize
           _allocatedBytes -= buffer.capacity();
           _cleanupRequired = true;
           _oldBuffers.add(buffer);
+          if (_secondChanceEnabled && oldBlock._creationTime >= oldest) {
+            // The buffer is only released once the cleanup has moved the referenced entries out of it
+            oldBlock._evictedBuffer = buffer;
+          }
         }
       }
     }
@@ -384,13 +405,51 @@ public class ByteBufHashMap<K, V> extends AbstractMap<K, V> implements Serialize
       List<ByteBuf> clear = new ArrayList<>(_oldBuffers.size());
       clear.addAll(_oldBuffers);
       _oldBuffers.clear();
-      CompletableFuture
-          .runAsync(
-              () -> _keyMap.entrySet().removeIf(entry -> entry.getValue()._block._buffer == Unpooled.EMPTY_BUFFER))
-          .whenComplete((aVoid, ex) -> {
-            _cleanupSemaphore.release();
-            clear.forEach(ByteBuf::release);
-          });
+      CompletableFuture.runAsync(this::removeEvictedEntries).whenComplete((aVoid, ex) -> {
+        _cleanupSemaphore.release();
+        clear.forEach(ByteBuf::release);
+      });
+    }
+  }
+
+  /**
+   * Removes the entries of the evicted blocks, except the ones given a second chance, which are moved to a new block.
+   */
+  private void removeEvictedEntries() {
+    for (Entry<K, Ref> entry: _keyMap.entrySet()) {
+      Ref ref = entry.getValue();
+      if (ref._block._buffer != Unpooled.EMPTY_BUFFER) {
+        continue;
+      }
+      Ref newRef = ref._referenced ? copyEvictedEntry(ref) : null;
+      if (newRef == null || !_keyMap.replace(entry.getKey(), ref, newRef)) {
+        _keyMap.remove(entry.getKey(), ref);
+      }
+    }
+  }
+
+  /**
+   * @return the reference of the copy of the entry in a new block, or null if the entry cannot be copied.
+   */
+  private Ref copyEvictedEntry(Ref ref) {
+    ByteBuf evictedBuffer = ref._block._evictedBuffer;
+    if (evictedBuffer == null) {
+      return null;
+    }
+    ByteBuf buf = PooledByteBufAllocator.DEFAULT.heapBuffer();
+    try (ByteBufOutputStream bbos = new ByteBufOutputStream(buf)) {
+      synchronized (ref) {
+        if (ref._length <= 0) {
+          return null;
+        }
+        buf.writeBytes(evictedBuffer, ref._offset, ref._length);
+      }
+      return allocate(bbos);
+    } catch (IOException e) {
+      LOG.warn("Failed to copy an evicted entry", e);
+      return null;
+    } finally {
+      buf.release();
     }
   }
 
@@ -612,6 +671,8 @@ public class ByteBufHashMap<K, V> extends AbstractMap<K, V> implements Serialize
   private static class Block {
     private final long _creationTime = Time.nanoTime();
     private @Nonnull ByteBuf _buffer;
+    /** The buffer of the block once evicted, until its entries given a second chance have been copied */
+    private volatile ByteBuf _evictedBuffer;
 
     private Block(ByteBuf buffer) {
       _buffer = buffer;
@@ -634,6 +695,8 @@ public class ByteBufHashMap<K, V> extends AbstractMap<K, V> implements Serialize
     private final int _offset;
     private final int _allocated;
     private int _length;
+    /** {@code true} if the entry has been read since it was written, when second chance is enabled */
+    private volatile boolean _referenced;
 
     private Ref(Block block, int offset, int allocated) {
       _block = block;
@@ -93,6 +93,45 @@ public class TestSerializedMap {
     map.clear(); // Must clear or Netty's ByteBuf complains about memory leak.
   }
 
+  @Test(groups = "unit")
+  public void testSecondChance() {
+    Assert.assertTrue(readHotEntryAfterEvictions(true));
+    Assert.assertFalse(readHotEntryAfterEvictions(false));
+  }
+
+  /**
+   * Keeps reading a hot entry while writing enough cold entries to evict every block many times over.
+   * @return {@code true} if the hot entry is still in the map in the end.
+   */
+  private boolean readHotEntryAfterEvictions(boolean secondChanceEnabled) {
+    ByteBufHashMap<Long, String> map = new ByteBufHashMap<Long, String>(ByteBufHashMap.javaSerialization(), 4096)
+        .setSecondChanceEnabled(secondChanceEnabled)
+        .setMaxAllocatedMemory(8192);
+    char[] chars = new char[1000];
+    Arrays.fill(chars, 'x');
+    String value = new String(chars);
+    try {
+      map.put(0L, value);
+      Assert.assertEquals(map.get(0L), value);
+      long key = 1;
+      for (; key <= 100; key++) {
+        map.put(key, value);
+        map.get(0L);
+      }
+      // The evicted blocks are cleaned up asynchronously, keep on writing until the last cleanups have run.
+      for (; key <= 200; key++) {
+        if (value.equals(map.get(0L))) {
+          return true;
+        }
+        map.put(key, value);
+      }
+      return false;
+    } finally {
+      Assert.assertNull(map.get(1L));
+      map.clear(); // Must clear or Netty's ByteBuf complains about memory leak.
+    }
+  }
+
   @Test(groups = "unit", enabled = false)
   public void testDefaultByteBuf() {
     testMap(new TestRun<>(configure(new ByteBufHashMap<>(ByteBufHashMap.javaSerialization())), TEST_MILLISECONDS));
@@ -4,7 +4,9 @@ import com.linkedin.avro.api.PrimitiveFloatList;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.utils.CollectionUtils;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import org.apache.avro.Schema;
@@ -17,30 +19,123 @@ import org.apache.avro.generic.GenericRecord;
  */
 public class ComputeOperationUtils {
   public static final String CACHED_SQUARED_L2_NORM_KEY = "CACHED_SQUARED_L2_NORM_KEY";
+  public static final String CACHED_PRIMITIVE_FLOAT_VECTOR_KEY = "CACHED_PRIMITIVE_FLOAT_VECTOR_KEY";
+
+  /**
+   * Per-thread buffer into which the value vectors are unboxed by {@link #toReusablePrimitiveFloatVector(List)}. It
+   * only grows, so that it can be reused across the records of all the compute requests served by the same thread.
+   */
+  private static final ThreadLocal<float[]> REUSABLE_FLOAT_VECTOR = ThreadLocal.withInitial(() -> new float[0]);
 
   public static float dotProduct(List<Float> list1, List<Float> list2) {
-    if (list1.size() != list2.size()) {
-      throw new VeniceException("Two lists are with different dimensions: " + list1.size() + ", and " + list2.size());
+    validateDimensions(list1.size(), list2.size());
+    return dotProduct(list1.size(), toFloatSupplier(list1), toFloatSupplier(list2));
+  }
+
+  public static List<Float> hadamardProduct(List<Float> list1, List<Float> list2) {
+    validateDimensions(list1.size(), list2.size());
+    return hadamardProduct(list1.size(), toFloatSupplier(list1), toFloatSupplier(list2));
+  }
+
+  public static float squaredL2Norm(List<Float> list) {
+    FloatSupplierByIndex floatSupplierByIndex = toFloatSupplier(list);
+    return dotProduct(list.size(), floatSupplierByIndex, floatSupplierByIndex);
+  }
+
+  /**
+   * The primitive variants below work on float arrays, of which only the first {@code size} elements are used, so
+   * that the value vectors can be unboxed into a reusable buffer bigger than the vector itself.
+   */
+  public static float dotProduct(float[] vector1, float[] vector2, int size) {
+    float dotProductResult = 0.0f;
+
+    // round up size to the largest multiple of 4
+    int i = 0;
+    int limit = (size >> 2) << 2;
+
+    // Same unrolling as in the boxed variant, but without any virtual call or unboxing in the loop
+    for (; i < limit; i += 4) {
+      float s0 = vector1[i] * vector2[i];
+      float s1 = vector1[i + 1] * vector2[i + 1];
+      float s2 = vector1[i + 2] * vector2[i + 2];
+      float s3 = vector1[i + 3] * vector2[i + 3];
+
+      dotProductResult += (s0 + s1 + s2 + s3);
     }
-    if (list1 instanceof PrimitiveFloatList && list2 instanceof PrimitiveFloatList) {
-      PrimitiveFloatList primitiveFloatList1 = (PrimitiveFloatList) list1;
-      PrimitiveFloatList primitiveFloatList2 = (PrimitiveFloatList) list2;
-      return dotProduct(list1.size(), primitiveFloatList1::getPrimitive, primitiveFloatList2::getPrimitive);
-    } else {
-      return dotProduct(list1.size(), list1::get, list2::get);
+
+    // Multiply the remaining elements
+    for (; i < size; i++) {
+      dotProductResult += vector1[i] * vector2[i];
     }
+    return dotProductResult;
   }
 
-  public static List<Float> hadamardProduct(List<Float> list1, List<Float> list2) {
-    if (list1.size() != list2.size()) {
-      throw new VeniceException("Two lists are with different dimensions: " + list1.size() + ", and " + list2.size());
+  public static List<Float> hadamardProduct(float[] vector1, float[] vector2, int size) {
+    float[] floats = new float[size];
+    for (int i = 0; i < size; i++) {
+      floats[i] = vector1[i] * vector2[i];
     }
-    if (list1 instanceof PrimitiveFloatList && list2 instanceof PrimitiveFloatList) {
-      PrimitiveFloatList primitiveFloatList1 = (PrimitiveFloatList) list1;
-      PrimitiveFloatList primitiveFloatList2 = (PrimitiveFloatList) list2;
-      return hadamardProduct(list1.size(), primitiveFloatList1::getPrimitive, primitiveFloatList2::getPrimitive);
+    return CollectionUtils.asUnmodifiableList(floats);
+  }
+
+  public static float squaredL2Norm(float[] vector, int size) {
+    return dotProduct(vector, vector, size);
+  }
+
+  /**
+   * Returns a primitive copy of the given compute parameter, which is only unboxed the first time it is seen by the
+   * request owning the context; all the following records of the same request reuse the cached copy.
+   * The caching is assuming the float vector is immutable, which is the case for compute parameters.
+   */
+  public static float[] getCachedPrimitiveFloatVector(List<Float> list, Map<String, Object> context) {
+    IdentityHashMap<List<Float>, float[]> cachedVectors =
+        (IdentityHashMap<List<Float>, float[]>) context.get(CACHED_PRIMITIVE_FLOAT_VECTOR_KEY);
+    if (cachedVectors == null) {
+      cachedVectors = new IdentityHashMap<>();
+      context.put(CACHED_PRIMITIVE_FLOAT_VECTOR_KEY, cachedVectors);
+    }
+    float[] vector = cachedVectors.get(list);
+    if (vector == null) {
+      vector = new float[list.size()];
+      copyToPrimitiveFloatVector(list, vector);
+      cachedVectors.put(list, vector);
+    }
+    return vector;
+  }
+
+  /**
+   * Copies the given value vector into the buffer of the current thread, which is only valid until the next call to
+   * this function on the same thread, and whose length may exceed the size of the value vector.
+   * {@link PrimitiveFloatList}, which is what the fast-avro deserializers produce, is copied without any boxing.
+   */
+  public static float[] toReusablePrimitiveFloatVector(List<Float> list) {
+    int size = list.size();
+    float[] buffer = REUSABLE_FLOAT_VECTOR.get();
+    if (buffer.length < size) {
+      buffer = new float[size];
+      REUSABLE_FLOAT_VECTOR.set(buffer);
+    }
+    copyToPrimitiveFloatVector(list, buffer);
+    return buffer;
+  }
+
+  private static void copyToPrimitiveFloatVector(List<Float> list, float[] vector) {
+    int size = list.size();
+    if (list instanceof PrimitiveFloatList) {
+      PrimitiveFloatList primitiveFloatList = (PrimitiveFloatList) list;
+      for (int i = 0; i < size; i++) {
+        vector[i] = primitiveFloatList.getPrimitive(i);
+      }
     } else {
-      return hadamardProduct(list1.size(), list1::get, list2::get);
+      for (int i = 0; i < size; i++) {
+        vector[i] = list.get(i);
+      }
+    }
+  }
+
+  private static void validateDimensions(int size1, int size2) {
+    if (size1 != size2) {
+      throw new VeniceException("Two lists are with different dimensions: " + size1 + ", and " + size2);
     }
   }
 
@@ -48,6 +143,16 @@ public class ComputeOperationUtils {
     float get(int index);
   }
 
+  /**
+   * Each list is accessed through its primitive accessor whenever it supports one, even if the other list does not.
+   */
+  private static FloatSupplierByIndex toFloatSupplier(List<Float> list) {
+    if (list instanceof PrimitiveFloatList) {
+      return ((PrimitiveFloatList) list)::getPrimitive;
+    }
+    return list::get;
+  }
+
   private static float dotProduct(int size, FloatSupplierByIndex floatSupplier1, FloatSupplierByIndex floatSupplier2) {
     float dotProductResult = 0.0f;
 
@@ -99,19 +204,6 @@ public class ComputeOperationUtils {
     return CollectionUtils.asUnmodifiableList(floats);
   }
 
-  public static float squaredL2Norm(List<Float> list) {
-    if (list instanceof PrimitiveFloatList) {
-      PrimitiveFloatList primitiveFloatList = (PrimitiveFloatList) list;
-      int size = primitiveFloatList.size();
-      FloatSupplierByIndex floatSupplierByIndex = primitiveFloatList::getPrimitive;
-      return dotProduct(size, floatSupplierByIndex, floatSupplierByIndex);
-    } else {
-      int size = list.size();
-      FloatSupplierByIndex floatSupplierByIndex = list::get;
-      return dotProduct(size, floatSupplierByIndex, floatSupplierByIndex);
-    }
-  }
-
   /**
    *
    * @param record the record from which the value of the given field is extracted
@@ -38,8 +38,14 @@ public class CosineSimilarityOperator implements ReadComputeOperator {
         return;
       }
 
-      float dotProductResult = ComputeOperationUtils.dotProduct(cosSimilarityParam, valueVector);
-      float valueVectorSquaredL2Norm = ComputeOperationUtils.squaredL2Norm(valueVector);
+      // The value vector is unboxed only once for both the dot product and its norm
+      int size = valueVector.size();
+      float[] primitiveCosSimilarityParam =
+          ComputeOperationUtils.getCachedPrimitiveFloatVector(cosSimilarityParam, context);
+      float[] primitiveValueVector = ComputeOperationUtils.toReusablePrimitiveFloatVector(valueVector);
+      float dotProductResult =
+          ComputeOperationUtils.dotProduct(primitiveCosSimilarityParam, primitiveValueVector, size);
+      float valueVectorSquaredL2Norm = ComputeOperationUtils.squaredL2Norm(primitiveValueVector, size);
       float cosSimilarityParamSquaredL2Norm;
       // Build the context as we go though all the computations
       // The following caching is assuming the float vector is immutable, which is the case for compute.
@@ -55,7 +61,7 @@ public class CosineSimilarityOperator implements ReadComputeOperator {
         cosSimilarityParamSquaredL2Norm = cachedResult;
       } else {
         // Cache the computed result
-        cosSimilarityParamSquaredL2Norm = ComputeOperationUtils.squaredL2Norm(cosSimilarityParam);
+        cosSimilarityParamSquaredL2Norm = ComputeOperationUtils.squaredL2Norm(primitiveCosSimilarityParam, size);
         cachedSquareL2Norm.put(cosSimilarityParam, cosSimilarityParamSquaredL2Norm);
       }
 
@@ -35,7 +35,10 @@ public class HadamardProductOperator implements ReadComputeOperator {
         return;
       }
 
-      List<Float> hadamardProductResult = ComputeOperationUtils.hadamardProduct(dotProductParam, valueVector);
+      List<Float> hadamardProductResult = ComputeOperationUtils.hadamardProduct(
+          ComputeOperationUtils.getCachedPrimitiveFloatVector(dotProductParam, context),
+          ComputeOperationUtils.toReusablePrimitiveFloatVector(valueVector),
+          valueVector.size());
       resultRecord.put(hadamardProduct.resultFieldName.toString(), hadamardProductResult);
     } catch (Exception e) {
       resultRecord.put(hadamardProduct.resultFieldName.toString(), null);
@@ -0,0 +1,134 @@
+package com.linkedin.venice.partitioner;
+
+import com.linkedin.venice.utils.VeniceProperties;
+import java.nio.ByteBuffer;
+import org.apache.avro.Schema;
+
+
+/**
+ * Implementation of the {@link VenicePartitioner} class based on the xxHash64 non-cryptographic hash function.
+ *
+ * It is much cheaper to compute than the MD5 digest used by {@link DefaultVenicePartitioner}, does not allocate, and
+ * does not need any thread local state, while still spreading the keys evenly. It can be selected for a store by
+ * setting the partitioner class of its {@link com.linkedin.venice.meta.PartitionerConfig}, which is then used by the
+ * push job, the {@link com.linkedin.venice.writer.VeniceWriter}, the router and the clients alike.
+ *
+ * N.B.: The keys are mapped to different partitions than with {@link DefaultVenicePartitioner}, so the partitioner
+ *       of a store should only be changed along with a full push.
+ */
+public class XxHash64VenicePartitioner extends VenicePartitioner {
+  private static final long PRIME64_1 = 0x9E3779B185EBCA87L;
+  private static final long PRIME64_2 = 0xC2B2AE3D27D4EB4FL;
+  private static final long PRIME64_3 = 0x165667B19E3779F9L;
+  private static final long PRIME64_4 = 0x85EBCA77C2B2AE63L;
+  private static final long PRIME64_5 = 0x27D4EB2F165667C5L;
+  private static final long SEED = 0;
+
+  public XxHash64VenicePartitioner() {
+    super();
+  }
+
+  public XxHash64VenicePartitioner(VeniceProperties props) {
+    this(props, null);
+  }
+
+  public XxHash64VenicePartitioner(VeniceProperties props, Schema schema) {
+    super(props, schema);
+  }
+
+  @Override
+  public int getPartitionId(byte[] keyBytes, int offset, int length, int numPartitions) {
+    return (int) ((hash(keyBytes, offset, length) & Long.MAX_VALUE) % numPartitions);
+  }
+
+  @Override
+  public int getPartitionId(byte[] keyBytes, int numPartitions) {
+    return getPartitionId(keyBytes, 0, keyBytes.length, numPartitions);
+  }
+
+  @Override
+  public int getPartitionId(ByteBuffer keyByteBuffer, int numPartitions) {
+    return getPartitionId(
+        keyByteBuffer.array(),
+        keyByteBuffer.arrayOffset() + keyByteBuffer.position(),
+        keyByteBuffer.remaining(),
+        numPartitions);
+  }
+
+  /**
+   * @return the xxHash64 of the given bytes, with a seed of 0.
+   */
+  static long hash(byte[] bytes, int offset, int length) {
+    int end = offset + length;
+    int i = offset;
+    long h;
+
+    if (length >= 32) {
+      long v1 = SEED + PRIME64_1 + PRIME64_2;
+      long v2 = SEED + PRIME64_2;
+      long v3 = SEED;
+      long v4 = SEED - PRIME64_1;
+      int limit = end - 32;
+      do {
+        v1 = round(v1, readLongLE(bytes, i));
+        v2 = round(v2, readLongLE(bytes, i + 8));
+        v3 = round(v3, readLongLE(bytes, i + 16));
+        v4 = round(v4, readLongLE(bytes, i + 24));
+        i += 32;
+      } while (i <= limit);
+
+      h = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+      h = mergeRound(h, v1);
+      h = mergeRound(h, v2);
+      h = mergeRound(h, v3);
+      h = mergeRound(h, v4);
+    } else {
+      h = SEED + PRIME64_5;
+    }
+
+    h += length;
+
+    for (; i + 8 <= end; i += 8) {
+      h ^= round(0, readLongLE(bytes, i));
+      h = Long.rotateLeft(h, 27) * PRIME64_1 + PRIME64_4;
+    }
+    if (i + 4 <= end) {
+      h ^= (readIntLE(bytes, i) & 0xFFFFFFFFL) * PRIME64_1;
+      h = Long.rotateLeft(h, 23) * PRIME64_2 + PRIME64_3;
+      i += 4;
+    }
+    for (; i < end; i++) {
+      h ^= (bytes[i] & 0xFFL) * PRIME64_5;
+      h = Long.rotateLeft(h, 11) * PRIME64_1;
+    }
+
+    // Final avalanche
+    h ^= h >>> 33;
+    h *= PRIME64_2;
+    h ^= h >>> 29;
+    h *= PRIME64_3;
+    h ^= h >>> 32;
+    return h;
+  }
+
+  private static long round(long acc, long input) {
+    acc += input * PRIME64_2;
+    acc = Long.rotateLeft(acc, 31);
+    return acc * PRIME64_1;
+  }
+
+  private static long mergeRound(long acc, long val) {
+    acc ^= round(0, val);
+    return acc * PRIME64_1 + PRIME64_4;
+  }
+
+  private static long readLongLE(byte[] bytes, int i) {
+    return (bytes[i] & 0xFFL) | (bytes[i + 1] & 0xFFL) << 8 | (bytes[i + 2] & 0xFFL) << 16
+        | (bytes[i + 3] & 0xFFL) << 24 | (bytes[i + 4] & 0xFFL) << 32 | (bytes[i + 5] & 0xFFL) << 40
+        | (bytes[i + 6] & 0xFFL) << 48 | (bytes[i + 7] & 0xFFL) << 56;
+  }
+
+  private static int readIntLE(byte[] bytes, int i) {
+    return (bytes[i] & 0xFF) | (bytes[i + 1] & 0xFF) << 8 | (bytes[i + 2] & 0xFF) << 16 | (bytes[i + 3] & 0xFF) << 24;
+  }
+}
@@ -5,6 +5,7 @@ import com.linkedin.avroutil1.compatibility.AvroVersion;
 import com.linkedin.venice.exceptions.VeniceException;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.DeterministicMapOrderGenericDatumWriter;
@@ -149,8 +150,20 @@ public class AvroSerializer<K> implements RecordSerializer<K> {
     return serializeObjects(objects, reuse.getBinaryEncoder(), reuse.getByteArrayOutputStream());
   }
 
+  @Override
+  public void serializeObjects(Iterable<K> objects, OutputStream output, ReusableObjects reuse)
+      throws VeniceException {
+    serializeObjects(objects, reuse.getBinaryEncoder(), output);
+  }
+
   private byte[] serializeObjects(Iterable<K> objects, BinaryEncoder reusedEncoder, ByteArrayOutputStream output)
       throws VeniceException {
+    serializeObjects(objects, reusedEncoder, (OutputStream) output);
+    return output.toByteArray();
+  }
+
+  private void serializeObjects(Iterable<K> objects, BinaryEncoder reusedEncoder, OutputStream output)
+      throws VeniceException {
     Encoder encoder = AvroCompatibilityHelper.newBinaryEncoder(output, buffered, reusedEncoder);
     try {
       objects.forEach(object -> {
@@ -161,7 +174,6 @@ public class AvroSerializer<K> implements RecordSerializer<K> {
         }
       });
       encoder.flush();
-      return output.toByteArray();
     } catch (IOException e) {
       throw new VeniceException("Could not flush BinaryEncoder", e);
     }
@@ -2,6 +2,7 @@ package com.linkedin.venice.serializer;
 
 import com.linkedin.venice.exceptions.VeniceException;
 import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import org.apache.avro.io.BinaryEncoder;
 
@@ -24,6 +25,12 @@ public interface RecordSerializer<T> {
 
   byte[] serializeObjects(Iterable<T> objects, ReusableObjects reuse) throws VeniceException;
 
+  /**
+   * Serialize a list of objects into the given output stream, instead of returning a new byte array, so the caller
+   * decides where the serialized objects are stored. Only the encoder of {@param reuse} is reused.
+   */
+  void serializeObjects(Iterable<T> objects, OutputStream output, ReusableObjects reuse) throws VeniceException;
+
   /**
    * Serialize a list of objects and put the prefix before the serialized objects.
    * This function could avoid unnecessary byte array copy when you want to serialize
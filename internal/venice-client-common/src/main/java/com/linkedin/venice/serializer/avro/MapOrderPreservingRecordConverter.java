@@ -0,0 +1,344 @@
+package com.linkedin.venice.serializer.avro;
+
+import com.linkedin.avro.api.PrimitiveLongList;
+import com.linkedin.avro.fastserde.primitive.PrimitiveLongArrayList;
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.venice.utils.IndexedHashMap;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.avro.AvroTypeException;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericFixed;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.util.Utf8;
+
+
+/**
+ * {@code MapOrderPreservingRecordConverter} converts a record of a writer schema into a record of a reader schema in
+ * memory, following the Avro schema resolution rules, instead of serializing the record with the writer schema and
+ * deserializing it right away with the reader schema.
+ *
+ * The resolution of the schemas is done once, when the converter is created, into a tree of converters, so that the
+ * conversion of a record doesn't look up any field by name. Like {@link MapOrderPreservingDatumReader}, the converted
+ * maps keep the order of their entries. The converted record doesn't share any record, array or map with the original
+ * one, so either could be mutated afterward, while the immutable values, e.g. strings, are shared.
+ */
+public class MapOrderPreservingRecordConverter {
+  private final Converter recordConverter;
+
+  /**
+   * Constructor is made package-private so that the converters are created and cached by
+   * {@link MapOrderingPreservingSerDeFactory}.
+   *
+   * @throws AvroTypeException if the reader schema can't read the data of the writer schema.
+   */
+  MapOrderPreservingRecordConverter(Schema writerSchema, Schema readerSchema) {
+    this.recordConverter = resolve(writerSchema, readerSchema, new HashMap<>());
+  }
+
+  public GenericRecord convert(GenericRecord record) {
+    return (GenericRecord) recordConverter.convert(record);
+  }
+
+  private interface Converter {
+    Object convert(Object datum);
+  }
+
+  /**
+   * @param resolvedRecords the converters of the record schema pairs which are resolved or being resolved, keyed by
+   *                        their names, so that a recursive schema refers to the converter of the enclosing record.
+   */
+  private static Converter resolve(Schema writer, Schema reader, Map<String, Converter> resolvedRecords) {
+    if (writer.getType() == Schema.Type.UNION) {
+      return resolveWriterUnion(writer, reader, resolvedRecords);
+    }
+    if (reader.getType() == Schema.Type.UNION) {
+      int branch = findReaderBranch(writer, reader);
+      if (branch < 0) {
+        throw new AvroTypeException("Found " + writer + ", expecting " + reader);
+      }
+      return resolve(writer, reader.getTypes().get(branch), resolvedRecords);
+    }
+
+    Schema.Type writerType = writer.getType();
+    switch (reader.getType()) {
+      case NULL:
+      case BOOLEAN:
+      case INT:
+        if (writerType == reader.getType()) {
+          return datum -> datum;
+        }
+        break;
+      case LONG:
+        if (writerType == Schema.Type.LONG) {
+          return datum -> datum;
+        } else if (writerType == Schema.Type.INT) {
+          return datum -> ((Integer) datum).longValue();
+        }
+        break;
+      case FLOAT:
+        if (writerType == Schema.Type.FLOAT) {
+          return datum -> datum;
+        } else if (writerType == Schema.Type.INT || writerType == Schema.Type.LONG) {
+          return datum -> ((Number) datum).floatValue();
+        }
+        break;
+      case DOUBLE:
+        if (writerType == Schema.Type.DOUBLE) {
+          return datum -> datum;
+        } else if (writerType == Schema.Type.INT || writerType == Schema.Type.LONG || writerType == Schema.Type.FLOAT) {
+          return datum -> ((Number) datum).doubleValue();
+        }
+        break;
+      case STRING:
+        if (writerType == Schema.Type.STRING) {
+          return datum -> datum;
+        } else if (writerType == Schema.Type.BYTES) {
+          return datum -> new Utf8(toByteArray((ByteBuffer) datum));
+        }
+        break;
+      case BYTES:
+        if (writerType == Schema.Type.BYTES) {
+          return datum -> ((ByteBuffer) datum).duplicate();
+        } else if (writerType == Schema.Type.STRING) {
+          return datum -> {
+            Utf8 utf8 = datum instanceof Utf8 ? (Utf8) datum : new Utf8(datum.toString());
+            return ByteBuffer.wrap(utf8.getBytes(), 0, utf8.getByteLength());
+          };
+        }
+        break;
+      case ENUM:
+        if (writerType == Schema.Type.ENUM && isSameName(writer, reader)) {
+          return datum -> {
+            String symbol = datum.toString();
+            if (!reader.hasEnumSymbol(symbol)) {
+              throw new AvroTypeException("No match for " + symbol + " in " + reader);
+            }
+            return AvroCompatibilityHelper.newEnumSymbol(reader, symbol);
+          };
+        }
+        break;
+      case FIXED:
+        if (writerType == Schema.Type.FIXED && isSameName(writer, reader) && writer.getFixedSize() == reader
+            .getFixedSize()) {
+          return datum -> new GenericData.Fixed(reader, ((GenericFixed) datum).bytes().clone());
+        }
+        break;
+      case ARRAY:
+        if (writerType == Schema.Type.ARRAY) {
+          return resolveArray(writer, reader, resolvedRecords);
+        }
+        break;
+      case MAP:
+        if (writerType == Schema.Type.MAP) {
+          return resolveMap(writer, reader, resolvedRecords);
+        }
+        break;
+      case RECORD:
+        if (writerType == Schema.Type.RECORD) {
+          return resolveRecord(writer, reader, resolvedRecords);
+        }
+        break;
+      default:
+        break;
+    }
+    throw new AvroTypeException("Found " + writer + ", expecting " + reader);
+  }
+
+  /**
+   * The branches of the writer union which can't be read with the reader schema only fail the conversion of the data
+   * which actually use them, like the Avro deserialization does.
+   */
+  private static Converter resolveWriterUnion(
+      Schema writer,
+      Schema reader,
+      Map<String, Converter> resolvedRecords) {
+    List<Schema> writerBranches = writer.getTypes();
+    Converter[] branchConverters = new Converter[writerBranches.size()];
+    for (int i = 0; i < branchConverters.length; i++) {
+      Schema writerBranch = writerBranches.get(i);
+      try {
+        branchConverters[i] = resolve(writerBranch, reader, resolvedRecords);
+      } catch (AvroTypeException e) {
+        branchConverters[i] = datum -> {
+          throw e;
+        };
+      }
+    }
+    return datum -> branchConverters[GenericData.get().resolveUnion(writer, datum)].convert(datum);
+  }
+
+  private static Converter resolveArray(Schema writer, Schema reader, Map<String, Converter> resolvedRecords) {
+    Schema.Type writerElementType = writer.getElementType().getType();
+    if (writerElementType == Schema.Type.LONG && reader.getElementType().getType() == Schema.Type.LONG) {
+      // The timestamps of the collection fields of the RMD are long arrays, which are copied without boxing.
+      return datum -> {
+        Collection<?> elements = (Collection<?>) datum;
+        PrimitiveLongList convertedElements = new PrimitiveLongArrayList(elements.size());
+        if (elements instanceof PrimitiveLongList) {
+          PrimitiveLongList longElements = (PrimitiveLongList) elements;
+          for (int i = 0; i < longElements.size(); i++) {
+            convertedElements.addPrimitive(longElements.getPrimitive(i));
+          }
+        } else {
+          for (Object element: elements) {
+            convertedElements.addPrimitive((Long) element);
+          }
+        }
+        return convertedElements;
+      };
+    }
+    Converter elementConverter = resolve(writer.getElementType(), reader.getElementType(), resolvedRecords);
+    return datum -> {
+      Collection<?> elements = (Collection<?>) datum;
+      List<Object> convertedElements = new ArrayList<>(elements.size());
+      for (Object element: elements) {
+        convertedElements.add(elementConverter.convert(element));
+      }
+      return convertedElements;
+    };
+  }
+
+  private static Converter resolveMap(Schema writer, Schema reader, Map<String, Converter> resolvedRecords) {
+    Converter valueConverter = resolve(writer.getValueType(), reader.getValueType(), resolvedRecords);
+    return datum -> {
+      Map<?, ?> entries = (Map<?, ?>) datum;
+      Map<Object, Object> convertedEntries = new IndexedHashMap<>(entries.size());
+      for (Map.Entry<?, ?> entry: entries.entrySet()) {
+        convertedEntries.put(entry.getKey(), valueConverter.convert(entry.getValue()));
+      }
+      return convertedEntries;
+    };
+  }
+
+  private static Converter resolveRecord(Schema writer, Schema reader, Map<String, Converter> resolvedRecords) {
+    String recordPair = writer.getFullName() + ":" + reader.getFullName();
+    Converter resolvedRecord = resolvedRecords.get(recordPair);
+    if (resolvedRecord != null) {
+      return resolvedRecord;
+    }
+    Converter[] recordConverter = new Converter[1];
+    resolvedRecords.put(recordPair, datum -> recordConverter[0].convert(datum));
+
+    List<Schema.Field> readerFields = reader.getFields();
+    int[] writerFieldPositions = new int[readerFields.size()];
+    Converter[] fieldConverters = new Converter[readerFields.size()];
+    Object[] defaultValues = new Object[readerFields.size()];
+    try {
+      for (Schema.Field readerField: readerFields) {
+        int pos = readerField.pos();
+        Schema.Field writerField = findWriterField(writer, readerField);
+        if (writerField != null) {
+          writerFieldPositions[pos] = writerField.pos();
+          fieldConverters[pos] = resolve(writerField.schema(), readerField.schema(), resolvedRecords);
+        } else if (AvroCompatibilityHelper.fieldHasDefault(readerField)) {
+          writerFieldPositions[pos] = -1;
+          defaultValues[pos] = AvroCompatibilityHelper.getGenericDefaultValue(readerField);
+        } else {
+          throw new AvroTypeException(
+              "Found " + writer.getFullName() + ", expecting " + reader.getFullName() + ", missing required field "
+                  + readerField.name());
+        }
+      }
+    } catch (AvroTypeException e) {
+      resolvedRecords.remove(recordPair);
+      throw e;
+    }
+    recordConverter[0] = datum -> {
+      GenericRecord record = (GenericRecord) datum;
+      GenericData.Record convertedRecord = new GenericData.Record(reader);
+      for (int pos = 0; pos < fieldConverters.length; pos++) {
+        if (writerFieldPositions[pos] < 0) {
+          // The default value is copied, so that the converted records don't share it.
+          convertedRecord.put(pos, GenericData.get().deepCopy(readerFields.get(pos).schema(), defaultValues[pos]));
+        } else {
+          convertedRecord.put(pos, fieldConverters[pos].convert(record.get(writerFieldPositions[pos])));
+        }
+      }
+      return convertedRecord;
+    };
+    return recordConverter[0];
+  }
+
+  private static Schema.Field findWriterField(Schema writer, Schema.Field readerField) {
+    Schema.Field writerField = writer.getField(readerField.name());
+    if (writerField != null) {
+      return writerField;
+    }
+    for (String alias: readerField.aliases()) {
+      writerField = writer.getField(alias);
+      if (writerField != null) {
+        return writerField;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Picks the branch of the reader union like the Avro schema resolution does: a branch of the same type, and of the
+   * same name for a named type, then a named type of the same unqualified name, and then a branch the writer type
+   * could be promoted to.
+   *
+   * @return the index of the branch, or -1 if none of the branches can read the writer schema.
+   */
+  private static int findReaderBranch(Schema writer, Schema readerUnion) {
+    List<Schema> branches = readerUnion.getTypes();
+    Schema.Type writerType = writer.getType();
+    for (int i = 0; i < branches.size(); i++) {
+      Schema branch = branches.get(i);
+      if (branch.getType() == writerType && (!isNamedType(writerType) || isSameName(writer, branch))) {
+        return i;
+      }
+    }
+    if (isNamedType(writerType)) {
+      for (int i = 0; i < branches.size(); i++) {
+        Schema branch = branches.get(i);
+        if (branch.getType() == writerType && branch.getName().equals(writer.getName())) {
+          return i;
+        }
+      }
+    }
+    for (int i = 0; i < branches.size(); i++) {
+      if (isPromotable(writerType, branches.get(i).getType())) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static boolean isPromotable(Schema.Type writerType, Schema.Type readerType) {
+    switch (writerType) {
+      case INT:
+        return readerType == Schema.Type.LONG || readerType == Schema.Type.FLOAT || readerType == Schema.Type.DOUBLE;
+      case LONG:
+        return readerType == Schema.Type.FLOAT || readerType == Schema.Type.DOUBLE;
+      case FLOAT:
+        return readerType == Schema.Type.DOUBLE;
+      case STRING:
+        return readerType == Schema.Type.BYTES;
+      case BYTES:
+        return readerType == Schema.Type.STRING;
+      default:
+        return false;
+    }
+  }
+
+  private static boolean isNamedType(Schema.Type type) {
+    return type == Schema.Type.RECORD || type == Schema.Type.ENUM || type == Schema.Type.FIXED;
+  }
+
+  private static boolean isSameName(Schema writer, Schema reader) {
+    return writer.getFullName().equals(reader.getFullName()) || reader.getAliases().contains(writer.getFullName());
+  }
+
+  private static byte[] toByteArray(ByteBuffer byteBuffer) {
+    byte[] bytes = new byte[byteBuffer.remaining()];
+    byteBuffer.duplicate().get(bytes);
+    return bytes;
+  }
+}
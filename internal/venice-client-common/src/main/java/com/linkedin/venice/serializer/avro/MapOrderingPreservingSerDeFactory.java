@@ -1,9 +1,16 @@
 package com.linkedin.venice.serializer.avro;
 
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.serializer.SerializerDeserializerFactory;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.Set;
 import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
 
 
 /**
@@ -14,6 +21,9 @@ public class MapOrderingPreservingSerDeFactory extends SerializerDeserializerFac
   private static final Map<Schema, MapOrderPreservingSerializer<?>> SERIALIZER_MAP = new VeniceConcurrentHashMap<>();
   private static final Map<SchemaPairAndClassContainer, MapOrderPreservingDeserializer> DESERIALIZER_MAP =
       new VeniceConcurrentHashMap<>();
+  private static final Map<SchemaPairAndClassContainer, MapOrderPreservingRecordConverter> CONVERTER_MAP =
+      new VeniceConcurrentHashMap<>();
+  private static final Map<Schema, Boolean> SCHEMA_WITH_MAP_CACHE = new VeniceConcurrentHashMap<>();
 
   public static <K> MapOrderPreservingSerializer<K> getSerializer(Schema schema) {
     return (MapOrderPreservingSerializer<K>) SERIALIZER_MAP
@@ -25,4 +35,70 @@ public class MapOrderingPreservingSerDeFactory extends SerializerDeserializerFac
         new SchemaPairAndClassContainer(writerSchema, readerSchema, Object.class),
         o -> new MapOrderPreservingDeserializer(writerSchema, readerSchema));
   }
+
+  /**
+   * @return a converter of the records of the writer schema into records of the reader schema, which gives the same
+   *         result as serializing a record with {@link #getSerializer} and deserializing it right away with
+   *         {@link #getDeserializer}.
+   */
+  public static MapOrderPreservingRecordConverter getRecordConverter(Schema writerSchema, Schema readerSchema) {
+    return CONVERTER_MAP.computeIfAbsent(
+        new SchemaPairAndClassContainer(writerSchema, readerSchema, Object.class),
+        o -> new MapOrderPreservingRecordConverter(writerSchema, readerSchema));
+  }
+
+  /**
+   * The fast-avro generated code doesn't preserve the order of the map entries, so the fast-avro serializer is only
+   * returned for a schema without any map, and {@link #getSerializer} is returned otherwise.
+   */
+  public static <K> RecordSerializer<K> getFastSerializer(Schema schema) {
+    if (containsMap(schema)) {
+      return getSerializer(schema);
+    }
+    return FastSerializerDeserializerFactory.getFastAvroGenericSerializer(schema);
+  }
+
+  /**
+   * The fast-avro generated code doesn't preserve the order of the map entries, so the fast-avro deserializer is only
+   * returned if none of the schemas contains any map, and {@link #getDeserializer} is returned otherwise.
+   */
+  public static RecordDeserializer<GenericRecord> getFastDeserializer(Schema writerSchema, Schema readerSchema) {
+    if (containsMap(writerSchema) || containsMap(readerSchema)) {
+      return getDeserializer(writerSchema, readerSchema);
+    }
+    return FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(writerSchema, readerSchema);
+  }
+
+  static boolean containsMap(Schema schema) {
+    return SCHEMA_WITH_MAP_CACHE
+        .computeIfAbsent(schema, s -> containsMap(s, Collections.newSetFromMap(new IdentityHashMap<>())));
+  }
+
+  private static boolean containsMap(Schema schema, Set<Schema> visitedRecords) {
+    switch (schema.getType()) {
+      case MAP:
+        return true;
+      case ARRAY:
+        return containsMap(schema.getElementType(), visitedRecords);
+      case UNION:
+        for (Schema branch: schema.getTypes()) {
+          if (containsMap(branch, visitedRecords)) {
+            return true;
+          }
+        }
+        return false;
+      case RECORD:
+        if (!visitedRecords.add(schema)) {
+          return false;
+        }
+        for (Schema.Field field: schema.getFields()) {
+          if (containsMap(field.schema(), visitedRecords)) {
+            return true;
+          }
+        }
+        return false;
+      default:
+        return false;
+    }
+  }
 }
@@ -0,0 +1,69 @@
+package com.linkedin.venice.compute;
+
+import com.linkedin.avro.fastserde.primitive.PrimitiveFloatArrayList;
+import com.linkedin.venice.exceptions.VeniceException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class ComputeOperationUtilsTest {
+  private static final float DELTA = 0.0001f;
+
+  @Test
+  public void testBoxedAndPrimitiveListsGiveTheSameResults() {
+    List<Float> boxedList = Arrays.asList(1.0f, 2.0f, 3.0f, 4.0f, 5.0f);
+    List<Float> primitiveList = toPrimitiveFloatList(Arrays.asList(5.0f, 4.0f, 3.0f, 2.0f, 1.0f));
+
+    Assert.assertEquals(ComputeOperationUtils.dotProduct(boxedList, primitiveList), 35.0f, DELTA);
+    Assert.assertEquals(ComputeOperationUtils.dotProduct(primitiveList, boxedList), 35.0f, DELTA);
+    Assert.assertEquals(ComputeOperationUtils.squaredL2Norm(primitiveList), 55.0f, DELTA);
+    Assert.assertEquals(
+        ComputeOperationUtils.hadamardProduct(boxedList, primitiveList),
+        Arrays.asList(5.0f, 8.0f, 9.0f, 8.0f, 5.0f));
+
+    Map<String, Object> context = new HashMap<>();
+    float[] primitiveParam = ComputeOperationUtils.getCachedPrimitiveFloatVector(boxedList, context);
+    float[] primitiveValue = ComputeOperationUtils.toReusablePrimitiveFloatVector(primitiveList);
+    Assert.assertEquals(ComputeOperationUtils.dotProduct(primitiveParam, primitiveValue, 5), 35.0f, DELTA);
+    Assert.assertEquals(ComputeOperationUtils.squaredL2Norm(primitiveParam, 5), 55.0f, DELTA);
+    Assert.assertEquals(
+        ComputeOperationUtils.hadamardProduct(primitiveParam, primitiveValue, 5),
+        Arrays.asList(5.0f, 8.0f, 9.0f, 8.0f, 5.0f));
+
+    Assert.expectThrows(
+        VeniceException.class,
+        () -> ComputeOperationUtils.dotProduct(boxedList, Arrays.asList(1.0f, 2.0f)));
+  }
+
+  @Test
+  public void testPrimitiveFloatVectorReuse() {
+    Map<String, Object> context = new HashMap<>();
+    List<Float> param = Arrays.asList(1.0f, 2.0f, 3.0f);
+    float[] primitiveParam = ComputeOperationUtils.getCachedPrimitiveFloatVector(param, context);
+    Assert.assertEquals(primitiveParam, new float[] { 1.0f, 2.0f, 3.0f });
+    // The same parameter is only converted once per context
+    Assert.assertSame(ComputeOperationUtils.getCachedPrimitiveFloatVector(param, context), primitiveParam);
+    Assert.assertNotSame(
+        ComputeOperationUtils.getCachedPrimitiveFloatVector(new ArrayList<>(param), context),
+        primitiveParam);
+
+    // The value buffer of the thread only grows, and is overwritten by each conversion
+    float[] buffer = ComputeOperationUtils.toReusablePrimitiveFloatVector(Arrays.asList(1.0f, 2.0f, 3.0f, 4.0f));
+    float[] reusedBuffer = ComputeOperationUtils.toReusablePrimitiveFloatVector(toPrimitiveFloatList(param));
+    Assert.assertSame(reusedBuffer, buffer);
+    Assert.assertEquals(Arrays.copyOf(reusedBuffer, 3), new float[] { 1.0f, 2.0f, 3.0f });
+  }
+
+  private static List<Float> toPrimitiveFloatList(List<Float> list) {
+    PrimitiveFloatArrayList primitiveFloatList = new PrimitiveFloatArrayList(list.size());
+    for (float f: list) {
+      primitiveFloatList.addPrimitive(f);
+    }
+    return primitiveFloatList;
+  }
+}
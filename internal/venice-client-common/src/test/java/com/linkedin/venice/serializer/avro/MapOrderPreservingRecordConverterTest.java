@@ -0,0 +1,101 @@
+package com.linkedin.venice.serializer.avro;
+
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.venice.utils.IndexedHashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.apache.avro.AvroTypeException;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class MapOrderPreservingRecordConverterTest {
+  private static final String WRITER_SCHEMA_STR = "{" + "   \"type\" : \"record\","
+      + "   \"namespace\" : \"com.linkedin.avro\"," + "   \"name\" : \"Person\"," + "   \"fields\" : ["
+      + "      { \"name\" : \"Name\" , \"type\" : \"string\", \"default\" : \"unknown\" },"
+      + "      { \"name\" : \"Age\" , \"type\" : \"int\", \"default\" : -1 },"
+      + "      { \"name\" : \"Removed\" , \"type\" : \"int\", \"default\" : 0 },"
+      + "      { \"name\" : \"Timestamps\" , \"type\" : {\"type\" : \"array\", \"items\" : \"long\"}, \"default\" : [] },"
+      + "      { \"name\" : \"Address\" , \"type\" : [\"null\", {\"type\" : \"record\", \"name\" : \"Address\", \"fields\" : ["
+      + "         { \"name\" : \"City\" , \"type\" : \"string\" }]}], \"default\" : null },"
+      + "      { \"name\" : \"PetNameToAge\" , \"type\" : [\"null\" , {\"type\" : \"map\", \"values\" : \"int\"}], \"default\" : null }"
+      + "   ]" + "}";
+
+  /**
+   * Drops a field, adds fields with default values, promotes an int field and a map value, and adds a field to a
+   * nested record.
+   */
+  private static final String READER_SCHEMA_STR = "{" + "   \"type\" : \"record\","
+      + "   \"namespace\" : \"com.linkedin.avro\"," + "   \"name\" : \"Person\"," + "   \"fields\" : ["
+      + "      { \"name\" : \"Name\" , \"type\" : \"string\", \"default\" : \"unknown\" },"
+      + "      { \"name\" : \"Age\" , \"type\" : \"long\", \"default\" : -1 },"
+      + "      { \"name\" : \"Timestamps\" , \"type\" : {\"type\" : \"array\", \"items\" : \"long\"}, \"default\" : [] },"
+      + "      { \"name\" : \"Items\" , \"type\" : {\"type\" : \"array\", \"items\" : \"string\"}, \"default\" : [] },"
+      + "      { \"name\" : \"Address\" , \"type\" : [\"null\", {\"type\" : \"record\", \"name\" : \"Address\", \"fields\" : ["
+      + "         { \"name\" : \"City\" , \"type\" : \"string\" },"
+      + "         { \"name\" : \"ZipCode\" , \"type\" : \"int\", \"default\" : 0 }]}], \"default\" : null },"
+      + "      { \"name\" : \"PetNameToAge\" , \"type\" : [\"null\" , {\"type\" : \"map\", \"values\" : \"double\"}], \"default\" : null }"
+      + "   ]" + "}";
+
+  @Test
+  public void testConversionMatchesSerDe() {
+    Schema writerSchema = AvroCompatibilityHelper.parse(WRITER_SCHEMA_STR);
+    Schema readerSchema = AvroCompatibilityHelper.parse(READER_SCHEMA_STR);
+    MapOrderPreservingRecordConverter converter =
+        MapOrderingPreservingSerDeFactory.getRecordConverter(writerSchema, readerSchema);
+    Assert.assertSame(MapOrderingPreservingSerDeFactory.getRecordConverter(writerSchema, readerSchema), converter);
+
+    GenericRecord record = new GenericData.Record(writerSchema);
+    record.put("Name", "Alice");
+    record.put("Age", 30);
+    record.put("Removed", 1);
+    record.put("Timestamps", new ArrayList<>(Arrays.asList(3L, 1L, 2L)));
+    GenericRecord address = new GenericData.Record(writerSchema.getField("Address").schema().getTypes().get(1));
+    address.put("City", "Sunnyvale");
+    record.put("Address", address);
+    Map<String, Integer> petNameToAge = new IndexedHashMap<>();
+    for (int i = 9; i > 0; i--) {
+      petNameToAge.put("cat_" + i, i);
+    }
+    record.put("PetNameToAge", petNameToAge);
+
+    GenericRecord convertedRecord = converter.convert(record);
+    GenericRecord deserializedRecord = MapOrderingPreservingSerDeFactory.getDeserializer(writerSchema, readerSchema)
+        .deserialize(MapOrderingPreservingSerDeFactory.getSerializer(writerSchema).serialize(record));
+    // The JSON representation also compares the order of the map entries.
+    Assert.assertEquals(convertedRecord.toString(), deserializedRecord.toString());
+    Assert.assertEquals(convertedRecord.get("Age"), 30L);
+    Assert.assertEquals(((GenericRecord) convertedRecord.get("Address")).get("ZipCode"), 0);
+
+    // The converted record doesn't share any container with the original one.
+    ((List<Long>) convertedRecord.get("Timestamps")).add(4L);
+    ((List<String>) convertedRecord.get("Items")).add("item");
+    ((Map<String, Double>) convertedRecord.get("PetNameToAge")).remove("cat_1");
+    Assert.assertEquals(((List<Long>) record.get("Timestamps")).size(), 3);
+    Assert.assertEquals(petNameToAge.size(), 9);
+    Assert.assertTrue(((List<String>) converter.convert(record).get("Items")).isEmpty());
+
+    record.put("PetNameToAge", null);
+    record.put("Address", null);
+    Assert.assertEquals(
+        converter.convert(record).toString(),
+        MapOrderingPreservingSerDeFactory.getDeserializer(writerSchema, readerSchema)
+            .deserialize(MapOrderingPreservingSerDeFactory.getSerializer(writerSchema).serialize(record))
+            .toString());
+  }
+
+  @Test
+  public void testIncompatibleSchemas() {
+    Schema writerSchema = AvroCompatibilityHelper.parse(READER_SCHEMA_STR);
+    Schema readerSchema = AvroCompatibilityHelper.parse(WRITER_SCHEMA_STR);
+    // A long can't be read as an int.
+    Assert.assertThrows(
+        AvroTypeException.class,
+        () -> MapOrderingPreservingSerDeFactory.getRecordConverter(writerSchema, readerSchema));
+  }
+}
@@ -384,6 +384,46 @@ public class ConfigKeys {
       "store.writer.buffer.after.leader.logic.enabled";
   public static final String STORE_WRITER_BUFFER_MEMORY_CAPACITY = "store.writer.buffer.memory.capacity";
   public static final String STORE_WRITER_BUFFER_NOTIFY_DELTA = "store.writer.buffer.notify.delta";
+  /**
+   * Whether the store writer buffers should be lock-free queues, which only take a lock to park the threads which
+   * cannot make progress, instead of taking a lock for every record put into or taken out of the buffer.
+   */
+  public static final String STORE_WRITER_BUFFER_LOCK_FREE_QUEUE_ENABLED =
+      "store.writer.buffer.lock.free.queue.enabled";
+  /**
+   * The maximum number of records taken out of a store writer buffer at once by its drainer.
+   */
+  public static final String STORE_WRITER_BUFFER_DRAIN_BATCH_SIZE = "store.writer.buffer.drain.batch.size";
+  /**
+   * Whether the store writers should group the writes of consecutive records of the same partition into a single
+   * storage engine write batch, committed at once. The persisted futures of the records are only completed once the
+   * write batch is committed.
+   */
+  public static final String STORE_WRITER_GROUP_COMMIT_ENABLED = "store.writer.group.commit.enabled";
+  /**
+   * The maximum number of records in a group commit. It also bounds the number of records taken out of a store writer
+   * buffer at once, when it is bigger than {@link #STORE_WRITER_BUFFER_DRAIN_BATCH_SIZE}.
+   */
+  public static final String STORE_WRITER_GROUP_COMMIT_MAX_RECORDS = "store.writer.group.commit.max.records";
+  /**
+   * The maximum estimated size of the records in a group commit.
+   */
+  public static final String STORE_WRITER_GROUP_COMMIT_MAX_BYTES = "store.writer.group.commit.max.bytes";
+  /**
+   * The maximum time spent processing the records of a group commit, before it gets committed.
+   */
+  public static final String STORE_WRITER_GROUP_COMMIT_MAX_LATENCY_MS = "store.writer.group.commit.max.latency.ms";
+  /**
+   * Whether the topic partitions are reassigned across the store writers based on their measured processing time, so
+   * that the hot partitions pinned to the same store writer by hashing get spread out. A partition is only reassigned
+   * once all its buffered records have been processed, so the per-partition ordering is preserved.
+   */
+  public static final String STORE_WRITER_DYNAMIC_ASSIGNMENT_ENABLED = "store.writer.dynamic.assignment.enabled";
+  /**
+   * The interval at which the processing time of the topic partitions is evaluated to rebalance the store writers.
+   */
+  public static final String STORE_WRITER_DYNAMIC_ASSIGNMENT_INTERVAL_MS =
+      "store.writer.dynamic.assignment.interval.ms";
   public static final String SERVER_REST_SERVICE_STORAGE_THREAD_NUM = "server.rest.service.storage.thread.num";
   public static final String SERVER_NETTY_IDLE_TIME_SECONDS = "server.netty.idle.time.seconds";
   public static final String SERVER_MAX_REQUEST_SIZE = "server.max.request.size";
@@ -523,6 +563,34 @@ public class ConfigKeys {
    */
   public static final String SERVER_PARALLEL_BATCH_GET_CHUNK_SIZE = "server.parallel.batch.get.chunk.size";
 
+  /**
+   * Whether to look up the keys of batch-get and compute requests with batched storage engine calls (one per
+   * partition, e.g. RocksDB MultiGet) instead of one storage engine call per key.
+   */
+  public static final String SERVER_BATCH_LOOKUP_ENABLED = "server.batch.lookup.enabled";
+
+  /**
+   * Whether to decode batch-get and compute request keys straight from the inbound Netty buffer, and to encode the
+   * response records incrementally into a pooled direct buffer as they are looked up, instead of materializing the
+   * whole request and response as intermediate byte arrays.
+   */
+  public static final String SERVER_INCREMENTAL_SERDE_ENABLED = "server.incremental.serde.enabled";
+
+  /**
+   * When the response records are serialized incrementally, the records of a streaming batch-get or compute request
+   * are flushed to the router as an HTTP chunk as soon as this many bytes are serialized, while the remaining keys are
+   * still being looked up. 0 means the streaming responses are sent at once, like the other ones.
+   */
+  public static final String SERVER_STREAMING_RESPONSE_CHUNK_SIZE_IN_BYTES =
+      "server.streaming.response.chunk.size.in.bytes";
+
+  /**
+   * Number of threads used to open the storage engines persisted on disk when the storage service starts. The store
+   * versions are opened one after the other when this is 1, and current versions are opened before the other ones.
+   * The RocksDB database open operations are still throttled by "rocksdb.db.open.operation.throttle".
+   */
+  public static final String SERVER_STORE_RESTORE_THREAD_POOL_SIZE = "server.store.restore.thread.pool.size";
+
   /**
    * The request early termination threshold map:
    * The key will be store name, and the value will be the actual threshold.
@@ -531,6 +599,13 @@ public class ConfigKeys {
   public static final String SERVER_STORE_TO_EARLY_TERMINATION_THRESHOLD_MS_MAP =
       "server.store.to.early.termination.threshold.ms.map";
 
+  /**
+   * The stores whose single gets are served out of an in-memory cache of their hottest values, with the capacity of
+   * each cache in bytes. The key will be store name, and the value will be the capacity, such as: "store1:67108864".
+   */
+  public static final String SERVER_STORE_TO_HOT_KEY_VALUE_CACHE_CAPACITY_MAP =
+      "server.store.to.hot.key.value.cache.capacity.map";
+
   /**
    * The following config is used to control the maximum database lookup requests queued, when the queue is full,
    * server will propagate the back pressure to the caller.
@@ -571,6 +646,57 @@ public class ConfigKeys {
    */
   public static final String SERVER_SHARED_CONSUMER_ASSIGNMENT_STRATEGY = "server.shared.consumer.assignment.strategy";
 
+  /**
+   * The maximum number of idle {@link com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope}s kept for reuse by each
+   * of the pools of the consumed data records, which recycle the envelopes once the store writers and the leader
+   * producer callbacks are done with them. 0 disables the pooling, so every consumed record allocates a new envelope.
+   */
+  public static final String SERVER_KAFKA_MESSAGE_ENVELOPE_POOL_SIZE = "server.kafka.message.envelope.pool.size";
+
+  /**
+   * Whether an illegal retain or release of a pooled envelope throws, along with the stack trace of its latest release,
+   * instead of just being logged. It is costly, so it is only meant for debugging.
+   */
+  public static final String SERVER_KAFKA_MESSAGE_ENVELOPE_POOL_DEBUG_ENABLED =
+      "server.kafka.message.envelope.pool.debug.enabled";
+
+  /**
+   * Whether the leader of an active/active store-version looks up the old values and replication metadata of a polled
+   * batch of real-time records with batched DB reads, ahead of the conflict resolution of the records, instead of one
+   * key at a time while holding the lock of the key.
+   */
+  public static final String SERVER_ACTIVE_ACTIVE_PREFETCH_ENABLED = "server.active.active.prefetch.enabled";
+
+  /**
+   * Whether the conflict resolution of active/active store-versions uses the fast-avro generated serializers and
+   * deserializers for the values and replication metadata whose schemas don't contain any map, since the generated code
+   * doesn't preserve the order of the map entries.
+   */
+  public static final String SERVER_ACTIVE_ACTIVE_MERGE_FAST_AVRO_ENABLED =
+      "server.active.active.merge.fast.avro.enabled";
+
+  /**
+   * The number of threads shared by all the active/active leaders of the server to resolve the conflicts of the
+   * real-time records of a partition concurrently, for different keys, before producing the results to the version
+   * topic in the order of the real-time records. 0 disables the parallel conflict resolution.
+   */
+  public static final String SERVER_ACTIVE_ACTIVE_PARALLEL_CONFLICT_RESOLUTION_THREAD_COUNT =
+      "server.active.active.parallel.conflict.resolution.thread.count";
+
+  /**
+   * The maximum number of real-time records of a partition whose conflicts are resolved concurrently, before producing
+   * the results to the version topic. Only takes effect with
+   * {@link #SERVER_ACTIVE_ACTIVE_PARALLEL_CONFLICT_RESOLUTION_THREAD_COUNT}.
+   */
+  public static final String SERVER_ACTIVE_ACTIVE_PARALLEL_CONFLICT_RESOLUTION_MAX_PENDING_RECORDS =
+      "server.active.active.parallel.conflict.resolution.max.pending.records";
+
+  /**
+   * The number of locks, a power of two, which the keys of each active/active ingestion task are striped across, instead
+   * of assigning a pooled lock to each key being processed. 0 keeps the pooled key level locks.
+   */
+  public static final String SERVER_KEY_LEVEL_LOCKS_STRIPE_COUNT = "server.key.level.locks.stripe.count";
+
   /**
    * Whether to enable leaked resource cleanup in storage node.
    * Right now, it only covers leaked storage partitions on disk.
@@ -831,6 +957,104 @@ public class ConfigKeys {
   public static final String ROUTER_LONG_TAIL_RETRY_MAX_ROUTE_FOR_MULTI_KEYS_REQ =
       "router.long.tail.retry.max.route.for.multi.keys.req";
 
+  /**
+   * Whether to derive the long-tail retry threshold of each store and request type from the latest latency of the
+   * storage node responses instead of {@link #ROUTER_LONG_TAIL_RETRY_FOR_SINGLE_GET_THRESHOLD_MS} and
+   * {@link #ROUTER_LONG_TAIL_RETRY_FOR_BATCH_GET_THRESHOLD_MS}.
+   * The static thresholds are still used until there are enough samples for the store.
+   */
+  public static final String ROUTER_ADAPTIVE_LONG_TAIL_RETRY_ENABLED = "router.adaptive.long.tail.retry.enabled";
+
+  /**
+   * The percentile of the storage node response latency to use as the adaptive long-tail retry threshold, e.g. 95
+   * means the requests slower than the p95 latency of the store will be retried.
+   */
+  public static final String ROUTER_ADAPTIVE_LONG_TAIL_RETRY_PERCENTILE = "router.adaptive.long.tail.retry.percentile";
+
+  /**
+   * The lower bound of the adaptive long-tail retry threshold.
+   */
+  public static final String ROUTER_ADAPTIVE_LONG_TAIL_RETRY_MIN_THRESHOLD_MS =
+      "router.adaptive.long.tail.retry.min.threshold.ms";
+
+  /**
+   * The upper bound of the adaptive long-tail retry threshold.
+   */
+  public static final String ROUTER_ADAPTIVE_LONG_TAIL_RETRY_MAX_THRESHOLD_MS =
+      "router.adaptive.long.tail.retry.max.threshold.ms";
+
+  /**
+   * The max ratio of the retry requests to the original requests received by Router in the latest 10 seconds, e.g. 0.1
+   * means Router will retry at most 10% of the requests, and the retries over the budget will be aborted.
+   * Non-positive value means there is no retry budget.
+   */
+  public static final String ROUTER_RETRY_BUDGET_RATIO = "router.retry.budget.ratio";
+
+  /**
+   * The stores whose concurrent single-get requests for the same key will be coalesced by Router, which means only one
+   * request will be sent to the storage node and its response will be shared by all the identical requests in flight.
+   * It is useful for the stores with hot keys, and it is disabled for all the stores by default.
+   */
+  public static final String ROUTER_SINGLE_GET_COALESCING_STORES = "router.single.get.coalescing.stores";
+
+  /**
+   * The batch-only stores whose single-get responses will be cached by Router in off-heap memory, and the cache is
+   * disabled for all the stores by default.
+   * The cached responses are keyed by store version, so they won't be served once a new version becomes current.
+   */
+  public static final String ROUTER_RESPONSE_CACHE_STORES = "router.response.cache.stores";
+
+  /**
+   * The max off-heap memory in bytes used by the Router response cache, and the oldest cached responses will be evicted
+   * once the limit is reached.
+   */
+  public static final String ROUTER_RESPONSE_CACHE_MAX_MEMORY_BYTES = "router.response.cache.max.memory.bytes";
+
+  /**
+   * Whether to limit the in-flight requests to every storage node adaptively based on the observed response latency.
+   * When enabled, the limit of every storage node is decreased once the latency rises above its long-term baseline
+   * and increased while the latency stays around the baseline, and the requests exceeding the limit will be retried
+   * on other replicas if possible.
+   * It replaces the fixed pending request check per storage node controlled by
+   * {@link #ROUTER_UNHEALTHY_PENDING_CONNECTION_THRESHOLD_PER_ROUTE} in the request dispatching path.
+   */
+  public static final String ROUTER_ADAPTIVE_CONCURRENCY_LIMIT_ENABLED = "router.adaptive.concurrency.limit.enabled";
+
+  /**
+   * The initial in-flight request limit of every storage node when the adaptive concurrency limit is enabled.
+   */
+  public static final String ROUTER_ADAPTIVE_CONCURRENCY_LIMIT_INITIAL = "router.adaptive.concurrency.limit.initial";
+
+  /**
+   * The lower bound of the adaptive in-flight request limit of every storage node.
+   */
+  public static final String ROUTER_ADAPTIVE_CONCURRENCY_LIMIT_MIN = "router.adaptive.concurrency.limit.min";
+
+  /**
+   * The upper bound of the adaptive in-flight request limit of every storage node.
+   */
+  public static final String ROUTER_ADAPTIVE_CONCURRENCY_LIMIT_MAX = "router.adaptive.concurrency.limit.max";
+
+  /**
+   * The number of threads dedicated to decompressing the multi-get responses in Router when the client can't
+   * decompress them, so that the deserialization, decompression and re-serialization of every storage node response
+   * won't block the I/O threads.
+   * The default value 0 means the decompression will happen in the thread completing the storage node response.
+   */
+  public static final String ROUTER_MULTI_GET_DECOMPRESSION_THREAD_COUNT = "router.multi.get.decompression.thread.count";
+
+  /**
+   * The max number of storage node responses waiting for decompression, and the thread completing the storage node
+   * response will decompress it by itself once the queue is full.
+   */
+  public static final String ROUTER_MULTI_GET_DECOMPRESSION_QUEUE_SIZE = "router.multi.get.decompression.queue.size";
+
+  /**
+   * Whether Router splices the multi-get and compute responses from the storage nodes by reference without any copy,
+   * which also releases the sub-responses that are not returned to the client when the request fails.
+   */
+  public static final String ROUTER_ZERO_COPY_AGGREGATION_ENABLED = "router.zero.copy.aggregation.enabled";
+
   /**
    * The max key count allowed in one multi-get request.
    * For now, it is configured in host level, and we could consider to configure it in store level.
@@ -1579,6 +1803,25 @@ public class ConfigKeys {
   public static final String ROUTER_HTTPASYNCCLIENT_CLIENT_POOL_THREAD_COUNT =
       "router.httpasyncclient.client.pool.io.thread.count";
 
+  /**
+   * The max number of connections from the Netty storage node client to a single storage node. With HTTP/2, all the
+   * requests are multiplexed over the connections as streams, so a small number is usually enough.
+   */
+  public static final String ROUTER_NETTY_CLIENT_MAX_CONNECTIONS_PER_HOST =
+      "router.netty.client.max.connections.per.host";
+
+  /**
+   * The max number of requests waiting for a connection or a stream to a single storage node in the Netty storage node
+   * client, the requests exceeding it will fail right away.
+   */
+  public static final String ROUTER_NETTY_CLIENT_MAX_PENDING_ACQUIRES_PER_HOST =
+      "router.netty.client.max.pending.acquires.per.host";
+
+  /**
+   * How long a request can wait for a connection or a stream to a storage node in the Netty storage node client.
+   */
+  public static final String ROUTER_NETTY_CLIENT_ACQUIRE_TIMEOUT_MS = "router.netty.client.acquire.timeout.ms";
+
   /** Maximum number of times controller will automatically reset an error partition for the current/serving version
    * to mitigate impact of transient or long running issues during re-balance or restart.
    */
@@ -0,0 +1,89 @@
+package com.linkedin.venice.kafka.validation.checksum;
+
+import com.linkedin.alpini.base.hash.Crc32C;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.ByteUtils;
+import java.lang.reflect.Constructor;
+import java.util.function.Supplier;
+import java.util.zip.Checksum;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * Running checksum implementation based on CRC32-C.
+ *
+ * On Java 9+, {@code java.util.zip.CRC32C} is used, which the JVM computes with the CRC32 instructions of the CPU when
+ * available. Otherwise, Alpini's pure-java {@link Crc32C} is used. Both compute the same value.
+ *
+ * The encoded state is the 4 bytes value computed so far, so the checksum can be checkpointed in the middle of a
+ * segment. Since the JDK implementation cannot resume from a given value, a checksum resumed from an encoded state
+ * uses {@link Crc32C} until it is reset.
+ */
+public class CRC32CCheckSum extends CheckSum {
+  private static final Logger LOGGER = LogManager.getLogger(CRC32CCheckSum.class);
+  private static final Supplier<Checksum> CHECKSUM_SUPPLIER = getChecksumSupplier();
+
+  private Checksum checkSumGenerator;
+
+  public CRC32CCheckSum() {
+    checkSumGenerator = CHECKSUM_SUPPLIER.get();
+  }
+
+  public CRC32CCheckSum(byte[] encodedState) {
+    if (encodedState == null || encodedState.length != ByteUtils.SIZE_OF_INT) {
+      throw new VeniceException(
+          "Invalid encoded state of " + getType() + ", expected " + ByteUtils.SIZE_OF_INT + " bytes, but got: "
+              + (encodedState == null ? "null" : encodedState.length + " bytes"));
+    }
+    Crc32C crc32C = new Crc32C();
+    crc32C.reset(ByteUtils.readInt(encodedState, 0) & 0xffffffffL);
+    checkSumGenerator = crc32C;
+  }
+
+  @Override
+  public byte[] getFinalCheckSum() {
+    return getEncodedState();
+  }
+
+  @Override
+  public void updateChecksum(byte[] input, int startIndex, int length) {
+    checkSumGenerator.update(input, startIndex, length);
+  }
+
+  @Override
+  public void resetInternal() {
+    checkSumGenerator = CHECKSUM_SUPPLIER.get();
+  }
+
+  @Override
+  public CheckSumType getType() {
+    return CheckSumType.CRC32C;
+  }
+
+  @Override
+  public byte[] getEncodedState() {
+    byte[] state = new byte[ByteUtils.SIZE_OF_INT];
+    ByteUtils.writeInt(state, (int) checkSumGenerator.getValue(), 0);
+    return state;
+  }
+
+  private static Supplier<Checksum> getChecksumSupplier() {
+    try {
+      Constructor<? extends Checksum> constructor =
+          Class.forName("java.util.zip.CRC32C").asSubclass(Checksum.class).getConstructor();
+      constructor.newInstance();
+      LOGGER.info("Using java.util.zip.CRC32C to compute the {} checksums", CheckSumType.CRC32C);
+      return () -> {
+        try {
+          return constructor.newInstance();
+        } catch (ReflectiveOperationException e) {
+          throw new VeniceException("Failed to create a java.util.zip.CRC32C instance", e);
+        }
+      };
+    } catch (ReflectiveOperationException e) {
+      LOGGER.info("java.util.zip.CRC32C is not available, using {} to compute the checksums", Crc32C.class.getName());
+      return Crc32C::new;
+    }
+  }
+}
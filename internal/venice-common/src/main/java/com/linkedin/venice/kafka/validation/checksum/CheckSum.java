@@ -133,6 +133,8 @@ public abstract class CheckSum {
         return Optional.of(new CRC32CheckSum());
       case MD5:
         return Optional.of(new MD5CheckSum());
+      case CRC32C:
+        return Optional.of(new CRC32CCheckSum());
       default:
         return Optional.empty();
     }
@@ -145,6 +147,8 @@ public abstract class CheckSum {
           return Optional.empty();
         case MD5:
           return Optional.of(new MD5CheckSum(encodedState));
+        case CRC32C:
+          return Optional.of(new CRC32CCheckSum(encodedState));
         default:
           return Optional.empty();
       }
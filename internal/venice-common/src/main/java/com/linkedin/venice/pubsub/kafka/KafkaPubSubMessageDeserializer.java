@@ -76,14 +76,23 @@ public class KafkaPubSubMessageDeserializer implements
   private KafkaMessageEnvelope getEnvelope(byte keyHeaderByte) {
     switch (keyHeaderByte) {
       case MessageType.Constants.PUT_KEY_HEADER_BYTE:
-        return putEnvelopePool.get();
+        return acquireEnvelope(putEnvelopePool);
       // No need to pool control messages since there are so few of them, and they are varied anyway, limiting reuse.
       case MessageType.Constants.CONTROL_MESSAGE_KEY_HEADER_BYTE:
         return new KafkaMessageEnvelope();
       case MessageType.Constants.UPDATE_KEY_HEADER_BYTE:
-        return updateEnvelopePool.get();
+        return acquireEnvelope(updateEnvelopePool);
       default:
         throw new IllegalStateException("Illegal key header byte: " + keyHeaderByte);
     }
   }
+
+  private static KafkaMessageEnvelope acquireEnvelope(ObjectPool<KafkaMessageEnvelope> envelopePool) {
+    KafkaMessageEnvelope envelope = envelopePool.get();
+    if (envelope instanceof PooledKafkaMessageEnvelope && !((PooledKafkaMessageEnvelope) envelope).acquire()) {
+      // The envelope is still referenced somewhere, so it cannot be reused.
+      return new KafkaMessageEnvelope();
+    }
+    return envelope;
+  }
 }
@@ -0,0 +1,143 @@
+package com.linkedin.venice.pubsub.kafka;
+
+import com.linkedin.venice.kafka.protocol.Delete;
+import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
+import com.linkedin.venice.kafka.protocol.Put;
+import com.linkedin.venice.kafka.protocol.Update;
+import com.linkedin.venice.utils.RedundantExceptionFilter;
+import com.linkedin.venice.utils.pools.ObjectPool;
+import com.linkedin.venice.utils.pools.RecyclingObjectPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * A {@link KafkaMessageEnvelope} which is recycled by a {@link RecyclingObjectPool} once it is released, so that the
+ * consumed records don't allocate a new envelope, along with its producer metadata and payload, every time.
+ *
+ * The envelope is reference counted, since a consumed record could be handed over to several owners, e.g. the leader
+ * producer callback and the store writer buffers:
+ * 1. The envelope is obtained from the pool with a reference count of 1, owned by the consumer;
+ * 2. Every owner taking over the record asynchronously calls {@link #retainIfPooled}, and {@link #releaseIfPooled}
+ *    once it is done with it;
+ * 3. Once the count gets to 0, the fields which could still be referenced outside of the envelope are cleared, since
+ *    the deserializer would overwrite them in place otherwise, e.g. the producer GUID used as key by the DIV, and then
+ *    the envelope goes back to the pool.
+ *
+ * An envelope which is never released is simply garbage collected. An illegal retain or release is logged and leaves
+ * the reference count untouched, unless the debug mode is enabled, in which case it throws, along with the stack trace
+ * of the latest release of the envelope, which is tracked for every release in the debug mode.
+ */
+public class PooledKafkaMessageEnvelope extends KafkaMessageEnvelope {
+  private static final Logger LOGGER = LogManager.getLogger(PooledKafkaMessageEnvelope.class);
+  private static final RedundantExceptionFilter REDUNDANT_LOGGING_FILTER =
+      RedundantExceptionFilter.getRedundantExceptionFilter();
+
+  private final ObjectPool<KafkaMessageEnvelope> pool;
+  private final boolean debugEnabled;
+  private final AtomicInteger referenceCount = new AtomicInteger();
+  private volatile Throwable lastRelease;
+
+  private PooledKafkaMessageEnvelope(ObjectPool<KafkaMessageEnvelope> pool, boolean debugEnabled) {
+    this.pool = pool;
+    this.debugEnabled = debugEnabled;
+  }
+
+  /**
+   * @param maxIdleEnvelopes the maximum number of released envelopes kept for reuse.
+   * @param debugEnabled whether to throw on an illegal retain or release, with the stack trace of the latest release.
+   */
+  public static ObjectPool<KafkaMessageEnvelope> createPool(int maxIdleEnvelopes, boolean debugEnabled) {
+    return new RecyclingObjectPool<>(pool -> new PooledKafkaMessageEnvelope(pool, debugEnabled), maxIdleEnvelopes);
+  }
+
+  /**
+   * Takes the initial reference of an envelope obtained from the pool.
+   *
+   * @return false if the envelope is still referenced, which means it has been released too early by one of its
+   *         previous owners, so it should not be used.
+   */
+  boolean acquire() {
+    if (referenceCount.compareAndSet(0, 1)) {
+      return true;
+    }
+    onIllegalReferenceCount("acquire", referenceCount.get());
+    return false;
+  }
+
+  public void retain() {
+    while (true) {
+      int count = referenceCount.get();
+      if (count <= 0) {
+        onIllegalReferenceCount("retain", count);
+        return;
+      }
+      if (referenceCount.compareAndSet(count, count + 1)) {
+        return;
+      }
+    }
+  }
+
+  public void release() {
+    while (true) {
+      int count = referenceCount.get();
+      if (count <= 0) {
+        onIllegalReferenceCount("release", count);
+        return;
+      }
+      if (referenceCount.compareAndSet(count, count - 1)) {
+        if (debugEnabled) {
+          lastRelease = new Throwable("Latest release of the envelope, with reference count: " + (count - 1));
+        }
+        if (count == 1) {
+          recycle();
+        }
+        return;
+      }
+    }
+  }
+
+  public int getReferenceCount() {
+    return referenceCount.get();
+  }
+
+  private void recycle() {
+    if (producerMetadata != null) {
+      producerMetadata.producerGUID = null;
+    }
+    if (payloadUnion instanceof Put) {
+      Put put = (Put) payloadUnion;
+      put.putValue = null;
+      put.replicationMetadataPayload = null;
+    } else if (payloadUnion instanceof Update) {
+      ((Update) payloadUnion).updateValue = null;
+    } else if (payloadUnion instanceof Delete) {
+      ((Delete) payloadUnion).replicationMetadataPayload = null;
+    }
+    leaderMetadataFooter = null;
+    pool.dispose(this);
+  }
+
+  private void onIllegalReferenceCount(String action, int count) {
+    String message = "Illegal " + action + " of a pooled KafkaMessageEnvelope with reference count: " + count;
+    if (debugEnabled) {
+      throw new IllegalStateException(message, lastRelease);
+    }
+    if (!REDUNDANT_LOGGING_FILTER.isRedundantException(message)) {
+      LOGGER.error(message);
+    }
+  }
+
+  public static void retainIfPooled(KafkaMessageEnvelope envelope) {
+    if (envelope instanceof PooledKafkaMessageEnvelope) {
+      ((PooledKafkaMessageEnvelope) envelope).retain();
+    }
+  }
+
+  public static void releaseIfPooled(KafkaMessageEnvelope envelope) {
+    if (envelope instanceof PooledKafkaMessageEnvelope) {
+      ((PooledKafkaMessageEnvelope) envelope).release();
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package com.linkedin.venice.utils.pools;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Function;
+
+
+/**
+ * An implementation which keeps the disposed objects, up to a bounded number of idle objects, and hands them out again
+ * on the following calls to {@link #get()}. Once the bound is reached, the disposed objects are left to the garbage
+ * collector, so the pool never retains more than the bound, even if the objects are not disposed of at the same rate
+ * as they are obtained.
+ *
+ * The objects are recycled as is, so it is up to the caller to only dispose of an object once nothing references it
+ * anymore, and to clear whatever it should not retain.
+ */
+public class RecyclingObjectPool<O> implements ObjectPool<O> {
+  private final Function<ObjectPool<O>, O> objectFactory;
+  private final BlockingQueue<O> idleObjects;
+
+  /**
+   * @param objectFactory to instantiate a new object when there is no idle one, which takes this pool as param, so that
+   *                      the object could dispose of itself once it is released.
+   * @param maxIdleObjects the maximum number of disposed objects kept for reuse.
+   */
+  public RecyclingObjectPool(Function<ObjectPool<O>, O> objectFactory, int maxIdleObjects) {
+    this.objectFactory = objectFactory;
+    this.idleObjects = new ArrayBlockingQueue<>(maxIdleObjects);
+  }
+
+  @Override
+  public O get() {
+    O object = idleObjects.poll();
+    return object == null ? objectFactory.apply(this) : object;
+  }
+
+  @Override
+  public void dispose(O object) {
+    idleObjects.offer(object);
+  }
+
+  public int getIdleObjectCount() {
+    return idleObjects.size();
+  }
+}
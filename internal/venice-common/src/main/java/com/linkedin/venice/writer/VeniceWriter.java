@@ -126,7 +126,9 @@ public class VeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U> {
   public static final int DEFAULT_CLOSE_TIMEOUT_MS = 30 * Time.MS_PER_SECOND;
 
   /**
-   * Default checksum type. N.B.: Only MD5 (and having no checksums) supports checkpointing mid-checksum.
+   * Default checksum type. N.B.: Only MD5, CRC32C (and having no checksums) support checkpointing mid-checksum.
+   * CRC32C is much cheaper to compute, but it can only be selected via {@link #CHECK_SUM_TYPE} once all the consumers
+   * of the topics understand it.
    */
   public static final String DEFAULT_CHECK_SUM_TYPE = CheckSumType.MD5.name();
 
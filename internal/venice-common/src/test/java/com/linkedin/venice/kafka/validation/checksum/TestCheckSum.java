@@ -1,6 +1,8 @@
 package com.linkedin.venice.kafka.validation.checksum;
 
 import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.ByteUtils;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -27,4 +29,40 @@ public class TestCheckSum {
     checkSum.update(3);
     Assert.assertFalse(Arrays.equals(curCheckSumVal, checkSum.getCheckSum()));
   }
+
+  @Test
+  public void testCRC32CCheckSum() {
+    byte[] input = "123456789".getBytes(StandardCharsets.US_ASCII);
+    CheckSum checkSum = CheckSum.getInstance(CheckSumType.CRC32C).get();
+    Assert.assertEquals(checkSum.getType(), CheckSumType.CRC32C);
+    checkSum.update(input);
+    // The standard check value of CRC32-C
+    Assert.assertEquals(ByteUtils.readInt(checkSum.getCheckSum(), 0), 0xE3069283);
+
+    checkSum.reset();
+    checkSum.update(input, 0, 4);
+    checkSum.update(input, 4, input.length - 4);
+    Assert.assertEquals(ByteUtils.readInt(checkSum.getCheckSum(), 0), 0xE3069283);
+  }
+
+  @Test
+  public void testCRC32CCheckSumResumesFromEncodedState() {
+    Assert.assertTrue(CheckSumType.CRC32C.isCheckpointingSupported());
+    byte[] input = "checkpointed in the middle of a segment".getBytes(StandardCharsets.UTF_8);
+    CheckSum expectedCheckSum = CheckSum.getInstance(CheckSumType.CRC32C).get();
+    expectedCheckSum.update(input);
+
+    CheckSum checkSum = CheckSum.getInstance(CheckSumType.CRC32C).get();
+    checkSum.update(input, 0, 10);
+    CheckSum resumedCheckSum = CheckSum.getInstance(CheckSumType.CRC32C, checkSum.getEncodedState()).get();
+    resumedCheckSum.update(input, 10, input.length - 10);
+    Assert.assertEquals(resumedCheckSum.getCheckSum(), expectedCheckSum.getCheckSum());
+
+    // Resetting a resumed checksum starts over.
+    resumedCheckSum.reset();
+    resumedCheckSum.update(input);
+    Assert.assertEquals(resumedCheckSum.getCheckSum(), expectedCheckSum.getCheckSum());
+
+    Assert.assertThrows(VeniceException.class, () -> new CRC32CCheckSum(new byte[ByteUtils.SIZE_OF_LONG]));
+  }
 }
@@ -1,6 +1,9 @@
 package com.linkedin.venice.partitioner;
 
+import com.linkedin.venice.utils.PartitionUtils;
+import com.linkedin.venice.utils.VeniceProperties;
 import java.nio.ByteBuffer;
+import java.util.Properties;
 import org.apache.kafka.common.PartitionInfo;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -70,4 +73,41 @@ public class TestVenicePartitioner {
     partition2 = sumPartitioner.getPartitionId(keyBytes2, 16);
     Assert.assertEquals(partition1, partition2);
   }
+
+  @Test
+  public void testXxHash64Partitioner() {
+    // Reference values of the xxHash64 specification, with a seed of 0
+    Assert.assertEquals(XxHash64VenicePartitioner.hash(new byte[0], 0, 0), 0xEF46DB3751D8E999L);
+    Assert.assertEquals(XxHash64VenicePartitioner.hash("abc".getBytes(), 0, 3), 0x44BC2CF5AD770999L);
+    byte[] longKey = "Nobody inspects the spammish repetition".getBytes();
+    Assert.assertEquals(XxHash64VenicePartitioner.hash(longKey, 0, longKey.length), 0xFBCEA83C8A378BF1L);
+
+    // The partitioner is instantiated by reflection from the partitioner config of the store
+    VenicePartitioner vp = PartitionUtils
+        .getVenicePartitioner(XxHash64VenicePartitioner.class.getName(), 1, new VeniceProperties(new Properties()));
+    Assert.assertTrue(vp instanceof XxHash64VenicePartitioner);
+
+    int numPartitions = 16;
+    int[] keyCountPerPartition = new int[numPartitions];
+    for (int i = 0; i < 16000; i++) {
+      byte[] keyBytes = ("key_" + i).getBytes();
+      int partition = vp.getPartitionId(keyBytes, numPartitions);
+      Assert.assertTrue(partition >= 0 && partition < numPartitions);
+      keyCountPerPartition[partition]++;
+
+      // All the flavors of getPartitionId should agree with each other
+      byte[] paddedKeyBytes = new byte[keyBytes.length + 4];
+      System.arraycopy(keyBytes, 0, paddedKeyBytes, 2, keyBytes.length);
+      Assert.assertEquals(vp.getPartitionId(paddedKeyBytes, 2, keyBytes.length, numPartitions), partition);
+      Assert.assertEquals(
+          vp.getPartitionId(ByteBuffer.wrap(paddedKeyBytes, 2, keyBytes.length), numPartitions),
+          partition);
+      Assert.assertEquals(
+          vp.getPartitionId(ByteBuffer.wrap(paddedKeyBytes, 2, keyBytes.length).slice(), numPartitions),
+          partition);
+    }
+    for (int keyCount: keyCountPerPartition) {
+      Assert.assertTrue(keyCount > 800 && keyCount < 1200, "Keys are not evenly spread: " + keyCount);
+    }
+  }
 }
@@ -0,0 +1,64 @@
+package com.linkedin.venice.pubsub.kafka;
+
+import com.linkedin.venice.kafka.protocol.GUID;
+import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
+import com.linkedin.venice.kafka.protocol.ProducerMetadata;
+import com.linkedin.venice.kafka.protocol.Put;
+import com.linkedin.venice.utils.pools.ObjectPool;
+import java.nio.ByteBuffer;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class PooledKafkaMessageEnvelopeTest {
+  private static PooledKafkaMessageEnvelope acquire(ObjectPool<KafkaMessageEnvelope> pool) {
+    PooledKafkaMessageEnvelope envelope = (PooledKafkaMessageEnvelope) pool.get();
+    Assert.assertTrue(envelope.acquire());
+    return envelope;
+  }
+
+  @Test
+  public void testEnvelopeIsRecycledOnceFullyReleased() {
+    ObjectPool<KafkaMessageEnvelope> pool = PooledKafkaMessageEnvelope.createPool(10, true);
+    PooledKafkaMessageEnvelope envelope = acquire(pool);
+    envelope.producerMetadata = new ProducerMetadata();
+    envelope.producerMetadata.producerGUID = new GUID();
+    Put put = new Put();
+    put.putValue = ByteBuffer.wrap(new byte[10]);
+    envelope.payloadUnion = put;
+
+    envelope.retain();
+    Assert.assertEquals(envelope.getReferenceCount(), 2);
+    envelope.release();
+    // Still referenced, so a new envelope is handed out.
+    Assert.assertNotSame(acquire(pool), envelope);
+
+    envelope.release();
+    Assert.assertEquals(envelope.getReferenceCount(), 0);
+    Assert.assertNull(envelope.producerMetadata.producerGUID);
+    Assert.assertNull(put.putValue);
+    Assert.assertSame(acquire(pool), envelope);
+  }
+
+  @Test
+  public void testIllegalReleaseInDebugMode() {
+    ObjectPool<KafkaMessageEnvelope> pool = PooledKafkaMessageEnvelope.createPool(10, true);
+    PooledKafkaMessageEnvelope envelope = acquire(pool);
+    envelope.release();
+    IllegalStateException exception = Assert.expectThrows(IllegalStateException.class, envelope::release);
+    Assert.assertNotNull(exception.getCause(), "The latest release should be reported");
+    Assert.expectThrows(IllegalStateException.class, envelope::retain);
+  }
+
+  @Test
+  public void testIllegalReleaseWithoutDebugMode() {
+    ObjectPool<KafkaMessageEnvelope> pool = PooledKafkaMessageEnvelope.createPool(10, false);
+    PooledKafkaMessageEnvelope envelope = acquire(pool);
+    envelope.release();
+    envelope.release();
+    Assert.assertEquals(envelope.getReferenceCount(), 0);
+    // The envelope is only recycled once.
+    Assert.assertSame(acquire(pool), envelope);
+    Assert.assertNotSame(acquire(pool), envelope);
+  }
+}
@@ -34,6 +34,7 @@ import com.linkedin.venice.integration.utils.VeniceClusterWrapper;
 import com.linkedin.venice.integration.utils.VeniceRouterWrapper;
 import com.linkedin.venice.serialization.VeniceKafkaSerializer;
 import com.linkedin.venice.serialization.avro.VeniceAvroKafkaSerializer;
+import com.linkedin.venice.utils.DataProviderUtils;
 import com.linkedin.venice.utils.PropertyBuilder;
 import com.linkedin.venice.utils.TestUtils;
 import com.linkedin.venice.utils.Utils;
@@ -618,8 +619,9 @@ public class DaVinciComputeTest {
     }
   }
 
-  @Test(timeOut = TEST_TIMEOUT)
-  public void testPartialKeyLookupWithRocksDBBlockBasedTable() throws ExecutionException, InterruptedException {
+  @Test(timeOut = TEST_TIMEOUT, dataProvider = "True-and-False", dataProviderClass = DataProviderUtils.class)
+  public void testPartialKeyLookupWithRocksDBBlockBasedTable(boolean parallelLookup)
+      throws ExecutionException, InterruptedException {
     final String storeName = Utils.getUniqueString("store");
     cluster.useControllerClient(
         client -> TestUtils.assertCommand(
@@ -658,8 +660,10 @@ public class DaVinciComputeTest {
             VeniceRouterWrapper.CLUSTER_DISCOVERY_D2_SERVICE_NAME,
             metricsRepository,
             backendConfig);
-        DaVinciClient<GenericRecord, GenericRecord> client =
-            factory.getAndStartGenericAvroClient(storeName, new DaVinciConfig().setStorageClass(StorageClass.DISK))) {
+        DaVinciClient<GenericRecord, GenericRecord> client = factory.getAndStartGenericAvroClient(
+            storeName,
+            new DaVinciConfig().setStorageClass(StorageClass.DISK)
+                .setPartialKeyLookupParallelism(parallelLookup ? 4 : 1))) {
 
       pushSyntheticDataToStoreForPartialKeyLookup(
           writer,
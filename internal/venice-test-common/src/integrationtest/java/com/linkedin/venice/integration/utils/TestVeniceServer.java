@@ -5,6 +5,7 @@ import com.linkedin.davinci.config.VeniceServerConfig;
 import com.linkedin.davinci.storage.DiskHealthCheckService;
 import com.linkedin.davinci.storage.MetadataRetriever;
 import com.linkedin.davinci.storage.StorageEngineRepository;
+import com.linkedin.davinci.store.cache.HotKeyValueCacheRepository;
 import com.linkedin.venice.acl.DynamicAccessController;
 import com.linkedin.venice.acl.StaticAccessController;
 import com.linkedin.venice.cleaner.ResourceReadUsageTracker;
@@ -49,7 +50,8 @@ public class TestVeniceServer extends VeniceServer {
       Optional<DynamicAccessController> storeAccessController,
       DiskHealthCheckService diskHealthService,
       StorageEngineBackedCompressorFactory compressorFactory,
-      Optional<ResourceReadUsageTracker> resourceReadUsageTracker) {
+      Optional<ResourceReadUsageTracker> resourceReadUsageTracker,
+      HotKeyValueCacheRepository hotKeyValueCacheRepository) {
 
     return new ListenerService(
         storageEngineRepository,
@@ -64,7 +66,8 @@ public class TestVeniceServer extends VeniceServer {
         storeAccessController,
         diskHealthService,
         compressorFactory,
-        resourceReadUsageTracker) {
+        resourceReadUsageTracker,
+        hotKeyValueCacheRepository) {
       @Override
       protected StorageReadRequestsHandler createRequestHandler(
           ThreadPoolExecutor executor,
@@ -78,7 +81,8 @@ public class TestVeniceServer extends VeniceServer {
           boolean parallelBatchGetEnabled,
           int parallelBatchGetChunkSize,
           StorageEngineBackedCompressorFactory compressorFactory,
-          Optional<ResourceReadUsageTracker> resourceReadUsageTracker) {
+          Optional<ResourceReadUsageTracker> resourceReadUsageTracker,
+          HotKeyValueCacheRepository hotKeyValueCacheRepository) {
 
         return new StorageReadRequestsHandler(
             executor,
@@ -93,7 +97,8 @@ public class TestVeniceServer extends VeniceServer {
             parallelBatchGetChunkSize,
             serverConfig,
             compressorFactory,
-            resourceReadUsageTracker) {
+            resourceReadUsageTracker,
+            hotKeyValueCacheRepository) {
           @Override
           public void channelRead(ChannelHandlerContext context, Object message) throws Exception {
             RequestHandler handler = requestHandler.get();
@@ -0,0 +1,102 @@
+package com.linkedin.venice.producer;
+
+import com.linkedin.venice.client.store.AvroGenericStoreClient;
+import com.linkedin.venice.client.store.ClientConfig;
+import com.linkedin.venice.client.store.ClientFactory;
+import com.linkedin.venice.controllerapi.ControllerClient;
+import com.linkedin.venice.controllerapi.StoreResponse;
+import com.linkedin.venice.controllerapi.UpdateStoreQueryParams;
+import com.linkedin.venice.integration.utils.ServiceFactory;
+import com.linkedin.venice.integration.utils.VeniceClusterWrapper;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.schema.SchemaReader;
+import com.linkedin.venice.utils.TestUtils;
+import com.linkedin.venice.utils.Time;
+import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.utils.VeniceProperties;
+import com.linkedin.venice.writer.VeniceWriter;
+import com.linkedin.venice.writer.VeniceWriterOptions;
+import io.tehuti.metrics.MetricsRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+
+public class BatchingVeniceProducerIntegrationTest {
+  private static final int RECORD_COUNT = 1000;
+
+  private VeniceClusterWrapper cluster;
+  private ControllerClient controllerClient;
+
+  @BeforeClass
+  public void setUp() {
+    cluster = ServiceFactory.getVeniceCluster();
+    controllerClient =
+        ControllerClient.constructClusterControllerClient(cluster.getClusterName(), cluster.getAllControllersURLs());
+  }
+
+  @AfterClass
+  public void cleanUp() {
+    Utils.closeQuietlyWithErrorLogged(controllerClient);
+    Utils.closeQuietlyWithErrorLogged(cluster);
+  }
+
+  @Test(timeOut = 120 * Time.MS_PER_SECOND)
+  public void testWritesAreReadable() throws Exception {
+    String storeName = Utils.getUniqueString("batching_producer_store");
+    cluster.getNewStore(storeName);
+    controllerClient.updateStore(
+        storeName,
+        new UpdateStoreQueryParams().setHybridRewindSeconds(25L).setHybridOffsetLagThreshold(2L));
+    controllerClient.emptyPush(storeName, "test_push", 1);
+    TestUtils.waitForNonDeterministicAssertion(30, TimeUnit.SECONDS, () -> {
+      StoreResponse storeResponse = controllerClient.getStore(storeName);
+      Assert.assertFalse(storeResponse.isError());
+      Assert.assertEquals(storeResponse.getStore().getCurrentVersion(), 1);
+    });
+
+    ClientConfig clientConfig =
+        ClientConfig.defaultGenericClientConfig(storeName).setVeniceURL(cluster.getRandomRouterURL());
+    VeniceWriter<byte[], byte[], byte[]> veniceWriter =
+        TestUtils.getVeniceWriterFactory(cluster.getKafka().getAddress()).createVeniceWriter(
+            new VeniceWriterOptions.Builder(Version.composeRealTimeTopic(storeName)).build());
+    Properties producerProperties = new Properties();
+    producerProperties.put(BatchingVeniceProducer.CLIENT_PRODUCER_BATCH_SIZE, 16);
+    MetricsRepository metricsRepository = new MetricsRepository();
+    try (SchemaReader schemaReader = ClientFactory.getSchemaReader(clientConfig);
+        BatchingVeniceProducer<String, String> producer = new BatchingVeniceProducer<>(
+            storeName,
+            schemaReader,
+            veniceWriter,
+            new VeniceProperties(producerProperties),
+            metricsRepository);
+        AvroGenericStoreClient<String, Object> client = ClientFactory.getAndStartGenericAvroClient(clientConfig)) {
+      List<CompletableFuture<DurableWrite>> futures = new ArrayList<>(RECORD_COUNT);
+      for (int i = 0; i < RECORD_COUNT; i++) {
+        futures.add(producer.asyncPut("key_" + i, "value_" + i));
+      }
+      futures.add(producer.asyncDelete("key_0"));
+      for (CompletableFuture<DurableWrite> future: futures) {
+        Assert.assertNotNull(future.get(30, TimeUnit.SECONDS));
+      }
+      Assert.assertTrue(
+          metricsRepository.getMetric("." + storeName + "--venice_producer--success_write.OccurrenceRate")
+              .value() > 0);
+
+      TestUtils.waitForNonDeterministicAssertion(60, TimeUnit.SECONDS, true, () -> {
+        Assert.assertNull(client.get("key_0").get());
+        for (int i = 1; i < RECORD_COUNT; i++) {
+          Object value = client.get("key_" + i).get();
+          Assert.assertNotNull(value, "key_" + i + " is not readable yet");
+          Assert.assertEquals(value.toString(), "value_" + i);
+        }
+      });
+    }
+  }
+}
@@ -0,0 +1,72 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.venice.kafka.validation.checksum.CheckSum;
+import com.linkedin.venice.kafka.validation.checksum.CheckSumType;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Compares the throughput of the checkpointable checksums of the data integrity validation: each record of a segment
+ * is added to the running checksum like {@code Segment#addToCheckSum} does, then the checksum of the segment is
+ * finalized.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class CheckSumBenchmark {
+  private static final int RECORD_COUNT_PER_SEGMENT = 1000;
+
+  @Param({ "MD5", "CRC32C" })
+  protected String checkSumType;
+
+  @Param({ "100", "1000", "10000" })
+  protected int recordSize;
+
+  private CheckSum checkSum;
+  private byte[][] records;
+
+  public static void main(String[] args) throws Exception {
+    Options options = new OptionsBuilder().include(CheckSumBenchmark.class.getSimpleName()).build();
+    new Runner(options).run();
+  }
+
+  @Setup
+  public void setUp() {
+    checkSum = CheckSum.getInstance(CheckSumType.valueOf(checkSumType)).get();
+    Random random = new Random(0);
+    records = new byte[RECORD_COUNT_PER_SEGMENT][recordSize];
+    for (byte[] record: records) {
+      random.nextBytes(record);
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RECORD_COUNT_PER_SEGMENT)
+  public void checkSumSegment(Blackhole blackhole) {
+    checkSum.reset();
+    for (byte[] record: records) {
+      checkSum.update(record, 0, record.length);
+    }
+    blackhole.consume(checkSum.getCheckSum());
+  }
+}
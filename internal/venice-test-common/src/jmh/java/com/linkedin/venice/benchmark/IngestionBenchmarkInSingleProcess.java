@@ -1,17 +1,22 @@
 package com.linkedin.venice.benchmark;
 
+import static com.linkedin.venice.ConfigKeys.DATA_BASE_PATH;
+import static com.linkedin.venice.ConfigKeys.SERVER_KAFKA_MESSAGE_ENVELOPE_POOL_SIZE;
 import static com.linkedin.venice.integration.utils.ServiceFactory.getGenericAvroDaVinciClient;
 
 import com.linkedin.davinci.client.DaVinciClient;
+import com.linkedin.davinci.client.DaVinciConfig;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.integration.utils.ServiceFactory;
 import com.linkedin.venice.integration.utils.VeniceClusterWrapper;
 import com.linkedin.venice.utils.TestUtils;
 import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.utils.VeniceProperties;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Properties;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -58,6 +63,13 @@ public class IngestionBenchmarkInSingleProcess {
   @Param({ "FLOAT_VECTOR" })
   protected String valueType;
 
+  /**
+   * The size of the pool of the consumed {@link com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope}, where 0
+   * disables the pooling, to compare the allocation rate reported by the {@link GCProfiler}.
+   */
+  @Param({ "0", "1000" })
+  protected int kafkaMessageEnvelopePoolSize;
+
   @Setup
   public void setUp() throws Exception {
     Utils.thisIsLocalhost();
@@ -84,8 +96,11 @@ public class IngestionBenchmarkInSingleProcess {
     try {
       // Delete and recreate data base folder.
       FileUtils.deleteDirectory(dataBasePath);
+      Properties backendConfig = new Properties();
+      backendConfig.setProperty(DATA_BASE_PATH, dataBasePath.toString());
+      backendConfig.setProperty(SERVER_KAFKA_MESSAGE_ENVELOPE_POOL_SIZE, String.valueOf(kafkaMessageEnvelopePoolSize));
       DaVinciClient<Long, GenericRecord> client =
-          getGenericAvroDaVinciClient(storeName, cluster, dataBasePath.toString());
+          getGenericAvroDaVinciClient(storeName, cluster, new DaVinciConfig(), new VeniceProperties(backendConfig));
       // Ingest data to local folder.
       client.subscribeAll().get(60, TimeUnit.SECONDS);
       client.close();
@@ -0,0 +1,94 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.davinci.kafka.consumer.KeyLevelLocks;
+import com.linkedin.davinci.kafka.consumer.KeyLevelLocksManager;
+import com.linkedin.davinci.kafka.consumer.StripedKeyLevelLocksManager;
+import com.linkedin.davinci.utils.ByteArrayKey;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Compares the key level locks managers under contended access: several threads, like the consumer threads of an
+ * active/active ingestion task, each acquire the lock of a key, hold it for a short critical section, then release it.
+ * The keys are picked from a small key space, so the threads sometimes compete for the lock of the same key as well.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+@State(Scope.Benchmark)
+public class KeyLevelLocksManagerBenchmark {
+  private static final int KEY_COUNT = 10_000;
+  private static final int CRITICAL_SECTION_TOKENS = 50;
+
+  /**
+   * 0 benchmarks the pooled {@link KeyLevelLocksManager}, otherwise the {@link StripedKeyLevelLocksManager} with that
+   * number of stripes.
+   */
+  @Param({ "0", "256", "4096" })
+  protected int stripeCount;
+
+  private KeyLevelLocks keyLevelLocksManager;
+  private ByteArrayKey[] keys;
+
+  public static void main(String[] args) throws Exception {
+    Options options = new OptionsBuilder().include(KeyLevelLocksManagerBenchmark.class.getSimpleName()).build();
+    new Runner(options).run();
+  }
+
+  @Setup
+  public void setUp() {
+    keyLevelLocksManager = stripeCount > 0
+        ? new StripedKeyLevelLocksManager("benchmark_v1", stripeCount)
+        : new KeyLevelLocksManager("benchmark_v1", 16, 1024);
+    keys = new ByteArrayKey[KEY_COUNT];
+    for (int i = 0; i < KEY_COUNT; i++) {
+      keys[i] = ByteArrayKey.wrap(("key_" + i).getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class ThreadContext {
+    private int nextKeyIndex;
+
+    @Setup
+    public void setUp() {
+      nextKeyIndex = (int) (Thread.currentThread().getId() * 7919 % KEY_COUNT);
+    }
+  }
+
+  @Benchmark
+  public void acquireAndReleaseLock(ThreadContext context, Blackhole blackhole) {
+    context.nextKeyIndex = (context.nextKeyIndex + 31) % KEY_COUNT;
+    ByteArrayKey key = keys[context.nextKeyIndex];
+    ReentrantLock lock = keyLevelLocksManager.acquireLockByKey(key);
+    lock.lock();
+    try {
+      Blackhole.consumeCPU(CRITICAL_SECTION_TOKENS);
+      blackhole.consume(key);
+    } finally {
+      lock.unlock();
+      keyLevelLocksManager.releaseLock(key);
+    }
+  }
+}
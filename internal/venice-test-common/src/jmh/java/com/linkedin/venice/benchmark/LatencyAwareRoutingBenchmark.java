@@ -0,0 +1,181 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.venice.router.stats.PeakEwmaLatency;
+import com.linkedin.venice.utils.Time;
+import java.util.Arrays;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Simulates the Router spreading requests over the replicas of a partition while one of the storage nodes is 10x
+ * slower than the others, and compares the latency of the {@code LEAST_LOADED_ROUTING} host selection, which only
+ * looks at the pending request count, with the {@code LATENCY_AWARE_ROUTING} one, which compares two random replicas
+ * by their {@link PeakEwmaLatency} weighted by the pending request count.
+ *
+ * The simulation runs in virtual time, so the measured time is only the cost of the simulation, and the p99 latency
+ * of the simulated requests of every strategy is printed at the end of the trial.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms2G", "-Xmx2G" })
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class LatencyAwareRoutingBenchmark {
+  private static final int REQUEST_COUNT = 200_000;
+  private static final int HOST_COUNT = 4;
+  private static final int SLOW_HOST = 0;
+  private static final int WORKER_COUNT_PER_HOST = 8;
+  private static final double SERVICE_TIME_IN_MS = 2;
+  private static final double SLOW_HOST_SERVICE_TIME_IN_MS = 20;
+  /**
+   * About 60% of the capacity of the healthy hosts.
+   */
+  private static final double REQUEST_COUNT_PER_MS = 7;
+
+  @Param({ "LEAST_LOADED_ROUTING", "LATENCY_AWARE_ROUTING" })
+  protected String routingStrategy;
+
+  private double lastP99LatencyInMS;
+  private double lastSlowHostRequestRatio;
+
+  public static void main(String[] args) throws Exception {
+    Options options = new OptionsBuilder().include(LatencyAwareRoutingBenchmark.class.getSimpleName()).build();
+    new Runner(options).run();
+  }
+
+  @TearDown(Level.Trial)
+  public void cleanUp() {
+    System.out.printf(
+        "%n%s: p99 latency: %.2fms, ratio of requests sent to the slow host: %.4f%n",
+        routingStrategy,
+        lastP99LatencyInMS,
+        lastSlowHostRequestRatio);
+  }
+
+  @Benchmark
+  public double simulate() {
+    boolean latencyAware = routingStrategy.equals("LATENCY_AWARE_ROUTING");
+    Random random = new Random(0);
+    SimulatedTime time = new SimulatedTime();
+    PeakEwmaLatency[] latencies = new PeakEwmaLatency[HOST_COUNT];
+    long[] pendingRequestCounts = new long[HOST_COUNT];
+    PriorityQueue<Long>[] workerAvailableTimes = new PriorityQueue[HOST_COUNT];
+    for (int i = 0; i < HOST_COUNT; ++i) {
+      latencies[i] = new PeakEwmaLatency(time, PeakEwmaLatency.DEFAULT_DECAY_TIME_MS);
+      workerAvailableTimes[i] = new PriorityQueue<>();
+      for (int j = 0; j < WORKER_COUNT_PER_HOST; ++j) {
+        workerAvailableTimes[i].add(0L);
+      }
+    }
+    // Pending responses ordered by their completion time: {completion time, host, latency}
+    PriorityQueue<long[]> pendingResponses = new PriorityQueue<>((r1, r2) -> Long.compare(r1[0], r2[0]));
+    double[] requestLatencies = new double[REQUEST_COUNT];
+    int slowHostRequestCount = 0;
+
+    long currentTimeInNS = 0;
+    for (int i = 0; i < REQUEST_COUNT; ++i) {
+      currentTimeInNS += toNS(exponential(random, 1 / REQUEST_COUNT_PER_MS));
+      // Deliver the responses received before the new request arrives.
+      while (!pendingResponses.isEmpty() && pendingResponses.peek()[0] <= currentTimeInNS) {
+        long[] response = pendingResponses.poll();
+        time.currentTimeInNS = response[0];
+        int host = (int) response[1];
+        latencies[host].record(response[2] / (double) Time.NS_PER_MS);
+        --pendingRequestCounts[host];
+      }
+      time.currentTimeInNS = currentTimeInNS;
+
+      int host = latencyAware
+          ? selectLatencyAwareHost(random, latencies, pendingRequestCounts)
+          : selectLeastLoadedHost(pendingRequestCounts);
+      if (host == SLOW_HOST) {
+        ++slowHostRequestCount;
+      }
+      double serviceTimeInMS = host == SLOW_HOST ? SLOW_HOST_SERVICE_TIME_IN_MS : SERVICE_TIME_IN_MS;
+      long startTimeInNS = Math.max(currentTimeInNS, workerAvailableTimes[host].poll());
+      long completionTimeInNS = startTimeInNS + toNS(exponential(random, serviceTimeInMS));
+      workerAvailableTimes[host].add(completionTimeInNS);
+      long latencyInNS = completionTimeInNS - currentTimeInNS;
+      pendingResponses.add(new long[] { completionTimeInNS, host, latencyInNS });
+      ++pendingRequestCounts[host];
+      requestLatencies[i] = latencyInNS / (double) Time.NS_PER_MS;
+    }
+
+    Arrays.sort(requestLatencies);
+    lastP99LatencyInMS = requestLatencies[(int) (REQUEST_COUNT * 0.99)];
+    lastSlowHostRequestRatio = slowHostRequestCount / (double) REQUEST_COUNT;
+    return lastP99LatencyInMS;
+  }
+
+  /**
+   * Same as {@code VeniceDelegateMode#selectLeastLoadedHost}.
+   */
+  private static int selectLeastLoadedHost(long[] pendingRequestCounts) {
+    int selectedHost = 0;
+    for (int i = 1; i < HOST_COUNT; ++i) {
+      if (pendingRequestCounts[i] < pendingRequestCounts[selectedHost]) {
+        selectedHost = i;
+      }
+    }
+    return selectedHost;
+  }
+
+  /**
+   * Same as {@code VeniceDelegateMode#selectLatencyAwareHost}.
+   */
+  private static int selectLatencyAwareHost(Random random, PeakEwmaLatency[] latencies, long[] pendingRequestCounts) {
+    int firstHost = random.nextInt(HOST_COUNT);
+    int secondHost = random.nextInt(HOST_COUNT - 1);
+    if (secondHost >= firstHost) {
+      ++secondHost;
+    }
+    double firstCost = (latencies[firstHost].getLatency() + 1) * (pendingRequestCounts[firstHost] + 1);
+    double secondCost = (latencies[secondHost].getLatency() + 1) * (pendingRequestCounts[secondHost] + 1);
+    return secondCost < firstCost ? secondHost : firstHost;
+  }
+
+  private static double exponential(Random random, double mean) {
+    return -mean * Math.log(1 - random.nextDouble());
+  }
+
+  private static long toNS(double timeInMS) {
+    return (long) (timeInMS * Time.NS_PER_MS);
+  }
+
+  private static class SimulatedTime implements Time {
+    private long currentTimeInNS = 0;
+
+    @Override
+    public long getMilliseconds() {
+      return TimeUnit.NANOSECONDS.toMillis(currentTimeInNS);
+    }
+
+    @Override
+    public long getNanoseconds() {
+      return currentTimeInNS;
+    }
+
+    @Override
+    public void sleep(long ms) {
+      currentTimeInNS += TimeUnit.MILLISECONDS.toNanos(ms);
+    }
+  }
+}
@@ -0,0 +1,108 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.davinci.kafka.consumer.AbstractMemoryBoundBlockingQueue;
+import com.linkedin.davinci.kafka.consumer.LockFreeMemoryBoundBlockingQueue;
+import com.linkedin.davinci.kafka.consumer.MemoryBoundBlockingQueue;
+import com.linkedin.venice.common.Measurable;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Compares the throughput of the store writer buffer queues: several producer threads put records into the queue,
+ * like the consumer threads do, while a single thread drains it, like a {@code StoreBufferDrainer} does, either one
+ * record at a time or in batches.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class MemoryBoundBlockingQueueBenchmark {
+  private static final int RECORD_COUNT_PER_PRODUCER = 100_000;
+  private static final int PRODUCER_COUNT = 4;
+  private static final int TOTAL_RECORD_COUNT = RECORD_COUNT_PER_PRODUCER * PRODUCER_COUNT;
+  private static final long MEMORY_CAPACITY_IN_BYTES = 10 * 1024 * 1024;
+  private static final long NOTIFY_DELTA_IN_BYTES = 1024 * 1024;
+  private static final Measurable RECORD = () -> 100;
+
+  @Param({ "false", "true" })
+  protected boolean lockFree;
+
+  @Param({ "1", "16", "128" })
+  protected int drainBatchSize;
+
+  private ExecutorService producerExecutor;
+
+  public static void main(String[] args) throws Exception {
+    Options options = new OptionsBuilder().include(MemoryBoundBlockingQueueBenchmark.class.getSimpleName()).build();
+    new Runner(options).run();
+  }
+
+  @Setup
+  public void setUp() {
+    producerExecutor = Executors.newFixedThreadPool(PRODUCER_COUNT, new DaemonThreadFactory("Queue-Producer"));
+  }
+
+  @TearDown
+  public void cleanUp() {
+    producerExecutor.shutdownNow();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(TOTAL_RECORD_COUNT)
+  public void putAndDrain(Blackhole blackhole) throws Exception {
+    AbstractMemoryBoundBlockingQueue<Measurable> queue = lockFree
+        ? new LockFreeMemoryBoundBlockingQueue<>(MEMORY_CAPACITY_IN_BYTES, NOTIFY_DELTA_IN_BYTES)
+        : new MemoryBoundBlockingQueue<>(MEMORY_CAPACITY_IN_BYTES, NOTIFY_DELTA_IN_BYTES);
+    List<Future<?>> producerFutures = new ArrayList<>(PRODUCER_COUNT);
+    for (int i = 0; i < PRODUCER_COUNT; i++) {
+      producerFutures.add(producerExecutor.submit(() -> {
+        for (int j = 0; j < RECORD_COUNT_PER_PRODUCER; j++) {
+          queue.put(RECORD);
+        }
+        return null;
+      }));
+    }
+
+    List<Measurable> batch = new ArrayList<>(drainBatchSize);
+    int drainedCount = 0;
+    while (drainedCount < TOTAL_RECORD_COUNT) {
+      batch.add(queue.take());
+      if (drainBatchSize > 1) {
+        queue.drainTo(batch, drainBatchSize - 1);
+      }
+      for (Measurable record: batch) {
+        blackhole.consume(record);
+      }
+      drainedCount += batch.size();
+      batch.clear();
+    }
+    for (Future<?> future: producerFutures) {
+      future.get();
+    }
+  }
+}
@@ -0,0 +1,201 @@
+package com.linkedin.venice.benchmark;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.linkedin.davinci.replication.RmdWithValueSchemaId;
+import com.linkedin.davinci.replication.merge.MergeConflictResolver;
+import com.linkedin.davinci.replication.merge.MergeConflictResolverFactory;
+import com.linkedin.davinci.replication.merge.RmdSerDe;
+import com.linkedin.davinci.replication.merge.StringAnnotatedStoreSchemaCache;
+import com.linkedin.venice.meta.ReadOnlySchemaRepository;
+import com.linkedin.venice.schema.AvroSchemaParseUtils;
+import com.linkedin.venice.schema.SchemaEntry;
+import com.linkedin.venice.schema.rmd.RmdConstants;
+import com.linkedin.venice.schema.rmd.RmdSchemaEntry;
+import com.linkedin.venice.schema.rmd.RmdSchemaGenerator;
+import com.linkedin.venice.schema.writecompute.DerivedSchemaEntry;
+import com.linkedin.venice.schema.writecompute.WriteComputeSchemaConverter;
+import com.linkedin.venice.serializer.avro.MapOrderingPreservingSerDeFactory;
+import com.linkedin.venice.utils.lazy.Lazy;
+import com.linkedin.venice.writer.update.UpdateBuilderImpl;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Measures the conflict resolution of the active/active leaders for every kind of write, with the old value written
+ * with an older value schema than the new one, so that the old value and its replication metadata are converted to the
+ * newer value schema, like it happens after a value schema evolution.
+ *
+ * Every invocation deserializes the old replication metadata, like the leader does after reading it from the storage
+ * engine, since the conflict resolution updates it in place.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class MergeConflictResolverBenchmark {
+  private static final String STORE_NAME = "test_store";
+  private static final int OLD_VALUE_SCHEMA_ID = 1;
+  private static final int NEW_VALUE_SCHEMA_ID = 2;
+  private static final int UPDATE_PROTOCOL_VERSION = 1;
+  private static final int RMD_PROTOCOL_VERSION = RmdSchemaGenerator.getLatestVersion();
+  private static final long OLD_TIMESTAMP = 1L;
+  private static final long NEW_TIMESTAMP = 2L;
+  private static final String OLD_VALUE_SCHEMA_STR = "{" + "\"type\" : \"record\","
+      + "\"namespace\" : \"com.linkedin.venice.benchmark\"," + "\"name\" : \"BenchmarkValue\"," + "\"fields\" : ["
+      + "  { \"name\" : \"name\", \"type\" : \"string\", \"default\" : \"\" },"
+      + "  { \"name\" : \"scores\", \"type\" : {\"type\" : \"array\", \"items\" : \"int\"}, \"default\" : [] }"
+      + "]}";
+  private static final String NEW_VALUE_SCHEMA_STR = "{" + "\"type\" : \"record\","
+      + "\"namespace\" : \"com.linkedin.venice.benchmark\"," + "\"name\" : \"BenchmarkValue\"," + "\"fields\" : ["
+      + "  { \"name\" : \"name\", \"type\" : \"string\", \"default\" : \"\" },"
+      + "  { \"name\" : \"scores\", \"type\" : {\"type\" : \"array\", \"items\" : \"int\"}, \"default\" : [] },"
+      + "  { \"name\" : \"age\", \"type\" : \"int\", \"default\" : 0 }" + "]}";
+
+  @Param({ "10", "1000" })
+  protected int collectionSize;
+
+  @Param({ "false", "true" })
+  protected boolean fastAvroEnabled;
+
+  private MergeConflictResolver mergeConflictResolver;
+  private RmdSerDe rmdSerDe;
+  private ByteBuffer oldValueBytes;
+  private ByteBuffer oldRmdBytes;
+  private ByteBuffer newValueBytes;
+  private ByteBuffer updateBytes;
+
+  public static void main(String[] args) throws Exception {
+    Options options = new OptionsBuilder().include(MergeConflictResolverBenchmark.class.getSimpleName()).build();
+    new Runner(options).run();
+  }
+
+  @Setup
+  public void setUp() {
+    Schema oldValueSchema = AvroSchemaParseUtils.parseSchemaFromJSONStrictValidation(OLD_VALUE_SCHEMA_STR);
+    Schema newValueSchema = AvroSchemaParseUtils.parseSchemaFromJSONStrictValidation(NEW_VALUE_SCHEMA_STR);
+    Schema updateSchema = WriteComputeSchemaConverter.getInstance().convertFromValueRecordSchema(newValueSchema);
+    Schema oldRmdSchema = RmdSchemaGenerator.generateMetadataSchema(oldValueSchema, RMD_PROTOCOL_VERSION);
+    Schema newRmdSchema = RmdSchemaGenerator.generateMetadataSchema(newValueSchema, RMD_PROTOCOL_VERSION);
+
+    ReadOnlySchemaRepository schemaRepository = mock(ReadOnlySchemaRepository.class);
+    SchemaEntry newValueSchemaEntry = new SchemaEntry(NEW_VALUE_SCHEMA_ID, newValueSchema);
+    when(schemaRepository.getValueSchema(STORE_NAME, OLD_VALUE_SCHEMA_ID))
+        .thenReturn(new SchemaEntry(OLD_VALUE_SCHEMA_ID, oldValueSchema));
+    when(schemaRepository.getValueSchema(STORE_NAME, NEW_VALUE_SCHEMA_ID)).thenReturn(newValueSchemaEntry);
+    when(schemaRepository.getSupersetSchema(STORE_NAME)).thenReturn(newValueSchemaEntry);
+    when(schemaRepository.getSupersetOrLatestValueSchema(STORE_NAME)).thenReturn(newValueSchemaEntry);
+    when(schemaRepository.getDerivedSchema(STORE_NAME, NEW_VALUE_SCHEMA_ID, UPDATE_PROTOCOL_VERSION))
+        .thenReturn(new DerivedSchemaEntry(NEW_VALUE_SCHEMA_ID, UPDATE_PROTOCOL_VERSION, updateSchema));
+    when(schemaRepository.getReplicationMetadataSchema(STORE_NAME, OLD_VALUE_SCHEMA_ID, RMD_PROTOCOL_VERSION))
+        .thenReturn(new RmdSchemaEntry(OLD_VALUE_SCHEMA_ID, RMD_PROTOCOL_VERSION, oldRmdSchema));
+    when(schemaRepository.getReplicationMetadataSchema(STORE_NAME, NEW_VALUE_SCHEMA_ID, RMD_PROTOCOL_VERSION))
+        .thenReturn(new RmdSchemaEntry(NEW_VALUE_SCHEMA_ID, RMD_PROTOCOL_VERSION, newRmdSchema));
+
+    StringAnnotatedStoreSchemaCache schemaCache = new StringAnnotatedStoreSchemaCache(STORE_NAME, schemaRepository);
+    rmdSerDe = new RmdSerDe(schemaCache, RMD_PROTOCOL_VERSION, fastAvroEnabled);
+    mergeConflictResolver = MergeConflictResolverFactory.getInstance()
+        .createMergeConflictResolver(schemaCache, rmdSerDe, STORE_NAME, true, fastAvroEnabled);
+
+    List<Integer> scores = new ArrayList<>(collectionSize);
+    for (int i = 0; i < collectionSize; i++) {
+      scores.add(i);
+    }
+    GenericRecord oldValue = new GenericData.Record(oldValueSchema);
+    oldValue.put("name", "old_name");
+    oldValue.put("scores", scores);
+    oldValueBytes = serialize(oldValueSchema, oldValue);
+
+    GenericRecord oldRmd = new GenericData.Record(oldRmdSchema);
+    oldRmd.put(RmdConstants.TIMESTAMP_FIELD_NAME, OLD_TIMESTAMP);
+    oldRmd.put(RmdConstants.REPLICATION_CHECKPOINT_VECTOR_FIELD, new ArrayList<>());
+    oldRmdBytes = rmdSerDe.serializeRmdRecord(OLD_VALUE_SCHEMA_ID, oldRmd);
+
+    GenericRecord newValue = new GenericData.Record(newValueSchema);
+    newValue.put("name", "new_name");
+    newValue.put("scores", scores);
+    newValue.put("age", 1);
+    newValueBytes = serialize(newValueSchema, newValue);
+
+    List<Integer> scoresToAdd = new ArrayList<>(collectionSize);
+    for (int i = 0; i < collectionSize; i++) {
+      scoresToAdd.add(collectionSize + i);
+    }
+    GenericRecord update = new UpdateBuilderImpl(updateSchema).setNewFieldValue("name", "updated_name")
+        .setElementsToAddToListField("scores", scoresToAdd)
+        .build();
+    updateBytes = serialize(updateSchema, update);
+  }
+
+  private static ByteBuffer serialize(Schema schema, GenericRecord record) {
+    return ByteBuffer.wrap(MapOrderingPreservingSerDeFactory.getSerializer(schema).serialize(record));
+  }
+
+  private RmdWithValueSchemaId getOldRmd() {
+    GenericRecord oldRmd =
+        rmdSerDe.deserializeRmdBytes(OLD_VALUE_SCHEMA_ID, OLD_VALUE_SCHEMA_ID, oldRmdBytes.duplicate());
+    return new RmdWithValueSchemaId(OLD_VALUE_SCHEMA_ID, RMD_PROTOCOL_VERSION, oldRmd);
+  }
+
+  private Lazy<ByteBuffer> getOldValueBytes() {
+    return Lazy.of(() -> oldValueBytes.duplicate());
+  }
+
+  @Benchmark
+  public void put(Blackhole blackhole) {
+    blackhole.consume(
+        mergeConflictResolver.put(
+            getOldValueBytes(),
+            getOldRmd(),
+            newValueBytes.duplicate(),
+            NEW_TIMESTAMP,
+            NEW_VALUE_SCHEMA_ID,
+            0,
+            0,
+            0));
+  }
+
+  @Benchmark
+  public void update(Blackhole blackhole) {
+    blackhole.consume(
+        mergeConflictResolver.update(
+            getOldValueBytes(),
+            getOldRmd(),
+            updateBytes.duplicate(),
+            NEW_VALUE_SCHEMA_ID,
+            UPDATE_PROTOCOL_VERSION,
+            NEW_TIMESTAMP,
+            0,
+            0,
+            0));
+  }
+
+  @Benchmark
+  public void delete(Blackhole blackhole) {
+    blackhole.consume(mergeConflictResolver.delete(getOldValueBytes(), getOldRmd(), NEW_TIMESTAMP, 0, 0, 0));
+  }
+}
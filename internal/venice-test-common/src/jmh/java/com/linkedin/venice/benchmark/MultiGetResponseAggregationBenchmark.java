@@ -0,0 +1,129 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
+import com.linkedin.venice.router.api.VeniceResponseAggregator;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Measures the aggregation of the multi-get responses in Router, with the keys of a batch-get request spread evenly
+ * over the storage node responses, and every storage node response is a direct buffer, like the one received by the
+ * Netty based storage node client.
+ *
+ * Every invocation aggregates the storage node responses and gathers the NIO buffers of the aggregated content, which
+ * is what Netty does to write a composite buffer to the socket.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class MultiGetResponseAggregationBenchmark {
+  private static final int VALUE_SIZE = 200;
+  private static final String STORE_NAME = "test_store";
+
+  @Param({ "100", "1000" })
+  protected int keyCount;
+
+  @Param({ "4", "32" })
+  protected int storageNodeResponseCount;
+
+  @Param({ "false", "true" })
+  protected boolean zeroCopy;
+
+  private BenchmarkResponseAggregator responseAggregator;
+  private List<ByteBuf> storageNodeContents;
+
+  public static void main(String[] args) throws Exception {
+    Options options = new OptionsBuilder().include(MultiGetResponseAggregationBenchmark.class.getSimpleName()).build();
+    new Runner(options).run();
+  }
+
+  @Setup
+  public void setUp() {
+    responseAggregator = new BenchmarkResponseAggregator(zeroCopy);
+    RecordSerializer<MultiGetResponseRecordV1> serializer =
+        SerializerDeserializerFactory.getAvroGenericSerializer(MultiGetResponseRecordV1.getClassSchema());
+    Random random = new Random(0);
+    storageNodeContents = new ArrayList<>(storageNodeResponseCount);
+    for (int i = 0; i < storageNodeResponseCount; i++) {
+      List<MultiGetResponseRecordV1> records = new ArrayList<>();
+      for (int keyIndex = i; keyIndex < keyCount; keyIndex += storageNodeResponseCount) {
+        MultiGetResponseRecordV1 record = new MultiGetResponseRecordV1();
+        record.keyIndex = keyIndex;
+        record.schemaId = 1;
+        byte[] value = new byte[VALUE_SIZE];
+        random.nextBytes(value);
+        record.value = ByteBuffer.wrap(value);
+        records.add(record);
+      }
+      byte[] serializedRecords = serializer.serializeObjects(records);
+      storageNodeContents.add(
+          PooledByteBufAllocator.DEFAULT.directBuffer(serializedRecords.length).writeBytes(serializedRecords));
+    }
+  }
+
+  @TearDown
+  public void cleanUp() {
+    storageNodeContents.forEach(ByteBuf::release);
+  }
+
+  @Benchmark
+  public void aggregate(Blackhole blackhole) {
+    List<FullHttpResponse> responses = new ArrayList<>(storageNodeResponseCount);
+    for (ByteBuf content: storageNodeContents) {
+      FullHttpResponse response =
+          new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK, content.retainedDuplicate());
+      response.headers().set(HttpHeaderNames.CONTENT_TYPE, HttpConstants.AVRO_BINARY);
+      response.headers().set(HttpConstants.VENICE_SCHEMA_ID, 1);
+      responses.add(response);
+    }
+    FullHttpResponse aggregatedResponse = responseAggregator.aggregate(responses);
+    blackhole.consume(aggregatedResponse.content().nioBuffers());
+    aggregatedResponse.release();
+  }
+
+  private static class BenchmarkResponseAggregator extends VeniceResponseAggregator {
+    BenchmarkResponseAggregator(boolean zeroCopy) {
+      // The Router stats won't be touched since the storage node responses don't carry any decompression time.
+      super(null, Optional.empty());
+      withZeroCopyAggregation(zeroCopy);
+    }
+
+    FullHttpResponse aggregate(List<FullHttpResponse> responses) {
+      return processMultiGetResponses(responses, STORE_NAME, 1);
+    }
+  }
+}
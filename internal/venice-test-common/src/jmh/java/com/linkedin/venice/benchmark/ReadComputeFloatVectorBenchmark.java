@@ -0,0 +1,109 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.avro.fastserde.primitive.PrimitiveFloatArrayList;
+import com.linkedin.venice.compute.ComputeOperationUtils;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Compares the read-compute float vector operations on boxed lists, like the compute parameters sent by the clients
+ * and the value vectors deserialized by vanilla Avro, with the primitive path used by the compute operators, where
+ * the parameter is unboxed once per request and the value vector is copied into a reusable float array.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms2G", "-Xmx2G" })
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ReadComputeFloatVectorBenchmark {
+  @Param({ "256", "1024" })
+  protected int vectorSize;
+
+  @Param({ "false", "true" })
+  protected boolean fastAvro;
+
+  private List<Float> param;
+  private List<Float> valueVector;
+  private Map<String, Object> context;
+
+  public static void main(String[] args) throws Exception {
+    Options options = new OptionsBuilder().include(ReadComputeFloatVectorBenchmark.class.getSimpleName()).build();
+    new Runner(options).run();
+  }
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(0);
+    param = new ArrayList<>(vectorSize);
+    // fast-avro deserializes float arrays into primitive lists
+    valueVector = fastAvro ? new PrimitiveFloatArrayList(vectorSize) : new ArrayList<>(vectorSize);
+    for (int i = 0; i < vectorSize; i++) {
+      param.add(random.nextFloat());
+      valueVector.add(random.nextFloat());
+    }
+    context = new HashMap<>();
+  }
+
+  @Benchmark
+  public float boxedDotProduct() {
+    return ComputeOperationUtils.dotProduct(param, valueVector);
+  }
+
+  @Benchmark
+  public float primitiveDotProduct() {
+    return ComputeOperationUtils.dotProduct(
+        ComputeOperationUtils.getCachedPrimitiveFloatVector(param, context),
+        ComputeOperationUtils.toReusablePrimitiveFloatVector(valueVector),
+        vectorSize);
+  }
+
+  @Benchmark
+  public double boxedCosineSimilarity() {
+    float dotProduct = ComputeOperationUtils.dotProduct(param, valueVector);
+    return dotProduct / Math.sqrt(
+        ComputeOperationUtils.squaredL2Norm(valueVector) * ComputeOperationUtils.squaredL2Norm(param));
+  }
+
+  @Benchmark
+  public double primitiveCosineSimilarity() {
+    float[] primitiveParam = ComputeOperationUtils.getCachedPrimitiveFloatVector(param, context);
+    float[] primitiveValueVector = ComputeOperationUtils.toReusablePrimitiveFloatVector(valueVector);
+    float dotProduct = ComputeOperationUtils.dotProduct(primitiveParam, primitiveValueVector, vectorSize);
+    return dotProduct / Math.sqrt(
+        ComputeOperationUtils.squaredL2Norm(primitiveValueVector, vectorSize)
+            * ComputeOperationUtils.squaredL2Norm(primitiveParam, vectorSize));
+  }
+
+  @Benchmark
+  public List<Float> boxedHadamardProduct() {
+    return ComputeOperationUtils.hadamardProduct(param, valueVector);
+  }
+
+  @Benchmark
+  public List<Float> primitiveHadamardProduct() {
+    return ComputeOperationUtils.hadamardProduct(
+        ComputeOperationUtils.getCachedPrimitiveFloatVector(param, context),
+        ComputeOperationUtils.toReusablePrimitiveFloatVector(valueVector),
+        vectorSize);
+  }
+}
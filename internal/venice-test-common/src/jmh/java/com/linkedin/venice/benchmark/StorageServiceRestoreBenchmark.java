@@ -0,0 +1,144 @@
+package com.linkedin.venice.benchmark;
+
+import static com.linkedin.venice.ConfigKeys.ADMIN_PORT;
+import static com.linkedin.venice.ConfigKeys.CLUSTER_NAME;
+import static com.linkedin.venice.ConfigKeys.DATA_BASE_PATH;
+import static com.linkedin.venice.ConfigKeys.KAFKA_BOOTSTRAP_SERVERS;
+import static com.linkedin.venice.ConfigKeys.LISTENER_PORT;
+import static com.linkedin.venice.ConfigKeys.PERSISTENCE_TYPE;
+import static com.linkedin.venice.ConfigKeys.SERVER_STORE_RESTORE_THREAD_POOL_SIZE;
+import static com.linkedin.venice.ConfigKeys.ZOOKEEPER_ADDRESS;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.linkedin.davinci.config.VeniceConfigLoader;
+import com.linkedin.davinci.config.VeniceStoreVersionConfig;
+import com.linkedin.davinci.stats.AggVersionedStorageEngineStats;
+import com.linkedin.davinci.storage.StorageService;
+import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.utils.PropertyBuilder;
+import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.utils.VeniceProperties;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Measures how long the storage service takes to restore all the RocksDB store versions persisted on disk when it
+ * starts, depending on how many store versions are restored concurrently.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class StorageServiceRestoreBenchmark {
+  private static final int RECORD_COUNT_PER_PARTITION = 1000;
+
+  @Param({ "1", "4", "16" })
+  protected int restoreThreadPoolSize;
+
+  @Param({ "100" })
+  protected int storeVersionCount;
+
+  @Param({ "8" })
+  protected int partitionCount;
+
+  private VeniceConfigLoader configLoader;
+  private ReadOnlyStoreRepository storeRepository;
+  private StorageService storageService;
+
+  public static void main(String[] args) throws Exception {
+    Options options = new OptionsBuilder().include(StorageServiceRestoreBenchmark.class.getSimpleName()).build();
+    new Runner(options).run();
+  }
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    Store store = mock(Store.class);
+    when(store.getVersion(anyInt())).thenReturn(Optional.empty());
+    storeRepository = mock(ReadOnlyStoreRepository.class);
+    when(storeRepository.getStore(anyString())).thenReturn(store);
+    when(storeRepository.getStoreOrThrow(anyString())).thenReturn(store);
+
+    VeniceProperties serverProperties = new PropertyBuilder().put(CLUSTER_NAME, "restore_benchmark")
+        .put(ZOOKEEPER_ADDRESS, "localhost:2181")
+        .put(PERSISTENCE_TYPE, PersistenceType.ROCKS_DB.toString())
+        .put(KAFKA_BOOTSTRAP_SERVERS, "127.0.0.1:9092")
+        .put(LISTENER_PORT, 7072)
+        .put(ADMIN_PORT, 7073)
+        .put(DATA_BASE_PATH, Utils.getTempDataDirectory().getAbsolutePath())
+        .put(SERVER_STORE_RESTORE_THREAD_POOL_SIZE, restoreThreadPoolSize)
+        .build();
+    configLoader = new VeniceConfigLoader(new VeniceProperties(new Properties()), serverProperties);
+
+    // Populate the store versions to be restored by the benchmark.
+    StorageService populatingStorageService = createStorageService();
+    populatingStorageService.start();
+    byte[] value = new byte[100];
+    for (int version = 1; version <= storeVersionCount; version++) {
+      VeniceStoreVersionConfig storeConfig = new VeniceStoreVersionConfig(
+          Version.composeKafkaTopic("restore_benchmark_store", version),
+          serverProperties,
+          PersistenceType.ROCKS_DB);
+      for (int partition = 0; partition < partitionCount; partition++) {
+        AbstractStorageEngine storageEngine =
+            populatingStorageService.openStoreForNewPartition(storeConfig, partition, () -> null);
+        for (int i = 0; i < RECORD_COUNT_PER_PARTITION; i++) {
+          storageEngine.put(partition, ("key_" + i).getBytes(), value);
+        }
+      }
+    }
+    populatingStorageService.stop();
+  }
+
+  @TearDown(Level.Invocation)
+  public void cleanUp() throws Exception {
+    if (storageService != null) {
+      storageService.stop();
+      storageService = null;
+    }
+  }
+
+  @Benchmark
+  public StorageService restoreAllStores() throws Exception {
+    storageService = createStorageService();
+    storageService.start();
+    return storageService;
+  }
+
+  private StorageService createStorageService() {
+    return new StorageService(
+        configLoader,
+        mock(AggVersionedStorageEngineStats.class),
+        null,
+        AvroProtocolDefinition.STORE_VERSION_STATE.getSerializer(),
+        AvroProtocolDefinition.PARTITION_STATE.getSerializer(),
+        storeRepository);
+  }
+}
@@ -0,0 +1,72 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.venice.partitioner.DefaultVenicePartitioner;
+import com.linkedin.venice.partitioner.VenicePartitioner;
+import com.linkedin.venice.partitioner.XxHash64VenicePartitioner;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Measures the per-key cost of the MD5 based {@link DefaultVenicePartitioner} against the
+ * {@link XxHash64VenicePartitioner}, for a few key sizes.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms1G", "-Xmx1G" })
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class VenicePartitionerBenchmark {
+  private static final int KEY_COUNT = 1024;
+  private static final int PARTITION_COUNT = 64;
+
+  @Param({ "DEFAULT", "XXHASH64" })
+  protected String partitionerType;
+
+  @Param({ "8", "32", "256" })
+  protected int keySize;
+
+  private VenicePartitioner partitioner;
+  private byte[][] keys;
+
+  public static void main(String[] args) throws Exception {
+    Options options = new OptionsBuilder().include(VenicePartitionerBenchmark.class.getSimpleName()).build();
+    new Runner(options).run();
+  }
+
+  @Setup
+  public void setUp() {
+    partitioner =
+        partitionerType.equals("DEFAULT") ? new DefaultVenicePartitioner() : new XxHash64VenicePartitioner();
+    Random random = new Random(0);
+    keys = new byte[KEY_COUNT][keySize];
+    for (byte[] key: keys) {
+      random.nextBytes(key);
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(KEY_COUNT)
+  public void getPartitionId(Blackhole blackhole) {
+    for (byte[] key: keys) {
+      blackhole.consume(partitioner.getPartitionId(key, PARTITION_COUNT));
+    }
+  }
+}
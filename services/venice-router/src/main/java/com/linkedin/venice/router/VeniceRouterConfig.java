@@ -15,6 +15,14 @@ import static com.linkedin.venice.ConfigKeys.LISTENER_SSL_PORT;
 import static com.linkedin.venice.ConfigKeys.MAX_READ_CAPACITY;
 import static com.linkedin.venice.ConfigKeys.REFRESH_ATTEMPTS_FOR_ZK_RECONNECT;
 import static com.linkedin.venice.ConfigKeys.REFRESH_INTERVAL_FOR_ZK_RECONNECT_MS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_ADAPTIVE_CONCURRENCY_LIMIT_ENABLED;
+import static com.linkedin.venice.ConfigKeys.ROUTER_ADAPTIVE_CONCURRENCY_LIMIT_INITIAL;
+import static com.linkedin.venice.ConfigKeys.ROUTER_ADAPTIVE_CONCURRENCY_LIMIT_MAX;
+import static com.linkedin.venice.ConfigKeys.ROUTER_ADAPTIVE_CONCURRENCY_LIMIT_MIN;
+import static com.linkedin.venice.ConfigKeys.ROUTER_ADAPTIVE_LONG_TAIL_RETRY_ENABLED;
+import static com.linkedin.venice.ConfigKeys.ROUTER_ADAPTIVE_LONG_TAIL_RETRY_MAX_THRESHOLD_MS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_ADAPTIVE_LONG_TAIL_RETRY_MIN_THRESHOLD_MS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_ADAPTIVE_LONG_TAIL_RETRY_PERCENTILE;
 import static com.linkedin.venice.ConfigKeys.ROUTER_ASYNC_START_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_CLIENT_DECOMPRESSION_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_CLIENT_SSL_HANDSHAKE_ATTEMPTS;
@@ -67,7 +75,12 @@ import static com.linkedin.venice.ConfigKeys.ROUTER_MAX_PENDING_REQUEST;
 import static com.linkedin.venice.ConfigKeys.ROUTER_MAX_READ_CAPACITY;
 import static com.linkedin.venice.ConfigKeys.ROUTER_META_STORE_SHADOW_READ_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_MULTIGET_TARDY_LATENCY_MS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_MULTI_GET_DECOMPRESSION_QUEUE_SIZE;
+import static com.linkedin.venice.ConfigKeys.ROUTER_MULTI_GET_DECOMPRESSION_THREAD_COUNT;
 import static com.linkedin.venice.ConfigKeys.ROUTER_MULTI_KEY_ROUTING_STRATEGY;
+import static com.linkedin.venice.ConfigKeys.ROUTER_NETTY_CLIENT_ACQUIRE_TIMEOUT_MS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_NETTY_CLIENT_MAX_CONNECTIONS_PER_HOST;
+import static com.linkedin.venice.ConfigKeys.ROUTER_NETTY_CLIENT_MAX_PENDING_ACQUIRES_PER_HOST;
 import static com.linkedin.venice.ConfigKeys.ROUTER_NETTY_GRACEFUL_SHUTDOWN_PERIOD_SECONDS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_PENDING_CONNECTION_RESUME_THRESHOLD_PER_ROUTE;
 import static com.linkedin.venice.ConfigKeys.ROUTER_PER_NODE_CLIENT_ENABLED;
@@ -77,7 +90,11 @@ import static com.linkedin.venice.ConfigKeys.ROUTER_PER_STORAGE_NODE_THROTTLER_E
 import static com.linkedin.venice.ConfigKeys.ROUTER_PER_STORE_ROUTER_QUOTA_BUFFER;
 import static com.linkedin.venice.ConfigKeys.ROUTER_QUOTA_CHECK_WINDOW;
 import static com.linkedin.venice.ConfigKeys.ROUTER_READ_QUOTA_THROTTLING_LEASE_TIMEOUT_MS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_RESPONSE_CACHE_MAX_MEMORY_BYTES;
+import static com.linkedin.venice.ConfigKeys.ROUTER_RESPONSE_CACHE_STORES;
+import static com.linkedin.venice.ConfigKeys.ROUTER_RETRY_BUDGET_RATIO;
 import static com.linkedin.venice.ConfigKeys.ROUTER_SINGLEGET_TARDY_LATENCY_MS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_SINGLE_GET_COALESCING_STORES;
 import static com.linkedin.venice.ConfigKeys.ROUTER_SMART_LONG_TAIL_RETRY_ABORT_THRESHOLD_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_SMART_LONG_TAIL_RETRY_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTER_SOCKET_TIMEOUT;
@@ -85,6 +102,7 @@ import static com.linkedin.venice.ConfigKeys.ROUTER_STATEFUL_HEALTHCHECK_ENABLED
 import static com.linkedin.venice.ConfigKeys.ROUTER_STORAGE_NODE_CLIENT_TYPE;
 import static com.linkedin.venice.ConfigKeys.ROUTER_THROTTLE_CLIENT_SSL_HANDSHAKES;
 import static com.linkedin.venice.ConfigKeys.ROUTER_UNHEALTHY_PENDING_CONNECTION_THRESHOLD_PER_ROUTE;
+import static com.linkedin.venice.ConfigKeys.ROUTER_ZERO_COPY_AGGREGATION_ENABLED;
 import static com.linkedin.venice.ConfigKeys.ROUTE_DNS_CACHE_HOST_PATTERN;
 import static com.linkedin.venice.ConfigKeys.SSL_TO_STORAGE_NODES;
 import static com.linkedin.venice.ConfigKeys.SYSTEM_SCHEMA_CLUSTER_NAME;
@@ -132,6 +150,21 @@ public class VeniceRouterConfig {
   private boolean smartLongTailRetryEnabled;
   private int smartLongTailRetryAbortThresholdMs;
   private int longTailRetryMaxRouteForMultiKeyReq;
+  private boolean adaptiveLongTailRetryEnabled;
+  private double adaptiveLongTailRetryPercentile;
+  private int adaptiveLongTailRetryMinThresholdMs;
+  private int adaptiveLongTailRetryMaxThresholdMs;
+  private double retryBudgetRatio;
+  private List<String> singleGetCoalescingStores;
+  private List<String> responseCacheStores;
+  private long responseCacheMaxMemoryBytes;
+  private boolean adaptiveConcurrencyLimitEnabled;
+  private int adaptiveConcurrencyLimitInitial;
+  private int adaptiveConcurrencyLimitMin;
+  private int adaptiveConcurrencyLimitMax;
+  private int multiGetDecompressionThreadCount;
+  private int multiGetDecompressionQueueSize;
+  private boolean zeroCopyAggregationEnabled;
   private int maxKeyCountInMultiGetReq;
   private int connectionLimit;
   private int httpClientPoolSize;
@@ -197,6 +230,9 @@ public class VeniceRouterConfig {
   private int httpClient5PoolSize;
   private int httpClient5TotalIOThreadCount;
   private boolean httpClient5SkipCipherCheck;
+  private int nettyClientMaxConnectionsPerHost;
+  private int nettyClientMaxPendingAcquiresPerHost;
+  private long nettyClientAcquireTimeoutMs;
   private boolean http2InboundEnabled;
   private int http2MaxConcurrentStreams;
   private int http2MaxFrameSize;
@@ -241,6 +277,22 @@ public class VeniceRouterConfig {
     smartLongTailRetryAbortThresholdMs = props.getInt(ROUTER_SMART_LONG_TAIL_RETRY_ABORT_THRESHOLD_MS, 100);
     // Default: -1 means this feature is not enabled.
     longTailRetryMaxRouteForMultiKeyReq = props.getInt(ROUTER_LONG_TAIL_RETRY_MAX_ROUTE_FOR_MULTI_KEYS_REQ, -1);
+    adaptiveLongTailRetryEnabled = props.getBoolean(ROUTER_ADAPTIVE_LONG_TAIL_RETRY_ENABLED, false);
+    adaptiveLongTailRetryPercentile = props.getDouble(ROUTER_ADAPTIVE_LONG_TAIL_RETRY_PERCENTILE, 95);
+    adaptiveLongTailRetryMinThresholdMs = props.getInt(ROUTER_ADAPTIVE_LONG_TAIL_RETRY_MIN_THRESHOLD_MS, 2);
+    adaptiveLongTailRetryMaxThresholdMs = props.getInt(ROUTER_ADAPTIVE_LONG_TAIL_RETRY_MAX_THRESHOLD_MS, 1000);
+    // Default: -1 means there is no retry budget.
+    retryBudgetRatio = props.getDouble(ROUTER_RETRY_BUDGET_RATIO, -1);
+    singleGetCoalescingStores = props.getList(ROUTER_SINGLE_GET_COALESCING_STORES, Collections.emptyList());
+    responseCacheStores = props.getList(ROUTER_RESPONSE_CACHE_STORES, Collections.emptyList());
+    responseCacheMaxMemoryBytes = props.getSizeInBytes(ROUTER_RESPONSE_CACHE_MAX_MEMORY_BYTES, 256 * 1024 * 1024);
+    adaptiveConcurrencyLimitEnabled = props.getBoolean(ROUTER_ADAPTIVE_CONCURRENCY_LIMIT_ENABLED, false);
+    adaptiveConcurrencyLimitInitial = props.getInt(ROUTER_ADAPTIVE_CONCURRENCY_LIMIT_INITIAL, 100);
+    adaptiveConcurrencyLimitMin = props.getInt(ROUTER_ADAPTIVE_CONCURRENCY_LIMIT_MIN, 10);
+    adaptiveConcurrencyLimitMax = props.getInt(ROUTER_ADAPTIVE_CONCURRENCY_LIMIT_MAX, 1000);
+    multiGetDecompressionThreadCount = props.getInt(ROUTER_MULTI_GET_DECOMPRESSION_THREAD_COUNT, 0);
+    multiGetDecompressionQueueSize = props.getInt(ROUTER_MULTI_GET_DECOMPRESSION_QUEUE_SIZE, 1000);
+    zeroCopyAggregationEnabled = props.getBoolean(ROUTER_ZERO_COPY_AGGREGATION_ENABLED, false);
     maxKeyCountInMultiGetReq = props.getInt(ROUTER_MAX_KEY_COUNT_IN_MULTIGET_REQ, 500);
     connectionLimit = props.getInt(ROUTER_CONNECTION_LIMIT, 10000);
     httpClientPoolSize = props.getInt(ROUTER_HTTP_CLIENT_POOL_SIZE, 12);
@@ -369,6 +421,9 @@ public class VeniceRouterConfig {
     httpClient5TotalIOThreadCount =
         props.getInt(ROUTER_HTTP_CLIENT5_TOTAL_IO_THREAD_COUNT, Runtime.getRuntime().availableProcessors());
     httpClient5SkipCipherCheck = props.getBoolean(ROUTER_HTTP_CLIENT5_SKIP_CIPHER_CHECK_ENABLED, false);
+    nettyClientMaxConnectionsPerHost = props.getInt(ROUTER_NETTY_CLIENT_MAX_CONNECTIONS_PER_HOST, 2);
+    nettyClientMaxPendingAcquiresPerHost = props.getInt(ROUTER_NETTY_CLIENT_MAX_PENDING_ACQUIRES_PER_HOST, 10000);
+    nettyClientAcquireTimeoutMs = props.getLong(ROUTER_NETTY_CLIENT_ACQUIRE_TIMEOUT_MS, 1000);
     http2InboundEnabled = props.getBoolean(ROUTER_HTTP2_INBOUND_ENABLED, false);
     http2MaxConcurrentStreams = props.getInt(ROUTER_HTTP2_MAX_CONCURRENT_STREAMS, 100);
     http2MaxFrameSize = props.getInt(ROUTER_HTTP2_MAX_FRAME_SIZE, 8 * 1024 * 1024);
@@ -531,6 +586,66 @@ public class VeniceRouterConfig {
     return longTailRetryMaxRouteForMultiKeyReq;
   }
 
+  public boolean isAdaptiveLongTailRetryEnabled() {
+    return adaptiveLongTailRetryEnabled;
+  }
+
+  public double getAdaptiveLongTailRetryPercentile() {
+    return adaptiveLongTailRetryPercentile;
+  }
+
+  public int getAdaptiveLongTailRetryMinThresholdMs() {
+    return adaptiveLongTailRetryMinThresholdMs;
+  }
+
+  public int getAdaptiveLongTailRetryMaxThresholdMs() {
+    return adaptiveLongTailRetryMaxThresholdMs;
+  }
+
+  public double getRetryBudgetRatio() {
+    return retryBudgetRatio;
+  }
+
+  public List<String> getSingleGetCoalescingStores() {
+    return singleGetCoalescingStores;
+  }
+
+  public List<String> getResponseCacheStores() {
+    return responseCacheStores;
+  }
+
+  public long getResponseCacheMaxMemoryBytes() {
+    return responseCacheMaxMemoryBytes;
+  }
+
+  public boolean isAdaptiveConcurrencyLimitEnabled() {
+    return adaptiveConcurrencyLimitEnabled;
+  }
+
+  public int getAdaptiveConcurrencyLimitInitial() {
+    return adaptiveConcurrencyLimitInitial;
+  }
+
+  public int getAdaptiveConcurrencyLimitMin() {
+    return adaptiveConcurrencyLimitMin;
+  }
+
+  public int getAdaptiveConcurrencyLimitMax() {
+    return adaptiveConcurrencyLimitMax;
+  }
+
+  public int getMultiGetDecompressionThreadCount() {
+    return multiGetDecompressionThreadCount;
+  }
+
+  public int getMultiGetDecompressionQueueSize() {
+    return multiGetDecompressionQueueSize;
+  }
+
+  public boolean isZeroCopyAggregationEnabled() {
+    return zeroCopyAggregationEnabled;
+  }
+
   public StorageNodeClientType getStorageNodeClientType() {
     return storageNodeClientType;
   }
@@ -788,6 +903,18 @@ public class VeniceRouterConfig {
     return httpClient5SkipCipherCheck;
   }
 
+  public int getNettyClientMaxConnectionsPerHost() {
+    return nettyClientMaxConnectionsPerHost;
+  }
+
+  public int getNettyClientMaxPendingAcquiresPerHost() {
+    return nettyClientMaxPendingAcquiresPerHost;
+  }
+
+  public long getNettyClientAcquireTimeoutMs() {
+    return nettyClientAcquireTimeoutMs;
+  }
+
   public boolean isHttp2InboundEnabled() {
     return http2InboundEnabled;
   }
@@ -27,7 +27,8 @@ import org.apache.logging.log4j.Logger;
 public class RouterExceptionAndTrackingUtils {
   public enum FailureType {
     REGULAR, SMART_RETRY_ABORTED_BY_SLOW_ROUTE, SMART_RETRY_ABORTED_BY_DELAY_CONSTRAINT,
-    SMART_RETRY_ABORTED_BY_MAX_RETRY_ROUTE_LIMIT, RESOURCE_NOT_FOUND, RETRY_ABORTED_BY_NO_AVAILABLE_REPLICA
+    SMART_RETRY_ABORTED_BY_MAX_RETRY_ROUTE_LIMIT, RESOURCE_NOT_FOUND, RETRY_ABORTED_BY_NO_AVAILABLE_REPLICA,
+    RETRY_ABORTED_BY_RETRY_BUDGET
   }
 
   private static final StackTraceElement[] emptyStackTrace = new StackTraceElement[0];
@@ -177,6 +178,11 @@ public class RouterExceptionAndTrackingUtils {
             stats.recordNoAvailableReplicaAbortedRetryRequest(storeName.get());
           }
           return;
+        case RETRY_ABORTED_BY_RETRY_BUDGET:
+          if (storeName.isPresent()) {
+            stats.recordRetryBudgetAbortedRetryRequest(storeName.get());
+          }
+          return;
       }
 
       stats.recordUnhealthyRequest(storeName.orElse(null));
@@ -0,0 +1,209 @@
+package com.linkedin.venice.router.api;
+
+import com.linkedin.alpini.base.cache.ByteBufHashMap;
+import com.linkedin.alpini.base.cache.SerializedMap;
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.router.stats.RouterResponseCacheStats;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.tehuti.metrics.MetricsRepository;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
+import javax.annotation.Nonnull;
+import org.apache.http.HttpStatus;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * An off-heap cache of the single-get responses of the batch-only stores, which are immutable for a given version.
+ *
+ * 1. The entries are keyed by the resource name (store version) and the key, so a version swap invalidates the cached
+ *    responses of the previous version naturally, and they will be evicted over time. The key also holds the
+ *    compression supported by the client, since the response is only decompressed by the router for the clients which
+ *    cannot decompress it;
+ * 2. The entries are serialized into blocks of pooled direct memory by {@link ByteBufHashMap}, which bounds the total
+ *    allocated bytes and evicts the oldest blocks first once the bound is reached. The entries hit since they were
+ *    cached are given a second chance, and are moved to a new block instead of being evicted with their block;
+ * 3. Only the responses with status code 200 and 404 are cached, and the responses larger than a block won't be
+ *    cached to avoid allocating a dedicated block for a single entry.
+ */
+public class RouterResponseCache {
+  private static final Logger LOGGER = LogManager.getLogger(RouterResponseCache.class);
+  private static final int BLOCK_SIZE = ByteBufHashMap.DEFAULT_BLOCK_SIZE;
+  private static final IntFunction<ByteBuf> DIRECT_ALLOCATOR = PooledByteBufAllocator.DEFAULT::directBuffer;
+
+  private final Set<String> storeNames;
+  private final ReadOnlyStoreRepository storeRepository;
+  private final SerializedMap<CacheKey, CachedResponse> cache;
+
+  public RouterResponseCache(
+      List<String> storeNames,
+      long maxMemoryBytes,
+      ReadOnlyStoreRepository storeRepository,
+      MetricsRepository metricsRepository) {
+    this.storeNames = new HashSet<>(storeNames);
+    this.storeRepository = storeRepository;
+    this.cache =
+        new ByteBufHashMap<CacheKey, CachedResponse>(CachedResponseSerDes.INSTANCE, BLOCK_SIZE, DIRECT_ALLOCATOR)
+            .setSecondChanceEnabled(true)
+            .setMaxAllocatedMemory(maxMemoryBytes);
+    new RouterResponseCacheStats(metricsRepository, cache);
+  }
+
+  /**
+   * The cache only applies to the single-get requests of the configured batch-only stores.
+   */
+  public boolean isCacheEnabled(VenicePath path) {
+    if (!path.getRequestType().equals(RequestType.SINGLE_GET) || !storeNames.contains(path.getStoreName())) {
+      return false;
+    }
+    Store store = storeRepository.getStore(path.getStoreName());
+    return store != null && !store.isHybrid();
+  }
+
+  /**
+   * @return the cached response, or null if there is no cached response for the given request.
+   */
+  public VeniceFullHttpResponse get(VenicePath path) {
+    CachedResponse cachedResponse = cache.get(new CacheKey(path));
+    if (cachedResponse == null) {
+      return null;
+    }
+    VeniceFullHttpResponse response = new VeniceFullHttpResponse(
+        HttpVersion.HTTP_1_1,
+        HttpResponseStatus.valueOf(cachedResponse.statusCode),
+        Unpooled.wrappedBuffer(cachedResponse.content),
+        0);
+    for (int i = 0; i < cachedResponse.headers.length; i += 2) {
+      response.headers().set(cachedResponse.headers[i], cachedResponse.headers[i + 1]);
+    }
+    return response;
+  }
+
+  public void put(VenicePath path, VeniceFullHttpResponse response) {
+    int statusCode = response.status().code();
+    ByteBuf content = response.content();
+    if (statusCode != HttpStatus.SC_OK && statusCode != HttpStatus.SC_NOT_FOUND) {
+      return;
+    }
+    if (content.readableBytes() > BLOCK_SIZE) {
+      return;
+    }
+    HttpHeaders headers = response.headers();
+    String[] headerArray = new String[headers.size() * 2];
+    int i = 0;
+    for (Map.Entry<String, String> header: headers) {
+      headerArray[i++] = header.getKey();
+      headerArray[i++] = header.getValue();
+    }
+    cache.put(new CacheKey(path), new CachedResponse(statusCode, headerArray, ByteBufUtil.getBytes(content)));
+  }
+
+  /**
+   * The key is copied out of the request, so the cache won't hold any request buffer.
+   */
+  private static final class CacheKey {
+    private final String resourceName;
+    private final byte[] key;
+    private final CompressionStrategy clientCompression;
+    private final int hashCode;
+
+    CacheKey(VenicePath path) {
+      this.resourceName = path.getResourceName();
+      ByteBuffer keyBuffer = path.getPartitionKey().getKeyBuffer();
+      this.key = new byte[keyBuffer.remaining()];
+      keyBuffer.duplicate().get(this.key);
+      this.clientCompression = path.getResponseDecompressor().getClientCompression();
+      this.hashCode = 31 * (31 * resourceName.hashCode() + Arrays.hashCode(key)) + clientCompression.getValue();
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof CacheKey)) {
+        return false;
+      }
+      CacheKey other = (CacheKey) o;
+      return hashCode == other.hashCode && clientCompression == other.clientCompression
+          && resourceName.equals(other.resourceName) && Arrays.equals(key, other.key);
+    }
+  }
+
+  private static final class CachedResponse {
+    private final int statusCode;
+    /**
+     * The header names and values in turn.
+     */
+    private final String[] headers;
+    private final byte[] content;
+
+    CachedResponse(int statusCode, String[] headers, byte[] content) {
+      this.statusCode = statusCode;
+      this.headers = headers;
+      this.content = content;
+    }
+  }
+
+  private static final class CachedResponseSerDes implements ByteBufHashMap.SerDes<CachedResponse> {
+    private static final CachedResponseSerDes INSTANCE = new CachedResponseSerDes();
+
+    @Override
+    public CachedResponse deserialize(@Nonnull ByteBufInputStream inputStream) {
+      try {
+        int statusCode = inputStream.readInt();
+        String[] headers = new String[inputStream.readInt()];
+        for (int i = 0; i < headers.length; ++i) {
+          headers[i] = inputStream.readUTF();
+        }
+        byte[] content = new byte[inputStream.readInt()];
+        inputStream.readFully(content);
+        return new CachedResponse(statusCode, headers, content);
+      } catch (IOException e) {
+        LOGGER.warn("Failed to deserialize the cached response", e);
+        return null;
+      }
+    }
+
+    @Override
+    public boolean serialize(@Nonnull ByteBufOutputStream outputStream, @Nonnull CachedResponse value) {
+      try {
+        outputStream.writeInt(value.statusCode);
+        outputStream.writeInt(value.headers.length);
+        for (String header: value.headers) {
+          outputStream.writeUTF(header);
+        }
+        outputStream.writeInt(value.content.length);
+        outputStream.write(value.content);
+        return true;
+      } catch (IOException e) {
+        LOGGER.warn("Failed to serialize the response to cache", e);
+        return false;
+      }
+    }
+  }
+}
@@ -0,0 +1,224 @@
+package com.linkedin.venice.router.api;
+
+import com.linkedin.alpini.router.api.RouterException;
+import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.router.httpclient.PortableHttpResponse;
+import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
+import com.linkedin.venice.router.stats.RouterStats;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import io.netty.buffer.ByteBuf;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+
+/**
+ * This class coalesces the concurrent single-get requests for the same key of the same store version, which is common
+ * for the stores with hot keys.
+ *
+ * The first request (the leader) will be sent to the storage node as usual, and the identical requests arriving while
+ * the leader is still in flight (the followers) won't be sent to any storage node, and they will receive the response
+ * of the leader instead. Every follower gets a retained duplicate of the response content, so the content buffer will
+ * be released once all the requests sharing it have been handled.
+ *
+ * Here are the rules to keep the retry and quota behavior unchanged:
+ * 1. Retry requests are never coalesced, so a long-tail retry always reaches a new replica instead of waiting for the
+ *    slow request it is supposed to hedge;
+ * 2. If the leader fails, all the followers fail the same way, which will trigger their own error retries if allowed;
+ * 3. Coalescing happens in {@link VeniceDispatcher}, which is after the read quota enforcement in
+ *    {@link VeniceDelegateMode}, so every coalesced request is still charged to the read quota of the store since it is
+ *    a request issued by the customer.
+ */
+public class SingleGetRequestCoalescer {
+  private final Set<String> storeNames;
+  private final RouterStats<AggRouterHttpRequestStats> routerStats;
+  private final VeniceConcurrentHashMap<CoalescingKey, InFlightRequest> inFlightRequests =
+      new VeniceConcurrentHashMap<>();
+
+  public SingleGetRequestCoalescer(List<String> storeNames, RouterStats<AggRouterHttpRequestStats> routerStats) {
+    this.storeNames = new HashSet<>(storeNames);
+    this.routerStats = routerStats;
+  }
+
+  public boolean isCoalescingEnabled(VenicePath path) {
+    return !storeNames.isEmpty() && path.getRequestType().equals(RequestType.SINGLE_GET) && !path.isRetryRequest()
+        && storeNames.contains(path.getStoreName());
+  }
+
+  /**
+   * Sends the request through the given sender unless an identical request is already in flight, in which case the
+   * response of the in-flight request will be shared.
+   */
+  public CompletableFuture<PortableHttpResponse> sendRequest(
+      VenicePath path,
+      Instance storageNode,
+      RequestSender sender) throws RouterException {
+    CoalescingKey key = new CoalescingKey(path.getResourceName(), path.getPartitionKey());
+    AggRouterHttpRequestStats stats = routerStats.getStatsByType(path.getRequestType());
+    InFlightRequest leader = new InFlightRequest(storageNode);
+    InFlightRequest inFlightRequest;
+    while ((inFlightRequest = inFlightRequests.putIfAbsent(key, leader)) != null) {
+      CompletableFuture<PortableHttpResponse> responseFuture = inFlightRequest.join();
+      if (responseFuture != null) {
+        stats.recordRequestCoalescing(path.getStoreName(), true);
+        /**
+         * Mark the storage node serving the in-flight request as used by the current request, so that the retry of the
+         * current request will go to a different replica.
+         */
+        path.requestStorageNode(inFlightRequest.storageNode.getNodeId());
+        return responseFuture;
+      }
+      // The in-flight request has just completed, so try again.
+      inFlightRequests.remove(key, inFlightRequest);
+    }
+
+    stats.recordRequestCoalescing(path.getStoreName(), false);
+    CompletableFuture<PortableHttpResponse> responseFuture;
+    try {
+      responseFuture = sender.send();
+    } catch (RouterException | RuntimeException e) {
+      inFlightRequests.remove(key, leader);
+      leader.complete(null, e);
+      throw e;
+    }
+    return responseFuture.handle((response, throwable) -> {
+      inFlightRequests.remove(key, leader);
+      return leader.complete(response, throwable);
+    }).thenCompose(future -> future);
+  }
+
+  /**
+   * For TEST ONLY
+   */
+  int getInFlightRequestCount() {
+    return inFlightRequests.size();
+  }
+
+  @FunctionalInterface
+  public interface RequestSender {
+    CompletableFuture<PortableHttpResponse> send() throws RouterException;
+  }
+
+  private static final class CoalescingKey {
+    private final String resourceName;
+    private final RouterKey routerKey;
+
+    CoalescingKey(String resourceName, RouterKey routerKey) {
+      this.resourceName = resourceName;
+      this.routerKey = routerKey;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * resourceName.hashCode() + routerKey.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof CoalescingKey)) {
+        return false;
+      }
+      CoalescingKey other = (CoalescingKey) o;
+      return resourceName.equals(other.resourceName) && routerKey.equals(other.routerKey);
+    }
+  }
+
+  private static class InFlightRequest {
+    private final Instance storageNode;
+    /**
+     * It will be set to null once the leader completes, and no more follower can join after that.
+     */
+    private List<CompletableFuture<PortableHttpResponse>> followers = new ArrayList<>();
+
+    InFlightRequest(Instance storageNode) {
+      this.storageNode = storageNode;
+    }
+
+    synchronized CompletableFuture<PortableHttpResponse> join() {
+      if (followers == null) {
+        return null;
+      }
+      CompletableFuture<PortableHttpResponse> responseFuture = new CompletableFuture<>();
+      followers.add(responseFuture);
+      return responseFuture;
+    }
+
+    /**
+     * Completes all the followers and returns the response future of the leader.
+     */
+    CompletableFuture<PortableHttpResponse> complete(PortableHttpResponse response, Throwable throwable) {
+      List<CompletableFuture<PortableHttpResponse>> followersToComplete;
+      synchronized (this) {
+        followersToComplete = followers;
+        followers = null;
+      }
+      CompletableFuture<PortableHttpResponse> leaderResponseFuture = new CompletableFuture<>();
+      if (throwable == null && !followersToComplete.isEmpty()) {
+        try {
+          ByteBuf content = response.getContentInByteBuf();
+          for (CompletableFuture<PortableHttpResponse> follower: followersToComplete) {
+            follower.complete(new SharedContentHttpResponse(response, content.retainedDuplicate()));
+          }
+          response = new SharedContentHttpResponse(response, content);
+        } catch (Throwable e) {
+          throwable = e;
+        }
+      }
+      if (throwable != null) {
+        for (CompletableFuture<PortableHttpResponse> follower: followersToComplete) {
+          follower.completeExceptionally(throwable);
+        }
+        leaderResponseFuture.completeExceptionally(throwable);
+      } else {
+        leaderResponseFuture.complete(response);
+      }
+      return leaderResponseFuture;
+    }
+  }
+
+  /**
+   * A view of the shared response, which owns one reference of the content.
+   */
+  private static class SharedContentHttpResponse implements PortableHttpResponse {
+    private final PortableHttpResponse response;
+    private final ByteBuf content;
+
+    SharedContentHttpResponse(PortableHttpResponse response, ByteBuf content) {
+      this.response = response;
+      this.content = content;
+    }
+
+    @Override
+    public int getStatusCode() {
+      return response.getStatusCode();
+    }
+
+    @Override
+    public ByteBuf getContentInByteBuf() throws IOException {
+      return content;
+    }
+
+    @Override
+    public boolean containsHeader(String headerName) {
+      return response.containsHeader(headerName);
+    }
+
+    @Override
+    public String getFirstHeader(String headerName) {
+      return response.getFirstHeader(headerName);
+    }
+
+    @Override
+    public void discard() {
+      content.release();
+    }
+  }
+}
@@ -24,6 +24,7 @@ import com.linkedin.venice.router.api.routing.helix.HelixGroupSelector;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
 import com.linkedin.venice.router.stats.RouteHttpRequestStats;
 import com.linkedin.venice.router.stats.RouterStats;
+import com.linkedin.venice.router.throttle.RetryBudget;
 import com.linkedin.venice.router.throttle.RouterThrottler;
 import com.linkedin.venice.utils.HelixUtils;
 import java.util.Collection;
@@ -37,6 +38,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ThreadLocalRandom;
 import javax.annotation.Nonnull;
 
 
@@ -64,6 +66,11 @@ public class VeniceDelegateMode extends ScatterGatherMode {
    */
   private final ScatterGatherMode LEAST_LOADED_MODE_FOR_SINGLE_GET = new LeastLoadedModeForSingleGet();
 
+  /**
+   * This mode will route single get to the faster of two random replicas.
+   */
+  private final ScatterGatherMode LATENCY_AWARE_MODE_FOR_SINGLE_GET = new LatencyAwareModeForSingleGet();
+
   /**
    * This mode will group all requests to the same host into a single request.  Hosts are selected as the first host returned
    * by the VeniceHostFinder, so we must shuffle the order to get an even distribution.
@@ -88,6 +95,12 @@ public class VeniceDelegateMode extends ScatterGatherMode {
    */
   private final ScatterGatherMode HELIX_ASSISTED_MODE_FOR_MULTI_KEY_REQUEST = new HelixAssistedScatterGatherMode();
 
+  /**
+   * Latency aware replica routing to move the traffic away from a slow node before it piles up pending requests.
+   */
+  private final ScatterGatherMode LATENCY_AWARE_MODE_FOR_MULTI_KEY_REQUEST =
+      new LatencyAwareRoutingModeForMultiKeyRequest();
+
   private RouterThrottler readRequestThrottler;
   private RouteHttpRequestStats routeHttpRequestStats;
 
@@ -95,7 +108,13 @@ public class VeniceDelegateMode extends ScatterGatherMode {
 
   private final VeniceMultiKeyRoutingStrategy multiKeyRoutingStrategy;
   private final ScatterGatherMode scatterGatherModeForMultiKeyRequest;
+  private final ScatterGatherMode scatterGatherModeForSingleGet;
   private final RouterStats<AggRouterHttpRequestStats> routerStats;
+  /**
+   * Caps the retry requests to a fraction of the original requests, and it is only present when
+   * {@link VeniceRouterConfig#getRetryBudgetRatio()} is positive.
+   */
+  private final Optional<RetryBudget> retryBudget;
 
   public VeniceDelegateMode(
       VeniceRouterConfig config,
@@ -118,9 +137,19 @@ public class VeniceDelegateMode extends ScatterGatherMode {
       case HELIX_ASSISTED_ROUTING:
         this.scatterGatherModeForMultiKeyRequest = HELIX_ASSISTED_MODE_FOR_MULTI_KEY_REQUEST;
         break;
+      case LATENCY_AWARE_ROUTING:
+        this.scatterGatherModeForMultiKeyRequest = LATENCY_AWARE_MODE_FOR_MULTI_KEY_REQUEST;
+        break;
       default:
         throw new VeniceException("Unknown multi-key routing strategy: " + this.multiKeyRoutingStrategy);
     }
+    this.scatterGatherModeForSingleGet =
+        this.multiKeyRoutingStrategy.equals(VeniceMultiKeyRoutingStrategy.LATENCY_AWARE_ROUTING)
+            ? LATENCY_AWARE_MODE_FOR_SINGLE_GET
+            : LEAST_LOADED_MODE_FOR_SINGLE_GET;
+    this.retryBudget = config.getRetryBudgetRatio() > 0
+        ? Optional.of(new RetryBudget(config.getRetryBudgetRatio()))
+        : Optional.empty();
   }
 
   public void initReadRequestThrottler(RouterThrottler requestThrottler) {
@@ -200,7 +229,7 @@ public class VeniceDelegateMode extends ScatterGatherMode {
         scatterMode = scatterGatherModeForMultiKeyRequest;
         break;
       case SINGLE_GET:
-        scatterMode = LEAST_LOADED_MODE_FOR_SINGLE_GET;
+        scatterMode = scatterGatherModeForSingleGet;
         break;
       default:
         throw RouterExceptionAndTrackingUtils.newRouterExceptionAndTracking(
@@ -310,9 +339,19 @@ public class VeniceDelegateMode extends ScatterGatherMode {
             SERVICE_UNAVAILABLE,
             "The retry request aborted because there are too many retries for current request",
             RouterExceptionAndTrackingUtils.FailureType.SMART_RETRY_ABORTED_BY_MAX_RETRY_ROUTE_LIMIT);
-      } else {
-        routerStats.getStatsByType(venicePath.getRequestType()).recordAllowedRetryRequest(storeName);
       }
+      // Check whether the retry request is allowed or not according to the global retry budget
+      if (retryBudget.isPresent() && !retryBudget.get().tryAcquireRetry()) {
+        throw RouterExceptionAndTrackingUtils.newRouterExceptionAndTracking(
+            Optional.of(storeName),
+            Optional.of(venicePath.getRequestType()),
+            SERVICE_UNAVAILABLE,
+            "The retry request aborted because the retry budget has been used up",
+            RouterExceptionAndTrackingUtils.FailureType.RETRY_ABORTED_BY_RETRY_BUDGET);
+      }
+      routerStats.getStatsByType(venicePath.getRequestType()).recordAllowedRetryRequest(storeName);
+    } else {
+      retryBudget.ifPresent(RetryBudget::recordRequest);
     }
 
     return finalScatter;
@@ -334,20 +373,7 @@ public class VeniceDelegateMode extends ScatterGatherMode {
       }
     }
     if (minHost == null) {
-      if (path.isRetryRequest()) {
-        throw RouterExceptionAndTrackingUtils.newRouterExceptionAndTracking(
-            Optional.of(path.getStoreName()),
-            Optional.of(path.getRequestType()),
-            SERVICE_UNAVAILABLE,
-            "Retry request aborted because of slow route for request path: " + path.getResourceName(),
-            RouterExceptionAndTrackingUtils.FailureType.SMART_RETRY_ABORTED_BY_SLOW_ROUTE);
-      } else {
-        throw RouterExceptionAndTrackingUtils.newRouterExceptionAndTracking(
-            Optional.of(path.getStoreName()),
-            Optional.of(path.getRequestType()),
-            SERVICE_UNAVAILABLE,
-            "Could not find ready-to-serve replica for request path: " + path.getResourceName());
-      }
+      throw newNoAvailableHostException(path);
     }
     H finalHost = minHost;
     hosts.removeIf(aHost -> !aHost.equals(finalHost));
@@ -355,12 +381,91 @@ public class VeniceDelegateMode extends ScatterGatherMode {
     return host;
   }
 
+  /**
+   * Select the host with the lower cost out of two random replicas (power of two choices), and the cost is the moving
+   * average of the response latency weighted by the pending request count.
+   * Comparing two random replicas instead of all of them avoids sending all the traffic to the host, which looked the
+   * best according to the stats gathered before the latest requests got dispatched.
+   */
+  private <H> H selectLatencyAwareHost(List<H> hosts, VenicePath path) throws RouterException {
+    H firstCandidate = null;
+    H secondCandidate = null;
+    int candidateCount = 0;
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    for (H h: hosts) {
+      Instance node = (Instance) h;
+      if (!path.canRequestStorageNode(node.getNodeId())) {
+        continue;
+      }
+      /**
+       * Reservoir sampling to pick two candidates in a single pass.
+       */
+      ++candidateCount;
+      if (candidateCount == 1) {
+        firstCandidate = h;
+      } else if (candidateCount == 2) {
+        secondCandidate = h;
+      } else {
+        int index = random.nextInt(candidateCount);
+        if (index == 0) {
+          firstCandidate = h;
+        } else if (index == 1) {
+          secondCandidate = h;
+        }
+      }
+    }
+    if (firstCandidate == null) {
+      throw newNoAvailableHostException(path);
+    }
+    H selectedHost = firstCandidate;
+    if (secondCandidate != null && getRoutingCost(secondCandidate) < getRoutingCost(firstCandidate)) {
+      selectedHost = secondCandidate;
+    }
+    H finalHost = selectedHost;
+    hosts.removeIf(aHost -> !aHost.equals(finalHost));
+    return finalHost;
+  }
+
+  /**
+   * 1ms is added to the latency, so that the pending requests still count for a host without any latency sample yet.
+   */
+  private <H> double getRoutingCost(H host) {
+    String nodeId = ((Instance) host).getNodeId();
+    return (routeHttpRequestStats.getResponseLatency(nodeId) + 1)
+        * (routeHttpRequestStats.getPendingRequestCount(nodeId) + 1);
+  }
+
+  private RouterException newNoAvailableHostException(VenicePath path) {
+    if (path.isRetryRequest()) {
+      return RouterExceptionAndTrackingUtils.newRouterExceptionAndTracking(
+          Optional.of(path.getStoreName()),
+          Optional.of(path.getRequestType()),
+          SERVICE_UNAVAILABLE,
+          "Retry request aborted because of slow route for request path: " + path.getResourceName(),
+          RouterExceptionAndTrackingUtils.FailureType.SMART_RETRY_ABORTED_BY_SLOW_ROUTE);
+    } else {
+      return RouterExceptionAndTrackingUtils.newRouterExceptionAndTracking(
+          Optional.of(path.getStoreName()),
+          Optional.of(path.getRequestType()),
+          SERVICE_UNAVAILABLE,
+          "Could not find ready-to-serve replica for request path: " + path.getResourceName());
+    }
+  }
+
   /**
    * This mode route the request to the least loaded replica for single get.
    */
   class LeastLoadedModeForSingleGet extends ScatterGatherMode {
     protected LeastLoadedModeForSingleGet() {
-      super("LEAST_LOADED_MODE_FOR_SINGLE_GET", false);
+      this("LEAST_LOADED_MODE_FOR_SINGLE_GET");
+    }
+
+    protected LeastLoadedModeForSingleGet(@Nonnull String name) {
+      super(name, false);
+    }
+
+    protected <H> H selectHost(List<H> hosts, VenicePath venicePath) throws RouterException {
+      return selectLeastLoadedHost(hosts, venicePath);
     }
 
     @Nonnull
@@ -392,7 +497,7 @@ public class VeniceDelegateMode extends ScatterGatherMode {
       } else if (hosts.size() > 1) {
         VenicePath venicePath = (VenicePath) path;
 
-        H host = selectLeastLoadedHost(hosts, venicePath);
+        H host = selectHost(hosts, venicePath);
 
         scatter.addOnlineRequest(new ScatterGatherRequest<>(Collections.singletonList(host), keySet, partitionName));
       } else {
@@ -402,6 +507,20 @@ public class VeniceDelegateMode extends ScatterGatherMode {
     }
   }
 
+  /**
+   * This mode route the request to the replica picked by {@link #selectLatencyAwareHost} for single get.
+   */
+  class LatencyAwareModeForSingleGet extends LeastLoadedModeForSingleGet {
+    protected LatencyAwareModeForSingleGet() {
+      super("LATENCY_AWARE_MODE_FOR_SINGLE_GET");
+    }
+
+    @Override
+    protected <H> H selectHost(List<H> hosts, VenicePath venicePath) throws RouterException {
+      return selectLatencyAwareHost(hosts, venicePath);
+    }
+  }
+
   abstract class ScatterGatherModeForMultiKeyRequest extends ScatterGatherMode {
     /**
      * This class contains all the partitions/keys belonging to the same host.
@@ -581,6 +700,33 @@ public class VeniceDelegateMode extends ScatterGatherMode {
     }
   }
 
+  /**
+   * This mode route all the keys of a partition to the replica picked by {@link #selectLatencyAwareHost}.
+   */
+  class LatencyAwareRoutingModeForMultiKeyRequest extends ScatterGatherModeForMultiKeyRequest {
+    protected LatencyAwareRoutingModeForMultiKeyRequest() {
+      super("LATENCY_AWARE_MODE_FOR_MULTI_GET");
+    }
+
+    @Override
+    protected <H, K> void selectHostForPartition(
+        String partitionName,
+        List<H> partitionReplicas,
+        List<K> partitionKeys,
+        VenicePath venicePath,
+        Map<H, KeyPartitionSet<H, K>> hostMap,
+        Optional<Integer> helixGroupNum,
+        Optional<Integer> assignedHelixGroupId) throws RouterException {
+      H selectedHost = selectLatencyAwareHost(partitionReplicas, venicePath);
+      KeyPartitionSet<H, K> keyPartitionSet = hostMap.get(selectedHost);
+      if (keyPartitionSet == null) {
+        keyPartitionSet = new KeyPartitionSet<>(Collections.singletonList(selectedHost));
+        hostMap.put(selectedHost, keyPartitionSet);
+      }
+      keyPartitionSet.addKeyPartitions(partitionKeys, partitionName);
+    }
+  }
+
   /**
    * This following mode will leverage Helix Zone/Group for routing.
    * Here are the steps:
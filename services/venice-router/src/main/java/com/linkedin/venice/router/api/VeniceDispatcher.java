@@ -24,13 +24,16 @@ import com.linkedin.venice.router.VeniceRouterConfig;
 import com.linkedin.venice.router.api.path.VenicePath;
 import com.linkedin.venice.router.httpclient.PortableHttpResponse;
 import com.linkedin.venice.router.httpclient.StorageNodeClient;
+import com.linkedin.venice.router.stats.AdaptiveConcurrencyLimiterStats;
 import com.linkedin.venice.router.stats.AggHostHealthStats;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
 import com.linkedin.venice.router.stats.RouteHttpRequestStats;
 import com.linkedin.venice.router.stats.RouteHttpStats;
 import com.linkedin.venice.router.stats.RouterStats;
 import com.linkedin.venice.router.streaming.VeniceChunkedResponse;
+import com.linkedin.venice.router.throttle.AdaptiveConcurrencyLimiter;
 import com.linkedin.venice.router.throttle.PendingRequestThrottler;
+import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.Pair;
 import com.linkedin.venice.utils.Utils;
@@ -49,6 +52,10 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 import javax.annotation.Nonnull;
@@ -69,6 +76,7 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
   private final VeniceConcurrentHashMap<String, ReentrantLock> storageNodeLockMap = new VeniceConcurrentHashMap<>();
   private final AtomicLong uniqueRequestId = new AtomicLong(0);
 
+  private static final String MULTI_GET_DECOMPRESSION_THREAD_PREFIX = "Router-multi-get-decompression-thread";
   private static final Set<Integer> PASS_THROUGH_ERROR_CODES = Utils.setOf(TOO_MANY_REQUESTS.code());
   private static final Set<Integer> RETRIABLE_ERROR_CODES =
       Utils.setOf(INTERNAL_SERVER_ERROR.code(), SERVICE_UNAVAILABLE.code());
@@ -92,6 +100,20 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
 
   private final RouterStats<AggRouterHttpRequestStats> routerStats;
 
+  private final SingleGetRequestCoalescer singleGetRequestCoalescer;
+  private final Optional<RouterResponseCache> responseCache;
+  private final MetricsRepository metricsRepository;
+  /**
+   * The adaptive in-flight request limiters per storage node, which replace the fixed pending request check when
+   * present.
+   */
+  private final Optional<VeniceConcurrentHashMap<String, StorageNodeConcurrencyLimiter>> concurrencyLimiters;
+  /**
+   * The dedicated pool to decompress the multi-get responses, so that the decompression won't block the threads
+   * completing the storage node responses.
+   */
+  private final Optional<ExecutorService> multiGetDecompressionExecutor;
+
   public VeniceDispatcher(
       VeniceRouterConfig config,
       ReadOnlyStoreRepository storeRepository,
@@ -115,6 +137,37 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
     this.leakedCompletableFutureCleanupService = new LeakedCompletableFutureCleanupService();
     this.leakedCompletableFutureCleanupService.start();
     this.routerStats = routerStats;
+    this.singleGetRequestCoalescer =
+        new SingleGetRequestCoalescer(config.getSingleGetCoalescingStores(), perStoreStatsByType);
+    this.responseCache = config.getResponseCacheStores().isEmpty()
+        ? Optional.empty()
+        : Optional.of(
+            new RouterResponseCache(
+                config.getResponseCacheStores(),
+                config.getResponseCacheMaxMemoryBytes(),
+                storeRepository,
+                metricsRepository));
+    this.metricsRepository = metricsRepository;
+    this.concurrencyLimiters =
+        config.isAdaptiveConcurrencyLimitEnabled() ? Optional.of(new VeniceConcurrentHashMap<>()) : Optional.empty();
+    if (config.getMultiGetDecompressionThreadCount() > 0) {
+      /**
+       * The thread completing the storage node response will decompress it by itself once the queue is full, which
+       * applies back pressure instead of failing the request, and it also covers the responses arriving after
+       * the pool is shut down.
+       */
+      this.multiGetDecompressionExecutor = Optional.of(
+          new ThreadPoolExecutor(
+              config.getMultiGetDecompressionThreadCount(),
+              config.getMultiGetDecompressionThreadCount(),
+              0,
+              TimeUnit.MILLISECONDS,
+              new LinkedBlockingQueue<>(config.getMultiGetDecompressionQueueSize()),
+              new DaemonThreadFactory(MULTI_GET_DECOMPRESSION_THREAD_PREFIX),
+              (task, executor) -> task.run()));
+    } else {
+      this.multiGetDecompressionExecutor = Optional.empty();
+    }
   }
 
   @Override
@@ -154,28 +207,94 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
     Instance storageNode = part.getHosts().get(0);
     hostSelected.setSuccess(storageNode);
 
+    boolean isResponseCacheEnabled = responseCache.isPresent() && responseCache.get().isCacheEnabled(path);
+    if (isResponseCacheEnabled) {
+      VeniceFullHttpResponse cachedResponse = responseCache.get().get(path);
+      perStoreStatsByType.getStatsByType(requestType).recordResponseCacheLookup(storeName, cachedResponse != null);
+      if (cachedResponse != null) {
+        responseFuture.setSuccess(Collections.singletonList(cachedResponse));
+        return;
+      }
+    }
+
+    CompletableFuture<PortableHttpResponse> serverResponseFuture;
+    if (singleGetRequestCoalescer.isCoalescingEnabled(path)) {
+      serverResponseFuture =
+          singleGetRequestCoalescer.sendRequest(path, storageNode, () -> sendRequest(storageNode, path, retryFuture));
+    } else {
+      serverResponseFuture = sendRequest(storageNode, path, retryFuture);
+    }
+
     // sendRequest completes future either immediately in the calling thread context or on the executor
-    sendRequest(storageNode, path, retryFuture).whenComplete((response, throwable) -> {
-      try {
-        int statusCode = response != null ? response.getStatusCode() : HttpStatus.SC_INTERNAL_SERVER_ERROR;
-        if (!retryFuture.isCancelled() && RETRIABLE_ERROR_CODES.contains(statusCode)) {
-          retryFuture.setSuccess(INTERNAL_SERVER_ERROR);
-          return;
-        }
+    serverResponseFuture.whenComplete((response, throwable) -> {
+      if (throwable == null && multiGetDecompressionExecutor.isPresent() && isDecompressionRequired(path, response)) {
+        long submitTimeInNs = System.nanoTime();
+        multiGetDecompressionExecutor.get().execute(() -> {
+          perStoreStatsByType.getStatsByType(requestType)
+              .recordDecompressionQueueWaitingTime(storeName, LatencyUtils.getLatencyInMS(submitTimeInNs));
+          handleResponse(path, storageNode, response, null, isResponseCacheEnabled, responseFuture, retryFuture);
+        });
+      } else {
+        handleResponse(path, storageNode, response, throwable, isResponseCacheEnabled, responseFuture, retryFuture);
+      }
+    });
+  }
 
-        if (throwable != null) {
-          throw throwable;
-        }
+  private boolean isDecompressionRequired(VenicePath path, PortableHttpResponse response) {
+    if (!path.getRequestType().equals(RequestType.MULTI_GET) || response.getStatusCode() != HttpStatus.SC_OK) {
+      return false;
+    }
+    CompressionStrategy responseCompression =
+        VeniceResponseDecompressor.getCompressionStrategy(response.getFirstHeader(VENICE_COMPRESSION_STRATEGY));
+    return !path.getResponseDecompressor().canPassThroughResponse(responseCompression);
+  }
+
+  /**
+   * Server errors and quota rejections are usually returned faster than regular responses, so they shouldn't be
+   * recorded as regular latency samples by the latency-aware routing.
+   */
+  private static boolean isErrorResponse(PortableHttpResponse response, Throwable throwable) {
+    if (throwable != null || response == null) {
+      return true;
+    }
+    int statusCode = response.getStatusCode();
+    return statusCode >= HttpStatus.SC_INTERNAL_SERVER_ERROR || statusCode == TOO_MANY_REQUESTS.code();
+  }
 
-        if (statusCode < HttpStatus.SC_INTERNAL_SERVER_ERROR) {
-          path.markStorageNodeAsFast(storageNode.getNodeId());
+  private void handleResponse(
+      VenicePath path,
+      Instance storageNode,
+      PortableHttpResponse response,
+      Throwable throwable,
+      boolean isResponseCacheEnabled,
+      AsyncPromise<List<FullHttpResponse>> responseFuture,
+      AsyncPromise<HttpResponseStatus> retryFuture) {
+    try {
+      int statusCode = response != null ? response.getStatusCode() : HttpStatus.SC_INTERNAL_SERVER_ERROR;
+      if (!retryFuture.isCancelled() && RETRIABLE_ERROR_CODES.contains(statusCode)) {
+        if (response != null) {
+          response.discard();
         }
+        retryFuture.setSuccess(INTERNAL_SERVER_ERROR);
+        return;
+      }
 
-        responseFuture.setSuccess(Collections.singletonList(buildResponse(path, response)));
-      } catch (Throwable e) {
-        responseFuture.setFailure(e);
+      if (throwable != null) {
+        throw throwable;
       }
-    });
+
+      if (statusCode < HttpStatus.SC_INTERNAL_SERVER_ERROR) {
+        path.markStorageNodeAsFast(storageNode.getNodeId());
+      }
+
+      VeniceFullHttpResponse fullHttpResponse = buildResponse(path, response);
+      if (isResponseCacheEnabled) {
+        responseCache.get().put(path, fullHttpResponse);
+      }
+      responseFuture.setSuccess(Collections.singletonList(fullHttpResponse));
+    } catch (Throwable e) {
+      responseFuture.setFailure(e);
+    }
   }
 
   protected CompletableFuture<PortableHttpResponse> sendRequest(
@@ -211,9 +330,22 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
     boolean isRequestThrottled = false;
     lock.lock();
     try {
-      long pendingRequestCount = routeHttpRequestStats.getPendingRequestCount(storageNode.getNodeId());
+      StorageNodeConcurrencyLimiter concurrencyLimiter = null;
+      boolean isStorageNodeOverloaded;
+      if (concurrencyLimiters.isPresent()) {
+        concurrencyLimiter = concurrencyLimiters.get()
+            .computeIfAbsent(storageNode.getNodeId(), nodeId -> new StorageNodeConcurrencyLimiter(nodeId));
+        isStorageNodeOverloaded = !concurrencyLimiter.limiter.tryAcquire();
+        if (isStorageNodeOverloaded) {
+          concurrencyLimiter.stats.recordRejectedRequest();
+        }
+      } else {
+        long pendingRequestCount = routeHttpRequestStats.getPendingRequestCount(storageNode.getNodeId());
+        isStorageNodeOverloaded =
+            isStatefulHealthCheckEnabled && pendingRequestCount > routerUnhealthyPendingConnThresholdPerRoute;
+      }
 
-      if (isStatefulHealthCheckEnabled && pendingRequestCount > routerUnhealthyPendingConnThresholdPerRoute) {
+      if (isStorageNodeOverloaded) {
         isRequestThrottled = true;
         // try to trigger error retry if its not cancelled already. if retry is cancelled throw exception which
         // increases the unhealthy request metric.
@@ -245,16 +377,34 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
         storageNodeClient.query(
             storageNode,
             path,
-            responseFuture::complete,
+            response -> {
+              // The response can arrive after the future got completed by the leaked future cleanup
+              if (!responseFuture.complete(response)) {
+                response.discard();
+              }
+            },
             responseFuture::completeExceptionally,
             () -> responseFuture.cancel(false),
             startTime);
       } catch (Throwable throwable) {
         responseFuture.completeExceptionally(throwable);
       }
+      AdaptiveConcurrencyLimiter limiter = concurrencyLimiter == null ? null : concurrencyLimiter.limiter;
       return responseFuture.whenComplete((response, throwable) -> {
         RouteHttpStats perRouteStats = perRouteStatsByType.getStatsByType(requestType);
-        perRouteStats.recordResponseWaitingTime(storageNode.getHost(), LatencyUtils.getLatencyInMS(startTime));
+        double latency = LatencyUtils.getLatencyInMS(startTime);
+        if (limiter != null) {
+          limiter.release(
+              latency,
+              throwable != null || (response != null && response.getStatusCode() == HttpStatus.SC_SERVICE_UNAVAILABLE));
+        }
+        perRouteStats.recordResponseWaitingTime(storageNode.getHost(), latency);
+        perStoreStatsByType.getStatsByType(requestType).recordStorageNodeResponseWaitingTime(storeName, latency);
+        if (isErrorResponse(response, throwable)) {
+          routeHttpRequestStats.recordErrorResponseLatency(storageNode.getNodeId(), latency);
+        } else {
+          routeHttpRequestStats.recordResponseLatency(storageNode.getNodeId(), latency);
+        }
         routeHttpRequestStats.recordFinishedRequest(storageNode.getNodeId());
         pendingRequestThrottler.take();
         responseFutureMap.remove(requestId);
@@ -366,6 +516,20 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
 
   public void stop() {
     this.leakedCompletableFutureCleanupService.interrupt();
+    multiGetDecompressionExecutor.ifPresent(ExecutorService::shutdown);
+  }
+
+  private class StorageNodeConcurrencyLimiter {
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final AdaptiveConcurrencyLimiterStats stats;
+
+    StorageNodeConcurrencyLimiter(String nodeId) {
+      this.limiter = new AdaptiveConcurrencyLimiter(
+          routerConfig.getAdaptiveConcurrencyLimitInitial(),
+          routerConfig.getAdaptiveConcurrencyLimitMin(),
+          routerConfig.getAdaptiveConcurrencyLimitMax());
+      this.stats = new AdaptiveConcurrencyLimiterStats(metricsRepository, nodeId, limiter);
+    }
   }
 
   /**
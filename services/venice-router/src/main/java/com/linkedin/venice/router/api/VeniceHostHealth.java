@@ -41,7 +41,12 @@ public class VeniceHostHealth implements HostHealthMonitor<Instance> {
       RouteHttpRequestStats routeHttpRequestStats,
       AggHostHealthStats aggHostHealthStats) {
     this.routeHttpRequestStats = routeHttpRequestStats;
-    this.statefulRouterHealthCheckEnabled = config.isStatefulRouterHealthCheckEnabled();
+    /**
+     * The fixed pending request threshold is replaced by the adaptive concurrency limit in {@link VeniceDispatcher},
+     * which rejects the excessive requests to the overloaded storage node without taking it out of rotation.
+     */
+    this.statefulRouterHealthCheckEnabled =
+        config.isStatefulRouterHealthCheckEnabled() && !config.isAdaptiveConcurrencyLimitEnabled();
     this.maxPendingConnectionPerHost = config.getRouterUnhealthyPendingConnThresholdPerRoute();
     this.routerPendingConnResumeThreshold = config.getRouterPendingConnResumeThresholdPerRoute();
     this.fullPendingQueueServerOORMs = config.getFullPendingQueueServerOORMs();
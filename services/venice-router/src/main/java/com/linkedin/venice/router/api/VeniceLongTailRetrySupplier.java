@@ -0,0 +1,97 @@
+package com.linkedin.venice.router.api;
+
+import com.linkedin.alpini.base.concurrency.AsyncFuture;
+import com.linkedin.alpini.base.concurrency.impl.SuccessAsyncFuture;
+import com.linkedin.alpini.router.api.LongTailRetrySupplier;
+import com.linkedin.venice.ConfigKeys;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.router.VeniceRouterConfig;
+import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
+import com.linkedin.venice.router.stats.RouterStats;
+import com.linkedin.venice.router.utils.VeniceRouterUtils;
+import java.util.TreeMap;
+import java.util.function.LongSupplier;
+import javax.annotation.Nonnull;
+
+
+/**
+ * This class decides the long-tail retry threshold of every request.
+ *
+ * By default, the threshold is static: {@link VeniceRouterConfig#getLongTailRetryForSingleGetThresholdMs()} for
+ * single-get requests and {@link VeniceRouterConfig#getLongTailRetryForBatchGetThresholdMs()} based on the key count
+ * for the other requests.
+ *
+ * When {@link ConfigKeys#ROUTER_ADAPTIVE_LONG_TAIL_RETRY_ENABLED} is enabled, the threshold follows the configured
+ * percentile of the live response waiting time of the same store and request type, bounded by the configured min/max
+ * thresholds, so that the retry kicks in at the right moment regardless of whether the store is fast or slow.
+ * The static threshold is still used if there are not enough latency samples yet.
+ */
+public class VeniceLongTailRetrySupplier implements LongTailRetrySupplier<VenicePath, RouterKey> {
+  private final VeniceRouterConfig config;
+  private final RouterStats<AggRouterHttpRequestStats> routerStats;
+  private final TreeMap<Integer, Integer> longTailRetryConfigForBatchGet;
+  private final AsyncFuture<LongSupplier> singleGetRetryFuture;
+
+  public VeniceLongTailRetrySupplier(VeniceRouterConfig config, RouterStats<AggRouterHttpRequestStats> routerStats) {
+    this.config = config;
+    this.routerStats = routerStats;
+    this.longTailRetryConfigForBatchGet = config.getLongTailRetryForBatchGetThresholdMs();
+    // Fixed retry future
+    this.singleGetRetryFuture = new SuccessAsyncFuture<>(config::getLongTailRetryForSingleGetThresholdMs);
+  }
+
+  @Nonnull
+  @Override
+  public AsyncFuture<LongSupplier> getLongTailRetryMilliseconds(
+      @Nonnull VenicePath path,
+      @Nonnull String methodName) {
+    int staticThresholdMs;
+    if (VeniceRouterUtils.isHttpGet(methodName)) {
+      // single-get
+      staticThresholdMs = config.getLongTailRetryForSingleGetThresholdMs();
+    } else {
+      /**
+       * Long tail retry threshold is based on key count for batch-get request.
+       */
+      int keyNum = path.getPartitionKeys().size();
+      if (keyNum == 0) {
+        // Should not happen
+        throw new VeniceException("Met scatter-gather request without any keys");
+      }
+      /**
+       * Refer to {@link ConfigKeys.ROUTER_LONG_TAIL_RETRY_FOR_BATCH_GET_THRESHOLD_MS} to get more info.
+       */
+      staticThresholdMs = longTailRetryConfigForBatchGet.floorEntry(keyNum).getValue();
+    }
+
+    if (!config.isAdaptiveLongTailRetryEnabled()) {
+      path.setLongTailRetryThresholdMs(staticThresholdMs);
+      if (VeniceRouterUtils.isHttpGet(methodName)) {
+        return singleGetRetryFuture;
+      }
+      return new SuccessAsyncFuture<>(() -> staticThresholdMs);
+    }
+
+    int longTailRetryThresholdMs = getAdaptiveLongTailRetryThresholdMs(path, staticThresholdMs);
+    path.setLongTailRetryThresholdMs(longTailRetryThresholdMs);
+    return new SuccessAsyncFuture<>(() -> longTailRetryThresholdMs);
+  }
+
+  private int getAdaptiveLongTailRetryThresholdMs(VenicePath path, int staticThresholdMs) {
+    AggRouterHttpRequestStats stats = routerStats.getStatsByType(path.getRequestType());
+    String storeName = path.getStoreName();
+    double latencyMs = stats.getResponseWaitingTimePercentile(storeName, config.getAdaptiveLongTailRetryPercentile());
+    int thresholdMs;
+    if (latencyMs < 0) {
+      // Not enough samples
+      thresholdMs = staticThresholdMs;
+    } else {
+      thresholdMs = (int) Math.min(
+          Math.max(Math.ceil(latencyMs), config.getAdaptiveLongTailRetryMinThresholdMs()),
+          config.getAdaptiveLongTailRetryMaxThresholdMs());
+    }
+    stats.recordLongTailRetryThreshold(storeName, thresholdMs);
+    return thresholdMs;
+  }
+}
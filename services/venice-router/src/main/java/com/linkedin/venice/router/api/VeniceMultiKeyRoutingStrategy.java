@@ -11,5 +11,7 @@ public enum VeniceMultiKeyRoutingStrategy {
   // This mode will send the request to the least loaded host of all the available replicas.
   LEAST_LOADED_ROUTING,
   // This mode will try to limit the fanout inside one helix group/zone.
-  HELIX_ASSISTED_ROUTING
+  HELIX_ASSISTED_ROUTING,
+  // This mode will send the request to the faster of two random replicas, based on their recent latency and load.
+  LATENCY_AWARE_ROUTING
 }
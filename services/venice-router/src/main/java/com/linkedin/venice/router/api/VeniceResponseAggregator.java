@@ -32,6 +32,7 @@ import com.linkedin.venice.router.stats.RouterStats;
 import com.linkedin.venice.router.streaming.SuccessfulStreamingResponse;
 import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
 import com.linkedin.venice.utils.LatencyUtils;
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
@@ -40,6 +41,7 @@ import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpVersion;
+import io.netty.util.ReferenceCountUtil;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Arrays;
@@ -72,6 +74,7 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
   private long singleGetTardyThresholdInMs = TimeUnit.MILLISECONDS.convert(10, TimeUnit.SECONDS);
   private long multiGetTardyThresholdInMs = TimeUnit.MILLISECONDS.convert(10, TimeUnit.SECONDS);
   private long computeTardyThresholdInMs = TimeUnit.MILLISECONDS.convert(10, TimeUnit.SECONDS);
+  private boolean zeroCopyAggregationEnabled = false;
 
   // Headers expected in each storage node multi-get response
   public static final Map<CharSequence, String> MULTI_GET_VALID_HEADER_MAP = new HashMap<>();
@@ -116,6 +119,11 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
     return this;
   }
 
+  public VeniceResponseAggregator withZeroCopyAggregation(boolean zeroCopyAggregationEnabled) {
+    this.zeroCopyAggregationEnabled = zeroCopyAggregationEnabled;
+    return this;
+  }
+
   public void initHelixGroupSelector(HelixGroupSelector helixGroupSelector) {
     if (this.helixGroupSelector != null) {
       throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
@@ -355,40 +363,23 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
   }
 
   protected FullHttpResponse processComputeResponses(List<FullHttpResponse> responses, String storeName) {
-    /**
-     * Here we will check the consistency of the following headers among all the responses:
-     * 1. {@link HttpHeaderNames.CONTENT_TYPE}
-     * 2. {@link HttpConstants.VENICE_SCHEMA_ID}
-     */
-    CompositeByteBuf content = Unpooled.compositeBuffer();
     int totalRequestRcu = 0;
     for (FullHttpResponse response: responses) {
       if (response.status() != OK) {
         // Return error response directly.
+        releaseDiscardedResponses(responses, response);
         return response;
       }
-      COMPUTE_VALID_HEADER_MAP.forEach((headerName, headerValue) -> {
-        String currentValue = response.headers().get(headerName);
-        if (currentValue == null) {
-          throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
-              Optional.of(storeName),
-              Optional.of(RequestType.COMPUTE),
-              BAD_GATEWAY,
-              "Header: " + headerName + " is expected in compute sub-response");
-        }
-        if (!headerValue.equals(currentValue)) {
-          throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
-              Optional.of(storeName),
-              Optional.of(RequestType.COMPUTE),
-              BAD_GATEWAY,
-              "Incompatible header received for " + headerName + ", values: " + headerValue + ", " + currentValue);
-        }
-      });
-
+      /**
+       * Here we will check the consistency of the following headers among all the responses:
+       * 1. {@link HttpHeaderNames.CONTENT_TYPE}
+       * 2. {@link HttpConstants.VENICE_SCHEMA_ID}
+       */
+      validateHeaders(responses, response, COMPUTE_VALID_HEADER_MAP, storeName, RequestType.COMPUTE);
       totalRequestRcu += getRCU(response);
-      content.addComponent(true, response.content());
     }
 
+    CompositeByteBuf content = aggregateContent(responses);
     FullHttpResponse computeResponse = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, OK, content);
     COMPUTE_VALID_HEADER_MAP.forEach((headerName, headerValue) -> {
       computeResponse.headers().add(headerName, headerValue);
@@ -417,41 +408,29 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
     long decompressedSize = 0;
     long decompressionTimeInNs = 0;
     int totalRequestRcu = 0;
-    CompositeByteBuf content = Unpooled.compositeBuffer();
     // Venice only supports either compression of the whole database or no compression at all.
-    CompressionStrategy responseCompression = validateAndExtractCompressionStrategy(responses, storeName, version);
+    CompressionStrategy responseCompression;
+    try {
+      responseCompression = validateAndExtractCompressionStrategy(responses, storeName, version);
+    } catch (RuntimeException e) {
+      releaseDiscardedResponses(responses, null);
+      throw e;
+    }
 
     for (FullHttpResponse response: responses) {
       if (response.status() != OK) {
         response.headers().set(HttpConstants.VENICE_COMPRESSION_STRATEGY, CompressionStrategy.NO_OP.getValue());
         // Return error response directly for now.
+        releaseDiscardedResponses(responses, response);
         return response;
       }
 
-      content.addComponent(true, response.content());
-
       /**
        * Here we will check the consistency of the following headers among all the responses:
        * 1. {@link HttpHeaderNames.CONTENT_TYPE}
        * 2. {@link HttpConstants.VENICE_SCHEMA_ID}
        */
-      MULTI_GET_VALID_HEADER_MAP.forEach((headerName, headerValue) -> {
-        String currentValue = response.headers().get(headerName);
-        if (currentValue == null) {
-          throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
-              Optional.of(storeName),
-              Optional.of(RequestType.MULTI_GET),
-              BAD_GATEWAY,
-              "Header: " + headerName + " is expected in multi-get sub-response");
-        }
-        if (!headerValue.equals(currentValue)) {
-          throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
-              Optional.of(storeName),
-              Optional.of(RequestType.MULTI_GET),
-              BAD_GATEWAY,
-              "Incompatible header received for " + headerName + ", values: " + headerValue + ", " + currentValue);
-        }
-      });
+      validateHeaders(responses, response, MULTI_GET_VALID_HEADER_MAP, storeName, RequestType.MULTI_GET);
 
       totalRequestRcu += getRCU(response);
 
@@ -471,6 +450,7 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
       stats.recordDecompressionTime(storeName, LatencyUtils.convertLatencyFromNSToMS(decompressionTimeInNs));
     }
 
+    CompositeByteBuf content = aggregateContent(responses);
     FullHttpResponse multiGetResponse = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, OK, content);
     MULTI_GET_VALID_HEADER_MAP.forEach((headerName, headerValue) -> {
       multiGetResponse.headers().add(headerName, headerValue);
@@ -480,4 +460,74 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
     multiGetResponse.headers().add(VENICE_REQUEST_RCU, totalRequestRcu);
     return multiGetResponse;
   }
+
+  private void validateHeaders(
+      List<FullHttpResponse> responses,
+      FullHttpResponse response,
+      Map<CharSequence, String> validHeaderMap,
+      String storeName,
+      RequestType requestType) {
+    String subResponseName = requestType == RequestType.COMPUTE ? "compute" : "multi-get";
+    validHeaderMap.forEach((headerName, headerValue) -> {
+      String currentValue = response.headers().get(headerName);
+      if (currentValue == null) {
+        releaseDiscardedResponses(responses, null);
+        throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
+            Optional.of(storeName),
+            Optional.of(requestType),
+            BAD_GATEWAY,
+            "Header: " + headerName + " is expected in " + subResponseName + " sub-response");
+      }
+      if (!headerValue.equals(currentValue)) {
+        releaseDiscardedResponses(responses, null);
+        throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
+            Optional.of(storeName),
+            Optional.of(requestType),
+            BAD_GATEWAY,
+            "Incompatible header received for " + headerName + ", values: " + headerValue + ", " + currentValue);
+      }
+    });
+  }
+
+  /**
+   * Concatenates the contents of the sub-responses, and the ownership of the contents is transferred to the returned
+   * buffer. The multi-get and compute responses are sequences of Avro records, so the contents of the sub-responses
+   * can be spliced by reference without being re-encoded.
+   *
+   * In zero-copy mode, the nested composite buffers are flattened and the returned buffer is sized for all the
+   * components, since {@link CompositeByteBuf} consolidates, which is to copy, all the components once the number of
+   * components exceeds its max, which is 16 by default.
+   */
+  private CompositeByteBuf aggregateContent(List<FullHttpResponse> responses) {
+    if (!zeroCopyAggregationEnabled) {
+      CompositeByteBuf content = Unpooled.compositeBuffer();
+      for (FullHttpResponse response: responses) {
+        content.addComponent(true, response.content());
+      }
+      return content;
+    }
+    int componentCount = 0;
+    for (FullHttpResponse response: responses) {
+      ByteBuf responseContent = response.content();
+      componentCount +=
+          responseContent instanceof CompositeByteBuf ? ((CompositeByteBuf) responseContent).numComponents() : 1;
+    }
+    CompositeByteBuf content = Unpooled.compositeBuffer(Math.max(componentCount, 1));
+    for (FullHttpResponse response: responses) {
+      content.addFlattenedComponents(true, response.content());
+    }
+    return content;
+  }
+
+  /**
+   * Releases the contents of the sub-responses which won't be returned to the client when the aggregated response is
+   * not built, e.g. because a sub-response failed, since nothing else holds them anymore.
+   */
+  private void releaseDiscardedResponses(List<FullHttpResponse> responses, FullHttpResponse returnedResponse) {
+    for (FullHttpResponse response: responses) {
+      if (response != returnedResponse) {
+        ReferenceCountUtil.safeRelease(response);
+      }
+    }
+  }
 }
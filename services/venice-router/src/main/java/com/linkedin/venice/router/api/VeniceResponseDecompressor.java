@@ -22,6 +22,8 @@ import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.Pair;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.HttpRequest;
@@ -41,6 +43,10 @@ public class VeniceResponseDecompressor {
   private static final RecordDeserializer<MultiGetResponseRecordV1> recordDeserializer =
       FastSerializerDeserializerFactory
           .getFastAvroSpecificDeserializer(MultiGetResponseRecordV1.getClassSchema(), MultiGetResponseRecordV1.class);
+  /**
+   * The key index, the length of the value and the schema id of a serialized record are varints of at most 5 bytes.
+   */
+  private static final int MAX_RECORD_METADATA_SIZE = 15;
 
   private final CompressionStrategy clientCompression;
   private final RouterStats<AggRouterHttpRequestStats> routerStats;
@@ -75,6 +81,13 @@ public class VeniceResponseDecompressor {
     return CompressionStrategy.valueOf(Integer.parseInt(compressionHeader));
   }
 
+  /**
+   * @return the compression the client can decompress, which the responses to the client may be compressed with.
+   */
+  public CompressionStrategy getClientCompression() {
+    return clientCompression;
+  }
+
   public boolean canPassThroughResponse(CompressionStrategy responseCompression) {
     return responseCompression == clientCompression || responseCompression == CompressionStrategy.NO_OP;
   }
@@ -128,11 +141,16 @@ public class VeniceResponseDecompressor {
             output = decompressMultiGetRecords(compressionStrategy, compositeInput.component(0), MULTI_GET);
             break;
           default:
-            output = Unpooled.compositeBuffer(compositeInput.numComponents());
-            CompositeByteBuf compositeOutput = (CompositeByteBuf) output;
-            for (ByteBuf buffer: compositeInput) {
-              compositeOutput.addComponent(true, decompressMultiGetRecords(compressionStrategy, buffer, MULTI_GET));
+            CompositeByteBuf compositeOutput = compositeInput.alloc().compositeBuffer(compositeInput.numComponents());
+            try {
+              for (ByteBuf buffer: compositeInput) {
+                compositeOutput.addComponent(true, decompressMultiGetRecords(compressionStrategy, buffer, MULTI_GET));
+              }
+            } catch (Throwable e) {
+              compositeOutput.release();
+              throw e;
             }
+            output = compositeOutput;
         }
       } else {
         output = decompressMultiGetRecords(compressionStrategy, content, MULTI_GET);
@@ -162,8 +180,7 @@ public class VeniceResponseDecompressor {
     AggRouterHttpRequestStats stats = routerStats.getStatsByType(MULTI_GET_STREAMING);
     stats.recordCompressedResponseSize(storeName, content.readableBytes());
     long startTimeInNs = System.nanoTime();
-    ByteBuf copy = content.isReadOnly() ? content.copy() : content;
-    ByteBuf decompressedContent = decompressMultiGetRecords(responseCompression, copy, MULTI_GET_STREAMING);
+    ByteBuf decompressedContent = decompressMultiGetRecords(responseCompression, content, MULTI_GET_STREAMING);
     stats.recordDecompressionTime(storeName, LatencyUtils.getLatencyInMS(startTimeInNs));
     content.release();
     return new Pair<>(decompressedContent, CompressionStrategy.NO_OP);
@@ -201,11 +218,23 @@ public class VeniceResponseDecompressor {
       CompressionStrategy compressionStrategy,
       ByteBuf data,
       RequestType requestType) {
-    ByteBuf copy = data.isReadOnly() ? data.copy() : data;
+    long startTimeInNs = System.nanoTime();
+    // The content from the storage node could be either read-only or direct, so it might not expose its backing array.
+    byte[] array;
+    int offset;
+    if (data.hasArray()) {
+      array = data.array();
+      offset = data.arrayOffset() + data.readerIndex();
+    } else {
+      array = ByteBufUtil.getBytes(data);
+      offset = 0;
+    }
     Iterable<MultiGetResponseRecordV1> records = recordDeserializer.deserializeObjects(
         OptimizedBinaryDecoderFactory.defaultFactory()
-            .createOptimizedBinaryDecoder(copy.array(), 0, copy.readableBytes()));
+            .createOptimizedBinaryDecoder(array, offset, data.readableBytes()));
+    long deserializationEndTimeInNs = System.nanoTime();
 
+    int outputSizeEstimate = 0;
     try {
       VeniceCompressor compressor;
       if (compressionStrategy == CompressionStrategy.ZSTD_WITH_DICT) {
@@ -222,6 +251,7 @@ public class VeniceResponseDecompressor {
       }
       for (MultiGetResponseRecordV1 record: records) {
         record.value = compressor.decompress(record.value);
+        outputSizeEstimate += record.value.remaining() + MAX_RECORD_METADATA_SIZE;
       }
     } catch (IOException e) {
       String errorMsg = String
@@ -229,7 +259,25 @@ public class VeniceResponseDecompressor {
       throw RouterExceptionAndTrackingUtils
           .newVeniceExceptionAndTracking(Optional.of(storeName), Optional.of(requestType), BAD_GATEWAY, errorMsg);
     }
+    long decompressionEndTimeInNs = System.nanoTime();
 
-    return Unpooled.wrappedBuffer(recordSerializer.serializeObjects(records, AvroSerializer.REUSE.get()));
+    /**
+     * The output is allocated by the allocator of the storage node response, which is pooled for the Netty storage node
+     * client, and it is released like the content of the storage node responses, once it is written to the client.
+     */
+    ByteBuf output = data.alloc().buffer(outputSizeEstimate);
+    try {
+      recordSerializer.serializeObjects(records, new ByteBufOutputStream(output), AvroSerializer.REUSE.get());
+    } catch (Throwable e) {
+      output.release();
+      throw e;
+    }
+    routerStats.getStatsByType(requestType)
+        .recordDecompressionStageTime(
+            storeName,
+            LatencyUtils.convertLatencyFromNSToMS(deserializationEndTimeInNs - startTimeInNs),
+            LatencyUtils.convertLatencyFromNSToMS(decompressionEndTimeInNs - deserializationEndTimeInNs),
+            LatencyUtils.getLatencyInMS(decompressionEndTimeInNs));
+    return output;
   }
 }
@@ -0,0 +1,219 @@
+package com.linkedin.venice.router.api.routing.helix;
+
+import com.linkedin.alpini.base.concurrency.TimeoutProcessor;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.router.stats.PeakEwmaLatency;
+import com.linkedin.venice.utils.LatencyUtils;
+import com.linkedin.venice.utils.SystemTime;
+import com.linkedin.venice.utils.Time;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * This strategy is tried to distribute more load to the Helix Groups responding faster.
+ * It measures the latency of each request from {@link #selectGroup} to {@link #finishRequest}, and it keeps a
+ * {@link PeakEwmaLatency} per group. For every request, two random groups are compared (power of two choices), and
+ * the one with the lower moving average latency weighted by the pending request count will be picked, so a group
+ * with a slow node will receive less traffic than the other groups, but it won't be drained completely.
+ *
+ * Same as {@link HelixGroupLeastLoadedStrategy}, the qps to a specific Router is not that high, so it is acceptable to
+ * use synchronized method here, and {@link TimeoutProcessor} is leveraged to handle potential group counter leaking
+ * issue. The timed out requests are recorded with the timeout as their latency.
+ */
+public class HelixGroupLatencyAwareStrategy implements HelixGroupSelectionStrategy {
+  private static final Logger LOGGER = LogManager.getLogger(HelixGroupLatencyAwareStrategy.class);
+
+  public static final int MAX_ALLOWED_GROUP = HelixGroupLeastLoadedStrategy.MAX_ALLOWED_GROUP;
+  private final int[] counters = new int[MAX_ALLOWED_GROUP];
+  private final PeakEwmaLatency[] latencies = new PeakEwmaLatency[MAX_ALLOWED_GROUP];
+  /**
+   * The group count could potentially change during the runtime since the storage node cluster can be expanded
+   * without bouncing Routers.
+   */
+  private int currentGroupCount = 0;
+  private final TimeoutProcessor timeoutProcessor;
+  private final long timeoutInMS;
+  private final Time time;
+  private final Map<Long, PendingRequest> pendingRequestMap = new HashMap<>();
+
+  public HelixGroupLatencyAwareStrategy(TimeoutProcessor timeoutProcessor, long timeoutInMS) {
+    this(timeoutProcessor, timeoutInMS, SystemTime.INSTANCE);
+  }
+
+  public HelixGroupLatencyAwareStrategy(TimeoutProcessor timeoutProcessor, long timeoutInMS, Time time) {
+    this.timeoutProcessor = timeoutProcessor;
+    this.timeoutInMS = timeoutInMS;
+    this.time = time;
+    for (int i = 0; i < MAX_ALLOWED_GROUP; ++i) {
+      latencies[i] = new PeakEwmaLatency(time, PeakEwmaLatency.DEFAULT_DECAY_TIME_MS);
+    }
+  }
+
+  @Override
+  public int selectGroup(long requestId, int groupCount) {
+    if (groupCount > MAX_ALLOWED_GROUP || groupCount <= 0) {
+      throw new VeniceException(
+          "The valid group num must fail into this range: [1, " + MAX_ALLOWED_GROUP + "], but received: " + groupCount);
+    }
+    this.currentGroupCount = groupCount;
+    int firstGroup = 0;
+    int secondGroup = 0;
+    if (groupCount > 1) {
+      ThreadLocalRandom random = ThreadLocalRandom.current();
+      firstGroup = random.nextInt(groupCount);
+      secondGroup = random.nextInt(groupCount - 1);
+      if (secondGroup >= firstGroup) {
+        ++secondGroup;
+      }
+    }
+    synchronized (this) {
+      if (pendingRequestMap.containsKey(requestId)) {
+        throw new VeniceException(
+            "One request should at most select one group, but request with request id: " + requestId
+                + " has invoked this function more than once");
+      }
+      final int selectedGroup = getCost(secondGroup) < getCost(firstGroup) ? secondGroup : firstGroup;
+      /**
+       * Setting up timeout future for this request since it is possible in some situation, {@link #finishRequest} may
+       * not be invoked, and without timeout, the group counter will be leaking.
+       */
+      pendingRequestMap.put(
+          requestId,
+          new PendingRequest(
+              selectedGroup,
+              time.getNanoseconds(),
+              timeoutProcessor.schedule(
+                  () -> timeoutRequest(requestId, selectedGroup, false),
+                  timeoutInMS,
+                  TimeUnit.MILLISECONDS)));
+
+      ++counters[selectedGroup];
+      return selectedGroup;
+    }
+  }
+
+  /**
+   * 1ms is added to the latency, so that the pending requests still count for a group without any latency sample yet.
+   */
+  private double getCost(int groupId) {
+    return (latencies[groupId].getLatency() + 1) * (counters[groupId] + 1);
+  }
+
+  /**
+   * Reset the group counter and record the latency for the specified request.
+   * @param requestId
+   * @param groupId
+   * @param cancelTimeoutFuture
+   *          true : for the regular request completion.
+   *          false : for timeout scheduler.
+   */
+  private void timeoutRequest(long requestId, int groupId, boolean cancelTimeoutFuture) {
+    if (groupId >= MAX_ALLOWED_GROUP || groupId < 0) {
+      throw new VeniceException(
+          "The allowed group id must fail into this range: [0, " + (MAX_ALLOWED_GROUP - 1) + "], but received: "
+              + groupId);
+    }
+    synchronized (this) {
+      PendingRequest pendingRequest = pendingRequestMap.get(requestId);
+      if (pendingRequest == null) {
+        /**
+         * Request has already timed out or already finished.
+         */
+        return;
+      }
+      if (groupId != pendingRequest.groupId) {
+        throw new VeniceException(
+            "Group id for request with id: " + requestId + " should be: " + pendingRequest.groupId
+                + ", but received: " + groupId);
+      }
+      pendingRequestMap.remove(requestId);
+      if (--counters[groupId] < 0) {
+        counters[groupId] = 0;
+        throw new VeniceException(
+            "The counter for group: " + groupId + " became negative, something wrong happened, will reset it to be 0.");
+      }
+      if (cancelTimeoutFuture) {
+        // Cancel the timeout future
+        pendingRequest.timeoutFuture.cancel();
+        long latencyInNS = time.getNanoseconds() - pendingRequest.startTimeInNS;
+        latencies[groupId].record(LatencyUtils.convertLatencyFromNSToMS(latencyInNS));
+      } else {
+        latencies[groupId].record(timeoutInMS);
+        LOGGER.info(
+            "Request with id: {} has timed out with threshold: {}ms, and the counter of group: {} will be reset for this request",
+            requestId,
+            timeoutInMS,
+            groupId);
+      }
+    }
+  }
+
+  @Override
+  public void finishRequest(long requestId, int groupId) {
+    timeoutRequest(requestId, groupId, true);
+  }
+
+  /**
+   * @return the moving average latency of the given group in ms.
+   */
+  public double getGroupLatency(int groupId) {
+    return latencies[groupId].getLatency();
+  }
+
+  @Override
+  public int getMaxGroupPendingRequest() {
+    if (currentGroupCount == 0) {
+      return 0;
+    }
+    int maxPendingRequest = 0;
+    for (int i = 0; i < currentGroupCount; ++i) {
+      if (counters[i] > maxPendingRequest) {
+        maxPendingRequest = counters[i];
+      }
+    }
+    return maxPendingRequest;
+  }
+
+  @Override
+  public int getMinGroupPendingRequest() {
+    if (currentGroupCount == 0) {
+      return 0;
+    }
+    int minPendingRequest = Integer.MAX_VALUE;
+    for (int i = 0; i < currentGroupCount; ++i) {
+      if (counters[i] < minPendingRequest) {
+        minPendingRequest = counters[i];
+      }
+    }
+    return minPendingRequest;
+  }
+
+  @Override
+  public int getAvgGroupPendingRequest() {
+    if (currentGroupCount == 0) {
+      return 0;
+    }
+    int totalPendingRequest = 0;
+    for (int i = 0; i < currentGroupCount; ++i) {
+      totalPendingRequest += counters[i];
+    }
+    return totalPendingRequest / currentGroupCount;
+  }
+
+  private static class PendingRequest {
+    private final int groupId;
+    private final long startTimeInNS;
+    private final TimeoutProcessor.TimeoutFuture timeoutFuture;
+
+    PendingRequest(int groupId, long startTimeInNS, TimeoutProcessor.TimeoutFuture timeoutFuture) {
+      this.groupId = groupId;
+      this.startTimeInNS = startTimeInNS;
+      this.timeoutFuture = timeoutFuture;
+    }
+  }
+}
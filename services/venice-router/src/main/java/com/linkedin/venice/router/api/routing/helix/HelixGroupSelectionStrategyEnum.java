@@ -8,7 +8,11 @@ public enum HelixGroupSelectionStrategyEnum {
   /**
    * This strategy will try to distribute the load to each group according to the capacity of each group.
    */
-  LEAST_LOADED(HelixGroupLeastLoadedStrategy.class);
+  LEAST_LOADED(HelixGroupLeastLoadedStrategy.class),
+  /**
+   * This strategy will try to distribute the load to each group according to the recent latency of each group.
+   */
+  LATENCY_AWARE(HelixGroupLatencyAwareStrategy.class);
 
   private final Class<? extends HelixGroupSelectionStrategy> strategyClass;
 
@@ -0,0 +1,448 @@
+package com.linkedin.venice.router.httpclient;
+
+import com.linkedin.alpini.base.concurrency.RunOnce;
+import com.linkedin.alpini.base.monitoring.NullCallTracker;
+import com.linkedin.alpini.consts.QOS;
+import com.linkedin.alpini.netty4.handlers.HttpClientResponseHandler;
+import com.linkedin.alpini.netty4.misc.Http2Utils;
+import com.linkedin.alpini.netty4.pool.ChannelPoolManager;
+import com.linkedin.alpini.netty4.pool.ChannelPoolManagerImpl;
+import com.linkedin.alpini.netty4.pool.Http2AwareChannelPoolFactory;
+import com.linkedin.alpini.netty4.pool.NettyDnsResolver;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.router.VeniceRouterConfig;
+import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.router.stats.StorageNodeChannelPoolStats;
+import com.linkedin.venice.security.SSLFactory;
+import com.linkedin.venice.utils.Utils;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ResolveAllBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.MultithreadEventLoopGroup;
+import io.netty.channel.pool.ChannelHealthChecker;
+import io.netty.channel.socket.DatagramChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.codec.http2.Http2FrameCodec;
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.ClientAuth;
+import io.netty.handler.ssl.IdentityCipherSuiteFilter;
+import io.netty.handler.ssl.JdkSslContext;
+import io.netty.handler.ssl.SslContext;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.ScheduledFuture;
+import io.tehuti.metrics.MetricsRepository;
+import java.net.URI;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * A {@link StorageNodeClient} built on top of the Alpini channel pools, which sends the requests to the storage nodes
+ * as streams multiplexed over a few pooled HTTP/2 connections per storage node, or over pooled HTTP/1.1 connections
+ * when HTTP/2 can't be negotiated with the storage node (e.g. when SSL is disabled).
+ *
+ * The connections are served by the IO event loops of the router itself, so, unlike the other clients, no additional
+ * thread pool sits between the dispatcher and the network. The content of the responses is kept in the pooled
+ * {@link ByteBuf}s read from the network, and it is handed over to the caller of
+ * {@link PortableHttpResponse#getContentInByteBuf()} without being copied; a response dropped without its content being
+ * consumed must be {@link PortableHttpResponse#discard()}ed.
+ */
+public class NettyStorageNodeClient implements StorageNodeClient {
+  private static final Logger LOGGER = LogManager.getLogger(NettyStorageNodeClient.class);
+  private static final String QUEUE_NAME = "storage-node";
+  private static final long HEALTH_CHECK_INTERVAL_MS = TimeUnit.SECONDS.toMillis(10);
+  private static final long CLOSE_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(10);
+
+  private final ChannelPoolManager channelPoolManager;
+  private final StorageNodeChannelPoolStats poolStats;
+  private final boolean isSSL;
+  private final long requestTimeoutMs;
+
+  public NettyStorageNodeClient(
+      VeniceRouterConfig routerConfig,
+      Optional<SSLFactory> sslFactory,
+      MultithreadEventLoopGroup eventLoopGroup,
+      Class<? extends SocketChannel> socketChannelClass,
+      Class<? extends DatagramChannel> datagramChannelClass,
+      MetricsRepository metricsRepository) {
+    this(
+        routerConfig,
+        sslFactory.isPresent(),
+        createChannelPoolManager(routerConfig, sslFactory, eventLoopGroup, socketChannelClass, datagramChannelClass),
+        metricsRepository);
+    LOGGER.info(
+        "Constructing NettyStorageNodeClient with SSL: {}, max connections per host: {}",
+        isSSL,
+        routerConfig.getNettyClientMaxConnectionsPerHost());
+  }
+
+  NettyStorageNodeClient(
+      VeniceRouterConfig routerConfig,
+      boolean isSSL,
+      ChannelPoolManager channelPoolManager,
+      MetricsRepository metricsRepository) {
+    this.channelPoolManager = channelPoolManager;
+    this.poolStats = new StorageNodeChannelPoolStats(metricsRepository, channelPoolManager);
+    this.isSSL = isSSL;
+    this.requestTimeoutMs = routerConfig.getSocketTimeout();
+  }
+
+  private static ChannelPoolManager createChannelPoolManager(
+      VeniceRouterConfig routerConfig,
+      Optional<SSLFactory> sslFactory,
+      MultithreadEventLoopGroup eventLoopGroup,
+      Class<? extends SocketChannel> socketChannelClass,
+      Class<? extends DatagramChannel> datagramChannelClass) {
+    NettyDnsResolver resolver = new NettyDnsResolver(datagramChannelClass, eventLoopGroup);
+    Bootstrap bootstrap = new ResolveAllBootstrap(NullCallTracker.INSTANCE, NullCallTracker.INSTANCE)
+        .channel(socketChannelClass)
+        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, routerConfig.getConnectionTimeout())
+        .handler(new ChannelInitializer<Channel>() {
+          @Override
+          protected void initChannel(Channel ch) {
+            ch.pipeline().addLast(new HttpClientResponseHandler());
+          }
+        })
+        .resolver(resolver.getAddressResolverGroup());
+    if (sslFactory.isPresent()) {
+      bootstrap.attr(Http2AwareChannelPoolFactory.SSL_CONTEXT, createSslContext(sslFactory.get()));
+    }
+
+    int maxConnections = routerConfig.getNettyClientMaxConnectionsPerHost();
+    Http2AwareChannelPoolFactory channelPoolFactory = new Http2AwareChannelPoolFactory(
+        bootstrap,
+        routerConfig.getNettyClientAcquireTimeoutMs(),
+        maxConnections,
+        routerConfig.getNettyClientMaxPendingAcquiresPerHost(),
+        true,
+        HEALTH_CHECK_INTERVAL_MS,
+        ChannelHealthChecker.ACTIVE,
+        NullCallTracker.INSTANCE);
+    channelPoolFactory.setMoreThanOneHttp2Connection(maxConnections > 1);
+    channelPoolFactory.setHttp1MaxConnections(() -> maxConnections);
+    return new ChannelPoolManagerImpl(
+        eventLoopGroup,
+        channelPoolFactory,
+        resolver,
+        routerConfig.getNettyClientMaxPendingAcquiresPerHost());
+  }
+
+  /**
+   * HTTP/2 is negotiated with ALPN, which is only supported by the JDK SSL engine since JDK9.
+   */
+  private static SslContext createSslContext(SSLFactory sslFactory) {
+    if (Utils.getJavaMajorVersion() < 11) {
+      throw new VeniceException(
+          "To enable HTTP/2 with " + NettyStorageNodeClient.class.getSimpleName()
+              + ", the current process needs to use JDK11 or above");
+    }
+    ApplicationProtocolConfig protocolConfig = new ApplicationProtocolConfig(
+        ApplicationProtocolConfig.Protocol.ALPN,
+        ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+        ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+        ApplicationProtocolNames.HTTP_2,
+        ApplicationProtocolNames.HTTP_1_1);
+    return new JdkSslContext(
+        sslFactory.getSSLContext(),
+        true,
+        null,
+        IdentityCipherSuiteFilter.INSTANCE,
+        protocolConfig,
+        ClientAuth.NONE,
+        null,
+        false);
+  }
+
+  @Override
+  public void start() {
+
+  }
+
+  @Override
+  public void close() {
+    if (!channelPoolManager.closeAll().awaitUninterruptibly(CLOSE_TIMEOUT_MS)) {
+      LOGGER.warn("Timed out closing the connections to the storage nodes");
+    }
+  }
+
+  @Override
+  public void query(
+      Instance host,
+      VenicePath path,
+      Consumer<PortableHttpResponse> completedCallBack,
+      Consumer<Throwable> failedCallBack,
+      BooleanSupplier cancelledCallBack,
+      long queryStartTimeInNS) {
+    String hostAndPort = host.getHost() + ":" + (isSSL ? host.getSslPort() : host.getPort());
+    ByteBuf body = path.getBody().map(Unpooled::wrappedBuffer).orElse(Unpooled.EMPTY_BUFFER);
+    FullHttpRequest request =
+        new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, path.getHttpMethod(), "/" + path.getLocation(), body);
+    path.setupVeniceHeaders((k, v) -> request.headers().set(k, v));
+    send(hostAndPort, request, requestTimeoutMs, completedCallBack::accept, failedCallBack);
+  }
+
+  @Override
+  public void sendRequest(VeniceMetaDataRequest request, CompletableFuture<PortableHttpResponse> responseFuture) {
+    URI uri = URI.create(request.getUrl() + request.getQuery());
+    String pathAndQuery = uri.getRawQuery() == null ? uri.getRawPath() : uri.getRawPath() + "?" + uri.getRawQuery();
+    FullHttpRequest httpRequest = new DefaultFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.valueOf(request.getMethod()),
+        pathAndQuery,
+        Unpooled.EMPTY_BUFFER);
+    /**
+     * The metadata responses are consumed in many places which don't release them, and they are small and rare, so
+     * their content is copied out of the pooled buffers.
+     */
+    send(
+        uri.getHost() + ":" + uri.getPort(),
+        httpRequest,
+        request.hasTimeout() ? request.getTimeout() : requestTimeoutMs,
+        response -> responseFuture.complete(response.copyToHeap()),
+        responseFuture::completeExceptionally);
+  }
+
+  private void send(
+      String hostAndPort,
+      FullHttpRequest request,
+      long timeoutMs,
+      Consumer<NettyResponse> completedCallBack,
+      Consumer<Throwable> failedCallBack) {
+    request.headers().set(HttpHeaderNames.HOST, hostAndPort);
+    HttpUtil.setContentLength(request, request.content().readableBytes());
+    poolStats.addStatsForHost(hostAndPort);
+
+    channelPoolManager.acquire(hostAndPort, QUEUE_NAME, QOS.NORMAL).addListener((Future<Channel> acquireFuture) -> {
+      if (!acquireFuture.isSuccess()) {
+        request.release();
+        failedCallBack.accept(acquireFuture.cause());
+        return;
+      }
+      Channel channel = acquireFuture.getNow();
+      ResponseHandler responseHandler = new ResponseHandler(channel, completedCallBack, failedCallBack);
+      channel.writeAndFlush(new ResponseConsumerHttpRequest(request, responseHandler))
+          .addListener((ChannelFuture writeFuture) -> {
+            if (!writeFuture.isSuccess()) {
+              responseHandler.accept(writeFuture.cause());
+            }
+          });
+      if (Http2Utils.isHttp2ParentChannelPipeline(channel.pipeline())) {
+        // The request has been assigned its own stream, so the connection can be shared with other requests right away
+        responseHandler.releaseChannel.run();
+      }
+      if (timeoutMs > 0) {
+        responseHandler.scheduleTimeout(timeoutMs);
+      }
+    });
+  }
+
+  /**
+   * Collects the parts of a response from the {@link HttpClientResponseHandler} of the channel the request was written
+   * to; all the callbacks happen on the event loop of the channel.
+   */
+  private final class ResponseHandler implements Consumer<Object> {
+    private final Channel channel;
+    private final Runnable releaseChannel;
+    private final Consumer<NettyResponse> completedCallBack;
+    private final Consumer<Throwable> failedCallBack;
+    private HttpResponse response;
+    private ByteBuf content = Unpooled.EMPTY_BUFFER;
+    private CompositeByteBuf compositeContent;
+    private ScheduledFuture<?> timeoutFuture;
+    private boolean done = false;
+
+    ResponseHandler(Channel channel, Consumer<NettyResponse> completedCallBack, Consumer<Throwable> failedCallBack) {
+      this.channel = channel;
+      this.releaseChannel = RunOnce.make(channel, channelPoolManager::release);
+      this.completedCallBack = completedCallBack;
+      this.failedCallBack = failedCallBack;
+    }
+
+    void scheduleTimeout(long timeoutMs) {
+      timeoutFuture = channel.eventLoop().schedule(() -> {
+        accept(new TimeoutException("Request to " + channel.remoteAddress() + " timed out after " + timeoutMs + "ms"));
+      }, timeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void accept(Object msg) {
+      if (done) {
+        // The late parts of a timed out response are released by the HttpClientResponseHandler.
+        return;
+      }
+      if (msg instanceof Throwable) {
+        fail((Throwable) msg);
+        return;
+      }
+      if (msg instanceof HttpResponse) {
+        response = (HttpResponse) msg;
+      }
+      if (msg instanceof HttpContent) {
+        appendContent(((HttpContent) msg).content());
+      }
+      if (msg instanceof LastHttpContent) {
+        done = true;
+        cancelTimeout();
+        if (HttpUtil.isKeepAlive(response)) {
+          releaseChannel.run();
+        } else {
+          channel.close().addListener(closeFuture -> releaseChannel.run());
+        }
+        NettyResponse nettyResponse = new NettyResponse(response.status().code(), response.headers(), content);
+        content = null;
+        completedCallBack.accept(nettyResponse);
+      }
+    }
+
+    private void appendContent(ByteBuf part) {
+      if (!part.isReadable()) {
+        return;
+      }
+      if (content == Unpooled.EMPTY_BUFFER) {
+        content = part.retain();
+        return;
+      }
+      if (compositeContent == null) {
+        // No limit on the number of components, to avoid consolidating them into a new buffer.
+        compositeContent = channel.alloc().compositeBuffer(Integer.MAX_VALUE).addComponent(true, content);
+        content = compositeContent;
+      }
+      compositeContent.addComponent(true, part.retain());
+    }
+
+    private void fail(Throwable cause) {
+      done = true;
+      cancelTimeout();
+      content.release();
+      content = null;
+      if (channel.pipeline().context(Http2FrameCodec.class) == null) {
+        // The HTTP/1.1 connection (or the HTTP/2 stream) is left in an unknown state, so it is not reused
+        channel.close().addListener(closeFuture -> releaseChannel.run());
+      } else {
+        releaseChannel.run();
+      }
+      failedCallBack.accept(cause);
+    }
+
+    private void cancelTimeout() {
+      if (timeoutFuture != null) {
+        timeoutFuture.cancel(false);
+      }
+    }
+  }
+
+  private static final class NettyResponse implements PortableHttpResponse {
+    private final int statusCode;
+    private final HttpHeaders headers;
+    private final ByteBuf content;
+    private boolean contentHandedOver = false;
+
+    NettyResponse(int statusCode, HttpHeaders headers, ByteBuf content) {
+      this.statusCode = statusCode;
+      this.headers = headers;
+      this.content = content;
+    }
+
+    NettyResponse copyToHeap() {
+      try {
+        return new NettyResponse(statusCode, headers, Unpooled.copiedBuffer(content));
+      } finally {
+        discard();
+      }
+    }
+
+    @Override
+    public int getStatusCode() {
+      return statusCode;
+    }
+
+    @Override
+    public ByteBuf getContentInByteBuf() {
+      contentHandedOver = true;
+      return content;
+    }
+
+    @Override
+    public boolean containsHeader(String headerName) {
+      return headers.contains(headerName);
+    }
+
+    @Override
+    public String getFirstHeader(String headerName) {
+      return headers.get(headerName);
+    }
+
+    @Override
+    public void discard() {
+      if (!contentHandedOver) {
+        contentHandedOver = true;
+        content.release();
+      }
+    }
+  }
+
+  private static final class ResponseConsumerHttpRequest extends DefaultFullHttpRequest
+      implements HttpClientResponseHandler.ResponseConsumer {
+    private final Consumer<Object> responseConsumer;
+
+    ResponseConsumerHttpRequest(FullHttpRequest request, Consumer<Object> responseConsumer) {
+      super(
+          request.protocolVersion(),
+          request.method(),
+          request.uri(),
+          request.content(),
+          request.headers(),
+          request.trailingHeaders());
+      this.responseConsumer = responseConsumer;
+    }
+
+    @Override
+    public Consumer<Object> responseConsumer() {
+      return responseConsumer;
+    }
+
+    @Override
+    public FullHttpRequest copy() {
+      return new ResponseConsumerHttpRequest(super.copy(), responseConsumer);
+    }
+
+    @Override
+    public FullHttpRequest duplicate() {
+      return new ResponseConsumerHttpRequest(super.duplicate(), responseConsumer);
+    }
+
+    @Override
+    public FullHttpRequest retainedDuplicate() {
+      return new ResponseConsumerHttpRequest(super.retainedDuplicate(), responseConsumer);
+    }
+
+    @Override
+    public FullHttpRequest replace(ByteBuf content) {
+      return new ResponseConsumerHttpRequest(super.replace(content), responseConsumer);
+    }
+  }
+}
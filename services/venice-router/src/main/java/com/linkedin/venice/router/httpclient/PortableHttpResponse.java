@@ -34,4 +34,11 @@ public interface PortableHttpResponse {
    * @return the value of the first header for header name specified in the parameters
    */
   String getFirstHeader(String headerName);
+
+  /**
+   * Releases the resources held by the response, when it is dropped without its content being consumed through
+   * {@link #getContentInByteBuf()}, whose caller otherwise takes over the content.
+   */
+  default void discard() {
+  }
 }
@@ -2,5 +2,5 @@ package com.linkedin.venice.router.httpclient;
 
 public enum StorageNodeClientType {
   @Deprecated
-  APACHE_HTTP_ASYNC_CLIENT, HTTP_CLIENT_5_CLIENT
+  APACHE_HTTP_ASYNC_CLIENT, HTTP_CLIENT_5_CLIENT, NETTY_4_CLIENT
 }
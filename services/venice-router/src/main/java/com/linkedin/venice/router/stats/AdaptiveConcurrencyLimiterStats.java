@@ -0,0 +1,31 @@
+package com.linkedin.venice.router.stats;
+
+import com.linkedin.venice.router.throttle.AdaptiveConcurrencyLimiter;
+import com.linkedin.venice.stats.AbstractVeniceStats;
+import com.linkedin.venice.stats.Gauge;
+import com.linkedin.venice.stats.StatsUtils;
+import io.tehuti.metrics.MetricsRepository;
+import io.tehuti.metrics.Sensor;
+import io.tehuti.metrics.stats.OccurrenceRate;
+
+
+/**
+ * The metrics of the {@link AdaptiveConcurrencyLimiter} of a storage node.
+ */
+public class AdaptiveConcurrencyLimiterStats extends AbstractVeniceStats {
+  private final Sensor rejectedRequestSensor;
+
+  public AdaptiveConcurrencyLimiterStats(
+      MetricsRepository metricsRepository,
+      String hostName,
+      AdaptiveConcurrencyLimiter limiter) {
+    super(metricsRepository, StatsUtils.convertHostnameToMetricName(hostName));
+    registerSensor("concurrency_limit", new Gauge(() -> limiter.getLimit()));
+    registerSensor("concurrency_limit_in_flight_request", new Gauge(() -> limiter.getInFlightCount()));
+    rejectedRequestSensor = registerSensor("concurrency_limit_rejected_request", new OccurrenceRate());
+  }
+
+  public void recordRejectedRequest() {
+    rejectedRequestSensor.record();
+  }
+}
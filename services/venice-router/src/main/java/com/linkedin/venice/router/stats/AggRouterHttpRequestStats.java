@@ -147,6 +147,17 @@ public class AggRouterHttpRequestStats extends AbstractVeniceAggStoreStats<Route
     getStoreStats(storeName).recordResponseWaitingTime(waitingTime);
   }
 
+  /**
+   * The histogram is only kept per store, since it drives the long-tail retry threshold of each store.
+   */
+  public void recordStorageNodeResponseWaitingTime(String storeName, double waitingTime) {
+    getStoreStats(storeName).recordStorageNodeResponseWaitingTime(waitingTime);
+  }
+
+  public double getResponseWaitingTimePercentile(String storeName, double percentile) {
+    return getStoreStats(storeName).getResponseWaitingTimePercentile(percentile);
+  }
+
   public void recordRequestSize(String storeName, double keySize) {
     totalStats.recordRequestSize(keySize);
     getStoreStats(storeName).recordRequestSize(keySize);
@@ -167,6 +178,20 @@ public class AggRouterHttpRequestStats extends AbstractVeniceAggStoreStats<Route
     getStoreStats(storeName).recordDecompressionTime(decompressionTime);
   }
 
+  public void recordDecompressionQueueWaitingTime(String storeName, double waitingTime) {
+    totalStats.recordDecompressionQueueWaitingTime(waitingTime);
+    getStoreStats(storeName).recordDecompressionQueueWaitingTime(waitingTime);
+  }
+
+  public void recordDecompressionStageTime(
+      String storeName,
+      double deserializationTime,
+      double decompressionTime,
+      double serializationTime) {
+    totalStats.recordDecompressionStageTime(deserializationTime, decompressionTime, serializationTime);
+    getStoreStats(storeName).recordDecompressionStageTime(deserializationTime, decompressionTime, serializationTime);
+  }
+
   public void recordQuota(String storeName, double quota) {
     getStoreStats(storeName).recordQuota(quota);
   }
@@ -294,4 +319,24 @@ public class AggRouterHttpRequestStats extends AbstractVeniceAggStoreStats<Route
     totalStats.recordRetryDelay(delay);
     getStoreStats(storeName).recordRetryDelay(delay);
   }
+
+  public void recordLongTailRetryThreshold(String storeName, double threshold) {
+    totalStats.recordLongTailRetryThreshold(threshold);
+    getStoreStats(storeName).recordLongTailRetryThreshold(threshold);
+  }
+
+  public void recordRetryBudgetAbortedRetryRequest(String storeName) {
+    totalStats.recordRetryBudgetAbortedRetryRequest();
+    getStoreStats(storeName).recordRetryBudgetAbortedRetryRequest();
+  }
+
+  public void recordRequestCoalescing(String storeName, boolean coalesced) {
+    totalStats.recordRequestCoalescing(coalesced);
+    getStoreStats(storeName).recordRequestCoalescing(coalesced);
+  }
+
+  public void recordResponseCacheLookup(String storeName, boolean hit) {
+    totalStats.recordResponseCacheLookup(hit);
+    getStoreStats(storeName).recordResponseCacheLookup(hit);
+  }
 }
@@ -0,0 +1,78 @@
+package com.linkedin.venice.router.stats;
+
+import com.linkedin.venice.utils.SystemTime;
+import com.linkedin.venice.utils.Time;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * This class tracks a time-decayed, peak-sensitive moving average of the latency of a route:
+ * 1. Every sample is weighted by the time elapsed since the previous one, so the average doesn't depend on the qps;
+ * 2. A sample above the current average replaces it right away, so a route turning slow is penalized immediately,
+ *    while a route recovering from a slow period is trusted again gradually;
+ * 3. The average decays towards 0 while no sample is recorded, so a route, which doesn't receive any request because
+ *    of its past latency, will be probed again after a while;
+ * 4. An error response is recorded with a penalty through {@link #recordError}, otherwise a route failing fast would
+ *    look like the fastest one and attract even more traffic.
+ *
+ * The latency of a single route is updated by the response callbacks of a handful of threads, so it is acceptable
+ * to use synchronized methods here.
+ */
+public class PeakEwmaLatency {
+  /**
+   * The decay time of the moving average.
+   * So far, there is no need to tune it per cluster, so we will hard-code it to be 1 second.
+   */
+  public static final long DEFAULT_DECAY_TIME_MS = TimeUnit.SECONDS.toMillis(1);
+  /**
+   * The minimum latency recorded for an error response. Since the average jumps to the peak right away, a failing
+   * route gets avoided at once, and it will be probed again once the penalty decays, a few decay times later.
+   */
+  public static final double ERROR_PENALTY_MS = TimeUnit.SECONDS.toMillis(1);
+
+  private final Time time;
+  private final double decayTimeInNS;
+
+  private double latency = 0;
+  private long lastUpdateTimeInNS;
+
+  public PeakEwmaLatency() {
+    this(SystemTime.INSTANCE, DEFAULT_DECAY_TIME_MS);
+  }
+
+  public PeakEwmaLatency(Time time, long decayTimeInMS) {
+    this.time = time;
+    this.decayTimeInNS = (double) TimeUnit.MILLISECONDS.toNanos(decayTimeInMS);
+    this.lastUpdateTimeInNS = time.getNanoseconds();
+  }
+
+  public synchronized void record(double latencyInMS) {
+    long currentTimeInNS = time.getNanoseconds();
+    if (latencyInMS > latency) {
+      latency = latencyInMS;
+    } else {
+      double weight = getWeight(currentTimeInNS);
+      latency = latency * weight + latencyInMS * (1 - weight);
+    }
+    lastUpdateTimeInNS = currentTimeInNS;
+  }
+
+  /**
+   * Record the latency of an error response, which is at least {@link #ERROR_PENALTY_MS}.
+   */
+  public void recordError(double latencyInMS) {
+    record(Math.max(latencyInMS, ERROR_PENALTY_MS));
+  }
+
+  /**
+   * @return the moving average decayed by the time elapsed since the last sample.
+   */
+  public synchronized double getLatency() {
+    return latency * getWeight(time.getNanoseconds());
+  }
+
+  private double getWeight(long currentTimeInNS) {
+    long elapsedTimeInNS = Math.max(currentTimeInNS - lastUpdateTimeInNS, 0);
+    return Math.exp(-elapsedTimeInNS / decayTimeInNS);
+  }
+}
@@ -45,6 +45,31 @@ public class RouteHttpRequestStats {
     stats.recordUnhealthyQueueDuration(duration);
   }
 
+  public void recordResponseLatency(String hostName, double latency) {
+    InternalHostStats stats = routeStatsMap.computeIfAbsent(hostName, h -> new InternalHostStats(metricsRepository, h));
+    stats.responseLatency.record(latency);
+  }
+
+  /**
+   * Record the latency of an error response, which is penalized, so the latency-aware routing steers away from
+   * a host failing fast.
+   */
+  public void recordErrorResponseLatency(String hostName, double latency) {
+    InternalHostStats stats = routeStatsMap.computeIfAbsent(hostName, h -> new InternalHostStats(metricsRepository, h));
+    stats.responseLatency.recordError(latency);
+  }
+
+  /**
+   * @return the moving average of the response latency of the given host in ms, or 0 if no request was sent to it.
+   */
+  public double getResponseLatency(String hostName) {
+    InternalHostStats stat = routeStatsMap.get(hostName);
+    if (stat == null) {
+      return 0;
+    }
+    return stat.responseLatency.getLatency();
+  }
+
   public long getPendingRequestCount(String hostName) {
     InternalHostStats stat = routeStatsMap.get(hostName);
     if (stat == null) {
@@ -58,11 +83,16 @@ public class RouteHttpRequestStats {
     private final Sensor unhealthyPendingQueueDuration;
     private final Sensor unhealthyPendingRateSensor;
     private AtomicLong pendingRequestCount;
+    private final PeakEwmaLatency responseLatency = new PeakEwmaLatency();
 
     public InternalHostStats(MetricsRepository metricsRepository, String hostName) {
       super(metricsRepository, StatsUtils.convertHostnameToMetricName(hostName));
       pendingRequestCount = new AtomicLong();
       pendingRequestCountSensor = registerSensor("pending_request_count", new Gauge(() -> pendingRequestCount.get()));
+      /**
+       * The moving average of the response latency, which drives the latency-aware routing
+       */
+      registerSensor("response_latency_ewma", new Gauge(() -> responseLatency.getLatency()));
 
       unhealthyPendingQueueDuration = registerSensor(
           "unhealthy_pending_queue_duration_per_route",
@@ -5,6 +5,7 @@ import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.stats.AbstractVeniceHttpStats;
 import com.linkedin.venice.stats.LambdaStat;
 import com.linkedin.venice.stats.TehutiUtils;
+import com.linkedin.venice.utils.SystemTime;
 import io.tehuti.metrics.MetricsRepository;
 import io.tehuti.metrics.Sensor;
 import io.tehuti.metrics.stats.Avg;
@@ -15,10 +16,19 @@ import io.tehuti.metrics.stats.Min;
 import io.tehuti.metrics.stats.OccurrenceRate;
 import io.tehuti.metrics.stats.Rate;
 import io.tehuti.metrics.stats.Total;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 
 public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
+  /**
+   * The window and the minimal sample count of {@link #responseWaitingTimeHistogram}, which drives the adaptive
+   * long-tail retry threshold.
+   */
+  private static final long RESPONSE_WAITING_TIME_WINDOW_MS = TimeUnit.MINUTES.toMillis(1);
+  private static final int RESPONSE_WAITING_TIME_WINDOW_SLOT_COUNT = 6;
+  private static final long RESPONSE_WAITING_TIME_MIN_SAMPLE_COUNT = 100;
+
   private final Sensor requestSensor;
   private final Sensor healthySensor;
   private final Sensor unhealthySensor;
@@ -38,6 +48,10 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
   private final Sensor badRequestKeyCountSensor;
   private final Sensor requestThrottledByRouterCapacitySensor;
   private final Sensor decompressionTimeSensor;
+  private final Sensor decompressionQueueWaitingTimeSensor;
+  private final Sensor decompressionDeserializationTimeSensor;
+  private final Sensor valueDecompressionTimeSensor;
+  private final Sensor decompressionSerializationTimeSensor;
   private final Sensor routerResponseWaitingTimeSensor;
   private final Sensor fanoutRequestCountSensor;
   private final Sensor quotaSensor;
@@ -62,6 +76,17 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
   private final Sensor errorRetryAttemptTriggeredByPendingRequestCheckSensor;
   private final Sensor retryDelaySensor;
   private final Sensor metaStoreShadowReadSensor;
+  private final Sensor longTailRetryThresholdSensor;
+  private final Sensor retryBudgetAbortedRetryRequest;
+  private final Sensor coalescedRequestSensor;
+  private final Sensor coalescedRequestRatioSensor;
+  private final Sensor responseCacheHitSensor;
+  private final Sensor responseCacheHitRatioSensor;
+  private final SlidingLatencyHistogram responseWaitingTimeHistogram = new SlidingLatencyHistogram(
+      SystemTime.INSTANCE,
+      RESPONSE_WAITING_TIME_WINDOW_MS,
+      RESPONSE_WAITING_TIME_WINDOW_SLOT_COUNT,
+      RESPONSE_WAITING_TIME_MIN_SAMPLE_COUNT);
 
   // QPS metrics
   public RouterHttpRequestStats(
@@ -114,6 +139,16 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
         "decompression_time",
         TehutiUtils.getPercentileStat(getName(), getFullMetricName("decompression_time")),
         new Avg());
+    /**
+     * The following metrics break down the decompression of the multi-get responses in Router, which consists of
+     * the waiting time in the decompression thread pool, the deserialization of the records, the decompression of the
+     * values and the re-serialization of the records.
+     */
+    decompressionQueueWaitingTimeSensor = registerSensor("decompression_queue_waiting_time", new Avg(), new Max(0));
+    decompressionDeserializationTimeSensor =
+        registerSensor("decompression_deserialization_time", new Avg(), new Max(0));
+    valueDecompressionTimeSensor = registerSensor("value_decompression_time", new Avg(), new Max(0));
+    decompressionSerializationTimeSensor = registerSensor("decompression_serialization_time", new Avg(), new Max(0));
     quotaSensor = registerSensor("read_quota_per_router", new Gauge());
     findUnhealthyHostRequestSensor = registerSensor("find_unhealthy_host_request", new OccurrenceRate());
 
@@ -142,6 +177,7 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
     slowRouteAbortedRetryRequest = registerSensor("slow_route_aborted_retry_request", new Count());
     retryRouteLimitAbortedRetryRequest = registerSensor("retry_route_limit_aborted_retry_request", new Count());
     noAvailableReplicaAbortedRetryRequest = registerSensor("no_available_replica_aborted_retry_request", new Count());
+    retryBudgetAbortedRetryRequest = registerSensor("retry_budget_aborted_retry_request", new Count());
 
     readQuotaUsageSensor = registerSensor("read_quota_usage_kps", new Total());
 
@@ -177,6 +213,15 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
         registerSensor("error_retry_attempt_triggered_by_pending_request_check", new OccurrenceRate());
     retryDelaySensor = registerSensor("retry_delay", new Avg(), new Max());
     metaStoreShadowReadSensor = registerSensor("meta_store_shadow_read", new OccurrenceRate());
+    longTailRetryThresholdSensor = registerSensor("long_tail_retry_threshold", new Avg(), new Max(0));
+    coalescedRequestSensor = registerSensor("coalesced_request", new OccurrenceRate());
+    /**
+     * Each request eligible for coalescing records 1 if it is coalesced and 0 otherwise, so the average is the ratio.
+     */
+    coalescedRequestRatioSensor = registerSensor("coalesced_request_ratio", new Avg());
+    responseCacheHitSensor = registerSensor("response_cache_hit", new OccurrenceRate());
+    // Same as the coalesced request ratio, each cache lookup records 1 for a hit and 0 for a miss.
+    responseCacheHitRatioSensor = registerSensor("response_cache_hit_ratio", new Avg());
   }
 
   /**
@@ -263,6 +308,22 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
     routerResponseWaitingTimeSensor.record(waitingTime);
   }
 
+  /**
+   * Records the waiting time of a single storage node response, which only feeds the histogram behind
+   * {@link #getResponseWaitingTimePercentile(double)}.
+   */
+  public void recordStorageNodeResponseWaitingTime(double waitingTime) {
+    responseWaitingTimeHistogram.record(waitingTime);
+  }
+
+  /**
+   * @return the given percentile of the response waiting time in the latest minute, or -1 if there are not enough
+   *         responses in the latest minute.
+   */
+  public double getResponseWaitingTimePercentile(double percentile) {
+    return responseWaitingTimeHistogram.getPercentile(percentile);
+  }
+
   public void recordRequestSize(double requestSize) {
     requestSizeSensor.record(requestSize);
   }
@@ -279,6 +340,19 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
     decompressionTimeSensor.record(decompressionTime);
   }
 
+  public void recordDecompressionQueueWaitingTime(double waitingTime) {
+    decompressionQueueWaitingTimeSensor.record(waitingTime);
+  }
+
+  public void recordDecompressionStageTime(
+      double deserializationTime,
+      double decompressionTime,
+      double serializationTime) {
+    decompressionDeserializationTimeSensor.record(deserializationTime);
+    valueDecompressionTimeSensor.record(decompressionTime);
+    decompressionSerializationTimeSensor.record(serializationTime);
+  }
+
   public void recordQuota(double quota) {
     quotaSensor.record(quota);
   }
@@ -323,6 +397,10 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
     noAvailableReplicaAbortedRetryRequest.record();
   }
 
+  public void recordRetryBudgetAbortedRetryRequest() {
+    retryBudgetAbortedRetryRequest.record();
+  }
+
   public void recordKeySizeInByte(long keySize) {
     keySizeSensor.record(keySize);
   }
@@ -351,6 +429,24 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
     retryDelaySensor.record(delay);
   }
 
+  public void recordLongTailRetryThreshold(double threshold) {
+    longTailRetryThresholdSensor.record(threshold);
+  }
+
+  public void recordRequestCoalescing(boolean coalesced) {
+    if (coalesced) {
+      coalescedRequestSensor.record();
+    }
+    coalescedRequestRatioSensor.record(coalesced ? 1 : 0);
+  }
+
+  public void recordResponseCacheLookup(boolean hit) {
+    if (hit) {
+      responseCacheHitSensor.record();
+    }
+    responseCacheHitRatioSensor.record(hit ? 1 : 0);
+  }
+
   public void recordMetaStoreShadowRead() {
     metaStoreShadowReadSensor.record();
   }
@@ -0,0 +1,20 @@
+package com.linkedin.venice.router.stats;
+
+import com.linkedin.alpini.base.cache.SerializedMap;
+import com.linkedin.venice.stats.AbstractVeniceStats;
+import com.linkedin.venice.stats.Gauge;
+import io.tehuti.metrics.MetricsRepository;
+
+
+/**
+ * The memory metrics of the Router response cache, and the per-store hit rate is tracked by
+ * {@link RouterHttpRequestStats}.
+ */
+public class RouterResponseCacheStats extends AbstractVeniceStats {
+  public RouterResponseCacheStats(MetricsRepository metricsRepository, SerializedMap<?, ?> cache) {
+    super(metricsRepository, "router_response_cache");
+    registerSensor("allocated_bytes", new Gauge(() -> cache.getAllocatedBytes()));
+    registerSensor("max_allocated_bytes", new Gauge(() -> cache.getMaxAllocatedMemory()));
+    registerSensor("entry_count", new Gauge(() -> cache.keySet().size()));
+  }
+}
@@ -0,0 +1,136 @@
+package com.linkedin.venice.router.stats;
+
+import com.linkedin.venice.utils.Time;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * A lock-free latency histogram over a sliding time window, which is cheap enough to be updated for every request and
+ * to be queried for the percentiles in the request path.
+ *
+ * 1. The buckets grow geometrically by 10% from 0.1ms, so the percentiles are accurate within 10% up to a few minutes;
+ * 2. The window is split into slots, and the slot of the oldest period is recycled when a new period starts, so the
+ *    histogram always covers the latest window, with the accuracy of one slot;
+ * 3. The percentiles are computed at most once per second, and the cached values are returned in between.
+ */
+public class SlidingLatencyHistogram {
+  static final double MIN_LATENCY_MS = 0.1;
+  static final double BUCKET_GROWTH_FACTOR = 1.1;
+  static final int BUCKET_COUNT = 150;
+  private static final double LOG_BUCKET_GROWTH_FACTOR = Math.log(BUCKET_GROWTH_FACTOR);
+  private static final long PERCENTILE_REFRESH_INTERVAL_MS = 1000;
+
+  private final Time time;
+  private final long slotDurationMs;
+  private final int slotCount;
+  private final long minSampleCount;
+  private final AtomicLongArray[] slots;
+  /**
+   * The period of each slot, which is the epoch time divided by the slot duration.
+   */
+  private final AtomicLongArray slotPeriods;
+
+  private volatile CachedPercentile cachedPercentile = new CachedPercentile(-1, -1, Long.MIN_VALUE);
+
+  /**
+   * @param minSampleCount the minimal number of samples in the window to compute any percentile.
+   */
+  public SlidingLatencyHistogram(Time time, long windowMs, int slotCount, long minSampleCount) {
+    this.time = time;
+    this.slotDurationMs = Math.max(windowMs / slotCount, 1);
+    this.slotCount = slotCount;
+    this.minSampleCount = minSampleCount;
+    this.slots = new AtomicLongArray[slotCount];
+    for (int i = 0; i < slotCount; ++i) {
+      slots[i] = new AtomicLongArray(BUCKET_COUNT);
+    }
+    this.slotPeriods = new AtomicLongArray(slotCount);
+    for (int i = 0; i < slotCount; ++i) {
+      slotPeriods.set(i, -1);
+    }
+  }
+
+  public void record(double latencyMs) {
+    long period = time.getMilliseconds() / slotDurationMs;
+    int slotIndex = (int) (period % slotCount);
+    if (slotPeriods.get(slotIndex) != period) {
+      synchronized (slots[slotIndex]) {
+        if (slotPeriods.get(slotIndex) != period) {
+          for (int i = 0; i < BUCKET_COUNT; ++i) {
+            slots[slotIndex].set(i, 0);
+          }
+          slotPeriods.set(slotIndex, period);
+        }
+      }
+    }
+    slots[slotIndex].incrementAndGet(getBucketIndex(latencyMs));
+  }
+
+  /**
+   * @return the upper bound of the bucket containing the given percentile of the latency in the window, or -1 if
+   *         there are not enough samples in the window.
+   */
+  public double getPercentile(double percentile) {
+    long currentTimeMs = time.getMilliseconds();
+    CachedPercentile cached = cachedPercentile;
+    if (cached.percentile == percentile && currentTimeMs - cached.computeTimeMs < PERCENTILE_REFRESH_INTERVAL_MS) {
+      return cached.value;
+    }
+    double value = computePercentile(percentile, currentTimeMs);
+    cachedPercentile = new CachedPercentile(percentile, value, currentTimeMs);
+    return value;
+  }
+
+  private double computePercentile(double percentile, long currentTimeMs) {
+    long currentPeriod = currentTimeMs / slotDurationMs;
+    long[] counts = new long[BUCKET_COUNT];
+    long totalCount = 0;
+    for (int slotIndex = 0; slotIndex < slotCount; ++slotIndex) {
+      if (currentPeriod - slotPeriods.get(slotIndex) >= slotCount) {
+        // Stale slot
+        continue;
+      }
+      for (int i = 0; i < BUCKET_COUNT; ++i) {
+        long count = slots[slotIndex].get(i);
+        counts[i] += count;
+        totalCount += count;
+      }
+    }
+    if (totalCount == 0 || totalCount < minSampleCount) {
+      return -1;
+    }
+    long targetCount = (long) Math.ceil(totalCount * percentile / 100);
+    long cumulativeCount = 0;
+    for (int i = 0; i < BUCKET_COUNT; ++i) {
+      cumulativeCount += counts[i];
+      if (cumulativeCount >= targetCount) {
+        return getBucketUpperBound(i);
+      }
+    }
+    return getBucketUpperBound(BUCKET_COUNT - 1);
+  }
+
+  static int getBucketIndex(double latencyMs) {
+    if (latencyMs <= MIN_LATENCY_MS) {
+      return 0;
+    }
+    int index = 1 + (int) (Math.log(latencyMs / MIN_LATENCY_MS) / LOG_BUCKET_GROWTH_FACTOR);
+    return Math.min(index, BUCKET_COUNT - 1);
+  }
+
+  static double getBucketUpperBound(int bucketIndex) {
+    return MIN_LATENCY_MS * Math.pow(BUCKET_GROWTH_FACTOR, bucketIndex);
+  }
+
+  private static class CachedPercentile {
+    private final double percentile;
+    private final double value;
+    private final long computeTimeMs;
+
+    CachedPercentile(double percentile, double value, long computeTimeMs) {
+      this.percentile = percentile;
+      this.value = value;
+      this.computeTimeMs = computeTimeMs;
+    }
+  }
+}
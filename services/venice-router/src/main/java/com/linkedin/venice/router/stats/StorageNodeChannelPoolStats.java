@@ -0,0 +1,77 @@
+package com.linkedin.venice.router.stats;
+
+import com.linkedin.alpini.netty4.pool.ChannelPoolManager;
+import com.linkedin.venice.stats.AbstractVeniceStats;
+import com.linkedin.venice.stats.Gauge;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import io.tehuti.metrics.MetricsRepository;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+
+/**
+ * This class tracks the connections and the HTTP/2 streams opened by the
+ * {@link com.linkedin.venice.router.httpclient.NettyStorageNodeClient} to the storage nodes, both in total and per
+ * storage node.
+ */
+public class StorageNodeChannelPoolStats extends AbstractVeniceStats {
+  private final ChannelPoolManager channelPoolManager;
+  private final Map<String, HostChannelPoolStats> hostStatsMap = new VeniceConcurrentHashMap<>();
+
+  public StorageNodeChannelPoolStats(MetricsRepository metricsRepository, ChannelPoolManager channelPoolManager) {
+    super(metricsRepository, "storage_node_channel_pool");
+    this.channelPoolManager = channelPoolManager;
+
+    /**
+     * Number of channels checked out of the pools, which is the number of in-flight requests over HTTP/1.1
+     */
+    registerSensor("total_active_channel_count", new Gauge(() -> channelPoolManager.activeCount()));
+    registerSensor("total_open_connection_count", new Gauge(() -> channelPoolManager.openConnections()));
+  }
+
+  /**
+   * This function is used to gradually populate the per storage node stats.
+   * @param hostAndPort the storage node address, as it is passed to {@link ChannelPoolManager#acquire}
+   */
+  public void addStatsForHost(String hostAndPort) {
+    if (!hostStatsMap.containsKey(hostAndPort)) {
+      hostStatsMap.computeIfAbsent(hostAndPort, k -> new HostChannelPoolStats(getMetricsRepository(), hostAndPort));
+    }
+  }
+
+  class HostChannelPoolStats extends AbstractVeniceStats {
+    private final String hostAndPort;
+
+    HostChannelPoolStats(MetricsRepository metricsRepository, String hostAndPort) {
+      super(metricsRepository, "storage_node_channel_pool_" + hostAndPort.replace('.', '_').replace(':', '_'));
+      this.hostAndPort = hostAndPort;
+
+      registerSensor(
+          "open_connection_count",
+          new Gauge(() -> getHostStats(ChannelPoolManager.PoolStats::openConnections)));
+      /**
+       * Number of HTTP/2 streams currently open over the connections to the storage node
+       */
+      registerSensor(
+          "active_stream_count",
+          new Gauge(() -> getHostStats(ChannelPoolManager.PoolStats::totalActiveStreamCounts)));
+      registerSensor("active_channel_count", new Gauge(() -> getHostStats(ChannelPoolManager.PoolStats::activeCount)));
+      /**
+       * Number of requests waiting for a channel to be acquired from the pool
+       */
+      registerSensor(
+          "pending_acquire_count",
+          new Gauge(() -> getHostStats(ChannelPoolManager.PoolStats::waitingCount)));
+      registerSensor(
+          "connection_create_count",
+          new Gauge(() -> getHostStats(ChannelPoolManager.PoolStats::createCount)));
+      registerSensor(
+          "connection_close_error_count",
+          new Gauge(() -> getHostStats(ChannelPoolManager.PoolStats::closeErrorCount)));
+    }
+
+    private long getHostStats(ToLongFunction<ChannelPoolManager.PoolStats> func) {
+      return channelPoolManager.getPoolStats(hostAndPort).map(func::applyAsLong).orElse(0L);
+    }
+  }
+}
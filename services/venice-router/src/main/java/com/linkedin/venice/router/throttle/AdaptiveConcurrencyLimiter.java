@@ -0,0 +1,105 @@
+package com.linkedin.venice.router.throttle;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * This class limits the in-flight requests to a storage node, and the limit is adjusted by the gradient of the
+ * response latency, which is the ratio between the long-term average latency and the latest sample:
+ * 1. While the latency stays around the long-term average, the limit keeps growing by a small queue allowance, so that
+ *    a fast storage node won't be capped by a static threshold;
+ * 2. Once the latency rises above the long-term average, which means requests are queueing up in the storage node,
+ *    the limit shrinks proportionally, so the excessive requests will be rejected in Router before they time out;
+ * 3. A dropped request (error or timeout) backs off the limit multiplicatively;
+ * 4. The samples collected when the in-flight count is far below the limit won't change the limit, since the latency
+ *    doesn't reflect the capacity of the storage node in that case.
+ *
+ * The limit is smoothed and bounded by the configured min and max limits.
+ */
+public class AdaptiveConcurrencyLimiter {
+  /**
+   * So far, there is no need to tune the following parameters, so we will hard-code them.
+   * If there is a need to make them configurable, please refactor it.
+   */
+  private static final int LONG_TERM_LATENCY_WINDOW = 100;
+  private static final double LATENCY_TOLERANCE = 1.5;
+  private static final double MIN_GRADIENT = 0.5;
+  private static final double SMOOTHING = 0.2;
+  private static final double BACKOFF_RATIO = 0.9;
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final AtomicInteger inFlightCount = new AtomicInteger();
+  private volatile double limit;
+  private double longTermLatency = 0;
+
+  public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit) {
+    if (minLimit <= 0 || minLimit > maxLimit) {
+      throw new IllegalArgumentException(
+          "Invalid concurrency limit bounds, min limit: " + minLimit + ", max limit: " + maxLimit);
+    }
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.limit = Math.min(Math.max(initialLimit, minLimit), maxLimit);
+  }
+
+  /**
+   * @return true if the request is allowed, and {@link #release} must be invoked once the request completes;
+   *         false if the in-flight count has reached the limit.
+   */
+  public boolean tryAcquire() {
+    while (true) {
+      int current = inFlightCount.get();
+      if (current >= (int) limit) {
+        return false;
+      }
+      if (inFlightCount.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * @param latencyMs the response latency of the completed request.
+   * @param dropped whether the request failed or timed out, which is treated as a sign of overload.
+   */
+  public void release(double latencyMs, boolean dropped) {
+    int inFlightCountBeforeRelease = inFlightCount.getAndDecrement();
+    updateLimit(latencyMs, inFlightCountBeforeRelease, dropped);
+  }
+
+  private synchronized void updateLimit(double latencyMs, int inFlightCount, boolean dropped) {
+    double newLimit;
+    if (dropped) {
+      newLimit = limit * BACKOFF_RATIO;
+    } else {
+      if (longTermLatency == 0) {
+        longTermLatency = latencyMs;
+      } else {
+        longTermLatency += (latencyMs - longTermLatency) / LONG_TERM_LATENCY_WINDOW;
+      }
+      if (latencyMs <= 0 || inFlightCount < limit / 2) {
+        return;
+      }
+      /**
+       * Let the long-term average catch up faster once the latency has recovered, otherwise the limit will keep
+       * growing until the stale average is decayed.
+       */
+      if (longTermLatency / latencyMs > 2) {
+        longTermLatency *= 0.95;
+      }
+      double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, LATENCY_TOLERANCE * longTermLatency / latencyMs));
+      newLimit = limit * gradient + Math.sqrt(limit);
+    }
+    newLimit = limit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+    limit = Math.min(Math.max(newLimit, minLimit), maxLimit);
+  }
+
+  public int getLimit() {
+    return (int) limit;
+  }
+
+  public int getInFlightCount() {
+    return inFlightCount.get();
+  }
+}
@@ -0,0 +1,87 @@
+package com.linkedin.venice.router.throttle;
+
+import com.linkedin.venice.utils.SystemTime;
+import com.linkedin.venice.utils.Time;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * This class caps the retry requests sent by Router to a fraction of the original requests received in the latest
+ * window, so that retries can't amplify the load when the storage nodes are slow across the board.
+ * A minimal number of retries per second is always allowed, so that the retry still works for the Routers with low
+ * traffic.
+ */
+public class RetryBudget {
+  /**
+   * So far, there is no need to tune the window and the minimal retries, so we will hard-code them.
+   * If there is a need to make them configurable, please refactor it.
+   */
+  public static final long WINDOW_MS = TimeUnit.SECONDS.toMillis(10);
+  public static final int MIN_RETRY_PER_SECOND = 10;
+  private static final int SLOT_COUNT = 10;
+  private static final long SLOT_DURATION_MS = WINDOW_MS / SLOT_COUNT;
+  private static final long MIN_RETRY_PER_WINDOW = MIN_RETRY_PER_SECOND * TimeUnit.MILLISECONDS.toSeconds(WINDOW_MS);
+
+  private final double retryRatio;
+  private final Time time;
+  private final AtomicLongArray requestCounts = new AtomicLongArray(SLOT_COUNT);
+  private final AtomicLongArray retryCounts = new AtomicLongArray(SLOT_COUNT);
+  private final AtomicLongArray slotPeriods = new AtomicLongArray(SLOT_COUNT);
+
+  /**
+   * @param retryRatio the max ratio of the retry requests to the original requests, e.g. 0.1 means 10%.
+   */
+  public RetryBudget(double retryRatio) {
+    this(retryRatio, SystemTime.INSTANCE);
+  }
+
+  public RetryBudget(double retryRatio, Time time) {
+    this.retryRatio = retryRatio;
+    this.time = time;
+    for (int i = 0; i < SLOT_COUNT; ++i) {
+      slotPeriods.set(i, -1);
+    }
+  }
+
+  public void recordRequest() {
+    requestCounts.incrementAndGet(getCurrentSlotIndex(time.getMilliseconds() / SLOT_DURATION_MS));
+  }
+
+  /**
+   * @return true if the retry is allowed and accounted for, false if the budget has been used up.
+   */
+  public boolean tryAcquireRetry() {
+    long currentPeriod = time.getMilliseconds() / SLOT_DURATION_MS;
+    int currentSlotIndex = getCurrentSlotIndex(currentPeriod);
+    long requestCount = 0;
+    long retryCount = 0;
+    for (int i = 0; i < SLOT_COUNT; ++i) {
+      if (currentPeriod - slotPeriods.get(i) >= SLOT_COUNT) {
+        // Stale slot
+        continue;
+      }
+      requestCount += requestCounts.get(i);
+      retryCount += retryCounts.get(i);
+    }
+    if (retryCount >= (long) (requestCount * retryRatio) + MIN_RETRY_PER_WINDOW) {
+      return false;
+    }
+    retryCounts.incrementAndGet(currentSlotIndex);
+    return true;
+  }
+
+  private int getCurrentSlotIndex(long currentPeriod) {
+    int slotIndex = (int) (currentPeriod % SLOT_COUNT);
+    if (slotPeriods.get(slotIndex) != currentPeriod) {
+      synchronized (this) {
+        if (slotPeriods.get(slotIndex) != currentPeriod) {
+          requestCounts.set(slotIndex, 0);
+          retryCounts.set(slotIndex, 0);
+          slotPeriods.set(slotIndex, currentPeriod);
+        }
+      }
+    }
+    return slotIndex;
+  }
+}
@@ -69,4 +69,25 @@ public class AggRouterHttpRequestStatsTest {
     Assert.assertEquals((int) reporter.query(".store1--compute_key_size_in_byte.3thPercentile").value(), 3);
     Assert.assertEquals((int) reporter.query(".store1--compute_key_size_in_byte.4thPercentile").value(), 4);
   }
+
+  @Test
+  public void testStorageNodeResponseWaitingTime() {
+    AggRouterHttpRequestStats stats = new AggRouterHttpRequestStats(
+        new MetricsRepository(),
+        RequestType.MULTI_GET,
+        storeMetadataRepository,
+        true);
+
+    // The waiting time of the whole request only feeds the existing sensor.
+    for (int i = 1; i <= 200; i += 1) {
+      stats.recordResponseWaitingTime("store1", i);
+    }
+    Assert.assertEquals(stats.getResponseWaitingTimePercentile("store1", 50), -1d);
+
+    // The waiting time of each storage node response only feeds the histogram of the long-tail retry threshold.
+    for (int i = 1; i <= 200; i += 1) {
+      stats.recordStorageNodeResponseWaitingTime("store1", 10);
+    }
+    Assert.assertTrue(stats.getResponseWaitingTimePercentile("store1", 50) > 0);
+  }
 }
@@ -3,6 +3,7 @@ package com.linkedin.venice.router;
 import static org.mockito.Mockito.mock;
 
 import com.linkedin.venice.router.httpclient.StorageNodeClient;
+import com.linkedin.venice.router.stats.PeakEwmaLatency;
 import com.linkedin.venice.router.stats.RouteHttpRequestStats;
 import com.linkedin.venice.tehuti.MockTehutiReporter;
 import io.tehuti.metrics.MetricsRepository;
@@ -40,4 +41,25 @@ public class RouteHttpRequestStatsTest {
     Assert.assertEquals(reporter.query(".my_host1--pending_request_count.Gauge").value(), 1d);
     Assert.assertEquals(reporter.query(".my_host2--pending_request_count.Gauge").value(), 0d);
   }
+
+  @Test
+  public void responseLatencyTest() {
+    Assert.assertEquals(stats.getResponseLatency("my_host3"), 0d);
+    stats.recordResponseLatency("my_host3", 10);
+    double latency = stats.getResponseLatency("my_host3");
+    // The latency jumps to the slower sample right away and then decays slowly.
+    Assert.assertTrue(latency > 5 && latency <= 10, "Latency: " + latency);
+    Assert.assertTrue(reporter.query(".my_host3--response_latency_ewma.Gauge").value() > 0);
+  }
+
+  @Test
+  public void errorResponseLatencyTest() {
+    stats.recordResponseLatency("my_host4", 10);
+    stats.recordResponseLatency("my_host5", 10);
+    // A fast error response is penalized instead of making the host look faster.
+    stats.recordErrorResponseLatency("my_host5", 1);
+    double latency = stats.getResponseLatency("my_host5");
+    Assert.assertTrue(latency > stats.getResponseLatency("my_host4"), "Latency: " + latency);
+    Assert.assertTrue(latency > PeakEwmaLatency.ERROR_PENALTY_MS / 2, "Latency: " + latency);
+  }
 }
@@ -0,0 +1,46 @@
+package com.linkedin.venice.router;
+
+import com.linkedin.venice.router.stats.SlidingLatencyHistogram;
+import com.linkedin.venice.utils.TestMockTime;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class SlidingLatencyHistogramTest {
+  @Test
+  public void testPercentile() {
+    TestMockTime time = new TestMockTime();
+    SlidingLatencyHistogram histogram = new SlidingLatencyHistogram(time, 60000, 6, 100);
+    for (int i = 1; i < 100; ++i) {
+      histogram.record(i);
+    }
+    // Not enough samples
+    Assert.assertEquals(histogram.getPercentile(95), -1d);
+    histogram.record(100);
+    time.addMilliseconds(1000);
+    double p95 = histogram.getPercentile(95);
+    // The result is the upper bound of the bucket, which is accurate within 10%.
+    Assert.assertTrue(p95 >= 95 && p95 <= 95 * 1.1, "p95: " + p95);
+    double p50 = histogram.getPercentile(50);
+    Assert.assertTrue(p50 >= 50 && p50 <= 50 * 1.1, "p50: " + p50);
+  }
+
+  @Test
+  public void testOldSamplesExpire() {
+    TestMockTime time = new TestMockTime();
+    SlidingLatencyHistogram histogram = new SlidingLatencyHistogram(time, 60000, 6, 1);
+    for (int i = 0; i < 100; ++i) {
+      histogram.record(1000);
+    }
+    time.addMilliseconds(30000);
+    for (int i = 0; i < 100; ++i) {
+      histogram.record(1);
+    }
+    Assert.assertTrue(histogram.getPercentile(99) >= 1000);
+    // The slow samples fall out of the window, and the percentile is computed again after the refresh interval.
+    time.addMilliseconds(40000);
+    Assert.assertTrue(histogram.getPercentile(99) < 1.1, "p99: " + histogram.getPercentile(99));
+    time.addMilliseconds(60000);
+    Assert.assertEquals(histogram.getPercentile(99), -1d);
+  }
+}
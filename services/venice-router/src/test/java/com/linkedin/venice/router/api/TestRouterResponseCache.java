@@ -0,0 +1,111 @@
+package com.linkedin.venice.router.api;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.router.api.path.VenicePath;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.tehuti.metrics.MetricsRepository;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestRouterResponseCache {
+  private static final String STORE_NAME = "test_store";
+
+  private VenicePath getPath(String resourceName, String key, RequestType requestType) {
+    return getPath(resourceName, key, requestType, CompressionStrategy.NO_OP);
+  }
+
+  private VenicePath getPath(
+      String resourceName,
+      String key,
+      RequestType requestType,
+      CompressionStrategy clientCompression) {
+    VenicePath path = mock(VenicePath.class);
+    doReturn(STORE_NAME).when(path).getStoreName();
+    doReturn(resourceName).when(path).getResourceName();
+    doReturn(requestType).when(path).getRequestType();
+    doReturn(new RouterKey(key.getBytes())).when(path).getPartitionKey();
+    VeniceResponseDecompressor responseDecompressor = mock(VeniceResponseDecompressor.class);
+    doReturn(clientCompression).when(responseDecompressor).getClientCompression();
+    doReturn(responseDecompressor).when(path).getResponseDecompressor();
+    return path;
+  }
+
+  private RouterResponseCache getCache(boolean isHybrid) {
+    Store store = mock(Store.class);
+    doReturn(isHybrid).when(store).isHybrid();
+    ReadOnlyStoreRepository storeRepository = mock(ReadOnlyStoreRepository.class);
+    doReturn(store).when(storeRepository).getStore(STORE_NAME);
+    return new RouterResponseCache(
+        Collections.singletonList(STORE_NAME),
+        1024 * 1024,
+        storeRepository,
+        new MetricsRepository());
+  }
+
+  private VeniceFullHttpResponse getResponse(HttpResponseStatus status, String value) {
+    VeniceFullHttpResponse response = new VeniceFullHttpResponse(
+        HttpVersion.HTTP_1_1,
+        status,
+        Unpooled.wrappedBuffer(value.getBytes(StandardCharsets.UTF_8)),
+        0);
+    response.headers().set(HttpConstants.VENICE_SCHEMA_ID, 1);
+    return response;
+  }
+
+  @Test
+  public void testCacheIsKeyedByVersion() {
+    RouterResponseCache cache = getCache(false);
+    VenicePath path = getPath(STORE_NAME + "_v1", "key", RequestType.SINGLE_GET);
+    Assert.assertTrue(cache.isCacheEnabled(path));
+    Assert.assertNull(cache.get(path));
+
+    cache.put(path, getResponse(HttpResponseStatus.OK, "value"));
+    VeniceFullHttpResponse cachedResponse = cache.get(getPath(STORE_NAME + "_v1", "key", RequestType.SINGLE_GET));
+    Assert.assertNotNull(cachedResponse);
+    Assert.assertEquals(cachedResponse.status(), HttpResponseStatus.OK);
+    Assert.assertEquals(cachedResponse.content().toString(StandardCharsets.UTF_8), "value");
+    Assert.assertEquals(cachedResponse.headers().get(HttpConstants.VENICE_SCHEMA_ID), "1");
+
+    // A new version won't see the responses of the previous version.
+    Assert.assertNull(cache.get(getPath(STORE_NAME + "_v2", "key", RequestType.SINGLE_GET)));
+    Assert.assertNull(cache.get(getPath(STORE_NAME + "_v1", "another_key", RequestType.SINGLE_GET)));
+
+    // Error responses won't be cached.
+    VenicePath errorPath = getPath(STORE_NAME + "_v1", "error_key", RequestType.SINGLE_GET);
+    cache.put(errorPath, getResponse(HttpResponseStatus.BAD_GATEWAY, "error"));
+    Assert.assertNull(cache.get(errorPath));
+  }
+
+  @Test
+  public void testCacheIsKeyedByClientCompression() {
+    RouterResponseCache cache = getCache(false);
+    cache.put(
+        getPath(STORE_NAME + "_v1", "key", RequestType.SINGLE_GET, CompressionStrategy.GZIP),
+        getResponse(HttpResponseStatus.OK, "compressed_value"));
+
+    // The response kept compressed for a client supporting gzip must not be served to a client which doesn't.
+    Assert.assertNull(cache.get(getPath(STORE_NAME + "_v1", "key", RequestType.SINGLE_GET, CompressionStrategy.NO_OP)));
+    VeniceFullHttpResponse cachedResponse =
+        cache.get(getPath(STORE_NAME + "_v1", "key", RequestType.SINGLE_GET, CompressionStrategy.GZIP));
+    Assert.assertNotNull(cachedResponse);
+    Assert.assertEquals(cachedResponse.content().toString(StandardCharsets.UTF_8), "compressed_value");
+  }
+
+  @Test
+  public void testCacheIsOnlyForSingleGetOfBatchOnlyStore() {
+    Assert.assertFalse(getCache(true).isCacheEnabled(getPath(STORE_NAME + "_v1", "key", RequestType.SINGLE_GET)));
+    Assert.assertFalse(getCache(false).isCacheEnabled(getPath(STORE_NAME + "_v1", "key", RequestType.MULTI_GET)));
+  }
+}
@@ -0,0 +1,116 @@
+package com.linkedin.venice.router.api;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.router.httpclient.PortableHttpResponse;
+import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
+import com.linkedin.venice.router.stats.RouterStats;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestSingleGetRequestCoalescer {
+  private static final String STORE_NAME = "test_store";
+  private static final String RESOURCE_NAME = STORE_NAME + "_v1";
+
+  private VenicePath getPath(String key, boolean isRetry) {
+    VenicePath path = mock(VenicePath.class);
+    doReturn(STORE_NAME).when(path).getStoreName();
+    doReturn(RESOURCE_NAME).when(path).getResourceName();
+    doReturn(RequestType.SINGLE_GET).when(path).getRequestType();
+    doReturn(isRetry).when(path).isRetryRequest();
+    doReturn(new RouterKey(key.getBytes())).when(path).getPartitionKey();
+    return path;
+  }
+
+  private RouterStats<AggRouterHttpRequestStats> getRouterStats(AggRouterHttpRequestStats stats) {
+    RouterStats<AggRouterHttpRequestStats> routerStats = mock(RouterStats.class);
+    doReturn(stats).when(routerStats).getStatsByType(RequestType.SINGLE_GET);
+    return routerStats;
+  }
+
+  @Test
+  public void testIdenticalRequestsShareResponse() throws Exception {
+    AggRouterHttpRequestStats stats = mock(AggRouterHttpRequestStats.class);
+    SingleGetRequestCoalescer coalescer =
+        new SingleGetRequestCoalescer(Collections.singletonList(STORE_NAME), getRouterStats(stats));
+    Instance storageNode = new Instance("host1_1234", "host1", 1234);
+    CompletableFuture<PortableHttpResponse> serverResponseFuture = new CompletableFuture<>();
+    AtomicInteger sentRequestCount = new AtomicInteger();
+    SingleGetRequestCoalescer.RequestSender sender = () -> {
+      sentRequestCount.incrementAndGet();
+      return serverResponseFuture;
+    };
+
+    VenicePath leaderPath = getPath("key", false);
+    Assert.assertTrue(coalescer.isCoalescingEnabled(leaderPath));
+    CompletableFuture<PortableHttpResponse> leaderFuture = coalescer.sendRequest(leaderPath, storageNode, sender);
+    VenicePath followerPath = getPath("key", false);
+    CompletableFuture<PortableHttpResponse> followerFuture = coalescer.sendRequest(followerPath, storageNode, sender);
+    // A different key won't be coalesced.
+    coalescer.sendRequest(getPath("another_key", false), storageNode, sender);
+    Assert.assertEquals(sentRequestCount.get(), 2);
+    Assert.assertEquals(coalescer.getInFlightRequestCount(), 2);
+    verify(stats).recordRequestCoalescing(STORE_NAME, true);
+    verify(stats, times(2)).recordRequestCoalescing(STORE_NAME, false);
+    verify(followerPath).requestStorageNode(storageNode.getNodeId());
+
+    ByteBuf content = Unpooled.wrappedBuffer("value".getBytes());
+    PortableHttpResponse serverResponse = mock(PortableHttpResponse.class);
+    doReturn(200).when(serverResponse).getStatusCode();
+    doReturn(content).when(serverResponse).getContentInByteBuf();
+    serverResponseFuture.complete(serverResponse);
+
+    PortableHttpResponse leaderResponse = leaderFuture.get();
+    PortableHttpResponse followerResponse = followerFuture.get();
+    Assert.assertEquals(leaderResponse.getStatusCode(), 200);
+    Assert.assertEquals(followerResponse.getStatusCode(), 200);
+    Assert.assertEquals(followerResponse.getContentInByteBuf(), content);
+    Assert.assertEquals(content.refCnt(), 2);
+    leaderResponse.discard();
+    Assert.assertEquals(content.refCnt(), 1);
+    followerResponse.getContentInByteBuf().release();
+    Assert.assertEquals(content.refCnt(), 0);
+
+    Assert.assertEquals(coalescer.getInFlightRequestCount(), 0);
+  }
+
+  @Test
+  public void testRetryAndFailure() throws Exception {
+    AggRouterHttpRequestStats stats = mock(AggRouterHttpRequestStats.class);
+    SingleGetRequestCoalescer coalescer =
+        new SingleGetRequestCoalescer(Collections.singletonList(STORE_NAME), getRouterStats(stats));
+    Assert.assertFalse(coalescer.isCoalescingEnabled(getPath("key", true)));
+    VenicePath pathOfOtherStore = getPath("key", false);
+    doReturn("other_store").when(pathOfOtherStore).getStoreName();
+    Assert.assertFalse(coalescer.isCoalescingEnabled(pathOfOtherStore));
+
+    Instance storageNode = new Instance("host1_1234", "host1", 1234);
+    CompletableFuture<PortableHttpResponse> serverResponseFuture = new CompletableFuture<>();
+    CompletableFuture<PortableHttpResponse> leaderFuture =
+        coalescer.sendRequest(getPath("key", false), storageNode, () -> serverResponseFuture);
+    CompletableFuture<PortableHttpResponse> followerFuture =
+        coalescer.sendRequest(getPath("key", false), storageNode, () -> serverResponseFuture);
+    serverResponseFuture.completeExceptionally(new RuntimeException("test"));
+    // The follower fails the same way as the leader, which will trigger its own error retry.
+    Assert.assertTrue(leaderFuture.isCompletedExceptionally());
+    Assert.assertTrue(followerFuture.isCompletedExceptionally());
+
+    // The completed request won't be joined.
+    CompletableFuture<PortableHttpResponse> newServerResponseFuture = new CompletableFuture<>();
+    CompletableFuture<PortableHttpResponse> newResponseFuture =
+        coalescer.sendRequest(getPath("key", false), storageNode, () -> newServerResponseFuture);
+    Assert.assertFalse(newResponseFuture.isDone());
+  }
+}
@@ -1,6 +1,7 @@
 package com.linkedin.venice.router.api;
 
 import static com.linkedin.venice.router.api.VeniceMultiKeyRoutingStrategy.HELIX_ASSISTED_ROUTING;
+import static com.linkedin.venice.router.api.VeniceMultiKeyRoutingStrategy.LATENCY_AWARE_ROUTING;
 import static com.linkedin.venice.router.api.VeniceMultiKeyRoutingStrategy.LEAST_LOADED_ROUTING;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyInt;
@@ -757,4 +758,69 @@ public class TestVeniceDelegateMode {
     requests = finalScatter.getOnlineRequests();
     Assert.assertEquals(requests.size(), 1);
   }
+
+  @Test
+  public void testLatencyAwareRoutingAvoidsSlowHost() throws RouterException {
+    String storeName = Utils.getUniqueString("test_store");
+    String resourceName = storeName + "_v1";
+    List<RouterKey> keys = new ArrayList<>();
+    Map<RouterKey, String> keyPartitionMap = new HashMap<>();
+    Map<String, List<Instance>> partitionInstanceMap = new HashMap<>();
+    Instance slowInstance = new Instance("host1_123", "host1", 123);
+    Instance fastInstance = new Instance("host2_123", "host2", 123);
+    for (int i = 1; i <= 3; ++i) {
+      RouterKey key = new RouterKey(("key_" + i).getBytes());
+      key.setPartitionId(i);
+      keys.add(key);
+      String partitionName = HelixUtils.getPartitionName(resourceName, i);
+      keyPartitionMap.put(key, partitionName);
+      List<Instance> instanceList = new ArrayList<>();
+      instanceList.add(slowInstance);
+      instanceList.add(fastInstance);
+      partitionInstanceMap.put(partitionName, instanceList);
+    }
+    RouteHttpRequestStats routeHttpRequestStats = mock(RouteHttpRequestStats.class);
+    doReturn(100d).when(routeHttpRequestStats).getResponseLatency(slowInstance.getNodeId());
+    doReturn(1d).when(routeHttpRequestStats).getResponseLatency(fastInstance.getNodeId());
+    // The fast host is busier, but not enough to offset the latency of the slow host.
+    doReturn(10L).when(routeHttpRequestStats).getPendingRequestCount(fastInstance.getNodeId());
+
+    VeniceRouterConfig config = mock(VeniceRouterConfig.class);
+    doReturn(LATENCY_AWARE_ROUTING).when(config).getMultiKeyRoutingStrategy();
+    VeniceDelegateMode scatterMode = new VeniceDelegateMode(config, mock(RouterStats.class), routeHttpRequestStats);
+    scatterMode.initReadRequestThrottler(getReadRequestThrottle(false));
+
+    RouterKey singleGetKey = keys.get(0);
+    VenicePath singleGetPath =
+        getVenicePath(resourceName, RequestType.SINGLE_GET, Collections.singletonList(singleGetKey));
+    Scatter<Instance, VenicePath, RouterKey> finalScatter = scatterMode.scatter(
+        new Scatter(singleGetPath, getPathParser(), VeniceRole.REPLICA),
+        HttpMethod.GET.name(),
+        resourceName,
+        getPartitionFinder(keyPartitionMap),
+        getHostFinder(partitionInstanceMap),
+        getHostHealthMonitor(),
+        VeniceRole.REPLICA,
+        new Metrics());
+    Collection<ScatterGatherRequest<Instance, RouterKey>> requests = finalScatter.getOnlineRequests();
+    Assert.assertEquals(requests.size(), 1);
+    Assert.assertEquals(requests.iterator().next().getHosts(), Collections.singletonList(fastInstance));
+
+    // Multi-get routes all the keys of a partition to the faster replica.
+    VenicePath path = getVenicePath(resourceName, RequestType.MULTI_GET, keys);
+    finalScatter = scatterMode.scatter(
+        new Scatter(path, getPathParser(), VeniceRole.REPLICA),
+        HttpMethod.POST.name(),
+        resourceName,
+        getPartitionFinder(keyPartitionMap),
+        getHostFinder(partitionInstanceMap),
+        getHostHealthMonitor(),
+        VeniceRole.REPLICA,
+        new Metrics());
+    requests = finalScatter.getOnlineRequests();
+    Assert.assertEquals(requests.size(), 1);
+    ScatterGatherRequest<Instance, RouterKey> request = requests.iterator().next();
+    Assert.assertEquals(request.getHosts(), Collections.singletonList(fastInstance));
+    Assert.assertEquals(request.getPartitionKeys().size(), 3);
+  }
 }
@@ -0,0 +1,95 @@
+package com.linkedin.venice.router.api;
+
+import static org.mockito.Mockito.anyDouble;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.router.VeniceRouterConfig;
+import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
+import com.linkedin.venice.router.stats.RouterStats;
+import io.netty.handler.codec.http.HttpMethod;
+import java.util.Arrays;
+import java.util.TreeMap;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestVeniceLongTailRetrySupplier {
+  private static final String STORE_NAME = "test_store";
+
+  private VeniceRouterConfig getConfig(boolean adaptive) {
+    VeniceRouterConfig config = mock(VeniceRouterConfig.class);
+    doReturn(15).when(config).getLongTailRetryForSingleGetThresholdMs();
+    TreeMap<Integer, Integer> batchGetThresholds = new TreeMap<>();
+    batchGetThresholds.put(1, 50);
+    batchGetThresholds.put(100, 200);
+    doReturn(batchGetThresholds).when(config).getLongTailRetryForBatchGetThresholdMs();
+    doReturn(adaptive).when(config).isAdaptiveLongTailRetryEnabled();
+    doReturn(95d).when(config).getAdaptiveLongTailRetryPercentile();
+    doReturn(2).when(config).getAdaptiveLongTailRetryMinThresholdMs();
+    doReturn(100).when(config).getAdaptiveLongTailRetryMaxThresholdMs();
+    return config;
+  }
+
+  private VenicePath getPath(RequestType requestType, int keyCount) {
+    VenicePath path = mock(VenicePath.class);
+    doReturn(STORE_NAME).when(path).getStoreName();
+    doReturn(requestType).when(path).getRequestType();
+    doReturn(Arrays.asList(new RouterKey[keyCount])).when(path).getPartitionKeys();
+    return path;
+  }
+
+  @Test
+  public void testStaticThreshold() throws Exception {
+    RouterStats<AggRouterHttpRequestStats> routerStats = mock(RouterStats.class);
+    VeniceLongTailRetrySupplier supplier = new VeniceLongTailRetrySupplier(getConfig(false), routerStats);
+
+    VenicePath singleGetPath = getPath(RequestType.SINGLE_GET, 1);
+    Assert.assertEquals(
+        supplier.getLongTailRetryMilliseconds(singleGetPath, HttpMethod.GET.name()).get().getAsLong(),
+        15);
+    verify(singleGetPath).setLongTailRetryThresholdMs(15);
+
+    VenicePath multiGetPath = getPath(RequestType.MULTI_GET, 150);
+    Assert.assertEquals(
+        supplier.getLongTailRetryMilliseconds(multiGetPath, HttpMethod.POST.name()).get().getAsLong(),
+        200);
+    verify(multiGetPath).setLongTailRetryThresholdMs(200);
+  }
+
+  @Test
+  public void testAdaptiveThreshold() throws Exception {
+    RouterStats<AggRouterHttpRequestStats> routerStats = mock(RouterStats.class);
+    AggRouterHttpRequestStats singleGetStats = mock(AggRouterHttpRequestStats.class);
+    AggRouterHttpRequestStats multiGetStats = mock(AggRouterHttpRequestStats.class);
+    doReturn(singleGetStats).when(routerStats).getStatsByType(RequestType.SINGLE_GET);
+    doReturn(multiGetStats).when(routerStats).getStatsByType(RequestType.MULTI_GET);
+    VeniceLongTailRetrySupplier supplier = new VeniceLongTailRetrySupplier(getConfig(true), routerStats);
+
+    // Live p95 latency within the bounds
+    doReturn(7.3d).when(singleGetStats).getResponseWaitingTimePercentile(eq(STORE_NAME), anyDouble());
+    VenicePath singleGetPath = getPath(RequestType.SINGLE_GET, 1);
+    Assert.assertEquals(
+        supplier.getLongTailRetryMilliseconds(singleGetPath, HttpMethod.GET.name()).get().getAsLong(),
+        8);
+    verify(singleGetPath).setLongTailRetryThresholdMs(8);
+    verify(singleGetStats).recordLongTailRetryThreshold(STORE_NAME, 8d);
+
+    // Live p95 latency above the max threshold
+    doReturn(500d).when(multiGetStats).getResponseWaitingTimePercentile(eq(STORE_NAME), anyDouble());
+    VenicePath multiGetPath = getPath(RequestType.MULTI_GET, 10);
+    Assert.assertEquals(
+        supplier.getLongTailRetryMilliseconds(multiGetPath, HttpMethod.POST.name()).get().getAsLong(),
+        100);
+
+    // Not enough samples, so the static threshold will be used.
+    doReturn(-1d).when(multiGetStats).getResponseWaitingTimePercentile(eq(STORE_NAME), anyDouble());
+    Assert.assertEquals(
+        supplier.getLongTailRetryMilliseconds(multiGetPath, HttpMethod.POST.name()).get().getAsLong(),
+        50);
+  }
+}
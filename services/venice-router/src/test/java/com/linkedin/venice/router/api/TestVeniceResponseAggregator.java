@@ -341,4 +341,101 @@ public class TestVeniceResponseAggregator {
         routerResponse.headers().get(VENICE_COMPRESSION_STRATEGY),
         String.valueOf(CompressionStrategy.NO_OP.getValue()));
   }
+
+  @Test
+  public void testZeroCopyAggregationForMultiGet() {
+    String storeName = Utils.getUniqueString("test_store");
+    Map<String, String> headers = new HashMap<>();
+    headers.put(HttpHeaderNames.CONTENT_TYPE.toString(), "avro/binary");
+    headers.put(HttpConstants.VENICE_SCHEMA_ID, "1");
+    RouterStats<AggRouterHttpRequestStats> routerStats = mock(RouterStats.class);
+    VeniceResponseAggregator responseAggregator =
+        new VeniceResponseAggregator(routerStats, Optional.empty()).withZeroCopyAggregation(true);
+
+    // More sub-responses than the default max components of a composite buffer, and every one of them is a composite.
+    int responseCount = 20;
+    List<FullHttpResponse> responses = new ArrayList<>();
+    List<ByteBuf> contents = new ArrayList<>();
+    for (int i = 0; i < responseCount; i++) {
+      ByteBuf content1 = Unpooled.wrappedBuffer(getResponseContentWithSchemaString("value_" + i + "_1"));
+      ByteBuf content2 = Unpooled.wrappedBuffer(getResponseContentWithSchemaString("value_" + i + "_2"));
+      contents.add(content1);
+      contents.add(content2);
+      FullHttpResponse response = new DefaultFullHttpResponse(
+          HttpVersion.HTTP_1_1,
+          OK,
+          Unpooled.compositeBuffer().addComponents(true, content1, content2));
+      headers.forEach((k, v) -> response.headers().add(k, v));
+      responses.add(response);
+    }
+
+    FullHttpResponse finalResponse = responseAggregator.processMultiGetResponses(responses, storeName, 1);
+    Assert.assertEquals(finalResponse.status(), OK);
+    CompositeByteBuf finalContent = (CompositeByteBuf) finalResponse.content();
+    // The sub-responses are spliced by reference without being consolidated.
+    Assert.assertEquals(finalContent.numComponents(), responseCount * 2);
+    for (int i = 0; i < contents.size(); i++) {
+      Assert.assertSame(finalContent.internalComponent(i).array(), contents.get(i).array());
+    }
+    byte[] finalBytes = new byte[finalContent.readableBytes()];
+    finalContent.getBytes(finalContent.readerIndex(), finalBytes);
+    int count = 0;
+    for (CharSequence value: deserializeResponse(finalBytes)) {
+      Assert.assertEquals(value.toString(), "value_" + count / 2 + "_" + (count % 2 + 1));
+      count++;
+    }
+    Assert.assertEquals(count, responseCount * 2);
+    finalResponse.release();
+    contents.forEach(content -> Assert.assertEquals(content.refCnt(), 0));
+
+    // The sub-responses which won't be returned are released if any sub-response fails.
+    FullHttpResponse okResponse = buildFullHttpResponse(OK, getResponseContentWithSchemaString("value"), headers);
+    FullHttpResponse errorResponse = buildFullHttpResponse(NOT_FOUND, new byte[0], headers);
+    FullHttpResponse routerResponse =
+        responseAggregator.processMultiGetResponses(Arrays.asList(okResponse, errorResponse), storeName, 1);
+    Assert.assertSame(routerResponse, errorResponse);
+    Assert.assertEquals(okResponse.refCnt(), 0);
+    Assert.assertEquals(errorResponse.refCnt(), 1);
+  }
+
+  @Test
+  public void testDiscardedResponsesAreReleased() {
+    String storeName = Utils.getUniqueString("test_store");
+    Map<String, String> headers = new HashMap<>();
+    headers.put(HttpHeaderNames.CONTENT_TYPE.toString(), "avro/binary");
+    headers.put(HttpConstants.VENICE_SCHEMA_ID, "1");
+    RouterStats<AggRouterHttpRequestStats> routerStats = mock(RouterStats.class);
+    // The sub-responses are released regardless of the aggregation mode.
+    VeniceResponseAggregator responseAggregator = new VeniceResponseAggregator(routerStats, Optional.empty());
+
+    // An error sub-response is returned as is.
+    FullHttpResponse okResponse = buildFullHttpResponse(OK, getResponseContentWithSchemaString("value"), headers);
+    FullHttpResponse errorResponse = buildFullHttpResponse(NOT_FOUND, new byte[0], headers);
+    FullHttpResponse routerResponse =
+        responseAggregator.processComputeResponses(Arrays.asList(okResponse, errorResponse), storeName);
+    Assert.assertSame(routerResponse, errorResponse);
+    Assert.assertEquals(okResponse.refCnt(), 0);
+    Assert.assertEquals(errorResponse.refCnt(), 1);
+
+    // Inconsistent headers.
+    Map<String, String> otherHeaders = new HashMap<>(headers);
+    otherHeaders.put(HttpConstants.VENICE_SCHEMA_ID, "2");
+    FullHttpResponse response1 = buildFullHttpResponse(OK, getResponseContentWithSchemaString("value1"), headers);
+    FullHttpResponse response2 = buildFullHttpResponse(OK, getResponseContentWithSchemaString("value2"), otherHeaders);
+    Assert.assertThrows(
+        VeniceException.class,
+        () -> responseAggregator.processMultiGetResponses(Arrays.asList(response1, response2), storeName, 1));
+    Assert.assertEquals(response1.refCnt(), 0);
+    Assert.assertEquals(response2.refCnt(), 0);
+
+    // Inconsistent compression.
+    FullHttpResponse response3 = buildFullHttpResponse(OK, getResponseContentWithSchemaString("value3"), headers);
+    FullHttpResponse response4 = buildFullHttpResponse(OK, getResponseContentWithSchemaString("value4"), headers);
+    response4.headers().set(VENICE_COMPRESSION_STRATEGY, CompressionStrategy.GZIP.getValue());
+    Assert.assertThrows(
+        VeniceException.class,
+        () -> responseAggregator.processMultiGetResponses(Arrays.asList(response3, response4), storeName, 1));
+    Assert.assertEquals(response3.refCnt(), 0);
+    Assert.assertEquals(response4.refCnt(), 0);
+  }
 }
@@ -2,18 +2,33 @@ package com.linkedin.venice.router.api;
 
 import static com.linkedin.venice.HttpConstants.VENICE_SUPPORTED_COMPRESSION_STRATEGY;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyDouble;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 import com.linkedin.alpini.netty4.misc.BasicFullHttpRequest;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.CompressorFactory;
+import com.linkedin.venice.compression.VeniceCompressor;
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
 import com.linkedin.venice.router.stats.RouterStats;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpVersion;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -120,4 +135,62 @@ public class TestVeniceResponseDecompressor {
       Assert.assertEquals(result.getCompressionStrategy(), CompressionStrategy.NO_OP);
     }
   }
+
+  /**
+   * The multi-get response from the storage node could be a direct buffer, and the decompression should record the
+   * time spent in every stage. The decompressed records are serialized into a buffer of the same allocator.
+   */
+  @Test
+  public void testRouterDecompressesMultiGetRecordsInDirectBuffer() throws IOException {
+    BasicFullHttpRequest request = new BasicFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.GET,
+        "storage/ZstdThreeStringFieldWithPrefix/ApqFzqwN?f=b64",
+        System.currentTimeMillis(),
+        100000);
+
+    RouterStats<AggRouterHttpRequestStats> routerStats = mock(RouterStats.class);
+    AggRouterHttpRequestStats stats = mock(AggRouterHttpRequestStats.class);
+    doReturn(stats).when(routerStats).getStatsByType(any());
+    RouterExceptionAndTrackingUtils.setRouterStats(routerStats);
+
+    try (CompressorFactory compressorFactory = new CompressorFactory()) {
+      VeniceCompressor compressor = compressorFactory.getCompressor(CompressionStrategy.GZIP);
+      int recordCount = 10;
+      List<MultiGetResponseRecordV1> records = new ArrayList<>();
+      for (int i = 0; i < recordCount; i++) {
+        MultiGetResponseRecordV1 record = new MultiGetResponseRecordV1();
+        record.keyIndex = i;
+        record.schemaId = 1;
+        record.value = ByteBuffer.wrap(compressor.compress(("value_" + i).getBytes(StandardCharsets.UTF_8)));
+        records.add(record);
+      }
+      byte[] serializedRecords =
+          SerializerDeserializerFactory.getAvroGenericSerializer(MultiGetResponseRecordV1.getClassSchema())
+              .serializeObjects(records);
+      ByteBuf content =
+          PooledByteBufAllocator.DEFAULT.directBuffer(serializedRecords.length).writeBytes(serializedRecords);
+
+      VeniceResponseDecompressor responseDecompressor =
+          new VeniceResponseDecompressor(true, routerStats, request, "test-store", 1, compressorFactory);
+      ContentDecompressResult result =
+          responseDecompressor.decompressMultiGetContent(CompressionStrategy.GZIP, content);
+      Assert.assertEquals(result.getCompressionStrategy(), CompressionStrategy.NO_OP);
+      Assert.assertEquals(content.refCnt(), 0);
+      Assert.assertSame(result.getContent().alloc(), PooledByteBufAllocator.DEFAULT);
+
+      RecordDeserializer<MultiGetResponseRecordV1> deserializer =
+          SerializerDeserializerFactory.getAvroSpecificDeserializer(MultiGetResponseRecordV1.class);
+      List<MultiGetResponseRecordV1> decompressedRecords = new ArrayList<>();
+      deserializer.deserializeObjects(ByteBufUtil.getBytes(result.getContent())).forEach(decompressedRecords::add);
+      Assert.assertEquals(decompressedRecords.size(), recordCount);
+      for (int i = 0; i < recordCount; i++) {
+        Assert.assertEquals(decompressedRecords.get(i).keyIndex, i);
+        String value = StandardCharsets.UTF_8.decode(decompressedRecords.get(i).value).toString();
+        Assert.assertEquals(value, "value_" + i);
+      }
+      verify(stats).recordDecompressionStageTime(eq("test-store"), anyDouble(), anyDouble(), anyDouble());
+      Assert.assertTrue(result.getContent().release());
+    }
+  }
 }
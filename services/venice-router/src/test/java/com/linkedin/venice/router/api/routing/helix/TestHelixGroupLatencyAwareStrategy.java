@@ -0,0 +1,69 @@
+package com.linkedin.venice.router.api.routing.helix;
+
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyLong;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.alpini.base.concurrency.TimeoutProcessor;
+import com.linkedin.venice.utils.TestMockTime;
+import java.util.concurrent.TimeUnit;
+import org.mockito.ArgumentCaptor;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestHelixGroupLatencyAwareStrategy {
+  @Test
+  public void testSelectGroup() {
+    TimeoutProcessor timeoutProcessor = mock(TimeoutProcessor.class);
+    doReturn(mock(TimeoutProcessor.TimeoutFuture.class)).when(timeoutProcessor).schedule(any(), anyLong(), any());
+    TestMockTime time = new TestMockTime();
+    HelixGroupLatencyAwareStrategy strategy = new HelixGroupLatencyAwareStrategy(timeoutProcessor, 10000, time);
+    int groupNum = 2;
+
+    int slowGroup = strategy.selectGroup(0, groupNum);
+    int fastGroup = 1 - slowGroup;
+    time.addMilliseconds(100);
+    strategy.finishRequest(0, slowGroup);
+    Assert.assertEquals(strategy.getGroupLatency(slowGroup), 100d);
+    // The group without any latency sample is preferred.
+    Assert.assertEquals(strategy.selectGroup(1, groupNum), fastGroup);
+    time.addMilliseconds(1);
+    strategy.finishRequest(1, fastGroup);
+
+    // The pending requests are not enough to offset the latency of the slow group.
+    for (int i = 2; i < 12; ++i) {
+      Assert.assertEquals(strategy.selectGroup(i, groupNum), fastGroup);
+    }
+    Assert.assertEquals(strategy.getMaxGroupPendingRequest(), 10);
+    Assert.assertEquals(strategy.getMinGroupPendingRequest(), 0);
+    Assert.assertEquals(strategy.getAvgGroupPendingRequest(), 5);
+
+    // Without any new sample, the latency of the slow group decays, so it will be probed again.
+    time.addMilliseconds(TimeUnit.SECONDS.toMillis(5));
+    Assert.assertTrue(strategy.getGroupLatency(slowGroup) < 1, "Latency: " + strategy.getGroupLatency(slowGroup));
+    Assert.assertEquals(strategy.selectGroup(12, groupNum), slowGroup);
+  }
+
+  @Test
+  public void testTimedOutRequestIsRecordedAsSlow() {
+    TimeoutProcessor timeoutProcessor = mock(TimeoutProcessor.class);
+    doReturn(mock(TimeoutProcessor.TimeoutFuture.class)).when(timeoutProcessor).schedule(any(), anyLong(), any());
+    HelixGroupLatencyAwareStrategy strategy =
+        new HelixGroupLatencyAwareStrategy(timeoutProcessor, 10000, new TestMockTime());
+
+    int groupId = strategy.selectGroup(0, 2);
+    ArgumentCaptor<Runnable> timeoutTaskCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(timeoutProcessor).schedule(timeoutTaskCaptor.capture(), anyLong(), any());
+    timeoutTaskCaptor.getValue().run();
+
+    Assert.assertEquals(strategy.getMaxGroupPendingRequest(), 0);
+    Assert.assertEquals(strategy.getGroupLatency(groupId), 10000d);
+    // Finishing a timed out request is a no-op.
+    strategy.finishRequest(0, groupId);
+    Assert.assertEquals(strategy.getMinGroupPendingRequest(), 0);
+    Assert.assertEquals(strategy.selectGroup(1, 2), 1 - groupId);
+  }
+}
@@ -0,0 +1,209 @@
+package com.linkedin.venice.router.httpclient;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.alpini.netty4.handlers.HttpClientResponseHandler;
+import com.linkedin.alpini.netty4.pool.ChannelPoolManager;
+import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.router.VeniceRouterConfig;
+import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.tehuti.MockTehutiReporter;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.tehuti.metrics.MetricsRepository;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+public class TestNettyStorageNodeClient {
+  private static final Instance STORAGE_NODE = new Instance("localhost_1234", "localhost", 1234);
+  private static final String HOST_AND_PORT = "localhost:1234";
+
+  private EmbeddedChannel channel;
+  private ChannelPoolManager channelPoolManager;
+  private MetricsRepository metricsRepository;
+  private MockTehutiReporter reporter;
+
+  @BeforeMethod
+  public void setUp() {
+    channel = new EmbeddedChannel(new HttpClientResponseHandler());
+    channelPoolManager = mock(ChannelPoolManager.class);
+    doReturn(channel.eventLoop().newSucceededFuture(channel)).when(channelPoolManager)
+        .acquire(eq(HOST_AND_PORT), anyString(), any());
+    metricsRepository = new MetricsRepository();
+    reporter = new MockTehutiReporter();
+    metricsRepository.addReporter(reporter);
+  }
+
+  @AfterMethod
+  public void cleanUp() {
+    channel.finishAndReleaseAll();
+  }
+
+  private NettyStorageNodeClient createClient(int socketTimeout) {
+    VeniceRouterConfig routerConfig = mock(VeniceRouterConfig.class);
+    doReturn(socketTimeout).when(routerConfig).getSocketTimeout();
+    return new NettyStorageNodeClient(routerConfig, false, channelPoolManager, metricsRepository);
+  }
+
+  private VenicePath createPath() {
+    VenicePath path = mock(VenicePath.class);
+    doReturn(HttpMethod.POST).when(path).getHttpMethod();
+    doReturn("storage/test_store_v1").when(path).getLocation();
+    doReturn(Optional.of("body".getBytes())).when(path).getBody();
+    return path;
+  }
+
+  private CompletableFuture<PortableHttpResponse> query(NettyStorageNodeClient client) {
+    CompletableFuture<PortableHttpResponse> responseFuture = new CompletableFuture<>();
+    client.query(
+        STORAGE_NODE,
+        createPath(),
+        responseFuture::complete,
+        responseFuture::completeExceptionally,
+        () -> responseFuture.cancel(false),
+        System.nanoTime());
+    return responseFuture;
+  }
+
+  @Test
+  public void testResponseContentIsHandedOverWithoutCopy() throws Exception {
+    NettyStorageNodeClient client = createClient(0);
+    CompletableFuture<PortableHttpResponse> responseFuture = query(client);
+
+    FullHttpRequest request = channel.readOutbound();
+    Assert.assertEquals(request.method(), HttpMethod.POST);
+    Assert.assertEquals(request.uri(), "/storage/test_store_v1");
+    Assert.assertEquals(request.headers().get(HttpHeaderNames.HOST), HOST_AND_PORT);
+    Assert.assertEquals(request.content().toString(StandardCharsets.UTF_8), "body");
+    request.release();
+
+    ByteBuf firstPart = PooledByteBufAllocator.DEFAULT.buffer().writeBytes("first".getBytes());
+    ByteBuf secondPart = PooledByteBufAllocator.DEFAULT.buffer().writeBytes("second".getBytes());
+    HttpResponse response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
+    response.headers().set(HttpHeaderNames.CONTENT_TYPE, "test");
+    channel.writeInbound(response, new DefaultHttpContent(firstPart), new DefaultLastHttpContent(secondPart));
+
+    PortableHttpResponse portableResponse = responseFuture.getNow(null);
+    Assert.assertNotNull(portableResponse);
+    Assert.assertEquals(portableResponse.getStatusCode(), 200);
+    Assert.assertEquals(portableResponse.getFirstHeader(HttpHeaderNames.CONTENT_TYPE.toString()), "test");
+    ByteBuf content = portableResponse.getContentInByteBuf();
+    Assert.assertEquals(content.toString(StandardCharsets.UTF_8), "firstsecond");
+    // The received buffers are only retained by the response content.
+    Assert.assertEquals(firstPart.refCnt(), 1);
+    Assert.assertEquals(secondPart.refCnt(), 1);
+    // The content has been handed over, so discarding the response doesn't release it.
+    portableResponse.discard();
+    Assert.assertEquals(firstPart.refCnt(), 1);
+    content.release();
+    Assert.assertEquals(firstPart.refCnt(), 0);
+    Assert.assertEquals(secondPart.refCnt(), 0);
+
+    verify(channelPoolManager).release(channel);
+    Assert.assertTrue(channel.isOpen());
+  }
+
+  @Test
+  public void testDiscardedResponseIsReleased() {
+    NettyStorageNodeClient client = createClient(0);
+    CompletableFuture<PortableHttpResponse> responseFuture = query(client);
+    ((FullHttpRequest) channel.readOutbound()).release();
+
+    ByteBuf body = PooledByteBufAllocator.DEFAULT.buffer().writeBytes("value".getBytes());
+    channel.writeInbound(
+        new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.SERVICE_UNAVAILABLE),
+        new DefaultLastHttpContent(body));
+    responseFuture.getNow(null).discard();
+    Assert.assertEquals(body.refCnt(), 0);
+  }
+
+  @Test
+  public void testRequestTimeout() throws Exception {
+    NettyStorageNodeClient client = createClient(10);
+    CompletableFuture<PortableHttpResponse> responseFuture = query(client);
+    ((FullHttpRequest) channel.readOutbound()).release();
+
+    Thread.sleep(50);
+    channel.runScheduledPendingTasks();
+    Assert.assertTrue(responseFuture.isCompletedExceptionally());
+    try {
+      responseFuture.getNow(null);
+      Assert.fail("The request should have timed out");
+    } catch (Exception e) {
+      Assert.assertTrue(e.getCause() instanceof TimeoutException, "Unexpected exception: " + e);
+    }
+    // The HTTP/1.1 connection is left in an unknown state, so it must not be reused.
+    Assert.assertFalse(channel.isOpen());
+    verify(channelPoolManager, timeout(1000)).release(channel);
+  }
+
+  @Test
+  public void testAcquireFailure() {
+    doReturn(channel.eventLoop().newFailedFuture(new IllegalStateException("Too many pending acquires")))
+        .when(channelPoolManager)
+        .acquire(eq(HOST_AND_PORT), anyString(), any());
+    NettyStorageNodeClient client = createClient(0);
+    CompletableFuture<PortableHttpResponse> responseFuture = query(client);
+    Assert.assertTrue(responseFuture.isCompletedExceptionally());
+    Assert.assertNull(channel.readOutbound());
+  }
+
+  @Test
+  public void testMetaDataRequestContentIsCopied() throws Exception {
+    NettyStorageNodeClient client = createClient(0);
+    CompletableFuture<PortableHttpResponse> responseFuture = new CompletableFuture<>();
+    client.sendRequest(new VeniceMetaDataRequest(STORAGE_NODE, "health?store=test", "GET", false), responseFuture);
+
+    FullHttpRequest request = channel.readOutbound();
+    Assert.assertEquals(request.method(), HttpMethod.GET);
+    Assert.assertEquals(request.uri(), "/health?store=test");
+    request.release();
+
+    ByteBuf body = PooledByteBufAllocator.DEFAULT.buffer().writeBytes("OK".getBytes());
+    channel.writeInbound(
+        new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK),
+        new DefaultLastHttpContent(body));
+    Assert.assertEquals(body.refCnt(), 0);
+    Assert.assertEquals(
+        responseFuture.getNow(null).getContentInByteBuf(),
+        Unpooled.wrappedBuffer("OK".getBytes()));
+  }
+
+  @Test
+  public void testPerHostStats() {
+    ChannelPoolManager.PoolStats poolStats = mock(ChannelPoolManager.PoolStats.class);
+    doReturn(2).when(poolStats).openConnections();
+    doReturn(5L).when(poolStats).totalActiveStreamCounts();
+    doReturn(Optional.of(poolStats)).when(channelPoolManager).getPoolStats(HOST_AND_PORT);
+    NettyStorageNodeClient client = createClient(0);
+    query(client);
+
+    String metricPrefix = ".storage_node_channel_pool_localhost_1234--";
+    Assert.assertEquals(reporter.query(metricPrefix + "open_connection_count.Gauge").value(), 2d);
+    Assert.assertEquals(reporter.query(metricPrefix + "active_stream_count.Gauge").value(), 5d);
+  }
+}
@@ -0,0 +1,73 @@
+package com.linkedin.venice.router.throttle;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class AdaptiveConcurrencyLimiterTest {
+  private void runFullLoad(AdaptiveConcurrencyLimiter limiter, double latencyMs, int rounds) {
+    for (int round = 0; round < rounds; ++round) {
+      int acquired = 0;
+      while (limiter.tryAcquire()) {
+        ++acquired;
+      }
+      for (int i = 0; i < acquired; ++i) {
+        limiter.release(latencyMs, false);
+      }
+    }
+  }
+
+  @Test
+  public void testInFlightRequestsAreCappedByLimit() {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 5, 100);
+    for (int i = 0; i < 10; ++i) {
+      Assert.assertTrue(limiter.tryAcquire());
+    }
+    Assert.assertFalse(limiter.tryAcquire());
+    Assert.assertEquals(limiter.getInFlightCount(), 10);
+
+    limiter.release(10, false);
+    Assert.assertEquals(limiter.getInFlightCount(), 9);
+    Assert.assertTrue(limiter.tryAcquire());
+  }
+
+  @Test
+  public void testLimitAdaptsToLatency() {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 5, 100);
+    // The limit keeps growing while the latency is stable.
+    runFullLoad(limiter, 10, 20);
+    int limitWithStableLatency = limiter.getLimit();
+    Assert.assertTrue(limitWithStableLatency > 10, "Limit: " + limitWithStableLatency + " should grow");
+
+    // The limit shrinks once the storage node becomes slow.
+    runFullLoad(limiter, 100, 5);
+    int limitWithHighLatency = limiter.getLimit();
+    Assert.assertTrue(
+        limitWithHighLatency < limitWithStableLatency,
+        "Limit: " + limitWithHighLatency + " should shrink from: " + limitWithStableLatency);
+
+    // The limit is bounded.
+    runFullLoad(limiter, 10, 200);
+    Assert.assertEquals(limiter.getLimit(), 100);
+  }
+
+  @Test
+  public void testLimitBacksOffOnDroppedRequest() {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(50, 5, 100);
+    for (int i = 0; i < 200; ++i) {
+      Assert.assertTrue(limiter.tryAcquire());
+      limiter.release(10, true);
+    }
+    Assert.assertEquals(limiter.getLimit(), 5);
+  }
+
+  @Test
+  public void testLimitIsUnchangedWhenUnderUtilized() {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(50, 5, 100);
+    for (int i = 0; i < 100; ++i) {
+      Assert.assertTrue(limiter.tryAcquire());
+      limiter.release(i % 2 == 0 ? 10 : 1000, false);
+    }
+    Assert.assertEquals(limiter.getLimit(), 50);
+  }
+}
@@ -0,0 +1,41 @@
+package com.linkedin.venice.router.throttle;
+
+import com.linkedin.venice.utils.TestMockTime;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class RetryBudgetTest {
+  @Test
+  public void testRetryIsCappedByRequestRatio() {
+    TestMockTime time = new TestMockTime();
+    RetryBudget retryBudget = new RetryBudget(0.1, time);
+    long minRetryCount = RetryBudget.MIN_RETRY_PER_SECOND * RetryBudget.WINDOW_MS / 1000;
+    for (int i = 0; i < 1000; ++i) {
+      retryBudget.recordRequest();
+    }
+    // 10% of the requests plus the minimal retries
+    for (int i = 0; i < 100 + minRetryCount; ++i) {
+      Assert.assertTrue(retryBudget.tryAcquireRetry(), "Retry: " + i + " should be allowed");
+    }
+    Assert.assertFalse(retryBudget.tryAcquireRetry());
+
+    // More requests bring more budget
+    for (int i = 0; i < 10; ++i) {
+      retryBudget.recordRequest();
+    }
+    Assert.assertTrue(retryBudget.tryAcquireRetry());
+    Assert.assertFalse(retryBudget.tryAcquireRetry());
+  }
+
+  @Test
+  public void testBudgetIsRestoredAfterWindow() {
+    TestMockTime time = new TestMockTime();
+    RetryBudget retryBudget = new RetryBudget(0.1, time);
+    while (retryBudget.tryAcquireRetry()) {
+      // Use up the budget without any request
+    }
+    time.addMilliseconds(RetryBudget.WINDOW_MS);
+    Assert.assertTrue(retryBudget.tryAcquireRetry());
+  }
+}
@@ -197,7 +197,8 @@ public class HttpChannelInitializer extends ChannelInitializer<SocketChannel> {
           new RouterRequestHttpHandler(
               statsHandler,
               serverConfig.isComputeFastAvroEnabled(),
-              serverConfig.getStoreToEarlyTerminationThresholdMSMap()));
+              serverConfig.getStoreToEarlyTerminationThresholdMSMap(),
+              serverConfig.isIncrementalSerdeEnabled()));
       if (quotaEnforcer != null) {
         pipeline.addLast(quotaEnforcer);
       }
@@ -6,6 +6,7 @@ import com.linkedin.davinci.stats.ThreadPoolStats;
 import com.linkedin.davinci.storage.DiskHealthCheckService;
 import com.linkedin.davinci.storage.MetadataRetriever;
 import com.linkedin.davinci.storage.StorageEngineRepository;
+import com.linkedin.davinci.store.cache.HotKeyValueCacheRepository;
 import com.linkedin.venice.acl.DynamicAccessController;
 import com.linkedin.venice.acl.StaticAccessController;
 import com.linkedin.venice.cleaner.ResourceReadUsageTracker;
@@ -66,7 +67,8 @@ public class ListenerService extends AbstractVeniceService {
       Optional<DynamicAccessController> storeAccessController,
       DiskHealthCheckService diskHealthService,
       StorageEngineBackedCompressorFactory compressorFactory,
-      Optional<ResourceReadUsageTracker> resourceReadUsageTracker) {
+      Optional<ResourceReadUsageTracker> resourceReadUsageTracker,
+      HotKeyValueCacheRepository hotKeyValueCacheRepository) {
 
     this.serverConfig = serverConfig;
     this.port = serverConfig.getListenerPort();
@@ -103,7 +105,8 @@ public class ListenerService extends AbstractVeniceService {
         serverConfig.isEnableParallelBatchGet(),
         serverConfig.getParallelBatchGetChunkSize(),
         compressorFactory,
-        resourceReadUsageTracker);
+        resourceReadUsageTracker,
+        hotKeyValueCacheRepository);
 
     HttpChannelInitializer channelInitializer = new HttpChannelInitializer(
         storeMetadataRepository,
@@ -201,7 +204,8 @@ public class ListenerService extends AbstractVeniceService {
       boolean parallelBatchGetEnabled,
       int parallelBatchGetChunkSize,
       StorageEngineBackedCompressorFactory compressorFactory,
-      Optional<ResourceReadUsageTracker> resourceReadUsageTracker) {
+      Optional<ResourceReadUsageTracker> resourceReadUsageTracker,
+      HotKeyValueCacheRepository hotKeyValueCacheRepository) {
     return new StorageReadRequestsHandler(
         executor,
         computeExecutor,
@@ -215,6 +219,7 @@ public class ListenerService extends AbstractVeniceService {
         parallelBatchGetChunkSize,
         serverConfig,
         compressorFactory,
-        resourceReadUsageTracker);
+        resourceReadUsageTracker,
+        hotKeyValueCacheRepository);
   }
 }
@@ -14,6 +14,8 @@ import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.listener.response.BinaryResponse;
 import com.linkedin.venice.listener.response.HttpShortcutResponse;
+import com.linkedin.venice.listener.response.MultiKeyResponseChunk;
+import com.linkedin.venice.listener.response.MultiKeyResponseWrapper;
 import com.linkedin.venice.utils.ExceptionUtils;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
@@ -21,8 +23,13 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelOutboundHandlerAdapter;
 import io.netty.channel.ChannelPromise;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
 import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpUtil;
 import java.nio.charset.StandardCharsets;
 
 
@@ -32,6 +39,10 @@ import java.nio.charset.StandardCharsets;
 
 public class OutboundHttpWrapperHandler extends ChannelOutboundHandlerAdapter {
   private final StatsHandler statsHandler;
+  /**
+   * Whether the headers and some chunks of a streaming response were written, but not its last chunk yet.
+   */
+  private boolean isChunkedResponseInProgress = false;
 
   public OutboundHttpWrapperHandler(StatsHandler handler) {
     super();
@@ -40,6 +51,10 @@ public class OutboundHttpWrapperHandler extends ChannelOutboundHandlerAdapter {
 
   @Override
   public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+    if (msg instanceof MultiKeyResponseChunk) {
+      writeResponseChunk(ctx, (MultiKeyResponseChunk) msg);
+      return;
+    }
     ByteBuf body;
     String contentType = HttpConstants.AVRO_BINARY;
     HttpResponseStatus responseStatus = OK;
@@ -51,6 +66,8 @@ public class OutboundHttpWrapperHandler extends ChannelOutboundHandlerAdapter {
       if (msg instanceof ReadResponse) {
         ReadResponse obj = (ReadResponse) msg;
         statsHandler.setDatabaseLookupLatency(obj.getDatabaseLookupLatency());
+        statsHandler.setStorageEngineBatchLookupLatency(obj.getStorageEngineBatchLookupLatency());
+        statsHandler.setStorageEngineBatchLookupCount(obj.getStorageEngineBatchLookupCount());
         statsHandler.setStorageExecutionHandlerSubmissionWaitTime(obj.getStorageExecutionHandlerSubmissionWaitTime());
         statsHandler.setStorageExecutionQueueLen(obj.getStorageExecutionQueueLen());
         statsHandler.setSuccessRequestKeyCount(obj.getRecordCount());
@@ -143,6 +160,22 @@ public class OutboundHttpWrapperHandler extends ChannelOutboundHandlerAdapter {
       statsHandler.setResponseStatus(responseStatus);
     }
 
+    if (isChunkedResponseInProgress) {
+      isChunkedResponseInProgress = false;
+      if (responseStatus.equals(OK)) {
+        // The remaining records of the streaming response
+        ctx.writeAndFlush(new DefaultLastHttpContent(body));
+      } else {
+        /**
+         * The status and the headers were already sent along with the first chunk, so the only way left to tell the
+         * router that the response is incomplete is to close the connection.
+         */
+        body.release();
+        ctx.close();
+      }
+      return;
+    }
+
     FullHttpResponse response = new DefaultFullHttpResponse(HTTP_1_1, responseStatus, body);
     response.headers().set(CONTENT_TYPE, contentType);
     response.headers().set(CONTENT_LENGTH, body.readableBytes());
@@ -160,4 +193,32 @@ public class OutboundHttpWrapperHandler extends ChannelOutboundHandlerAdapter {
      */
     ctx.writeAndFlush(response);
   }
+
+  /**
+   * The status and the headers of a streaming response are sent along with its first chunk, and the response is ended
+   * by the {@link MultiKeyResponseWrapper} carrying the remaining records, so the request is recorded by
+   * {@link StatsHandler} only once the whole response is written.
+   */
+  private void writeResponseChunk(ChannelHandlerContext ctx, MultiKeyResponseChunk chunk) {
+    statsHandler.setWritingResponseChunk(true);
+    try {
+      if (chunk.isFirstChunk()) {
+        MultiKeyResponseWrapper<?> obj = chunk.getResponse();
+        HttpResponse response = new DefaultHttpResponse(HTTP_1_1, OK);
+        response.headers().set(CONTENT_TYPE, HttpConstants.AVRO_BINARY);
+        response.headers().set(HttpConstants.VENICE_COMPRESSION_STRATEGY, obj.getCompressionStrategy().getValue());
+        response.headers().set(HttpConstants.VENICE_SCHEMA_ID, obj.getResponseSchemaIdHeader());
+        response.headers().set(HttpConstants.VENICE_REQUEST_RCU, obj.getRCU());
+        if (obj.isStreamingResponse()) {
+          response.headers().set(HttpConstants.VENICE_STREAMING_RESPONSE, "1");
+        }
+        HttpUtil.setTransferEncodingChunked(response, true);
+        ctx.write(response);
+        isChunkedResponseInProgress = true;
+      }
+      ctx.writeAndFlush(new DefaultHttpContent(chunk.getContent()));
+    } finally {
+      statsHandler.setWritingResponseChunk(false);
+    }
+  }
 }
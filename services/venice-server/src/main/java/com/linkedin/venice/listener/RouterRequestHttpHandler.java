@@ -38,15 +38,25 @@ public class RouterRequestHttpHandler extends SimpleChannelInboundHandler<FullHt
   private final StatsHandler statsHandler;
   private final boolean useFastAvro;
   private final Map<String, Integer> storeToEarlyTerminationThresholdMSMap;
+  private final boolean decodeFromByteBuf;
 
   public RouterRequestHttpHandler(
       StatsHandler handler,
       boolean useFastAvro,
       Map<String, Integer> storeToEarlyTerminationThresholdMSMap) {
+    this(handler, useFastAvro, storeToEarlyTerminationThresholdMSMap, false);
+  }
+
+  public RouterRequestHttpHandler(
+      StatsHandler handler,
+      boolean useFastAvro,
+      Map<String, Integer> storeToEarlyTerminationThresholdMSMap,
+      boolean decodeFromByteBuf) {
     super();
     this.statsHandler = handler;
     this.useFastAvro = useFastAvro;
     this.storeToEarlyTerminationThresholdMSMap = storeToEarlyTerminationThresholdMSMap;
+    this.decodeFromByteBuf = decodeFromByteBuf;
   }
 
   @Override
@@ -85,7 +95,8 @@ public class RouterRequestHttpHandler extends SimpleChannelInboundHandler<FullHt
             ctx.fireChannelRead(getRouterRequest);
           } else if (requestMethod.equals(HttpMethod.POST)) {
             // Multi-get
-            MultiGetRouterRequestWrapper multiGetRouterReq = MultiGetRouterRequestWrapper.parseMultiGetHttpRequest(req);
+            MultiGetRouterRequestWrapper multiGetRouterReq =
+                MultiGetRouterRequestWrapper.parseMultiGetHttpRequest(req, decodeFromByteBuf);
             setupRequestTimeout(multiGetRouterReq);
             statsHandler.setRequestInfo(multiGetRouterReq);
             ctx.fireChannelRead(multiGetRouterReq);
@@ -96,7 +107,7 @@ public class RouterRequestHttpHandler extends SimpleChannelInboundHandler<FullHt
         case COMPUTE: // compute request
           if (req.method().equals(HttpMethod.POST)) {
             ComputeRouterRequestWrapper computeRouterReq =
-                ComputeRouterRequestWrapper.parseComputeRequest(req, useFastAvro);
+                ComputeRouterRequestWrapper.parseComputeRequest(req, useFastAvro, decodeFromByteBuf);
             setupRequestTimeout(computeRouterReq);
             statsHandler.setRequestInfo(computeRouterReq);
             ctx.fireChannelRead(computeRouterReq);
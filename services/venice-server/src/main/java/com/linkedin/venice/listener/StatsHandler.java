@@ -25,6 +25,8 @@ public class StatsHandler extends ChannelDuplexHandler {
   private String storeName = null;
   private boolean isHealthCheck;
   private double databaseLookupLatency = -1;
+  private double storageEngineBatchLookupLatency = -1;
+  private int storageEngineBatchLookupCount = 0;
   private int multiChunkLargeValueCount = -1;
   private int requestKeyCount = -1;
   private int successRequestKeyCount = -1;
@@ -56,6 +58,11 @@ public class StatsHandler extends ChannelDuplexHandler {
   private boolean statCallbackExecuted = false;
   private double storageExecutionSubmissionWaitTime;
   private int storageExecutionQueueLen;
+  /**
+   * Set while the chunks of a streaming response are written, except the last one, so the request is only recorded
+   * once the whole response is written.
+   */
+  private boolean writingResponseChunk = false;
 
   /**
    * Normally, one multi-get request will be split into two parts, and it means
@@ -84,6 +91,10 @@ public class StatsHandler extends ChannelDuplexHandler {
   private double partsInvokeDelayLatency = -1;
   private int requestPartCount = -1;
 
+  public void setWritingResponseChunk(boolean writingResponseChunk) {
+    this.writingResponseChunk = writingResponseChunk;
+  }
+
   public void setResponseStatus(HttpResponseStatus status) {
     this.responseStatus = status;
   }
@@ -135,6 +146,14 @@ public class StatsHandler extends ChannelDuplexHandler {
     this.databaseLookupLatency = latency;
   }
 
+  public void setStorageEngineBatchLookupLatency(double latency) {
+    this.storageEngineBatchLookupLatency = latency;
+  }
+
+  public void setStorageEngineBatchLookupCount(int count) {
+    this.storageEngineBatchLookupCount = count;
+  }
+
   public void setReadComputeLatency(double latency) {
     this.readComputeLatency = latency;
   }
@@ -211,6 +230,8 @@ public class StatsHandler extends ChannelDuplexHandler {
       responseStatus = null;
       statCallbackExecuted = false;
       databaseLookupLatency = -1;
+      storageEngineBatchLookupLatency = -1;
+      storageEngineBatchLookupCount = 0;
       storageExecutionSubmissionWaitTime = -1;
       storageExecutionQueueLen = -1;
       requestKeyCount = -1;
@@ -248,6 +269,10 @@ public class StatsHandler extends ChannelDuplexHandler {
 
   @Override
   public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws VeniceException {
+    if (writingResponseChunk) {
+      ctx.writeAndFlush(msg, promise);
+      return;
+    }
     ChannelFuture future = ctx.writeAndFlush(msg);
     future.addListener((result) -> {
       // reset the StatsHandler for the new request. This is necessary since instances are channel-based
@@ -289,6 +314,11 @@ public class StatsHandler extends ChannelDuplexHandler {
       if (databaseLookupLatency >= 0) {
         serverHttpRequestStats.recordDatabaseLookupLatency(databaseLookupLatency, isAssembledMultiChunkLargeValue());
       }
+      if (storageEngineBatchLookupCount > 0 && storageEngineBatchLookupLatency >= 0) {
+        serverHttpRequestStats.recordStorageEngineBatchLookup(
+            storageEngineBatchLookupLatency / storageEngineBatchLookupCount,
+            storageEngineBatchLookupCount);
+      }
       if (storageExecutionSubmissionWaitTime >= 0) {
         currentStats.recordStorageExecutionHandlerSubmissionWaitTime(storageExecutionSubmissionWaitTime);
       }
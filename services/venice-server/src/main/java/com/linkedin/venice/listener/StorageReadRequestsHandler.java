@@ -13,6 +13,8 @@ import com.linkedin.davinci.storage.chunking.BatchGetChunkingAdapter;
 import com.linkedin.davinci.storage.chunking.GenericRecordChunkingAdapter;
 import com.linkedin.davinci.storage.chunking.SingleGetChunkingAdapter;
 import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.cache.HotKeyValueCache;
+import com.linkedin.davinci.store.cache.HotKeyValueCacheRepository;
 import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.venice.VeniceConstants;
 import com.linkedin.venice.cleaner.ResourceReadUsageTracker;
@@ -39,6 +41,7 @@ import com.linkedin.venice.listener.response.BinaryResponse;
 import com.linkedin.venice.listener.response.ComputeResponseWrapper;
 import com.linkedin.venice.listener.response.HttpShortcutResponse;
 import com.linkedin.venice.listener.response.MultiGetResponseWrapper;
+import com.linkedin.venice.listener.response.MultiKeyResponseWrapper;
 import com.linkedin.venice.listener.response.StorageResponseObject;
 import com.linkedin.venice.meta.PartitionerConfig;
 import com.linkedin.venice.meta.PartitionerConfigImpl;
@@ -63,6 +66,7 @@ import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.PartitionUtils;
 import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import io.netty.buffer.ByteBufAllocator;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
@@ -82,6 +86,8 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
@@ -122,11 +128,15 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
   private final boolean parallelBatchGetEnabled;
   private final int parallelBatchGetChunkSize;
   private final boolean keyValueProfilingEnabled;
+  private final boolean batchLookupEnabled;
+  private final boolean incrementalSerdeEnabled;
+  private final int streamingResponseChunkSizeInBytes;
   private final VeniceServerConfig serverConfig;
   private final Map<String, VenicePartitioner> resourceToPartitionerMap = new VeniceConcurrentHashMap<>();
   private final Map<String, PartitionerConfig> resourceToPartitionConfigMap = new VeniceConcurrentHashMap<>();
   private final StorageEngineBackedCompressorFactory compressorFactory;
   private final Optional<ResourceReadUsageTracker> resourceReadUsageTracker;
+  private final HotKeyValueCacheRepository hotKeyValueCacheRepository;
 
   private static class StorageExecReusableObjects extends AvroSerializer.AvroSerializerReusableObjects {
     // reuse buffer for rocksDB value object
@@ -167,7 +177,8 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
       int parallelBatchGetChunkSize,
       VeniceServerConfig serverConfig,
       StorageEngineBackedCompressorFactory compressorFactory,
-      Optional<ResourceReadUsageTracker> resourceReadUsageTracker) {
+      Optional<ResourceReadUsageTracker> resourceReadUsageTracker,
+      HotKeyValueCacheRepository hotKeyValueCacheRepository) {
     this.executor = executor;
     this.computeExecutor = computeExecutor;
     this.storageEngineRepository = storageEngineRepository;
@@ -180,9 +191,13 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
     this.parallelBatchGetEnabled = parallelBatchGetEnabled;
     this.parallelBatchGetChunkSize = parallelBatchGetChunkSize;
     this.keyValueProfilingEnabled = serverConfig.isKeyValueProfilingEnabled();
+    this.batchLookupEnabled = serverConfig.isBatchLookupEnabled();
+    this.incrementalSerdeEnabled = serverConfig.isIncrementalSerdeEnabled();
+    this.streamingResponseChunkSizeInBytes = serverConfig.getStreamingResponseChunkSizeInBytes();
     this.serverConfig = serverConfig;
     this.compressorFactory = compressorFactory;
     this.resourceReadUsageTracker = resourceReadUsageTracker;
+    this.hotKeyValueCacheRepository = hotKeyValueCacheRepository;
   }
 
   @Override
@@ -228,7 +243,7 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
        * to have some duplicate code for the time-being.
        */
       if (parallelBatchGetEnabled && request.getRequestType().equals(RequestType.MULTI_GET)) {
-        handleMultiGetRequestInParallel((MultiGetRouterRequestWrapper) request, parallelBatchGetChunkSize)
+        handleMultiGetRequestInParallel((MultiGetRouterRequestWrapper) request, parallelBatchGetChunkSize, context)
             .whenComplete((v, e) -> {
               if (e != null) {
                 if (e instanceof VeniceRequestEarlyTerminationException) {
@@ -269,10 +284,10 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
               response = handleSingleGetRequest((GetRouterRequest) request);
               break;
             case MULTI_GET:
-              response = handleMultiGetRequest((MultiGetRouterRequestWrapper) request);
+              response = handleMultiGetRequest((MultiGetRouterRequestWrapper) request, context);
               break;
             case COMPUTE:
-              response = handleComputeRequest((ComputeRouterRequestWrapper) message);
+              response = handleComputeRequest((ComputeRouterRequestWrapper) message, context);
               break;
             default:
               throw new VeniceException("Unknown request type: " + request.getRequestType());
@@ -324,6 +339,30 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
     }
   }
 
+  /**
+   * @return the allocator for the buffer multi-key responses get incrementally serialized into, or null if the
+   *         responses should be serialized all at once after the lookups are done.
+   */
+  private ByteBufAllocator getResponseAllocator(ChannelHandlerContext context) {
+    return incrementalSerdeEnabled ? context.alloc() : null;
+  }
+
+  /**
+   * The records of a streaming response serialized incrementally are flushed to the router as HTTP chunks while the
+   * remaining keys are looked up, so the headers sent along with the first chunk must be set up front.
+   */
+  private void enableResponseChunking(
+      MultiKeyResponseWrapper<?> responseWrapper,
+      RouterRequest request,
+      ChannelHandlerContext context) {
+    if (!request.isStreamingRequest() || !incrementalSerdeEnabled || streamingResponseChunkSizeInBytes <= 0) {
+      return;
+    }
+    responseWrapper.setRCU(ReadQuotaEnforcementHandler.getRcu(request));
+    responseWrapper.setStreamingResponse();
+    responseWrapper.enableChunking(streamingResponseChunkSizeInBytes, context::writeAndFlush);
+  }
+
   private ThreadPoolExecutor getExecutor(RequestType requestType) {
     switch (requestType) {
       case SINGLE_GET:
@@ -414,7 +453,19 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
     response.setCompressionStrategy(storageEngine.getCompressionStrategy());
     response.setDatabaseLookupLatency(0);
 
-    ValueRecord valueRecord = SingleGetChunkingAdapter.get(storageEngine, subPartition, key, isChunked, response);
+    ValueRecord valueRecord;
+    int version = Version.parseVersionFromKafkaTopicName(topic);
+    // The values of the chunked stores are too large to be worth caching.
+    HotKeyValueCache hotKeyValueCache = isChunked ? null : getHotKeyValueCache(request.getStoreName(), version);
+    if (hotKeyValueCache == null) {
+      valueRecord = SingleGetChunkingAdapter.get(storageEngine, subPartition, key, isChunked, response);
+    } else {
+      byte[] value = hotKeyValueCache.get(version, key, () -> {
+        ValueRecord storedValueRecord = SingleGetChunkingAdapter.get(storageEngine, subPartition, key, false, response);
+        return storedValueRecord == null ? null : storedValueRecord.serialize();
+      });
+      valueRecord = value == null ? null : ValueRecord.parseAndCreate(value);
+    }
     response.setValueRecord(valueRecord);
 
     if (keyValueProfilingEnabled) {
@@ -425,22 +476,38 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
     return response;
   }
 
+  /**
+   * @return the cache to serve the single gets of the store version from, or null if they must be served by the
+   *         storage engine, because the store has no cache, or because the version is not the current one.
+   */
+  private HotKeyValueCache getHotKeyValueCache(String storeName, int version) {
+    HotKeyValueCache hotKeyValueCache = hotKeyValueCacheRepository.getCache(storeName);
+    if (hotKeyValueCache == null) {
+      return null;
+    }
+    Store store = metadataRepository.getStore(storeName);
+    return store != null && store.getCurrentVersion() == version ? hotKeyValueCache : null;
+  }
+
   private CompletableFuture<ReadResponse> handleMultiGetRequestInParallel(
       MultiGetRouterRequestWrapper request,
-      int parallelChunkSize) {
+      int parallelChunkSize,
+      ChannelHandlerContext context) {
     String topic = request.getResourceName();
     Iterable<MultiGetRouterRequestKeyV1> keys = request.getKeys();
     AbstractStorageEngine storageEngine = getStorageEngine(topic);
+    if (!(keys instanceof ArrayList)) {
+      throw new VeniceException("'keys' in MultiGetResponseWrapper should be an ArrayList");
+    }
 
-    MultiGetResponseWrapper responseWrapper = new MultiGetResponseWrapper(request.getKeyCount());
+    MultiGetResponseWrapper responseWrapper =
+        new MultiGetResponseWrapper(request.getKeyCount(), getResponseAllocator(context));
     responseWrapper.setCompressionStrategy(storageEngine.getCompressionStrategy());
     responseWrapper.setDatabaseLookupLatency(0);
+    enableResponseChunking(responseWrapper, request, context);
     boolean isChunked = storageEngine.isChunked();
 
     ExecutorService executorService = getExecutor(RequestType.MULTI_GET);
-    if (!(keys instanceof ArrayList)) {
-      throw new VeniceException("'keys' in MultiGetResponseWrapper should be an ArrayList");
-    }
     final ArrayList<MultiGetRouterRequestKeyV1> keyList = (ArrayList) keys;
     int totalKeyNum = keyList.size();
     int splitSize = (int) Math.ceil((double) totalKeyNum / parallelChunkSize);
@@ -486,7 +553,7 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
             if (responseValueSizeList != null) {
               responseValueSizeList.set(subChunkCur, record.value.remaining());
             }
-            // TODO: streaming support in storage node
+            // The chunks of a streaming response are flushed under the lock as well, so they are sent out in order.
             requestLock.lock();
             try {
               responseWrapper.addRecord(record);
@@ -504,6 +571,7 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
 
     return CompletableFuture.allOf(chunkFutures).handle((v, e) -> {
       if (e != null) {
+        responseWrapper.release();
         throw new VeniceException(e);
       }
       responseWrapper.setKeySizeList(responseKeySizeList);
@@ -512,44 +580,106 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
     });
   }
 
-  private ReadResponse handleMultiGetRequest(MultiGetRouterRequestWrapper request) {
+  private ReadResponse handleMultiGetRequest(MultiGetRouterRequestWrapper request, ChannelHandlerContext context) {
     String topic = request.getResourceName();
     Iterable<MultiGetRouterRequestKeyV1> keys = request.getKeys();
     PartitionerConfig partitionerConfig = getPartitionerConfig(request.getResourceName());
     AbstractStorageEngine storageEngine = getStorageEngine(topic);
 
-    MultiGetResponseWrapper responseWrapper = new MultiGetResponseWrapper(request.getKeyCount());
-    responseWrapper.setCompressionStrategy(storageEngine.getCompressionStrategy());
-    responseWrapper.setDatabaseLookupLatency(0);
-    boolean isChunked = storageEngine.isChunked();
-    for (MultiGetRouterRequestKeyV1 key: keys) {
-      int subPartitionId = getSubPartitionId(key.partitionId, topic, partitionerConfig, key.keyBytes);
-      MultiGetResponseRecordV1 record =
-          BatchGetChunkingAdapter.get(storageEngine, subPartitionId, key.keyBytes, isChunked, responseWrapper);
-      if (record == null) {
-        if (request.isStreamingRequest()) {
-          // For streaming, we would like to send back non-existing keys since the end-user won't know the status of
-          // non-existing keys in the response if the response is partial.
-          record = new MultiGetResponseRecordV1();
-          // Negative key index to indicate the non-existing keys
-          record.keyIndex = Math.negateExact(key.keyIndex);
-          record.schemaId = StreamingConstants.NON_EXISTING_KEY_SCHEMA_ID;
-          record.value = StreamingUtils.EMPTY_BYTE_BUFFER;
+    MultiGetResponseWrapper responseWrapper =
+        new MultiGetResponseWrapper(request.getKeyCount(), getResponseAllocator(context));
+
+    try {
+      responseWrapper.setCompressionStrategy(storageEngine.getCompressionStrategy());
+      responseWrapper.setDatabaseLookupLatency(0);
+      enableResponseChunking(responseWrapper, request, context);
+      boolean isChunked = storageEngine.isChunked();
+      if (batchLookupEnabled) {
+        Map<Integer, List<MultiGetRouterRequestKeyV1>> keysBySubPartition =
+            groupKeysBySubPartition(keys, key -> key.partitionId, key -> key.keyBytes, topic, partitionerConfig);
+        for (Map.Entry<Integer, List<MultiGetRouterRequestKeyV1>> entry: keysBySubPartition.entrySet()) {
+          List<MultiGetRouterRequestKeyV1> partitionKeys = entry.getValue();
+          BatchGetChunkingAdapter.getInBatch(
+              storageEngine,
+              entry.getKey(),
+              getKeyBytesList(partitionKeys, key -> key.keyBytes),
+              isChunked,
+              responseWrapper,
+              (keyPosition, record) -> addMultiGetResponseRecord(
+                  responseWrapper,
+                  partitionKeys.get(keyPosition),
+                  record,
+                  request.isStreamingRequest()));
         }
-      } else {
-        record.keyIndex = key.keyIndex;
+        return responseWrapper;
       }
 
-      if (record != null) {
-        // TODO: streaming support in storage node
-        responseWrapper.addRecord(record);
+      for (MultiGetRouterRequestKeyV1 key: keys) {
+        int subPartitionId = getSubPartitionId(key.partitionId, topic, partitionerConfig, key.keyBytes);
+        MultiGetResponseRecordV1 record =
+            BatchGetChunkingAdapter.get(storageEngine, subPartitionId, key.keyBytes, isChunked, responseWrapper);
+        addMultiGetResponseRecord(responseWrapper, key, record, request.isStreamingRequest());
       }
+
+      return responseWrapper;
+    } catch (Throwable e) {
+      responseWrapper.release();
+      throw e;
+    }
+  }
+
+  private void addMultiGetResponseRecord(
+      MultiGetResponseWrapper responseWrapper,
+      MultiGetRouterRequestKeyV1 key,
+      MultiGetResponseRecordV1 record,
+      boolean isStreaming) {
+    if (record == null) {
+      if (isStreaming) {
+        // For streaming, we would like to send back non-existing keys since the end-user won't know the status of
+        // non-existing keys in the response if the response is partial.
+        record = new MultiGetResponseRecordV1();
+        // Negative key index to indicate the non-existing keys
+        record.keyIndex = Math.negateExact(key.keyIndex);
+        record.schemaId = StreamingConstants.NON_EXISTING_KEY_SCHEMA_ID;
+        record.value = StreamingUtils.EMPTY_BYTE_BUFFER;
+      }
+    } else {
+      record.keyIndex = key.keyIndex;
+    }
+
+    if (record != null) {
+      responseWrapper.addRecord(record);
+    }
+  }
+
+  /**
+   * Groups the keys of a multi-key request by the sub-partition they belong to, so that each group can be looked up
+   * with a single batched storage engine call. The order of the keys is preserved within each group.
+   */
+  private <K> Map<Integer, List<K>> groupKeysBySubPartition(
+      Iterable<K> keys,
+      ToIntFunction<K> partitionIdGetter,
+      Function<K, ByteBuffer> keyBytesGetter,
+      String topic,
+      PartitionerConfig partitionerConfig) {
+    Map<Integer, List<K>> keysBySubPartition = new LinkedHashMap<>();
+    for (K key: keys) {
+      int subPartitionId =
+          getSubPartitionId(partitionIdGetter.applyAsInt(key), topic, partitionerConfig, keyBytesGetter.apply(key));
+      keysBySubPartition.computeIfAbsent(subPartitionId, k -> new ArrayList<>()).add(key);
     }
+    return keysBySubPartition;
+  }
 
-    return responseWrapper;
+  private <K> List<ByteBuffer> getKeyBytesList(List<K> keys, Function<K, ByteBuffer> keyBytesGetter) {
+    List<ByteBuffer> keyBytesList = new ArrayList<>(keys.size());
+    for (K key: keys) {
+      keyBytesList.add(keyBytesGetter.apply(key));
+    }
+    return keyBytesList;
   }
 
-  private ReadResponse handleComputeRequest(ComputeRouterRequestWrapper request) {
+  private ReadResponse handleComputeRequest(ComputeRouterRequestWrapper request, ChannelHandlerContext context) {
     String topic = request.getResourceName();
     String storeName = request.getStoreName();
     Iterable<ComputeRouterRequestKeyV1> keys = request.getKeys();
@@ -578,68 +708,115 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
       computeResultSchemaCache.putIfAbsent(computeResultSchemaStr, computeResultSchema);
     }
 
-    ComputeResponseWrapper responseWrapper = new ComputeResponseWrapper(request.getKeyCount());
-    CompressionStrategy compressionStrategy = storageEngine.getCompressionStrategy();
-    boolean isChunked = storageEngine.isChunked();
+    ComputeResponseWrapper responseWrapper =
+        new ComputeResponseWrapper(request.getKeyCount(), getResponseAllocator(context));
 
-    // The following metrics will get incremented for each record processed in computeResult()
-    responseWrapper.setReadComputeDeserializationLatency(0.0);
-    responseWrapper.setDatabaseLookupLatency(0.0);
-    responseWrapper.setReadComputeSerializationLatency(0.0);
-    responseWrapper.setReadComputeLatency(0.0);
+    try {
+      CompressionStrategy compressionStrategy = storageEngine.getCompressionStrategy();
+      boolean isChunked = storageEngine.isChunked();
 
-    responseWrapper.setCompressionStrategy(CompressionStrategy.NO_OP);
+      // The following metrics will get incremented for each record processed in computeResult()
+      responseWrapper.setReadComputeDeserializationLatency(0.0);
+      responseWrapper.setDatabaseLookupLatency(0.0);
+      responseWrapper.setReadComputeSerializationLatency(0.0);
+      responseWrapper.setReadComputeLatency(0.0);
 
-    StorageExecReusableObjects reusableObjects = threadLocalReusableObjects.get();
+      responseWrapper.setCompressionStrategy(CompressionStrategy.NO_OP);
+      enableResponseChunking(responseWrapper, request, context);
 
-    GenericRecord reuseValueRecord =
-        reusableObjects.reuseValueRecordMap.computeIfAbsent(valueSchema, k -> new GenericData.Record(valueSchema));
-    Schema finalComputeResultSchema1 = computeResultSchema;
-    GenericRecord reuseResultRecord = reusableObjects.reuseResultRecordMap
-        .computeIfAbsent(computeResultSchema, k -> new GenericData.Record(finalComputeResultSchema1));
+      StorageExecReusableObjects reusableObjects = threadLocalReusableObjects.get();
 
-    // Reuse the same value record and result record instances for all values
-    ByteBuffer reusedRawValue = reusableObjects.reusedByteBuffer;
-    RecordSerializer<GenericRecord> resultSerializer;
+      GenericRecord reuseValueRecord =
+          reusableObjects.reuseValueRecordMap.computeIfAbsent(valueSchema, k -> new GenericData.Record(valueSchema));
+      Schema finalComputeResultSchema1 = computeResultSchema;
+      GenericRecord reuseResultRecord = reusableObjects.reuseResultRecordMap
+          .computeIfAbsent(computeResultSchema, k -> new GenericData.Record(finalComputeResultSchema1));
 
-    if (fastAvroEnabled) {
-      resultSerializer = FastSerializerDeserializerFactory.getFastAvroGenericSerializer(computeResultSchema);
-    } else {
-      resultSerializer = SerializerDeserializerFactory.getAvroGenericSerializer(computeResultSchema);
-    }
+      // Reuse the same value record and result record instances for all values
+      ByteBuffer reusedRawValue = reusableObjects.reusedByteBuffer;
+      RecordSerializer<GenericRecord> resultSerializer;
 
-    Map<String, Object> globalContext = new HashMap<>();
-    VeniceCompressor compressor = compressorFactory.getCompressor(compressionStrategy, topic);
-    for (ComputeRouterRequestKeyV1 key: keys) {
-      clearFieldsInReusedRecord(reuseResultRecord, computeResultSchema);
-      int subPartitionId = getSubPartitionId(key.partitionId, topic, partitionerConfig, key.keyBytes);
-      ComputeResponseRecordV1 record = computeResult(
-          storageEngine,
-          storeName,
-          key.keyBytes,
-          key.keyIndex,
-          subPartitionId,
-          computeRequestWrapper.getComputeRequestVersion(),
-          computeRequestWrapper.getOperations(),
-          compressionStrategy,
-          computeResultSchema,
-          resultSerializer,
-          reuseValueRecord,
-          reuseResultRecord,
-          reusableObjects,
-          isChunked,
-          request.isStreamingRequest(),
-          responseWrapper,
-          globalContext,
-          reusedRawValue,
-          compressor);
-      if (record != null) {
-        // TODO: streaming support in storage node
-        responseWrapper.addRecord(record);
+      if (fastAvroEnabled) {
+        resultSerializer = FastSerializerDeserializerFactory.getFastAvroGenericSerializer(computeResultSchema);
+      } else {
+        resultSerializer = SerializerDeserializerFactory.getAvroGenericSerializer(computeResultSchema);
       }
-    }
 
-    return responseWrapper;
+      Map<String, Object> globalContext = new HashMap<>();
+      VeniceCompressor compressor = compressorFactory.getCompressor(compressionStrategy, topic);
+      if (batchLookupEnabled) {
+        Map<Integer, List<ComputeRouterRequestKeyV1>> keysBySubPartition =
+            groupKeysBySubPartition(keys, key -> key.partitionId, key -> key.keyBytes, topic, partitionerConfig);
+        for (Map.Entry<Integer, List<ComputeRouterRequestKeyV1>> entry: keysBySubPartition.entrySet()) {
+          List<ComputeRouterRequestKeyV1> partitionKeys = entry.getValue();
+          GenericRecordChunkingAdapter.INSTANCE.getInBatch(
+              storageEngine,
+              entry.getKey(),
+              getKeyBytesList(partitionKeys, key -> key.keyBytes),
+              isChunked,
+              reuseValueRecord,
+              reusableObjects.binaryDecoder,
+              responseWrapper,
+              compressionStrategy,
+              fastAvroEnabled,
+              this.schemaRepo,
+              storeName,
+              compressor,
+              (keyPosition, valueRecord) -> {
+                clearFieldsInReusedRecord(reuseResultRecord, finalComputeResultSchema1);
+                ComputeResponseRecordV1 record = computeResult(
+                    valueRecord,
+                    partitionKeys.get(keyPosition).keyIndex,
+                    computeRequestWrapper.getComputeRequestVersion(),
+                    computeRequestWrapper.getOperations(),
+                    finalComputeResultSchema1,
+                    resultSerializer,
+                    reuseResultRecord,
+                    reusableObjects,
+                    request.isStreamingRequest(),
+                    responseWrapper,
+                    globalContext);
+                if (record != null) {
+                  responseWrapper.addRecord(record);
+                }
+              });
+        }
+        return responseWrapper;
+      }
+
+      for (ComputeRouterRequestKeyV1 key: keys) {
+        clearFieldsInReusedRecord(reuseResultRecord, computeResultSchema);
+        int subPartitionId = getSubPartitionId(key.partitionId, topic, partitionerConfig, key.keyBytes);
+        ComputeResponseRecordV1 record = computeResult(
+            storageEngine,
+            storeName,
+            key.keyBytes,
+            key.keyIndex,
+            subPartitionId,
+            computeRequestWrapper.getComputeRequestVersion(),
+            computeRequestWrapper.getOperations(),
+            compressionStrategy,
+            computeResultSchema,
+            resultSerializer,
+            reuseValueRecord,
+            reuseResultRecord,
+            reusableObjects,
+            isChunked,
+            request.isStreamingRequest(),
+            responseWrapper,
+            globalContext,
+            reusedRawValue,
+            compressor);
+        if (record != null) {
+          responseWrapper.addRecord(record);
+        }
+      }
+
+      return responseWrapper;
+    } catch (Throwable e) {
+      responseWrapper.release();
+      throw e;
+    }
   }
 
   private BinaryResponse handleDictionaryFetchRequest(DictionaryFetchRequest request) {
@@ -695,6 +872,32 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
         response,
         compressor);
 
+    return computeResult(
+        reuseValueRecord,
+        keyIndex,
+        computeRequestVersion,
+        operations,
+        computeResultSchema,
+        resultSerializer,
+        reuseResultRecord,
+        reusableObjects,
+        isStreaming,
+        response,
+        globalContext);
+  }
+
+  private ComputeResponseRecordV1 computeResult(
+      GenericRecord reuseValueRecord,
+      final int keyIndex,
+      int computeRequestVersion,
+      List<ComputeOperation> operations,
+      Schema computeResultSchema,
+      RecordSerializer<GenericRecord> resultSerializer,
+      GenericRecord reuseResultRecord,
+      StorageExecReusableObjects reusableObjects,
+      boolean isStreaming,
+      ComputeResponseWrapper response,
+      Map<String, Object> globalContext) {
     if (reuseValueRecord == null) {
       if (isStreaming) {
         // For streaming, we need to send back non-existing keys
@@ -9,6 +9,7 @@ import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.serializer.RecordDeserializer;
 import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import io.netty.buffer.ByteBuf;
 import io.netty.handler.codec.http.FullHttpRequest;
 import io.netty.handler.codec.http.HttpRequest;
 import java.net.URI;
@@ -37,6 +38,17 @@ public class ComputeRouterRequestWrapper extends MultiKeyRouterRequestWrapper<Co
   }
 
   public static ComputeRouterRequestWrapper parseComputeRequest(FullHttpRequest httpRequest, boolean useFastAvro) {
+    return parseComputeRequest(httpRequest, useFastAvro, false);
+  }
+
+  /**
+   * @param decodeFromByteBuf whether to decode the compute request and the keys straight from the request content, see
+   *                          {@link RequestHelper#getBinaryDecoder(ByteBuf)}
+   */
+  public static ComputeRouterRequestWrapper parseComputeRequest(
+      FullHttpRequest httpRequest,
+      boolean useFastAvro,
+      boolean decodeFromByteBuf) {
     URI fullUri = URI.create(httpRequest.uri());
     String path = fullUri.getRawPath();
     String[] requestParts = path.split("/");
@@ -59,12 +71,17 @@ public class ComputeRouterRequestWrapper extends MultiKeyRouterRequestWrapper<Co
     }
 
     // TODO: xplore the possibility of streaming in the request bytes, and processing it in pipelined fashion
-    byte[] requestContent = new byte[httpRequest.content().readableBytes()];
-    httpRequest.content().readBytes(requestContent);
+    BinaryDecoder decoder;
+    if (decodeFromByteBuf) {
+      decoder = RequestHelper.getBinaryDecoder(httpRequest.content());
+    } else {
+      byte[] requestContent = new byte[httpRequest.content().readableBytes()];
+      httpRequest.content().readBytes(requestContent);
+      decoder = OptimizedBinaryDecoderFactory.defaultFactory()
+          .createOptimizedBinaryDecoder(requestContent, 0, requestContent.length);
+    }
 
     ComputeRequestWrapper computeRequestWrapper = new ComputeRequestWrapper(apiVersion);
-    BinaryDecoder decoder = OptimizedBinaryDecoderFactory.defaultFactory()
-        .createOptimizedBinaryDecoder(requestContent, 0, requestContent.length);
     computeRequestWrapper.deserialize(decoder, useFastAvro);
 
     Iterable<ComputeRouterRequestKeyV1> keys = parseKeys(decoder);
@@ -7,9 +7,11 @@ import com.linkedin.venice.read.protocol.request.router.MultiGetRouterRequestKey
 import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
 import com.linkedin.venice.serializer.RecordDeserializer;
 import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import io.netty.buffer.ByteBuf;
 import io.netty.handler.codec.http.FullHttpRequest;
 import io.netty.handler.codec.http.HttpRequest;
 import java.net.URI;
+import org.apache.avro.io.BinaryDecoder;
 import org.apache.avro.io.OptimizedBinaryDecoderFactory;
 
 
@@ -25,6 +27,16 @@ public class MultiGetRouterRequestWrapper extends MultiKeyRouterRequestWrapper<M
   }
 
   public static MultiGetRouterRequestWrapper parseMultiGetHttpRequest(FullHttpRequest httpRequest) {
+    return parseMultiGetHttpRequest(httpRequest, false);
+  }
+
+  /**
+   * @param decodeFromByteBuf whether to decode the keys straight from the request content, see
+   *                          {@link RequestHelper#getBinaryDecoder(ByteBuf)}
+   */
+  public static MultiGetRouterRequestWrapper parseMultiGetHttpRequest(
+      FullHttpRequest httpRequest,
+      boolean decodeFromByteBuf) {
     URI fullUri = URI.create(httpRequest.uri());
     String path = fullUri.getRawPath();
     String[] requestParts = path.split("/");
@@ -45,19 +57,23 @@ public class MultiGetRouterRequestWrapper extends MultiKeyRouterRequestWrapper<M
     }
 
     Iterable<MultiGetRouterRequestKeyV1> keys;
-    byte[] content = new byte[httpRequest.content().readableBytes()];
-    httpRequest.content().readBytes(content);
-    keys = parseKeys(content);
+    if (decodeFromByteBuf) {
+      keys = parseKeys(RequestHelper.getBinaryDecoder(httpRequest.content()));
+    } else {
+      byte[] content = new byte[httpRequest.content().readableBytes()];
+      httpRequest.content().readBytes(content);
+      keys = parseKeys(
+          OptimizedBinaryDecoderFactory.defaultFactory().createOptimizedBinaryDecoder(content, 0, content.length));
+    }
 
     return new MultiGetRouterRequestWrapper(resourceName, keys, httpRequest);
   }
 
-  private static Iterable<MultiGetRouterRequestKeyV1> parseKeys(byte[] content) {
+  private static Iterable<MultiGetRouterRequestKeyV1> parseKeys(BinaryDecoder decoder) {
     RecordDeserializer<MultiGetRouterRequestKeyV1> deserializer =
         SerializerDeserializerFactory.getAvroSpecificDeserializer(MultiGetRouterRequestKeyV1.class);
 
-    return deserializer.deserializeObjects(
-        OptimizedBinaryDecoderFactory.defaultFactory().createOptimizedBinaryDecoder(content, 0, content.length));
+    return deserializer.deserializeObjects(decoder);
   }
 
   public String toString() {
@@ -1,6 +1,10 @@
 package com.linkedin.venice.listener.request;
 
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
 import java.net.URI;
+import org.apache.avro.io.BinaryDecoder;
 
 
 public class RequestHelper {
@@ -21,4 +25,13 @@ public class RequestHelper {
     }
     return path.split("/");
   }
+
+  /**
+   * Creates a decoder reading straight from the request content, without copying the whole body into an intermediate
+   * byte array first. The decoder copies every bytes field it reads into its own buffer, so the decoded objects do not
+   * hold on to the content, which can be released as soon as the decoding is done.
+   */
+  public static BinaryDecoder getBinaryDecoder(ByteBuf content) {
+    return AvroCompatibilityHelper.newBinaryDecoder(new ByteBufInputStream(content), true, null);
+  }
 }
@@ -5,13 +5,23 @@ import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
 import com.linkedin.venice.serializer.AvroSerializer;
 import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import io.netty.buffer.ByteBufAllocator;
+import org.apache.avro.io.DatumWriter;
+import org.apache.avro.specific.DeterministicMapOrderSpecificDatumWriter;
 
 
 public class ComputeResponseWrapper extends MultiKeyResponseWrapper<ComputeResponseRecordV1> {
+  private static final DatumWriter<ComputeResponseRecordV1> RECORD_WRITER =
+      new DeterministicMapOrderSpecificDatumWriter<>(ComputeResponseRecordV1.getClassSchema());
+
   public ComputeResponseWrapper(int maxKeyCount) {
     super(maxKeyCount);
   }
 
+  public ComputeResponseWrapper(int maxKeyCount, ByteBufAllocator allocator) {
+    super(maxKeyCount, allocator);
+  }
+
   @Override
   protected byte[] serializedResponse() {
     RecordSerializer<ComputeResponseRecordV1> serializer =
@@ -20,6 +30,11 @@ public class ComputeResponseWrapper extends MultiKeyResponseWrapper<ComputeRespo
     return serializer.serializeObjects(records, AvroSerializer.REUSE.get());
   }
 
+  @Override
+  protected DatumWriter<ComputeResponseRecordV1> getRecordWriter() {
+    return RECORD_WRITER;
+  }
+
   @Override
   public int getResponseSchemaIdHeader() {
     return ReadAvroProtocolDefinition.COMPUTE_RESPONSE_V1.getProtocolVersion();
@@ -5,13 +5,23 @@ import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
 import com.linkedin.venice.serializer.AvroSerializer;
 import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import io.netty.buffer.ByteBufAllocator;
+import org.apache.avro.io.DatumWriter;
+import org.apache.avro.specific.DeterministicMapOrderSpecificDatumWriter;
 
 
 public class MultiGetResponseWrapper extends MultiKeyResponseWrapper<MultiGetResponseRecordV1> {
+  private static final DatumWriter<MultiGetResponseRecordV1> RECORD_WRITER =
+      new DeterministicMapOrderSpecificDatumWriter<>(MultiGetResponseRecordV1.getClassSchema());
+
   public MultiGetResponseWrapper(int maxKeyCount) {
     super(maxKeyCount);
   }
 
+  public MultiGetResponseWrapper(int maxKeyCount, ByteBufAllocator allocator) {
+    super(maxKeyCount, allocator);
+  }
+
   @Override
   protected byte[] serializedResponse() {
     RecordSerializer<MultiGetResponseRecordV1> serializer =
@@ -20,6 +30,11 @@ public class MultiGetResponseWrapper extends MultiKeyResponseWrapper<MultiGetRes
     return serializer.serializeObjects(records, AvroSerializer.REUSE.get());
   }
 
+  @Override
+  protected DatumWriter<MultiGetResponseRecordV1> getRecordWriter() {
+    return RECORD_WRITER;
+  }
+
   @Override
   public int getResponseSchemaIdHeader() {
     return ReadAvroProtocolDefinition.MULTI_GET_RESPONSE_V1.getProtocolVersion();
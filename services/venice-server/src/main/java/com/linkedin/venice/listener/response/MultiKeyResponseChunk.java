@@ -0,0 +1,39 @@
+package com.linkedin.venice.listener.response;
+
+import io.netty.buffer.ByteBuf;
+
+
+/**
+ * A chunk of the records of a streaming multi-key response, which is flushed to the router while the remaining keys are
+ * still being looked up. The remaining records are sent along with the {@link MultiKeyResponseWrapper} itself once all
+ * the lookups are done, and they end the response.
+ */
+public class MultiKeyResponseChunk {
+  private final MultiKeyResponseWrapper<?> response;
+  private final ByteBuf content;
+  private final boolean isFirstChunk;
+
+  public MultiKeyResponseChunk(MultiKeyResponseWrapper<?> response, ByteBuf content, boolean isFirstChunk) {
+    this.response = response;
+    this.content = content;
+    this.isFirstChunk = isFirstChunk;
+  }
+
+  /**
+   * @return the response this chunk belongs to, which carries the headers to send along with the first chunk.
+   */
+  public MultiKeyResponseWrapper<?> getResponse() {
+    return response;
+  }
+
+  /**
+   * The returned buffer is handed over to the caller, which becomes responsible for releasing it.
+   */
+  public ByteBuf getContent() {
+    return content;
+  }
+
+  public boolean isFirstChunk() {
+    return isFirstChunk;
+  }
+}
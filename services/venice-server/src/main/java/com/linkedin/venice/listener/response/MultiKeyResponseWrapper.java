@@ -1,36 +1,147 @@
 package com.linkedin.venice.listener.response;
 
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
 import com.linkedin.davinci.listener.response.ReadResponse;
+import com.linkedin.venice.exceptions.VeniceException;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufOutputStream;
 import io.netty.buffer.Unpooled;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DatumWriter;
 
 
 public abstract class MultiKeyResponseWrapper<K> extends ReadResponse {
   protected final List<K> records;
 
+  /**
+   * When an allocator is provided, each record is encoded into this pooled buffer as soon as it is added, instead of
+   * being kept in {@link #records} and serialized all at once into a byte array by {@link #serializedResponse()}.
+   * This way, the looked up values can be garbage collected right away, and the response body does not need to be
+   * copied once more before being written out.
+   */
+  private final ByteBufAllocator allocator;
+  private ByteBuf serializedRecords;
+  private BinaryEncoder encoder;
+  private int recordCount = 0;
+
+  /**
+   * When chunking is enabled, the serialized records are handed over to {@link #chunkConsumer} every time they reach
+   * {@link #chunkSizeInBytes}, and a new buffer is allocated for the next records.
+   */
+  private int chunkSizeInBytes = 0;
+  private Consumer<MultiKeyResponseChunk> chunkConsumer = null;
+  private boolean isChunked = false;
+
   public MultiKeyResponseWrapper(int maxKeyCount) {
-    this.records = new ArrayList<>(maxKeyCount);
+    this(maxKeyCount, null);
+  }
+
+  /**
+   * @param allocator to allocate the buffer holding the incrementally serialized records, or null to serialize all
+   *                  the records at once when the response body is requested.
+   */
+  public MultiKeyResponseWrapper(int maxKeyCount, ByteBufAllocator allocator) {
+    this.allocator = allocator;
+    if (allocator == null) {
+      this.records = new ArrayList<>(maxKeyCount);
+      this.serializedRecords = null;
+      this.encoder = null;
+    } else {
+      this.records = Collections.emptyList();
+      this.serializedRecords = allocator.directBuffer();
+      this.encoder =
+          AvroCompatibilityHelper.newBinaryEncoder(new ByteBufOutputStream(serializedRecords), false, null);
+    }
   }
 
   public void addRecord(K record) {
-    records.add(record);
+    if (serializedRecords == null) {
+      records.add(record);
+      return;
+    }
+    try {
+      getRecordWriter().write(record, encoder);
+    } catch (IOException e) {
+      throw new VeniceException("Could not serialize the response record", e);
+    }
+    recordCount++;
+    if (chunkConsumer != null && serializedRecords.readableBytes() >= chunkSizeInBytes) {
+      flushChunk();
+    }
+  }
+
+  /**
+   * Hand the records serialized so far over to the given consumer every time they reach the given size, so they can
+   * be sent out while the remaining keys are looked up. The records added afterward are kept in the response body.
+   * The consumer is invoked by the thread adding the records, so it sees the chunks in order as long as the records
+   * are added one at a time.
+   */
+  public void enableChunking(int chunkSizeInBytes, Consumer<MultiKeyResponseChunk> chunkConsumer) {
+    if (serializedRecords == null) {
+      throw new VeniceException("Only the responses serialized incrementally can be chunked");
+    }
+    this.chunkSizeInBytes = chunkSizeInBytes;
+    this.chunkConsumer = chunkConsumer;
+  }
+
+  private void flushChunk() {
+    ByteBuf chunk = serializedRecords;
+    serializedRecords = allocator.directBuffer();
+    encoder = AvroCompatibilityHelper.newBinaryEncoder(new ByteBufOutputStream(serializedRecords), false, encoder);
+    boolean isFirstChunk = !isChunked;
+    isChunked = true;
+    chunkConsumer.accept(new MultiKeyResponseChunk(this, chunk, isFirstChunk));
+  }
+
+  /**
+   * @return whether some records were already handed over as chunks, in which case {@link #getResponseBody()} only
+   *         returns the records added after the last chunk.
+   */
+  public boolean isChunked() {
+    return isChunked;
   }
 
   protected abstract byte[] serializedResponse();
 
+  /**
+   * @return the writer used to encode a single record when the records are serialized incrementally.
+   */
+  protected abstract DatumWriter<K> getRecordWriter();
+
   public abstract int getResponseSchemaIdHeader();
 
   public int getRecordCount() {
-    return records.size();
+    return serializedRecords == null ? records.size() : recordCount;
   }
 
+  /**
+   * When the records are serialized incrementally, the returned buffer is handed over to the caller, which becomes
+   * responsible for releasing it (e.g. by writing it out to the channel).
+   */
   @Override
   public ByteBuf getResponseBody() {
+    if (serializedRecords != null) {
+      return serializedRecords;
+    }
     return Unpooled.wrappedBuffer(serializedResponse());
   }
 
+  /**
+   * Releases the buffer holding the incrementally serialized records, if any. This needs to be called when the
+   * response gets dropped instead of being written out, e.g. when the lookup fails half-way.
+   */
+  public void release() {
+    if (serializedRecords != null) {
+      serializedRecords.release();
+    }
+  }
+
   /**
    * This function needs to be synchronized because during batch gets, there could be several
    * threads incrementing this all at once.
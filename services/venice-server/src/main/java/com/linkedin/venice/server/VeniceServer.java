@@ -20,6 +20,7 @@ import com.linkedin.davinci.storage.StorageEngineMetadataService;
 import com.linkedin.davinci.storage.StorageEngineRepository;
 import com.linkedin.davinci.storage.StorageMetadataService;
 import com.linkedin.davinci.storage.StorageService;
+import com.linkedin.davinci.store.cache.HotKeyValueCacheRepository;
 import com.linkedin.venice.acl.DynamicAccessController;
 import com.linkedin.venice.acl.StaticAccessController;
 import com.linkedin.venice.cleaner.BackupVersionOptimizationService;
@@ -320,6 +321,10 @@ public class VeniceServer {
 
     compressorFactory = new StorageEngineBackedCompressorFactory(storageMetadataService);
 
+    // Shared by the read path, which serves single gets out of it, and the ingestion path, which invalidates it.
+    HotKeyValueCacheRepository hotKeyValueCacheRepository =
+        new HotKeyValueCacheRepository(serverConfig.getStoreToHotKeyValueCacheCapacityMap(), metricsRepository);
+
     /**
      * Build Ingestion Repair service.
      */
@@ -366,6 +371,7 @@ public class VeniceServer {
         false,
         compressorFactory,
         Optional.empty(),
+        Optional.of(hotKeyValueCacheRepository),
         false,
         remoteIngestionRepairService,
         pubSubClientsFactory);
@@ -415,7 +421,8 @@ public class VeniceServer {
         storeAccessController,
         diskHealthCheckService,
         compressorFactory,
-        resourceReadUsageTracker);
+        resourceReadUsageTracker,
+        hotKeyValueCacheRepository);
     services.add(listenerService);
 
     /**
@@ -663,7 +670,8 @@ public class VeniceServer {
       Optional<DynamicAccessController> storeAccessController,
       DiskHealthCheckService diskHealthService,
       StorageEngineBackedCompressorFactory compressorFactory,
-      Optional<ResourceReadUsageTracker> resourceReadUsageTracker) {
+      Optional<ResourceReadUsageTracker> resourceReadUsageTracker,
+      HotKeyValueCacheRepository hotKeyValueCacheRepository) {
     return new ListenerService(
         storageEngineRepository,
         storeMetadataRepository,
@@ -677,7 +685,8 @@ public class VeniceServer {
         storeAccessController,
         diskHealthService,
         compressorFactory,
-        resourceReadUsageTracker);
+        resourceReadUsageTracker,
+        hotKeyValueCacheRepository);
   }
 
   public static void main(String args[]) throws Exception {
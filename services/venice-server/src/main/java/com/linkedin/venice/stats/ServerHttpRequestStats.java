@@ -26,6 +26,8 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
   private final Sensor databaseLookupLatencySensor;
   private final Sensor databaseLookupLatencyForSmallValueSensor;
   private final Sensor databaseLookupLatencyForLargeValueSensor;
+  private final Sensor storageEngineBatchLookupLatencySensor;
+  private final Sensor storageEngineBatchLookupCountSensor;
   private final Sensor multiChunkLargeValueCountSensor;
   private final Sensor requestKeyCountSensor;
   private final Sensor successRequestKeyCountSensor;
@@ -111,6 +113,24 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
             getName(),
             getFullMetricName("storage_engine_query_latency_for_large_value")));
 
+    /**
+     * Only recorded by the multi-get and compute paths when batched storage engine lookups are enabled. The latency
+     * is the average latency of the batched lookups of a request, and the count is the number of batched lookups
+     * issued by a request (i.e. the number of distinct partitions it touched).
+     */
+    storageEngineBatchLookupLatencySensor = registerPerStoreAndTotal(
+        "storage_engine_batch_lookup_latency",
+        totalStats,
+        () -> totalStats.storageEngineBatchLookupLatencySensor,
+        TehutiUtils
+            .getPercentileStatWithAvgAndMax(getName(), getFullMetricName("storage_engine_batch_lookup_latency")));
+    storageEngineBatchLookupCountSensor = registerPerStoreAndTotal(
+        "storage_engine_batch_lookup_count",
+        totalStats,
+        () -> totalStats.storageEngineBatchLookupCountSensor,
+        new Avg(),
+        new Max());
+
     storageExecutionHandlerSubmissionWaitTime = registerSensor(
         "storage_execution_handler_submission_wait_time",
         TehutiUtils.getPercentileStatWithAvgAndMax(
@@ -332,6 +352,11 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
     }
   }
 
+  public void recordStorageEngineBatchLookup(double avgLatency, int batchCount) {
+    storageEngineBatchLookupLatencySensor.record(avgLatency);
+    storageEngineBatchLookupCountSensor.record(batchCount);
+  }
+
   public void recordRequestKeyCount(int keyCount) {
     requestKeyCountSensor.record(keyCount);
   }
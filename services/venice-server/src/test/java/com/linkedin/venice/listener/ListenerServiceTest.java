@@ -9,6 +9,7 @@ import com.linkedin.davinci.config.VeniceServerConfig;
 import com.linkedin.davinci.storage.DiskHealthCheckService;
 import com.linkedin.davinci.storage.MetadataRetriever;
 import com.linkedin.davinci.storage.StorageEngineRepository;
+import com.linkedin.davinci.store.cache.HotKeyValueCacheRepository;
 import com.linkedin.venice.acl.DynamicAccessController;
 import com.linkedin.venice.acl.StaticAccessController;
 import com.linkedin.venice.cleaner.ResourceReadUsageTracker;
@@ -38,6 +39,7 @@ public class ListenerServiceTest {
   DiskHealthCheckService diskHealthService;
   StorageEngineBackedCompressorFactory compressorFactory;
   Optional<ResourceReadUsageTracker> resourceReadUsageTracker;
+  HotKeyValueCacheRepository hotKeyValueCacheRepository;
 
   @BeforeMethod
   public void setUp() {
@@ -54,6 +56,7 @@ public class ListenerServiceTest {
     diskHealthService = mock(DiskHealthCheckService.class);
     compressorFactory = mock(StorageEngineBackedCompressorFactory.class);
     resourceReadUsageTracker = Optional.of(mock(ResourceReadUsageTracker.class));
+    hotKeyValueCacheRepository = mock(HotKeyValueCacheRepository.class);
     doReturn(1234).when(serverConfig).getListenerPort();
     BlockingQueue<Runnable> executionQueue = mock(BlockingQueue.class);
     doReturn(executionQueue).when(serverConfig).getExecutionQueue(anyInt());
@@ -82,7 +85,8 @@ public class ListenerServiceTest {
         storeAccessController,
         diskHealthService,
         compressorFactory,
-        resourceReadUsageTracker);
+        resourceReadUsageTracker,
+        hotKeyValueCacheRepository);
     // dummy method call
     listenerService.getName();
   }
@@ -7,14 +7,24 @@ import static org.mockito.Mockito.*;
 import com.linkedin.davinci.listener.response.MetadataResponse;
 import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.listener.response.HttpShortcutResponse;
+import com.linkedin.venice.listener.response.MultiGetResponseWrapper;
+import com.linkedin.venice.listener.response.MultiKeyResponseChunk;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
 import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.LastHttpContent;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -124,4 +134,82 @@ public class OutboundHttpWrapperHandlerTest {
 
     outboundHttpWrapperHandler.write(mockCtx, msg, null);
   }
+
+  @Test
+  public void testWriteChunkedResponse() {
+    MultiGetResponseWrapper msg = new MultiGetResponseWrapper(2, UnpooledByteBufAllocator.DEFAULT);
+    msg.setCompressionStrategy(CompressionStrategy.GZIP);
+    msg.setRCU(2);
+    msg.setStreamingResponse();
+    StatsHandler statsHandler = mock(StatsHandler.class);
+    ChannelHandlerContext mockCtx = mock(ChannelHandlerContext.class);
+    List<Object> outputs = new ArrayList<>();
+    when(mockCtx.write(any())).then(i -> {
+      outputs.add(i.getArguments()[0]);
+      return null;
+    });
+    when(mockCtx.writeAndFlush(any())).then(i -> {
+      outputs.add(i.getArguments()[0]);
+      return null;
+    });
+
+    OutboundHttpWrapperHandler outboundHttpWrapperHandler = new OutboundHttpWrapperHandler(statsHandler);
+    ByteBuf firstChunk = Unpooled.wrappedBuffer(new byte[] { 1 });
+    ByteBuf secondChunk = Unpooled.wrappedBuffer(new byte[] { 2 });
+    outboundHttpWrapperHandler.write(mockCtx, new MultiKeyResponseChunk(msg, firstChunk, true), null);
+    outboundHttpWrapperHandler.write(mockCtx, new MultiKeyResponseChunk(msg, secondChunk, false), null);
+    outboundHttpWrapperHandler.write(mockCtx, msg, null);
+
+    // The headers are sent along with the first chunk, and the response is ended by the remaining records.
+    Assert.assertEquals(outputs.size(), 4);
+    HttpResponse response = (HttpResponse) outputs.get(0);
+    Assert.assertFalse(response instanceof FullHttpResponse);
+    Assert.assertEquals(response.status(), HttpResponseStatus.OK);
+    Assert.assertTrue(HttpUtil.isTransferEncodingChunked(response));
+    Assert.assertFalse(response.headers().contains(CONTENT_LENGTH));
+    Assert.assertEquals(
+        response.headers().get(HttpConstants.VENICE_COMPRESSION_STRATEGY),
+        String.valueOf(CompressionStrategy.GZIP.getValue()));
+    Assert.assertEquals(response.headers().get(HttpConstants.VENICE_REQUEST_RCU), "2");
+    Assert.assertEquals(response.headers().get(HttpConstants.VENICE_STREAMING_RESPONSE), "1");
+    Assert.assertSame(((HttpContent) outputs.get(1)).content(), firstChunk);
+    Assert.assertFalse(outputs.get(1) instanceof LastHttpContent);
+    Assert.assertSame(((HttpContent) outputs.get(2)).content(), secondChunk);
+    Assert.assertFalse(outputs.get(2) instanceof LastHttpContent);
+    Assert.assertTrue(outputs.get(3) instanceof LastHttpContent);
+    verify(statsHandler, times(2)).setWritingResponseChunk(true);
+    verify(statsHandler, times(2)).setWritingResponseChunk(false);
+    verify(mockCtx, never()).close();
+  }
+
+  @Test
+  public void testErrorAfterChunkClosesConnection() {
+    MultiGetResponseWrapper msg = new MultiGetResponseWrapper(1, UnpooledByteBufAllocator.DEFAULT);
+    StatsHandler statsHandler = mock(StatsHandler.class);
+    ChannelHandlerContext mockCtx = mock(ChannelHandlerContext.class);
+    List<Object> outputs = new ArrayList<>();
+    when(mockCtx.write(any())).then(i -> {
+      outputs.add(i.getArguments()[0]);
+      return null;
+    });
+    when(mockCtx.writeAndFlush(any())).then(i -> {
+      outputs.add(i.getArguments()[0]);
+      return null;
+    });
+
+    OutboundHttpWrapperHandler outboundHttpWrapperHandler = new OutboundHttpWrapperHandler(statsHandler);
+    outboundHttpWrapperHandler
+        .write(mockCtx, new MultiKeyResponseChunk(msg, Unpooled.wrappedBuffer(new byte[] { 1 }), true), null);
+    outboundHttpWrapperHandler
+        .write(mockCtx, new HttpShortcutResponse("lookup failed", HttpResponseStatus.INTERNAL_SERVER_ERROR), null);
+
+    // A new status can't be sent once the headers are out, so the router finds out through the closed connection.
+    Assert.assertEquals(outputs.size(), 2);
+    verify(mockCtx).close();
+    verify(statsHandler).setResponseStatus(HttpResponseStatus.INTERNAL_SERVER_ERROR);
+
+    // The next response on the connection is a regular one.
+    outboundHttpWrapperHandler.write(mockCtx, new HttpShortcutResponse("OK", HttpResponseStatus.OK), null);
+    Assert.assertTrue(outputs.get(2) instanceof FullHttpResponse);
+  }
 }
@@ -3,11 +3,16 @@ package com.linkedin.venice.listener;
 import static com.linkedin.venice.router.api.VenicePathParser.TYPE_STORAGE;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.anyList;
 import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.linkedin.davinci.compression.StorageEngineBackedCompressorFactory;
@@ -19,6 +24,7 @@ import com.linkedin.davinci.storage.DiskHealthCheckService;
 import com.linkedin.davinci.storage.MetadataRetriever;
 import com.linkedin.davinci.storage.StorageEngineRepository;
 import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.cache.HotKeyValueCacheRepository;
 import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.davinci.store.rocksdb.RocksDBServerConfig;
 import com.linkedin.venice.HttpConstants;
@@ -30,6 +36,7 @@ import com.linkedin.venice.listener.request.MetadataFetchRequest;
 import com.linkedin.venice.listener.request.MultiGetRouterRequestWrapper;
 import com.linkedin.venice.listener.response.HttpShortcutResponse;
 import com.linkedin.venice.listener.response.MultiGetResponseWrapper;
+import com.linkedin.venice.listener.response.MultiKeyResponseChunk;
 import com.linkedin.venice.listener.response.StorageResponseObject;
 import com.linkedin.venice.meta.PartitionerConfig;
 import com.linkedin.venice.meta.PartitionerConfigImpl;
@@ -53,6 +60,7 @@ import com.linkedin.venice.serializer.SerializerDeserializerFactory;
 import com.linkedin.venice.unit.kafka.SimplePartitioner;
 import com.linkedin.venice.utils.DataProviderUtils;
 import com.linkedin.venice.utils.TestUtils;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.Unpooled;
 import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.channel.ChannelHandlerContext;
@@ -62,6 +70,7 @@ import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpVersion;
+import io.tehuti.metrics.MetricsRepository;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -70,6 +79,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -139,7 +149,8 @@ public class StorageReadRequestsHandlerTest {
           10,
           serverConfig,
           mock(StorageEngineBackedCompressorFactory.class),
-          Optional.empty());
+          Optional.empty(),
+          mock(HotKeyValueCacheRepository.class));
       testHandler.channelRead(mockCtx, testRequest);
 
       waitUntilStorageExecutionHandlerRespond(outputArray);
@@ -157,6 +168,82 @@ public class StorageReadRequestsHandlerTest {
     }
   }
 
+  @Test
+  public void testSingleGetServedByHotKeyValueCache() throws Exception {
+    String storeName = "test_store";
+    String topic = Version.composeKafkaTopic(storeName, 1);
+    String keyString = "testkey";
+    int partition = 3;
+    List<Object> outputArray = Collections.synchronizedList(new ArrayList<>());
+    byte[] valueBytes = ValueRecord.create(1, "testvalue".getBytes()).serialize();
+    String uri = "/" + TYPE_STORAGE + "/" + topic + "/" + partition + "/" + keyString;
+
+    AbstractStorageEngine testStore = mock(AbstractStorageEngine.class);
+    doReturn(valueBytes).when(testStore).get(partition, ByteBuffer.wrap(keyString.getBytes()));
+    StorageEngineRepository testRepository = mock(StorageEngineRepository.class);
+    doReturn(testStore).when(testRepository).getLocalStorageEngine(topic);
+
+    VeniceServerConfig serverConfig = mock(VeniceServerConfig.class);
+    doReturn(mock(RocksDBServerConfig.class)).when(serverConfig).getRocksDBServerConfig();
+    ReadOnlyStoreRepository metadataRepo = mock(ReadOnlyStoreRepository.class);
+    Store store = mock(Store.class);
+    when(store.getVersion(anyInt())).thenReturn(Optional.empty());
+    when(store.getCurrentVersion()).thenReturn(1);
+    when(metadataRepo.getStoreOrThrow(storeName)).thenReturn(store);
+    when(metadataRepo.getStore(storeName)).thenReturn(store);
+    HotKeyValueCacheRepository hotKeyValueCacheRepository =
+        new HotKeyValueCacheRepository(Collections.singletonMap(storeName, 1024L * 1024L), new MetricsRepository());
+
+    ChannelHandlerContext mockCtx = mock(ChannelHandlerContext.class);
+    doReturn(new UnpooledByteBufAllocator(true)).when(mockCtx).alloc();
+    when(mockCtx.writeAndFlush(any())).then(i -> {
+      outputArray.add(i.getArguments()[0]);
+      return null;
+    });
+
+    ThreadPoolExecutor threadPoolExecutor =
+        new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(2));
+    try {
+      StorageReadRequestsHandler testHandler = new StorageReadRequestsHandler(
+          threadPoolExecutor,
+          threadPoolExecutor,
+          testRepository,
+          metadataRepo,
+          mock(ReadOnlySchemaRepository.class),
+          mock(MetadataRetriever.class),
+          null,
+          false,
+          false,
+          10,
+          serverConfig,
+          mock(StorageEngineBackedCompressorFactory.class),
+          Optional.empty(),
+          hotKeyValueCacheRepository);
+
+      for (int i = 1; i <= 3; i++) {
+        if (i == 3) {
+          // A hybrid write of the key invalidates its cached value.
+          hotKeyValueCacheRepository.getCache(storeName).invalidate(1, keyString.getBytes());
+        }
+        HttpRequest httpRequest = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, uri);
+        testHandler.channelRead(mockCtx, GetRouterRequest.parseGetHttpRequest(httpRequest));
+        int expectedResponseCount = i;
+        TestUtils.waitForNonDeterministicAssertion(
+            5,
+            TimeUnit.SECONDS,
+            () -> Assert.assertEquals(outputArray.size(), expectedResponseCount));
+        StorageResponseObject response = (StorageResponseObject) outputArray.get(i - 1);
+        Assert.assertEquals(response.getValueRecord().getDataInBytes(), "testvalue".getBytes());
+        Assert.assertEquals(response.getValueRecord().getSchemaId(), 1);
+      }
+      // The second read is served by the cache.
+      verify(testStore, times(2)).get(partition, ByteBuffer.wrap(keyString.getBytes()));
+      Assert.assertEquals(hotKeyValueCacheRepository.getCache(storeName).getHitCount(), 1);
+    } finally {
+      TestUtils.shutdownExecutor(threadPoolExecutor);
+    }
+  }
+
   @Test
   public void testDiskHealthCheckService() throws Exception {
     DiskHealthCheckService healthCheckService = mock(DiskHealthCheckService.class);
@@ -186,7 +273,8 @@ public class StorageReadRequestsHandlerTest {
           10,
           serverConfig,
           mock(StorageEngineBackedCompressorFactory.class),
-          Optional.empty());
+          Optional.empty(),
+          mock(HotKeyValueCacheRepository.class));
 
       ChannelHandlerContext mockCtx = mock(ChannelHandlerContext.class);
       doReturn(new UnpooledByteBufAllocator(true)).when(mockCtx).alloc();
@@ -313,7 +401,8 @@ public class StorageReadRequestsHandlerTest {
           10,
           serverConfig,
           mock(StorageEngineBackedCompressorFactory.class),
-          Optional.empty());
+          Optional.empty(),
+          mock(HotKeyValueCacheRepository.class));
       testHandler.channelRead(mockCtx, testRequest);
       waitUntilStorageExecutionHandlerRespond(outputArray);
 
@@ -339,6 +428,255 @@ public class StorageReadRequestsHandlerTest {
     }
   }
 
+  @Test
+  public static void testMultiGetWithBatchLookup() throws Exception {
+    String topic = "temp-test-topic_v1";
+    int schemaId = 1;
+    List<Object> outputArray = new ArrayList<>();
+
+    // [0]""/[1]"storage"/[2]{$resourceName}
+    String uri = "/" + TYPE_STORAGE + "/" + topic;
+
+    RecordSerializer<MultiGetRouterRequestKeyV1> serializer =
+        SerializerDeserializerFactory.getAvroGenericSerializer(MultiGetRouterRequestKeyV1.SCHEMA$);
+    List<MultiGetRouterRequestKeyV1> keys = new ArrayList<>();
+    VeniceKafkaSerializer keySerializer = new VeniceAvroKafkaSerializer("\"string\"");
+    String keyPrefix = "key_";
+    String valuePrefix = "value_";
+
+    AbstractStorageEngine testStore = mock(AbstractStorageEngine.class);
+    Map<ByteBuffer, byte[]> storedValues = new HashMap<>();
+    Map<Integer, String> allValueStrings = new HashMap<>();
+    int recordCount = 10;
+    int partitionCount = 3;
+
+    // Every third key does not exist, and the keys are spread over several partitions
+    for (int i = 0; i < recordCount; ++i) {
+      MultiGetRouterRequestKeyV1 requestKey = new MultiGetRouterRequestKeyV1();
+      byte[] keyBytes = keySerializer.serialize(null, keyPrefix + i);
+      requestKey.keyBytes = ByteBuffer.wrap(keyBytes);
+      requestKey.keyIndex = i;
+      requestKey.partitionId = i % partitionCount;
+      if (i % 3 != 0) {
+        String valueString = valuePrefix + i;
+        storedValues.put(ByteBuffer.wrap(keyBytes), ValueRecord.create(schemaId, valueString.getBytes()).serialize());
+        allValueStrings.put(i, valueString);
+      }
+      keys.add(requestKey);
+    }
+    doAnswer(invocation -> {
+      List<byte[]> lookupKeys = invocation.getArgument(1);
+      List<byte[]> values = new ArrayList<>(lookupKeys.size());
+      for (byte[] lookupKey: lookupKeys) {
+        values.add(storedValues.get(ByteBuffer.wrap(lookupKey)));
+      }
+      return values;
+    }).when(testStore).multiGet(anyInt(), anyList());
+
+    // Prepare request
+    byte[] postBody = serializer.serializeObjects(keys);
+    FullHttpRequest httpRequest =
+        new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, uri, Unpooled.wrappedBuffer(postBody));
+    httpRequest.headers()
+        .set(
+            HttpConstants.VENICE_API_VERSION,
+            ReadAvroProtocolDefinition.MULTI_GET_ROUTER_REQUEST_V1.getProtocolVersion());
+    MultiGetRouterRequestWrapper testRequest = MultiGetRouterRequestWrapper.parseMultiGetHttpRequest(httpRequest);
+
+    StorageEngineRepository testRepository = mock(StorageEngineRepository.class);
+    doReturn(testStore).when(testRepository).getLocalStorageEngine(topic);
+
+    VeniceServerConfig serverConfig = mock(VeniceServerConfig.class);
+    doReturn(mock(RocksDBServerConfig.class)).when(serverConfig).getRocksDBServerConfig();
+    doReturn(true).when(serverConfig).isBatchLookupEnabled();
+
+    ReadOnlyStoreRepository metadataRepo = mock(ReadOnlyStoreRepository.class);
+    Store store = mock(Store.class);
+    when(store.getVersion(anyInt())).thenReturn(Optional.empty());
+    when(metadataRepo.getStoreOrThrow(anyString())).thenReturn(store);
+
+    ChannelHandlerContext mockCtx = mock(ChannelHandlerContext.class);
+    doReturn(new UnpooledByteBufAllocator(true)).when(mockCtx).alloc();
+    when(mockCtx.writeAndFlush(any())).then(i -> {
+      outputArray.add(i.getArguments()[0]);
+      return null;
+    });
+
+    ThreadPoolExecutor threadPoolExecutor =
+        new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(2));
+
+    try {
+      StorageReadRequestsHandler testHandler = new StorageReadRequestsHandler(
+          threadPoolExecutor,
+          threadPoolExecutor,
+          testRepository,
+          metadataRepo,
+          mock(ReadOnlySchemaRepository.class),
+          mock(MetadataRetriever.class),
+          null,
+          false,
+          false,
+          10,
+          serverConfig,
+          mock(StorageEngineBackedCompressorFactory.class),
+          Optional.empty(),
+          mock(HotKeyValueCacheRepository.class));
+      testHandler.channelRead(mockCtx, testRequest);
+      waitUntilStorageExecutionHandlerRespond(outputArray);
+
+      // One batched lookup per partition, and no single key lookup
+      verify(testStore, never()).get(anyInt(), any(ByteBuffer.class));
+      for (int partition = 0; partition < partitionCount; partition++) {
+        verify(testStore).multiGet(eq(partition), anyList());
+      }
+
+      Assert.assertEquals(outputArray.size(), 1);
+      Assert.assertTrue(outputArray.get(0) instanceof MultiGetResponseWrapper);
+      MultiGetResponseWrapper multiGetResponseWrapper = (MultiGetResponseWrapper) outputArray.get(0);
+      Assert.assertEquals(multiGetResponseWrapper.getStorageEngineBatchLookupCount(), partitionCount);
+      RecordDeserializer<MultiGetResponseRecordV1> deserializer =
+          SerializerDeserializerFactory.getAvroSpecificDeserializer(MultiGetResponseRecordV1.class);
+      Iterable<MultiGetResponseRecordV1> values =
+          deserializer.deserializeObjects(multiGetResponseWrapper.getResponseBody().array());
+      Map<Integer, String> results = new HashMap<>();
+      values.forEach(K -> results.put(K.keyIndex, new String(K.value.array(), StandardCharsets.UTF_8)));
+      Assert.assertEquals(results, allValueStrings);
+    } finally {
+      TestUtils.shutdownExecutor(threadPoolExecutor);
+    }
+  }
+
+  @Test
+  public static void testStreamingMultiGetFlushesChunksBeforeLookupsFinish() throws Exception {
+    String topic = "temp-test-topic_v1";
+    int schemaId = 1;
+    List<Object> outputArray = Collections.synchronizedList(new ArrayList<>());
+
+    // [0]""/[1]"storage"/[2]{$resourceName}
+    String uri = "/" + TYPE_STORAGE + "/" + topic;
+
+    RecordSerializer<MultiGetRouterRequestKeyV1> serializer =
+        SerializerDeserializerFactory.getAvroGenericSerializer(MultiGetRouterRequestKeyV1.SCHEMA$);
+    List<MultiGetRouterRequestKeyV1> keys = new ArrayList<>();
+    VeniceKafkaSerializer keySerializer = new VeniceAvroKafkaSerializer("\"string\"");
+    AbstractStorageEngine testStore = mock(AbstractStorageEngine.class);
+    Map<Integer, String> allValueStrings = new HashMap<>();
+    int recordCount = 10;
+    CountDownLatch lastLookupLatch = new CountDownLatch(1);
+
+    for (int i = 0; i < recordCount; ++i) {
+      MultiGetRouterRequestKeyV1 requestKey = new MultiGetRouterRequestKeyV1();
+      byte[] keyBytes = keySerializer.serialize(null, "key_" + i);
+      requestKey.keyBytes = ByteBuffer.wrap(keyBytes);
+      requestKey.keyIndex = i;
+      requestKey.partitionId = 0;
+      String valueString = "value_" + i;
+      byte[] valueBytes = ValueRecord.create(schemaId, valueString.getBytes()).serialize();
+      if (i == recordCount - 1) {
+        // The last lookup only completes once the first chunk of the response is received.
+        doAnswer(invocation -> {
+          lastLookupLatch.await();
+          return valueBytes;
+        }).when(testStore).get(0, ByteBuffer.wrap(keyBytes));
+      } else {
+        doReturn(valueBytes).when(testStore).get(0, ByteBuffer.wrap(keyBytes));
+      }
+      allValueStrings.put(i, valueString);
+      keys.add(requestKey);
+    }
+
+    byte[] postBody = serializer.serializeObjects(keys);
+    FullHttpRequest httpRequest =
+        new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, uri, Unpooled.wrappedBuffer(postBody));
+    httpRequest.headers()
+        .set(
+            HttpConstants.VENICE_API_VERSION,
+            ReadAvroProtocolDefinition.MULTI_GET_ROUTER_REQUEST_V1.getProtocolVersion());
+    httpRequest.headers().set(HttpConstants.VENICE_STREAMING, "1");
+    MultiGetRouterRequestWrapper testRequest = MultiGetRouterRequestWrapper.parseMultiGetHttpRequest(httpRequest);
+
+    StorageEngineRepository testRepository = mock(StorageEngineRepository.class);
+    doReturn(testStore).when(testRepository).getLocalStorageEngine(topic);
+
+    VeniceServerConfig serverConfig = mock(VeniceServerConfig.class);
+    doReturn(mock(RocksDBServerConfig.class)).when(serverConfig).getRocksDBServerConfig();
+    doReturn(true).when(serverConfig).isIncrementalSerdeEnabled();
+    // Every record is flushed as a chunk right away.
+    doReturn(1).when(serverConfig).getStreamingResponseChunkSizeInBytes();
+
+    ReadOnlyStoreRepository metadataRepo = mock(ReadOnlyStoreRepository.class);
+    Store store = mock(Store.class);
+    when(store.getVersion(anyInt())).thenReturn(Optional.empty());
+    when(metadataRepo.getStoreOrThrow(anyString())).thenReturn(store);
+
+    ChannelHandlerContext mockCtx = mock(ChannelHandlerContext.class);
+    doReturn(new UnpooledByteBufAllocator(true)).when(mockCtx).alloc();
+    when(mockCtx.writeAndFlush(any())).then(i -> {
+      outputArray.add(i.getArguments()[0]);
+      return null;
+    });
+
+    ThreadPoolExecutor threadPoolExecutor =
+        new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(2));
+
+    try {
+      StorageReadRequestsHandler testHandler = new StorageReadRequestsHandler(
+          threadPoolExecutor,
+          threadPoolExecutor,
+          testRepository,
+          metadataRepo,
+          mock(ReadOnlySchemaRepository.class),
+          mock(MetadataRetriever.class),
+          null,
+          false,
+          false,
+          10,
+          serverConfig,
+          mock(StorageEngineBackedCompressorFactory.class),
+          Optional.empty(),
+          mock(HotKeyValueCacheRepository.class));
+      testHandler.channelRead(mockCtx, testRequest);
+
+      // All the records but the last one are flushed while the last lookup is still blocked.
+      TestUtils.waitForNonDeterministicAssertion(
+          5,
+          TimeUnit.SECONDS,
+          () -> Assert.assertEquals(outputArray.size(), recordCount - 1));
+      Assert.assertTrue(outputArray.get(0) instanceof MultiKeyResponseChunk);
+      MultiKeyResponseChunk firstChunk = (MultiKeyResponseChunk) outputArray.get(0);
+      Assert.assertTrue(firstChunk.isFirstChunk());
+      Assert.assertTrue(firstChunk.getResponse().isStreamingResponse());
+      for (Object output: outputArray) {
+        Assert.assertTrue(output instanceof MultiKeyResponseChunk);
+      }
+
+      lastLookupLatch.countDown();
+      TestUtils.waitForNonDeterministicAssertion(
+          5,
+          TimeUnit.SECONDS,
+          () -> Assert.assertEquals(outputArray.size(), recordCount + 1));
+      Assert.assertTrue(outputArray.get(recordCount) instanceof MultiGetResponseWrapper);
+      MultiGetResponseWrapper multiGetResponseWrapper = (MultiGetResponseWrapper) outputArray.get(recordCount);
+      Assert.assertTrue(multiGetResponseWrapper.isChunked());
+
+      // The chunks followed by the remaining records make up the whole response.
+      RecordDeserializer<MultiGetResponseRecordV1> deserializer =
+          SerializerDeserializerFactory.getAvroSpecificDeserializer(MultiGetResponseRecordV1.class);
+      Map<Integer, String> results = new HashMap<>();
+      for (int i = 0; i < recordCount; i++) {
+        MultiKeyResponseChunk chunk = (MultiKeyResponseChunk) outputArray.get(i);
+        Assert.assertEquals(chunk.isFirstChunk(), i == 0);
+        deserializer.deserializeObjects(ByteBufUtil.getBytes(chunk.getContent()))
+            .forEach(K -> results.put(K.keyIndex, new String(K.value.array(), StandardCharsets.UTF_8)));
+      }
+      Assert.assertEquals(multiGetResponseWrapper.getResponseBody().readableBytes(), 0);
+      Assert.assertEquals(results, allValueStrings);
+    } finally {
+      lastLookupLatch.countDown();
+      TestUtils.shutdownExecutor(threadPoolExecutor);
+    }
+  }
+
   @Test
   public static void storageExecutionHandlerLogsExceptions() throws Exception {
     String topic = "temp-test-topic_v1";
@@ -411,7 +749,8 @@ public class StorageReadRequestsHandlerTest {
           10,
           serverConfig,
           mock(StorageEngineBackedCompressorFactory.class),
-          Optional.empty());
+          Optional.empty(),
+          mock(HotKeyValueCacheRepository.class));
       testHandler.channelRead(mockCtx, testRequest);
 
       waitUntilStorageExecutionHandlerRespond(outputArray);
@@ -486,7 +825,8 @@ public class StorageReadRequestsHandlerTest {
           10,
           serverConfig,
           mock(StorageEngineBackedCompressorFactory.class),
-          Optional.empty());
+          Optional.empty(),
+          mock(HotKeyValueCacheRepository.class));
       testHandler.channelRead(mockCtx, testRequest);
 
       waitUntilStorageExecutionHandlerRespond(outputArray);
@@ -568,7 +908,8 @@ public class StorageReadRequestsHandlerTest {
           10,
           serverConfig,
           mock(StorageEngineBackedCompressorFactory.class),
-          Optional.empty());
+          Optional.empty(),
+          mock(HotKeyValueCacheRepository.class));
       testHandler.channelRead(mockCtx, testRequest);
 
       waitUntilStorageExecutionHandlerRespond(outputArray);
@@ -622,7 +963,8 @@ public class StorageReadRequestsHandlerTest {
           10,
           serverConfig,
           mock(StorageEngineBackedCompressorFactory.class),
-          Optional.empty());
+          Optional.empty(),
+          mock(HotKeyValueCacheRepository.class));
       testHandler.channelRead(mockCtx, unrecognizedRequest);
 
       waitUntilStorageExecutionHandlerRespond(outputArray);
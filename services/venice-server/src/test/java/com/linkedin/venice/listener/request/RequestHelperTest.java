@@ -1,5 +1,14 @@
 package com.linkedin.venice.listener.request;
 
+import com.linkedin.venice.read.protocol.request.router.MultiGetRouterRequestKeyV1;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -29,4 +38,35 @@ public class RequestHelperTest {
     Assert.assertEquals(requestParts[1], action);
     Assert.assertEquals(requestParts[2], storeName + "?" + query);
   }
+
+  @Test
+  public void testGetBinaryDecoder() {
+    RecordSerializer<MultiGetRouterRequestKeyV1> serializer =
+        SerializerDeserializerFactory.getAvroGenericSerializer(MultiGetRouterRequestKeyV1.SCHEMA$);
+    List<MultiGetRouterRequestKeyV1> keys = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      MultiGetRouterRequestKeyV1 key = new MultiGetRouterRequestKeyV1();
+      key.keyIndex = i;
+      key.keyBytes = ByteBuffer.wrap(("key_" + i).getBytes());
+      key.partitionId = i % 3;
+      keys.add(key);
+    }
+    byte[] serializedKeys = serializer.serializeObjects(keys);
+    ByteBuf content = PooledByteBufAllocator.DEFAULT.directBuffer(serializedKeys.length);
+    content.writeBytes(serializedKeys);
+
+    RecordDeserializer<MultiGetRouterRequestKeyV1> deserializer =
+        SerializerDeserializerFactory.getAvroSpecificDeserializer(MultiGetRouterRequestKeyV1.class);
+    List<MultiGetRouterRequestKeyV1> decodedKeys = new ArrayList<>();
+    deserializer.deserializeObjects(RequestHelper.getBinaryDecoder(content)).forEach(decodedKeys::add);
+    // The decoded keys must not depend on the content once it is released
+    content.release();
+
+    Assert.assertEquals(decodedKeys.size(), keys.size());
+    for (int i = 0; i < keys.size(); i++) {
+      Assert.assertEquals(decodedKeys.get(i).keyIndex, i);
+      Assert.assertEquals(decodedKeys.get(i).partitionId, i % 3);
+      Assert.assertEquals(decodedKeys.get(i).keyBytes, ByteBuffer.wrap(("key_" + i).getBytes()));
+    }
+  }
 }
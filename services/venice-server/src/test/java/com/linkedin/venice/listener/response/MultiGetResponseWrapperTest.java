@@ -0,0 +1,113 @@
+package com.linkedin.venice.listener.response;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class MultiGetResponseWrapperTest {
+  @Test
+  public void testIncrementalSerialization() {
+    int recordCount = 100;
+    MultiGetResponseWrapper responseWrapper = new MultiGetResponseWrapper(recordCount);
+    MultiGetResponseWrapper incrementalResponseWrapper =
+        new MultiGetResponseWrapper(recordCount, PooledByteBufAllocator.DEFAULT);
+    for (int i = 0; i < recordCount; i++) {
+      MultiGetResponseRecordV1 record = new MultiGetResponseRecordV1();
+      record.keyIndex = i;
+      record.schemaId = 1;
+      record.value = ByteBuffer.wrap(("value_" + i).getBytes(StandardCharsets.UTF_8));
+      responseWrapper.addRecord(record);
+      incrementalResponseWrapper.addRecord(record);
+    }
+    Assert.assertEquals(incrementalResponseWrapper.getRecordCount(), recordCount);
+
+    byte[] expectedBody = responseWrapper.getResponseBody().array();
+    ByteBuf incrementalBody = incrementalResponseWrapper.getResponseBody();
+    try {
+      Assert.assertTrue(incrementalBody.isDirect());
+      byte[] actualBody = new byte[incrementalBody.readableBytes()];
+      incrementalBody.getBytes(incrementalBody.readerIndex(), actualBody);
+      Assert.assertEquals(actualBody, expectedBody);
+
+      RecordDeserializer<MultiGetResponseRecordV1> deserializer =
+          SerializerDeserializerFactory.getAvroSpecificDeserializer(MultiGetResponseRecordV1.class);
+      List<MultiGetResponseRecordV1> records = new ArrayList<>();
+      deserializer.deserializeObjects(actualBody).forEach(records::add);
+      Assert.assertEquals(records.size(), recordCount);
+      for (int i = 0; i < recordCount; i++) {
+        Assert.assertEquals(records.get(i).keyIndex, i);
+        Assert.assertEquals(new String(records.get(i).value.array(), StandardCharsets.UTF_8), "value_" + i);
+      }
+    } finally {
+      incrementalBody.release();
+    }
+  }
+
+  @Test
+  public void testChunkedSerialization() {
+    int recordCount = 100;
+    MultiGetResponseWrapper responseWrapper = new MultiGetResponseWrapper(recordCount);
+    MultiGetResponseWrapper chunkedResponseWrapper =
+        new MultiGetResponseWrapper(recordCount, PooledByteBufAllocator.DEFAULT);
+    List<MultiKeyResponseChunk> chunks = new ArrayList<>();
+    chunkedResponseWrapper.enableChunking(100, chunks::add);
+    for (int i = 0; i < recordCount; i++) {
+      MultiGetResponseRecordV1 record = new MultiGetResponseRecordV1();
+      record.keyIndex = i;
+      record.schemaId = 1;
+      record.value = ByteBuffer.wrap(("value_" + i).getBytes(StandardCharsets.UTF_8));
+      responseWrapper.addRecord(record);
+      chunkedResponseWrapper.addRecord(record);
+    }
+    Assert.assertTrue(chunkedResponseWrapper.isChunked());
+    Assert.assertTrue(chunks.size() > 1, "Chunk count: " + chunks.size());
+
+    // The chunks followed by the remaining records are the same as the response serialized at once.
+    ByteBuf body = Unpooled.buffer();
+    for (int i = 0; i < chunks.size(); i++) {
+      MultiKeyResponseChunk chunk = chunks.get(i);
+      Assert.assertSame(chunk.getResponse(), chunkedResponseWrapper);
+      Assert.assertEquals(chunk.isFirstChunk(), i == 0);
+      Assert.assertTrue(chunk.getContent().readableBytes() >= 100);
+      body.writeBytes(chunk.getContent());
+      Assert.assertTrue(chunk.getContent().release());
+    }
+    ByteBuf remainingRecords = chunkedResponseWrapper.getResponseBody();
+    body.writeBytes(remainingRecords);
+    Assert.assertTrue(remainingRecords.release());
+    Assert.assertEquals(ByteBufUtil.getBytes(body), responseWrapper.getResponseBody().array());
+  }
+
+  @Test
+  public void testOnlyIncrementalSerializationCanBeChunked() {
+    MultiGetResponseWrapper responseWrapper = new MultiGetResponseWrapper(1);
+    Assert.assertThrows(VeniceException.class, () -> responseWrapper.enableChunking(100, chunk -> {}));
+  }
+
+  @Test
+  public void testReleaseDroppedResponse() {
+    MultiGetResponseWrapper responseWrapper = new MultiGetResponseWrapper(1, PooledByteBufAllocator.DEFAULT);
+    MultiGetResponseRecordV1 record = new MultiGetResponseRecordV1();
+    record.keyIndex = 0;
+    record.schemaId = 1;
+    record.value = ByteBuffer.wrap(new byte[10]);
+    responseWrapper.addRecord(record);
+
+    ByteBuf body = responseWrapper.getResponseBody();
+    Assert.assertEquals(body.refCnt(), 1);
+    responseWrapper.release();
+    Assert.assertEquals(body.refCnt(), 0);
+  }
+}